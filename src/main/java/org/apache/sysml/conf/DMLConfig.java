@@ -45,6 +45,7 @@ import org.apache.sysml.hops.codegen.SpoofCompiler.PlanSelector;
 import org.apache.sysml.lops.Compression;
 import org.apache.sysml.parser.ParseException;
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
 import org.apache.sysml.runtime.io.IOUtilFunctions;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -73,7 +74,11 @@ public class DMLConfig
 	public static final String YARN_APPQUEUE        = "sysml.yarn.app.queue"; 
 	public static final String CP_PARALLEL_OPS      = "sysml.cp.parallel.ops";
 	public static final String CP_PARALLEL_IO       = "sysml.cp.parallel.io";
+	public static final String CP_PARALLEL_IO_CSV_SINGLEPASS = "sysml.cp.parallel.io.csv.singlepass"; //boolean
+	public static final String CP_PARALLEL_IO_LOCALNIO = "sysml.cp.parallel.io.localnio"; //boolean
 	public static final String COMPRESSED_LINALG    = "sysml.compressed.linalg"; //auto, true, false
+	public static final String CACHING_BUFFER_POLICY = "sysml.caching.bufferpolicy"; //see LazyWriteBuffer.RPolicy
+	public static final String CACHING_COMPRESSION  = "sysml.caching.compression"; //boolean
 	public static final String NATIVE_BLAS          = "sysml.native.blas";
 	public static final String NATIVE_BLAS_DIR      = "sysml.native.blas.directory";
 	public static final String CODEGEN              = "sysml.codegen.enabled"; //boolean
@@ -81,6 +86,9 @@ public class DMLConfig
 	public static final String CODEGEN_OPTIMIZER    = "sysml.codegen.optimizer"; //see SpoofCompiler.PlanSelector
 	public static final String CODEGEN_PLANCACHE    = "sysml.codegen.plancache"; //boolean
 	public static final String CODEGEN_LITERALS     = "sysml.codegen.literals"; //1..heuristic, 2..always
+	public static final String CODEGEN_CLASSCACHE   = "sysml.codegen.classcache"; //boolean
+	public static final String CODEGEN_CLASSCACHE_DIR = "sysml.codegen.classcache.dir"; //empty..<localtmpdir>/codegen_cache
+	public static final String CODEGEN_ASYNC        = "sysml.codegen.async"; //boolean
 	
 	public static final String EXTRA_FINEGRAINED_STATS = "sysml.stats.finegrained"; //boolean
 	public static final String STATS_MAX_WRAP_LEN   = "sysml.stats.maxWrapLength"; //int
@@ -123,12 +131,19 @@ public class DMLConfig
 		_defaultVals.put(YARN_APPQUEUE,    	     "default" );
 		_defaultVals.put(CP_PARALLEL_OPS,        "true" );
 		_defaultVals.put(CP_PARALLEL_IO,         "true" );
+		_defaultVals.put(CP_PARALLEL_IO_CSV_SINGLEPASS, "false" );
+		_defaultVals.put(CP_PARALLEL_IO_LOCALNIO, "false" );
 		_defaultVals.put(COMPRESSED_LINALG,      Compression.CompressConfig.AUTO.name() );
+		_defaultVals.put(CACHING_BUFFER_POLICY,  RPolicy.FIFO.name() );
+		_defaultVals.put(CACHING_COMPRESSION,    "false" );
 		_defaultVals.put(CODEGEN,                "false" );
 		_defaultVals.put(CODEGEN_COMPILER,       CompilerType.AUTO.name() );
 		_defaultVals.put(CODEGEN_OPTIMIZER,      PlanSelector.FUSE_COST_BASED_V2.name() );
 		_defaultVals.put(CODEGEN_PLANCACHE,      "true" );
 		_defaultVals.put(CODEGEN_LITERALS,       "1" );
+		_defaultVals.put(CODEGEN_CLASSCACHE,     "false" );
+		_defaultVals.put(CODEGEN_CLASSCACHE_DIR, "" );
+		_defaultVals.put(CODEGEN_ASYNC,          "false" );
 		_defaultVals.put(NATIVE_BLAS,            "none" );
 		_defaultVals.put(NATIVE_BLAS_DIR,        "none" );
 		_defaultVals.put(EXTRA_FINEGRAINED_STATS,"false" );
@@ -425,9 +440,10 @@ public class DMLConfig
 				LOCAL_TMP_DIR,SCRATCH_SPACE,OPTIMIZATION_LEVEL,
 				NUM_REDUCERS, DEFAULT_BLOCK_SIZE,
 				YARN_APPMASTER, YARN_APPMASTERMEM, YARN_MAPREDUCEMEM, 
-				CP_PARALLEL_OPS, CP_PARALLEL_IO, NATIVE_BLAS, NATIVE_BLAS_DIR,
-				COMPRESSED_LINALG, 
+				CP_PARALLEL_OPS, CP_PARALLEL_IO, CP_PARALLEL_IO_CSV_SINGLEPASS, CP_PARALLEL_IO_LOCALNIO, NATIVE_BLAS, NATIVE_BLAS_DIR,
+				COMPRESSED_LINALG, CACHING_BUFFER_POLICY, CACHING_COMPRESSION,
 				CODEGEN, CODEGEN_COMPILER, CODEGEN_OPTIMIZER, CODEGEN_PLANCACHE, CODEGEN_LITERALS,
+				CODEGEN_CLASSCACHE, CODEGEN_CLASSCACHE_DIR, CODEGEN_ASYNC,
 				EXTRA_FINEGRAINED_STATS, STATS_MAX_WRAP_LEN,
 				AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE, FLOATING_POINT_PRECISION
 		}; 
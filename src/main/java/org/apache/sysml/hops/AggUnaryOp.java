@@ -186,9 +186,10 @@ public class AggUnaryOp extends Hop implements MultiThreadedHop
 						DirectionTypes dir = HopsDirection2Lops.get(_direction);
 	
 						BinaryOp binput = (BinaryOp)getInput().get(0);
+						int k = OptimizerUtils.getConstrainedNumThreads(_maxNumThreads);
 						agg1 = new UAggOuterChain( binput.getInput().get(0).constructLops(), 
 								binput.getInput().get(1).constructLops(), op, dir, 
-								HopsOpOp2LopsB.get(binput.getOp()), DataType.MATRIX, getValueType(), ExecType.CP);
+								HopsOpOp2LopsB.get(binput.getOp()), DataType.MATRIX, getValueType(), ExecType.CP, k);
 						PartialAggregate.setDimensionsBasedOnDirection(agg1, getDim1(), getDim2(), input.getRowsInBlock(), input.getColsInBlock(), dir);
 					
 						if (getDataType() == DataType.SCALAR) {
@@ -323,7 +323,8 @@ public class ReorgOp extends Hop implements MultiThreadedHop
 						voutput = new ReorgOp("tmp3", getDataType(), getValueType(), ReOrgOp.SORT, sinputs); 
 						HopRewriteUtils.copyLineNumbers(this, voutput);	
 						//explicitly construct CP lop; otherwise there is danger of infinite recursion if forced runtime platform.
-						voutput.setLops( constructCPOrSparkSortLop(vinput, sinputs.get(1), sinputs.get(2), sinputs.get(3), ExecType.CP, false) );
+						int k = OptimizerUtils.getConstrainedNumThreads(_maxNumThreads);
+						voutput.setLops( constructCPOrSparkSortLop(vinput, sinputs.get(1), sinputs.get(2), sinputs.get(3), ExecType.CP, false, k) );
 						voutput.getLops().getOutputParameters().setDimensions(vinput.getDim1(), vinput.getDim2(), vinput.getRowsInBlock(), vinput.getColsInBlock(), vinput.getNnz());
 						setLops( voutput.constructLops() );
 					}
@@ -361,14 +362,15 @@ public class ReorgOp extends Hop implements MultiThreadedHop
 				else if( et==ExecType.SPARK ) {
 					boolean sortRewrite = !FORCE_DIST_SORT_INDEXES 
 						&& isSortSPRewriteApplicable() && by.getDataType().isScalar();
-					Lop transform1 = constructCPOrSparkSortLop(input, by, desc, ixret, et, sortRewrite);
+					Lop transform1 = constructCPOrSparkSortLop(input, by, desc, ixret, et, sortRewrite, 1);
 					setOutputDimensions(transform1);
 					setLineNumbers(transform1);
 					setLops(transform1);
 				}
 				else //CP
 				{
-					Lop transform1 = constructCPOrSparkSortLop(input, by, desc, ixret, et, false);
+					int k = OptimizerUtils.getConstrainedNumThreads(_maxNumThreads);
+					Lop transform1 = constructCPOrSparkSortLop(input, by, desc, ixret, et, false, k);
 					setOutputDimensions(transform1);
 					setLineNumbers(transform1);
 					setLops(transform1);
@@ -386,7 +388,7 @@ public class ReorgOp extends Hop implements MultiThreadedHop
 		return getLops();
 	}
 
-	private static Lop constructCPOrSparkSortLop( Hop input, Hop by, Hop desc, Hop ixret, ExecType et, boolean bSortIndInMem ) 
+	private static Lop constructCPOrSparkSortLop( Hop input, Hop by, Hop desc, Hop ixret, ExecType et, boolean bSortIndInMem, int k ) 
 		throws HopsException, LopsException
 	{
 		Hop[] hinputs = new Hop[]{input, by, desc, ixret};
@@ -394,7 +396,7 @@ public class ReorgOp extends Hop implements MultiThreadedHop
 		for( int i=0; i<4; i++ )
 			linputs[i] = hinputs[i].constructLops();
 		return new Transform( linputs, HopsTransf2Lops.get(ReOrgOp.SORT), 
-			input.getDataType(), input.getValueType(), et, bSortIndInMem);
+			input.getDataType(), input.getValueType(), et, bSortIndInMem, k);
 	}
 	
 	@Override
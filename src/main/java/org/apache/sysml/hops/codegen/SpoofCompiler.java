@@ -28,6 +28,13 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -115,6 +122,9 @@ public class SpoofCompiler
 	public static final boolean PRUNE_REDUNDANT_PLANS = true;
 	public static PlanCachePolicy PLAN_CACHE_POLICY   = PlanCachePolicy.CSLH;
 	public static final int PLAN_CACHE_SIZE           = 1024; //max 1K classes 
+	public static String CLASS_CACHE_DIR              = null; //persistent class cache, null if disabled
+	public static boolean ASYNC_COMPILE               = false; //background class compilation on recompile
+	public static final int ASYNC_COMPILE_THREADS     = 2;
 	
 	public enum CompilerType {
 		AUTO,
@@ -166,6 +176,11 @@ public class SpoofCompiler
 	//note: if PLAN_CACHE_SIZE is exceeded, we evict the least-recently-used plan (LRU policy)
 	private static final PlanCache planCache = new PlanCache(PLAN_CACHE_SIZE);
 	
+	//pending background compilations of cplans (if ASYNC_COMPILE), which are moved into
+	//the plan cache once available, i.e., on the next recompilation of the hop dag
+	private static final ConcurrentHashMap<CNode, Future<Class<?>>> asyncPlans = new ConcurrentHashMap<>();
+	private static ExecutorService asyncPool = null;
+	
 	private static ProgramRewriter rewriteCSE = new ProgramRewriter(
 			new RewriteCommonSubexpressionElimination(true),
 			new RewriteRemoveUnnecessaryCasts());
@@ -394,8 +409,16 @@ public class SpoofCompiler
 			{
 				Pair<Hop[],CNodeTpl> tmp = cplan.getValue();
 				Class<?> cla = planCache.getPlan(tmp.getValue());
+				boolean async = ASYNC_COMPILE && recompile;
 				
-				if( cla == null ) {
+				if( cla == null && async && asyncPlans.containsKey(tmp.getValue()) ) {
+					//probe pending background compilation, and keep
+					//the unfused sub-dag if the class is not ready yet
+					cla = pollAsyncPlan(tmp.getValue());
+					if( cla == null && DMLScript.STATISTICS )
+						Statistics.incrementCodegenAsyncFallbacks();
+				}
+				else if( cla == null ) {
 					//generate java source code
 					String src = tmp.getValue().codegen(false);
 					
@@ -412,13 +435,22 @@ public class SpoofCompiler
 						LOG.info(src);
 					}
 					
-					//compile generated java source code
-					cla = CodegenUtils.compileClass("codegen."+
-							tmp.getValue().getClassname(), src);
-					
-					//maintain plan cache
-					if( PLAN_CACHE_POLICY!=PlanCachePolicy.NONE )
-						planCache.putPlan(tmp.getValue(), cla);
+					//compile generated java source code, in the background during
+					//dynamic recompilation (w/ unfused sub-dag until ready)
+					if( async ) {
+						submitAsyncPlan(tmp.getValue(), "codegen."
+							+ tmp.getValue().getClassname(), src);
+						if( DMLScript.STATISTICS )
+							Statistics.incrementCodegenAsyncFallbacks();
+					}
+					else {
+						cla = CodegenUtils.compileClass("codegen."+
+								tmp.getValue().getClassname(), src);
+						
+						//maintain plan cache
+						if( PLAN_CACHE_POLICY!=PlanCachePolicy.NONE )
+							planCache.putPlan(tmp.getValue(), cla);
+					}
 				}
 				else if( DMLScript.STATISTICS ) {
 					Statistics.incrementCodegenPlanCacheHits();
@@ -463,6 +495,11 @@ public class SpoofCompiler
 	}
 
 	public static void cleanupCodeGenerator() {
+		//cancel pending background compilations
+		for( Future<Class<?>> f : asyncPlans.values() )
+			f.cancel(false);
+		asyncPlans.clear();
+		
 		if( PLAN_CACHE_POLICY != PlanCachePolicy.NONE ) {
 			CodegenUtils.clearClassCache(); //class cache
 			planCache.clear(); //plan cache
@@ -497,6 +534,14 @@ public class SpoofCompiler
 		PLAN_SEL_POLICY = type;
 	}
 	
+	public static void setConfiguredClassCache() {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String dir = conf.getTextValue(DMLConfig.CODEGEN_CLASSCACHE_DIR);
+		CLASS_CACHE_DIR = !conf.getBooleanValue(DMLConfig.CODEGEN_CLASSCACHE) ? null :
+			(dir != null && !dir.trim().isEmpty()) ? dir.trim() :
+			conf.getTextValue(DMLConfig.LOCAL_TMP_DIR) + "/codegen_cache";
+	}
+	
 	public static void setExecTypeSpecificJavaCompiler() {
 		DMLConfig conf = ConfigurationManager.getDMLConfig();
 		String compiler = conf.getTextValue(DMLConfig.CODEGEN_COMPILER);
@@ -506,6 +551,61 @@ public class SpoofCompiler
 			CompilerType.JANINO : CompilerType.JAVAC;
 	}
 	
+	////////////////////
+	// Asynchronous class compilation
+	
+	private static synchronized ExecutorService getAsyncPool() {
+		if( asyncPool == null ) {
+			//daemon threads to not block the shutdown of the jvm
+			asyncPool = Executors.newFixedThreadPool(ASYNC_COMPILE_THREADS, r -> {
+				Thread t = new Thread(r, "codegen-async-compile");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		return asyncPool;
+	}
+	
+	private static void submitAsyncPlan(CNodeTpl tpl, String name, String src) {
+		FutureTask<Class<?>> task = new FutureTask<>(() -> {
+			long t0 = System.nanoTime();
+			Class<?> cla = CodegenUtils.compileClass(name, src);
+			if( DMLScript.STATISTICS ) {
+				Statistics.incrementCodegenAsyncCompile();
+				Statistics.incrementCodegenAsyncCompileTime(System.nanoTime()-t0);
+			}
+			return cla;
+		});
+		//submit only once per distinct cplan
+		if( asyncPlans.putIfAbsent(tpl, task) == null )
+			getAsyncPool().execute(task);
+	}
+	
+	private static Class<?> pollAsyncPlan(CNodeTpl tpl) 
+		throws DMLRuntimeException
+	{
+		Future<Class<?>> task = asyncPlans.get(tpl);
+		if( task == null || !task.isDone() )
+			return null;
+		
+		Class<?> cla = null;
+		try {
+			cla = task.get();
+		}
+		catch(InterruptedException | ExecutionException | CancellationException ex) {
+			asyncPlans.remove(tpl);
+			throw new DMLRuntimeException("Failed to compile generated class.", ex);
+		}
+		
+		//move compiled class into plan cache (if enabled), and remove 
+		//the completed task in any case (w/o plan cache, next recompile
+		//triggers a new background compilation)
+		if( PLAN_CACHE_POLICY != PlanCachePolicy.NONE )
+			planCache.putPlan(tpl, cla);
+		asyncPlans.remove(tpl);
+		return cla;
+	}
+	
 	////////////////////
 	// Codegen plan construction
 	
@@ -76,8 +76,13 @@ public class Transform extends Lop
 	}
 	
 	public Transform(Lop[] inputs, Transform.OperationTypes op, DataType dt, ValueType vt, ExecType et, boolean bSortIndInMem) {
+		this(inputs, op, dt, vt, et, bSortIndInMem, 1);
+	}
+	
+	public Transform(Lop[] inputs, Transform.OperationTypes op, DataType dt, ValueType vt, ExecType et, boolean bSortIndInMem, int k) {
 		super(Lop.Type.Transform, dt, vt);
 		_bSortIndInMem = bSortIndInMem;
+		_numThreads = k;
 		init(inputs, op, dt, vt, et);
 	}
 	
@@ -213,7 +218,11 @@ public class Transform extends Lop
 		sb.append( OPERAND_DELIMITOR );
 		sb.append( this.prepOutputOperand(output));
 		
-		if( getExecType()==ExecType.SPARK && operation == OperationTypes.Sort ){
+		if( getExecType()==ExecType.CP && operation == OperationTypes.Sort ) {
+			sb.append( OPERAND_DELIMITOR );
+			sb.append( _numThreads );
+		}
+		else if( getExecType()==ExecType.SPARK && operation == OperationTypes.Sort ){
 			sb.append( OPERAND_DELIMITOR );
 			sb.append( _bSortIndInMem );
 		}
@@ -291,6 +291,8 @@ public class DMLTranslator
 				dmlconf.getIntValue(DMLConfig.CODEGEN_LITERALS)==2);
 			SpoofCompiler.setConfiguredPlanSelector();
 			SpoofCompiler.setExecTypeSpecificJavaCompiler();
+			SpoofCompiler.setConfiguredClassCache();
+			SpoofCompiler.ASYNC_COMPILE = dmlconf.getBooleanValue(DMLConfig.CODEGEN_ASYNC);
 			if( SpoofCompiler.INTEGRATION==IntegrationType.HOPS )
 				codgenHopsDAG(dmlp);
 		}
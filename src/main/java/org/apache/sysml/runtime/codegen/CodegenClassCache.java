@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Persistent on-disk cache of generated operator classes, which allows
+ * to reuse the bytecode of fused operators across JVM runs (e.g., repeated
+ * JMLC or batch invocations of the same script) instead of recompiling
+ * the generated source code.
+ *
+ * Entries are keyed by a SHA-256 hash over the SystemML version, the java
+ * specification version, and the canonical source code of the operator,
+ * in which all generated TMP identifiers (including the class name) are
+ * renumbered in order of first appearance. The class itself is renamed
+ * to a hash-derived name, which makes it independent of the order of
+ * compilation and unique across different operators. Each entry is stored
+ * as a class file {@code <key>.class}, written to a temporary file and
+ * atomically renamed, so that concurrent processes never observe partial
+ * entries.
+ */
+public class CodegenClassCache
+{
+	private static final Log LOG = LogFactory.getLog(CodegenClassCache.class.getName());
+
+	public static final String CLASS_PREFIX = "TMPC";
+	private static final int KEY_LENGTH = 32; //hex chars, i.e., 128 bits
+	private static final Pattern TMP_VAR = Pattern.compile("\\bTMP(\\d+)\\b");
+	private static final Pattern CLASS_DECL = Pattern.compile("\\bclass\\s+(TMP\\d+)\\b");
+
+	private static String _version = null;
+
+	/**
+	 * Entry of the persistent cache, i.e., the renamed class and its
+	 * source code and location of the class file.
+	 */
+	public static class CacheEntry {
+		public final String name;
+		public final String src;
+		public final File file;
+
+		private CacheEntry(String name, String src, File file) {
+			this.name = name;
+			this.src = src;
+			this.file = file;
+		}
+	}
+
+	private CodegenClassCache() {
+		//prevent instantiation via private constructor
+	}
+
+	/**
+	 * Creates the cache entry for the given generated source code, i.e.,
+	 * computes the canonical source, the cache key and the renamed class.
+	 *
+	 * @param dir cache directory
+	 * @param src generated java source code
+	 * @return cache entry, or null if the source is not supported
+	 */
+	public static CacheEntry createEntry(String dir, String src) {
+		Matcher decl = CLASS_DECL.matcher(src);
+		if( !decl.find() )
+			return null;
+
+		//canonicalize generated identifiers in order of first appearance
+		HashMap<String,String> names = new HashMap<>();
+		StringBuffer sb = new StringBuffer(src.length());
+		Matcher m = TMP_VAR.matcher(src);
+		while( m.find() ) {
+			String name = names.get(m.group());
+			if( name == null )
+				names.put(m.group(), name = "TMP"+names.size());
+			m.appendReplacement(sb, name);
+		}
+		m.appendTail(sb);
+		String csrc = sb.toString();
+
+		//compute key and rename class to hash-derived name
+		String key = hash(getVersion() + "\n" + csrc).substring(0, KEY_LENGTH);
+		String cname = CLASS_PREFIX + key;
+		String rsrc = csrc.replaceAll("\\b"+names.get(decl.group(1))+"\\b", cname);
+		String pkg = src.startsWith("package ") ?
+			src.substring(8, src.indexOf(';')).trim() + "." : "";
+		return new CacheEntry(pkg + cname, rsrc, new File(dir, key + ".class"));
+	}
+
+	/**
+	 * Reads the class file of the given entry if available.
+	 *
+	 * @param entry cache entry
+	 * @return class bytes, or null if not cached
+	 */
+	public static byte[] readClass(CacheEntry entry) {
+		if( !entry.file.exists() )
+			return null;
+		try {
+			return Files.readAllBytes(entry.file.toPath());
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to read cached class "+entry.file+": "+ex.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the class file of the given entry via a temporary file and
+	 * atomic rename. Failures are logged but not propagated because the
+	 * persistent cache is only an optimization.
+	 *
+	 * @param entry cache entry
+	 * @param classBytes bytecode of the compiled class
+	 */
+	public static void writeClass(CacheEntry entry, byte[] classBytes) {
+		File dir = entry.file.getParentFile();
+		File tmp = new File(dir, entry.file.getName() + "." + UUID.randomUUID() + ".tmp");
+		try {
+			if( !dir.exists() )
+				dir.mkdirs();
+			Files.write(tmp.toPath(), classBytes);
+			try {
+				Files.move(tmp.toPath(), entry.file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch(AtomicMoveNotSupportedException ex) {
+				Files.move(tmp.toPath(), entry.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to write cached class "+entry.file+": "+ex.getMessage());
+			tmp.delete();
+		}
+	}
+
+	/**
+	 * Removes the class file of the given entry, e.g., if it is corrupted.
+	 *
+	 * @param entry cache entry
+	 */
+	public static void removeClass(CacheEntry entry) {
+		if( entry.file.exists() && !entry.file.delete() )
+			LOG.warn("Failed to remove cached class "+entry.file);
+	}
+
+	private static synchronized String getVersion() {
+		if( _version == null ) {
+			//obtain version from jar manifest, w/ fallback to the
+			//modification time of the code source (e.g., dev builds)
+			Package pkg = CodegenClassCache.class.getPackage();
+			String version = (pkg != null) ? pkg.getImplementationVersion() : null;
+			long lastModified = 0;
+			try {
+				URL src = CodegenClassCache.class.getProtectionDomain().getCodeSource().getLocation();
+				lastModified = new File(src.toURI()).lastModified();
+			}
+			catch(Exception ex) {
+				//ignore, version only
+			}
+			_version = version + "_" + lastModified + "_"
+				+ System.getProperty("java.specification.version");
+		}
+		return _version;
+	}
+
+	private static String hash(String str) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(str.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder(2*digest.length);
+			for( byte b : digest )
+				sb.append(String.format("%02x", b & 0xFF));
+			return sb.toString();
+		}
+		catch(NoSuchAlgorithmException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
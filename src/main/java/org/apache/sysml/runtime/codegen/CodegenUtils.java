@@ -46,6 +46,7 @@ import org.apache.sysml.api.DMLScript;
 import org.apache.sysml.hops.codegen.SpoofCompiler;
 import org.apache.sysml.hops.codegen.SpoofCompiler.CompilerType;
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.codegen.CodegenClassCache.CacheEntry;
 import org.apache.sysml.runtime.codegen.SpoofOperator.SideInput;
 import org.apache.sysml.runtime.codegen.SpoofOperator.SideInputSparseCell;
 import org.apache.sysml.runtime.io.IOUtilFunctions;
@@ -67,6 +68,9 @@ public class CodegenUtils
 	//javac-specific working directory for src/class files
 	private static String _workingDir = null;
 	
+	//javac-specific map of class bytes loaded from the persistent class cache
+	private static ConcurrentHashMap<String, byte[]> _bytes = new ConcurrentHashMap<>();
+	
 	public static Class<?> compileClass(String name, String src) 
 		throws DMLRuntimeException
 	{
@@ -75,6 +79,22 @@ public class CodegenUtils
 		if( ret != null ) 
 			return ret;
 		
+		//probe persistent class cache (if enabled, javac only because janino
+		//compiles in memory and does not expose the bytecode of its classes)
+		CacheEntry entry = (SpoofCompiler.CLASS_CACHE_DIR != null
+			&& SpoofCompiler.JAVA_COMPILER != CompilerType.JANINO) ?
+			CodegenClassCache.createEntry(SpoofCompiler.CLASS_CACHE_DIR, src) : null;
+		if( entry != null ) {
+			ret = loadFromClassCache(entry);
+			if( ret != null ) {
+				_cache.put(name, ret);
+				return ret;
+			}
+			//compile the renamed class to obtain a reusable class file
+			name = entry.name;
+			src = entry.src;
+		}
+		
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 		
 		//compile java source w/ specific compiler
@@ -91,6 +111,13 @@ public class CodegenUtils
 			Statistics.incrementCodegenClassCompileTime(System.nanoTime()-t0);
 		}
 		
+		//maintain persistent class cache
+		if( entry != null ) {
+			byte[] classBytes = getCompiledClassBytes(ret);
+			if( classBytes != null )
+				CodegenClassCache.writeClass(entry, classBytes);
+		}
+		
 		return ret;
 	}
 	
@@ -135,6 +162,8 @@ public class CodegenUtils
 		//get class in a compiler-specific manner
 		if( SpoofCompiler.JAVA_COMPILER == CompilerType.JANINO )
 			return _src.get(name).getBytes();
+		else if( _bytes.containsKey(name) )
+			return _bytes.get(name);
 		else
 			return getClassAsByteArray(name);
 	}
@@ -142,6 +171,7 @@ public class CodegenUtils
 	public static void clearClassCache() {
 		_cache.clear();
 		_src.clear();
+		_bytes.clear();
 	}
 	
 	public static void clearClassCache(Class<?> cla) {
@@ -174,6 +204,48 @@ public class CodegenUtils
 		return (ret.mdat != null) ? new SideInputSparseCell(ret) : ret;
 	}
 	
+	////////////////////////////
+	//Persistent class cache methods
+	
+	private static Class<?> loadFromClassCache(CacheEntry entry) {
+		//reuse class already loaded from the persistent cache
+		Class<?> ret = _cache.get(entry.name);
+		if( ret != null )
+			return ret;
+		
+		byte[] classBytes = CodegenClassCache.readClass(entry);
+		if( classBytes == null )
+			return null;
+		try {
+			ret = loadFromClassFile(entry.name, classBytes);
+		}
+		catch(DMLRuntimeException | LinkageError ex) {
+			//remove corrupted or incompatible class files
+			LOG.warn("Failed to load cached class "+entry.name+", recompiling.", ex);
+			CodegenClassCache.removeClass(entry);
+			return null;
+		}
+		
+		//keep class bytes for transfer to remote workers
+		_bytes.put(entry.name, classBytes);
+		_cache.put(entry.name, ret);
+		
+		if( DMLScript.STATISTICS )
+			Statistics.incrementCodegenClassCacheHits();
+		return ret;
+	}
+	
+	private static byte[] getCompiledClassBytes(Class<?> cla) {
+		//javac class files from working dir
+		try {
+			return getClassAsByteArray(cla.getName());
+		}
+		catch(Exception ex) {
+			LOG.warn("Failed to obtain class bytes of "+cla.getName()+".", ex);
+			return null;
+		}
+	}
+	
 	////////////////////////////
 	//JANINO-specific methods (used for spark environments)
 
@@ -318,7 +390,7 @@ public class CodegenUtils
 		}
 	}
 	
-	private static void createWorkingDir() throws DMLRuntimeException  {
+	private static synchronized void createWorkingDir() throws DMLRuntimeException  {
 		if( _workingDir != null )
 			return;
 		String tmp = LocalFileUtils.getWorkingDir(LocalFileUtils.CATEGORY_CODEGEN);
@@ -1040,7 +1040,42 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 		KahanObject kbuff = new KahanObject(0, 0);
 		double[] corr = new double[n];
 		
-		Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
+		//special case: computation over distinct value-tuples (w/o side inputs)
+		if( b.length == 0 ) {
+			for( ColGroup grp : a.getColGroups() ) {
+				if( !(grp instanceof ColGroupValue) ) {
+					executeCompressedColAggSum(grp.getIterator(rl, ru, !sparseSafe, false),
+						b, scalars, c, corr, kplus, kbuff, m, n);
+					continue;
+				}
+				ColGroupValue grpv = (ColGroupValue) grp;
+				int[] counts = getCounts(grpv, rl, ru);
+				int[] cols = grpv.getColIndices();
+				double[] vals = grpv.getValues();
+				for( int k=0, off=0; k<counts.length; k++, off+=cols.length )
+					if( counts[k] > 0 )
+						for( int j=0; j<cols.length; j++ )
+							addColAgg(c, corr, cols[j], genexec(vals[off+j],
+								b, scalars, m, n, -1, cols[j]), counts[k], kplus, kbuff);
+				//unseen zero tuples of offset-based groups
+				int nzeros = getNumZeroTuples(counts, rl, ru);
+				if( !sparseSafe && nzeros > 0 )
+					for( int j=0; j<cols.length; j++ )
+						addColAgg(c, corr, cols[j], genexec(0,
+							b, scalars, m, n, -1, cols[j]), nzeros, kplus, kbuff);
+			}
+		}
+		//general case of arbitrary side inputs
+		else {
+			executeCompressedColAggSum(a.getIterator(rl, ru, !sparseSafe),
+				b, scalars, c, corr, kplus, kbuff, m, n);
+		}
+		return -1;
+	}
+	
+	private void executeCompressedColAggSum(Iterator<IJV> iter, SideInput[] b, double[] scalars,
+		double[] c, double[] corr, KahanFunction kplus, KahanObject kbuff, int m, int n)
+	{
 		while( iter.hasNext() ) {
 			IJV cell = iter.next();
 			double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
@@ -1049,25 +1084,62 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 			c[cell.getJ()] = kbuff._sum;
 			corr[cell.getJ()] = kbuff._correction;
 		}
-		return -1;
+	}
+	
+	private static void addColAgg(double[] c, double[] corr, int j, double val, int count,
+		KahanFunction kplus, KahanObject kbuff)
+	{
+		kbuff.set(c[j], corr[j]);
+		kplus.execute3(kbuff, val, count);
+		c[j] = kbuff._sum;
+		corr[j] = kbuff._correction;
 	}
 	
 	private long executeCompressedColAggMxx(CompressedMatrixBlock a, SideInput[] b, double[] scalars,
 			double[] c, int m, int n, boolean sparseSafe, int rl, int ru)
 		throws DMLRuntimeException
 	{
-		Arrays.fill(c, rl, ru, (_aggOp==AggOp.MIN) ? Double.MAX_VALUE : -Double.MAX_VALUE);
+		Arrays.fill(c, (_aggOp==AggOp.MIN) ? Double.MAX_VALUE : -Double.MAX_VALUE);
 		ValueFunction vfun = getAggFunction();
-		long lnnz = 0;
-		Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
-		while( iter.hasNext() ) {
-			IJV cell = iter.next();
-			double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
-			c[cell.getI()] = vfun.execute(c[cell.getI()], val);
+		
+		//special case: computation over distinct value-tuples (w/o side inputs),
+		//including unseen zeros because each column group knows its zero count
+		if( b.length == 0 ) {
+			for( ColGroup grp : a.getColGroups() ) {
+				if( !(grp instanceof ColGroupValue) ) {
+					Iterator<IJV> iter = grp.getIterator(rl, ru, true, false);
+					while( iter.hasNext() ) {
+						IJV cell = iter.next();
+						double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
+						c[cell.getJ()] = vfun.execute(c[cell.getJ()], val);
+					}
+					continue;
+				}
+				ColGroupValue grpv = (ColGroupValue) grp;
+				int[] counts = getCounts(grpv, rl, ru);
+				int[] cols = grpv.getColIndices();
+				double[] vals = grpv.getValues();
+				for( int k=0, off=0; k<counts.length; k++, off+=cols.length )
+					if( counts[k] > 0 )
+						for( int j=0; j<cols.length; j++ )
+							c[cols[j]] = vfun.execute(c[cols[j]],
+								genexec(vals[off+j], b, scalars, m, n, -1, cols[j]));
+				if( getNumZeroTuples(counts, rl, ru) > 0 )
+					for( int j=0; j<cols.length; j++ )
+						c[cols[j]] = vfun.execute(c[cols[j]],
+							genexec(0, b, scalars, m, n, -1, cols[j]));
+			}
 		}
-		for( int i=rl; i<ru; i++ )
-			lnnz += (c[i]!=0) ? 1 : 0;
-		return lnnz;
+		//general case of arbitrary side inputs
+		else {
+			Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
+			while( iter.hasNext() ) {
+				IJV cell = iter.next();
+				double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
+				c[cell.getJ()] = vfun.execute(c[cell.getJ()], val);
+			}
+		}
+		return -1;
 	}
 	
 	private double executeCompressedAggSum(CompressedMatrixBlock a, SideInput[] b, double[] scalars,
@@ -1076,22 +1148,32 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 	{
 		KahanFunction kplus = (KahanFunction) getAggFunction();
 		KahanObject kbuff = new KahanObject(0, 0);
-		KahanObject kbuff2 = new KahanObject(0, 0);
 		
-		//special case: computation over value-tuples only
-		if( sparseSafe && b.length==0 && !a.hasUncompressedColGroup() ) {
-			//note: all remaining groups are guaranteed ColGroupValue
-			boolean entireGrp = (rl==0 && ru==a.getNumRows());
+		//special case: computation over distinct value-tuples (w/o side inputs),
+		//where each cell value of a tuple is evaluated once and scaled by counts
+		if( b.length==0 ) {
 			for( ColGroup grp : a.getColGroups() ) {
-				ColGroupValue grpv = (ColGroupValue) grp;
-				int[] counts = entireGrp ? 
-					grpv.getCounts() : grpv.getCounts(rl, ru);
-				for(int k=0; k<grpv.getNumValues(); k++) {
-					kbuff2.set(0, 0);
-					double in = grpv.sumValues(k, kplus, kbuff2);
-					double out = genexec(in, b, scalars, m, n, -1, -1);
-					kplus.execute3(kbuff, out, counts[k]);
+				if( !(grp instanceof ColGroupValue) ) {
+					Iterator<IJV> iter = grp.getIterator(rl, ru, !sparseSafe, false);
+					while( iter.hasNext() ) {
+						IJV cell = iter.next();
+						kplus.execute2(kbuff, genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ()));
+					}
+					continue;
 				}
+				ColGroupValue grpv = (ColGroupValue) grp;
+				int[] counts = getCounts(grpv, rl, ru);
+				int[] cols = grpv.getColIndices();
+				double[] vals = grpv.getValues();
+				for( int k=0, off=0; k<counts.length; k++, off+=cols.length )
+					if( counts[k] > 0 )
+						for( int j=0; j<cols.length; j++ )
+							kplus.execute3(kbuff, genexec(vals[off+j], b, scalars, m, n, -1, cols[j]), counts[k]);
+				//unseen zero tuples of offset-based groups
+				int nzeros = getNumZeroTuples(counts, rl, ru);
+				if( !sparseSafe && nzeros > 0 )
+					for( int j=0; j<cols.length; j++ )
+						kplus.execute3(kbuff, genexec(0, b, scalars, m, n, -1, cols[j]), nzeros);
 			}
 		}
 		//general case of arbitrary side inputs 
@@ -1115,15 +1197,55 @@ public abstract class SpoofCellwise extends SpoofOperator implements Serializabl
 		double ret = (_aggOp==AggOp.MIN) ? Double.MAX_VALUE : -Double.MAX_VALUE;
 		ValueFunction vfun = getAggFunction();
 		
-		Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
-		while( iter.hasNext() ) {
-			IJV cell = iter.next();
-			double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
-			ret = vfun.execute(ret, val);
+		//special case: computation over distinct value-tuples (w/o side inputs)
+		if( b.length==0 ) {
+			for( ColGroup grp : a.getColGroups() ) {
+				if( !(grp instanceof ColGroupValue) ) {
+					Iterator<IJV> iter = grp.getIterator(rl, ru, !sparseSafe, false);
+					while( iter.hasNext() ) {
+						IJV cell = iter.next();
+						ret = vfun.execute(ret, genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ()));
+					}
+					continue;
+				}
+				ColGroupValue grpv = (ColGroupValue) grp;
+				int[] counts = getCounts(grpv, rl, ru);
+				int[] cols = grpv.getColIndices();
+				double[] vals = grpv.getValues();
+				for( int k=0, off=0; k<counts.length; k++, off+=cols.length )
+					if( counts[k] > 0 )
+						for( int j=0; j<cols.length; j++ )
+							ret = vfun.execute(ret, genexec(vals[off+j], b, scalars, m, n, -1, cols[j]));
+				if( !sparseSafe && getNumZeroTuples(counts, rl, ru) > 0 )
+					for( int j=0; j<cols.length; j++ )
+						ret = vfun.execute(ret, genexec(0, b, scalars, m, n, -1, cols[j]));
+			}
+		}
+		//general case of arbitrary side inputs
+		else {
+			Iterator<IJV> iter = a.getIterator(rl, ru, !sparseSafe);
+			while( iter.hasNext() ) {
+				IJV cell = iter.next();
+				double val = genexec(cell.getV(), b, scalars, m, n, cell.getI(), cell.getJ());
+				ret = vfun.execute(ret, val);
+			}
 		}
 		return ret;
 	}
 	
+	private static int[] getCounts(ColGroupValue grp, int rl, int ru) {
+		return (rl==0 && ru==grp.getNumRows()) ?
+			grp.getCounts() : grp.getCounts(rl, ru);
+	}
+	
+	private static int getNumZeroTuples(int[] counts, int rl, int ru) {
+		//rows of offset-based groups that are not covered by any value tuple
+		int ret = ru - rl;
+		for( int k=0; k<counts.length; k++ )
+			ret -= counts[k];
+		return ret;
+	}
+	
 	protected abstract double genexec( double a, SideInput[] b,
 			double[] scalars, int m, int n, int rowIndex, int colIndex);
 	
@@ -31,6 +31,9 @@ import java.util.concurrent.Future;
 
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.codegen.SpoofCellwise.AggOp;
+import org.apache.sysml.runtime.compress.BitmapEncoder;
+import org.apache.sysml.runtime.compress.ColGroup;
+import org.apache.sysml.runtime.compress.ColGroupValue;
 import org.apache.sysml.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysml.runtime.functionobjects.Builtin;
 import org.apache.sysml.runtime.functionobjects.Builtin.BuiltinCode;
@@ -121,6 +124,8 @@ public abstract class SpoofMultiAggregate extends SpoofOperator implements Seria
 				ArrayList<ParAggTask> tasks = new ArrayList<>();
 				int nk = UtilFunctions.roundToNext(Math.min(8*k,m/32), k);
 				int blklen = (int)(Math.ceil((double)m/nk));
+				if( inputs.get(0) instanceof CompressedMatrixBlock )
+					blklen = BitmapEncoder.getAlignedBlocksize(blklen);
 				for( int i=0; i<nk & i*blklen<m; i++ )
 					tasks.add(new ParAggTask(inputs.get(0), b, scalars,
 						m, n, sparseSafe, i*blklen, Math.min((i+1)*blklen, m))); 
@@ -204,11 +209,59 @@ public abstract class SpoofMultiAggregate extends SpoofOperator implements Seria
 
 	private void executeCompressed(CompressedMatrixBlock a, SideInput[] b, double[] scalars, double[] c, int m, int n, int rl, int ru) throws DMLRuntimeException 
 	{
-		//core compressed aggregation operation
-		Iterator<IJV> iter = a.getIterator(rl, ru, true);
-		while( iter.hasNext() ) {
-			IJV cell = iter.next();
-			genexec(cell.getV(), b, scalars, c, m, n, cell.getI(), cell.getJ());
+		//special case: computation over distinct value-tuples (w/o side inputs),
+		//where each cell value of a tuple is evaluated once into a temporary
+		//aggregate and scaled by the number of occurrences (incl unseen zeros)
+		if( b.length == 0 ) {
+			double[] tmp = new double[c.length];
+			for( ColGroup grp : a.getColGroups() ) {
+				if( !(grp instanceof ColGroupValue) ) {
+					Iterator<IJV> iter = grp.getIterator(rl, ru, true, false);
+					while( iter.hasNext() ) {
+						IJV cell = iter.next();
+						genexec(cell.getV(), b, scalars, c, m, n, cell.getI(), cell.getJ());
+					}
+					continue;
+				}
+				ColGroupValue grpv = (ColGroupValue) grp;
+				int[] counts = (rl==0 && ru==grpv.getNumRows()) ?
+					grpv.getCounts() : grpv.getCounts(rl, ru);
+				int[] cols = grpv.getColIndices();
+				double[] vals = grpv.getValues();
+				int nzeros = ru - rl;
+				for( int k=0, off=0; k<counts.length; k++, off+=cols.length ) {
+					nzeros -= counts[k];
+					if( counts[k] > 0 )
+						for( int j=0; j<cols.length; j++ )
+							executeValue(vals[off+j], counts[k], b, scalars, c, tmp, m, n, cols[j]);
+				}
+				//unseen zero tuples of offset-based groups
+				if( nzeros > 0 )
+					for( int j=0; j<cols.length; j++ )
+						executeValue(0, nzeros, b, scalars, c, tmp, m, n, cols[j]);
+			}
+		}
+		//general case of arbitrary side inputs
+		else {
+			Iterator<IJV> iter = a.getIterator(rl, ru, true);
+			while( iter.hasNext() ) {
+				IJV cell = iter.next();
+				genexec(cell.getV(), b, scalars, c, m, n, cell.getI(), cell.getJ());
+			}
+		}
+	}
+	
+	private void executeValue(double val, int count, SideInput[] b, double[] scalars, double[] c, double[] tmp, int m, int n, int colIndex) {
+		//evaluate value once, and scale the partial aggregates
+		setInitialOutputValues(tmp);
+		genexec(val, b, scalars, tmp, m, n, -1, colIndex);
+		for( int k=0; k<_aggOps.length; k++ ) {
+			switch( _aggOps[k] ) {
+				case SUM:
+				case SUM_SQ: c[k] += tmp[k] * count; break;
+				case MIN:    c[k] = Math.min(c[k], tmp[k]); break;
+				case MAX:    c[k] = Math.max(c[k], tmp[k]); break;
+			}
 		}
 	}
 	
@@ -46,6 +46,7 @@ import org.apache.sysml.runtime.matrix.data.SparseRowVector;
 public abstract class SpoofRowwise extends SpoofOperator
 {
 	private static final long serialVersionUID = 6242910797139642998L;
+	private static final int COMPRESSED_BATCH_CELLS = 16*1024; //128KB row batches
 	
 	public enum RowType {
 		NO_AGG,       //no aggregation
@@ -166,8 +167,7 @@ public abstract class SpoofRowwise extends SpoofOperator
 		out.recomputeNonZeros();
 		if( flipOut ) {
 			fixTransposeDimensions(out);
-			out = LibMatrixReorg.transpose(out, new MatrixBlock(
-				out.getNumColumns(), out.getNumRows(), false));
+			out = LibMatrixReorg.transposeInPlace(out, 1);
 		}
 		out.examSparsity();
 		return out;
@@ -239,8 +239,7 @@ public abstract class SpoofRowwise extends SpoofOperator
 			pool.shutdown();
 			if( flipOut ) {
 				fixTransposeDimensions(out);
-				out = LibMatrixReorg.transpose(out, new MatrixBlock(
-					out.getNumColumns(), out.getNumRows(), false));
+				out = LibMatrixReorg.transposeInPlace(out, 1);
 			}
 			out.examSparsity();
 		}
@@ -317,10 +316,16 @@ public abstract class SpoofRowwise extends SpoofOperator
 		if( a.isEmptyBlock(false) )
 			return;
 		SideInput[] lb = createSparseSideInputs(b, true);
-		Iterator<double[]> iter = a.getDenseRowIterator(rl, ru);
-		for( int i=rl; iter.hasNext(); i++ ) {
-			genexec(iter.next(), 0, lb, scalars,
-				c.values(i), c.pos(i), n, i);
+		//batch decode of consecutive rows (group by group) into a
+		//cache-resident row-major buffer, and row-wise evaluation
+		final int blen = Math.max(1, Math.min(ru-rl, COMPRESSED_BATCH_CELLS/Math.max(n, 1)));
+		Iterator<double[]> iter = a.getDenseRowBatchIterator(rl, ru, blen);
+		for( int bi=rl; iter.hasNext(); bi+=blen ) {
+			double[] buff = iter.next();
+			int bu = Math.min(bi+blen, ru);
+			for( int i=bi, off=0; i<bu; i++, off+=n )
+				genexec(buff, off, lb, scalars,
+					c.values(i), c.pos(i), n, i);
 		}
 	}
 	
@@ -30,7 +30,9 @@ import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.matrix.data.IJV;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Class that stores information about a column group within a compressed matrix
@@ -246,6 +248,34 @@ public abstract class ColGroup implements Serializable
 	public abstract void leftMultByRowVector(MatrixBlock vector,
 			MatrixBlock result) throws DMLRuntimeException;
 
+	/**
+	 * Multiply a row slice of the matrix that this column group represents 
+	 * by a dense matrix on the right and add the results to the output.
+	 * 
+	 * @param b dense rhs matrix (clen x n) in row-major layout
+	 * @param c dense output matrix (rlen x n) in row-major layout
+	 * @param n number of columns of b and c
+	 * @param rl row lower
+	 * @param ru row upper
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public abstract void rightMultByMatrix(double[] b, double[] c, int n, int rl, int ru) 
+			throws DMLRuntimeException;
+	
+	/**
+	 * Multiply a row slice of a dense matrix on the left by the matrix that 
+	 * this column group represents and add the results to the output.
+	 * 
+	 * @param a dense lhs matrix (m x rlen) in row-major layout
+	 * @param c dense output matrix (m x clen) in row-major layout
+	 * @param clen number of columns of c
+	 * @param rl row lower of a and c
+	 * @param ru row upper of a and c
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public abstract void leftMultByMatrix(double[] a, double[] c, int clen, int rl, int ru) 
+			throws DMLRuntimeException;
+
 	/**
 	 * Perform the specified scalar operation directly on the compressed column
 	 * group, without decompressing individual cells if possible.
@@ -258,6 +288,33 @@ public abstract class ColGroup implements Serializable
 	public abstract ColGroup scalarOperation(ScalarOperator op)
 			throws DMLRuntimeException;
 
+	/**
+	 * Perform the specified cell-wise unary operation directly on the compressed 
+	 * column group, without decompressing individual cells if possible.
+	 * 
+	 * @param op
+	 *            unary operation to perform
+	 * @return version of this column group with the operation applied
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public abstract ColGroup unaryOperation(UnaryOperator op)
+			throws DMLRuntimeException;
+	
+	/**
+	 * Perform the specified cell-wise binary operation with a row vector as 
+	 * right-hand-side operand directly on the compressed column group, 
+	 * without decompressing individual cells if possible.
+	 * 
+	 * @param op
+	 *            binary operation to perform
+	 * @param v
+	 *            dense row vector of all columns of the matrix
+	 * @return version of this column group with the operation applied
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public abstract ColGroup binaryRowOperation(BinaryOperator op, double[] v)
+			throws DMLRuntimeException;
+
 	public abstract void unaryAggregateOperations(AggregateUnaryOperator op, MatrixBlock result)
 		throws DMLRuntimeException;
 	
@@ -298,6 +355,36 @@ public abstract class ColGroup implements Serializable
 	 * avoid unnecessary value copies per group.
 	 */
 	protected abstract class ColGroupRowIterator {
-		public abstract void next(double[] buff, int rowIx, int segIx, boolean last);
+		public final void next(double[] buff, int rowIx, int segIx, boolean last) {
+			next(buff, 0, rowIx, segIx, last);
+		}
+		
+		/**
+		 * Copies the values of the next row into the output buffer,
+		 * where the first column of the row is located at offset off.
+		 * 
+		 * @param buff output buffer
+		 * @param off offset of the row in the output buffer
+		 * @param rowIx row index
+		 * @param segIx row index within the current segment
+		 * @param last true if this is the last row of the iterator
+		 */
+		public abstract void next(double[] buff, int off, int rowIx, int segIx, boolean last);
+		
+		/**
+		 * Copies the values of a batch of consecutive rows into a row-major
+		 * output buffer with rows of length clen, starting at offset 0.
+		 * 
+		 * @param buff output buffer
+		 * @param clen number of columns of the output buffer
+		 * @param rl row lower index of the batch, inclusive
+		 * @param ru row upper index of the batch, exclusive
+		 * @param last true if the batch contains the last row of the iterator
+		 */
+		public void nextBatch(double[] buff, int clen, int rl, int ru, boolean last) {
+			final int blksz = BitmapEncoder.BITMAP_BLOCK_SZ;
+			for( int i=rl, off=0; i<ru; i++, off+=clen )
+				next(buff, off, i, i%blksz, last && i+1==ru);
+		}
 	}
 }
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.utils.LinearAlgebraUtils;
 import org.apache.sysml.runtime.functionobjects.Builtin;
 import org.apache.sysml.runtime.functionobjects.KahanFunction;
 import org.apache.sysml.runtime.functionobjects.KahanPlus;
@@ -215,6 +216,30 @@ public abstract class ColGroupDDC extends ColGroupValue
 		}
 	}
 	
+	@Override
+	public void rightMultByPreAggMatrix(double[] preagg, double[] c, int n, int rl, int ru) {
+		//scatter pre-aggregated rows via the DDC mapping
+		for( int i=rl, cix=rl*n; i<ru; i++, cix+=n )
+			LinearAlgebraUtils.vectAdd(preagg, c, getCode(i)*n, cix, n);
+	}
+	
+	@Override
+	public void leftMultByMatrix(double[] a, double[] c, int clen, int rl, int ru) {
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+		double[] vals = new double[numVals];
+		
+		for( int r=rl, aix=rl*nrow; r<ru; r++, aix+=nrow ) {
+			//iterative over codes and pre-aggregate lhs row per code
+			Arrays.fill(vals, 0);
+			for( int i=0; i<nrow; i++ )
+				vals[getCode(i)] += a[aix+i];
+			
+			//post-scaling of pre-aggregate with distinct values
+			postScaling(vals, c, r*clen);
+		}
+	}
+	
 	/**
 	 * Generic get value for byte-length-agnostic access
 	 * to first column.
@@ -312,12 +337,23 @@ public abstract class ColGroupDDC extends ColGroupValue
 		}
 
 		@Override
-		public void next(double[] buff, int rowIx, int segIx, boolean last) {
+		public void next(double[] buff, int off, int rowIx, int segIx, boolean last) {
 			//copy entire value tuple to output row
 			final int clen = getNumCols();
-			final int off = getCode(rowIx)*clen;
+			final int voff = getCode(rowIx)*clen;
 			for(int j=0; j<clen; j++)
-				buff[_colIndexes[j]] = _values[off+j];
+				buff[off+_colIndexes[j]] = _values[voff+j];
+		}
+		
+		@Override
+		public void nextBatch(double[] buff, int clen, int rl, int ru, boolean last) {
+			//copy value tuples of all rows w/o per-row dispatch
+			final int ncol = getNumCols();
+			for(int i=rl, off=0; i<ru; i++, off+=clen) {
+				final int voff = getCode(i)*ncol;
+				for(int j=0; j<ncol; j++)
+					buff[off+_colIndexes[j]] = _values[voff+j];
+			}
 		}
 	}
 }
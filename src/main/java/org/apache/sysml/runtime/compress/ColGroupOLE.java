@@ -33,7 +33,9 @@ import org.apache.sysml.runtime.functionobjects.KahanPlus;
 import org.apache.sysml.runtime.instructions.cp.KahanObject;
 import org.apache.sysml.runtime.matrix.data.DenseBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Class to encapsulate information about a column group that is encoded with
@@ -294,6 +296,63 @@ public class ColGroupOLE extends ColGroupOffset
 				rvalues, rbitmaps, rbitmapOffs);
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op)
+		throws DMLRuntimeException 
+	{
+		//fast path: sparse-safe operations
+		// Note that bitmaps don't change and are shallow-copied
+		if( op.sparseSafe || op.fn.execute(0d)==0 ) {
+			return new ColGroupOLE(_colIndexes, _numRows, _zeros, 
+					applyUnaryOp(op, false), _data, _ptr);
+		}
+		
+		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyUnaryOp(op, true));
+	}
+	
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v)
+		throws DMLRuntimeException 
+	{
+		//fast path: zeros remain zeros for all columns
+		// Note that bitmaps don't change and are shallow-copied
+		if( isSparseSafeRowOp(op, v) ) {
+			return new ColGroupOLE(_colIndexes, _numRows, _zeros, 
+					applyBinaryRowOp(op, v, false), _data, _ptr);
+		}
+		
+		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyBinaryRowOp(op, v, true));
+	}
+	
+	/**
+	 * Creates a shallow copy of this column group with the given values, 
+	 * whose last tuple is assigned to all rows that are zero in this group.
+	 * 
+	 * @param rvalues new values, incl the tuple for zero rows
+	 * @return new column group
+	 */
+	private ColGroupOLE appendZeroTuple(double[] rvalues) {
+		//note: for efficiency, we currently don't drop values that become 0
+		boolean[] lind = computeZeroIndicatorVector();
+		int[] loff = computeOffsets(lind);
+		if( loff.length==0 ) { //empty offset list: drop the zero tuple
+			return new ColGroupOLE(_colIndexes, _numRows, false,
+					Arrays.copyOf(rvalues, _values.length), _data, _ptr);
+		}
+		
+		char[] lbitmap = BitmapEncoder.genOffsetBitmap(loff, loff.length);
+		char[] rbitmaps = Arrays.copyOf(_data, _data.length+lbitmap.length);
+		System.arraycopy(lbitmap, 0, rbitmaps, _data.length, lbitmap.length);
+		int[] rbitmapOffs = Arrays.copyOf(_ptr, _ptr.length+1);
+		rbitmapOffs[rbitmapOffs.length-1] = rbitmaps.length;
+		
+		//note: all rows are covered by offsets lists, incl the new zero tuple
+		return new ColGroupOLE(_colIndexes, _numRows, false,
+				rvalues, rbitmaps, rbitmapOffs);
+	}
+
 	@Override
 	public void rightMultByVector(MatrixBlock vector, MatrixBlock result, int rl, int ru)
 			throws DMLRuntimeException 
@@ -384,6 +443,25 @@ public class ColGroupOLE extends ColGroupOffset
 		}
 	}
 
+	@Override
+	public void rightMultByPreAggMatrix(double[] preagg, double[] c, int n, int rl, int ru) {
+		final int blksz = BitmapEncoder.BITMAP_BLOCK_SZ;
+		final int numVals = getNumValues();
+		
+		//iterate over all values and scatter pre-aggregated rows
+		//via offset lists (rl aligned with blksz)
+		for( int k=0, voff=0; k<numVals; k++, voff+=n ) {
+			int boff = _ptr[k];
+			int blen = len(k);
+			int bix = skipScanVal(k, rl);
+			for( int off=rl; bix<blen && off<ru; bix+=_data[boff+bix]+1, off+=blksz ) {
+				int slen = _data[boff+bix];
+				for( int blckIx=1; blckIx<=slen; blckIx++ )
+					LinearAlgebraUtils.vectAdd(preagg, c, voff, (off+_data[boff+bix+blckIx])*n, n);
+			}
+		}
+	}
+	
 	@Override
 	public void leftMultByRowVector(MatrixBlock vector, MatrixBlock result)
 		throws DMLRuntimeException 
@@ -872,13 +950,13 @@ public class ColGroupOLE extends ColGroupOffset
 		}
 		
 		@Override
-		public void next(double[] buff, int rowIx, int segIx, boolean last) {
+		public void next(double[] buff, int off, int rowIx, int segIx, boolean last) {
 			final int clen = _colIndexes.length;
 			final int vcode = _vcodes[segIx];
 			if( vcode >= 0 ) {
 				//copy entire value tuple if necessary
-				for(int j=0, off=vcode*clen; j<clen; j++)
-					buff[_colIndexes[j]] = _values[off+j];
+				for(int j=0, voff=vcode*clen; j<clen; j++)
+					buff[off+_colIndexes[j]] = _values[voff+j];
 				//reset vcode to avoid scan on next segment
 				_vcodes[segIx] = -1;
 			}
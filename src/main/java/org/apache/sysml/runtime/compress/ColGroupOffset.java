@@ -286,6 +286,50 @@ public abstract class ColGroupOffset extends ColGroupValue
 		
 		return ret;
 	}
+	
+	/**
+	 * Materializes the offset lists of all distinct values, which allows
+	 * callers to reuse them across multiple row segments of the lhs.
+	 * 
+	 * @return offset lists per distinct value
+	 */
+	public int[][] getOffsetLists() {
+		final int numVals = getNumValues();
+		int[] counts = getCounts();
+		int[][] offsets = new int[numVals][];
+		for( int k=0; k<numVals; k++ ) {
+			offsets[k] = new int[counts[k]];
+			Iterator<Integer> iter = getIterator(k);
+			for( int pos=0; iter.hasNext(); pos++ )
+				offsets[k][pos] = iter.next();
+		}
+		return offsets;
+	}
+	
+	@Override
+	public void leftMultByMatrix(double[] a, double[] c, int clen, int rl, int ru) {
+		leftMultByMatrix(a, c, clen, getOffsetLists(), rl, ru);
+	}
+	
+	public void leftMultByMatrix(double[] a, double[] c, int clen, int[][] offsets, int rl, int ru) {
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+		
+		double[] vals = new double[numVals];
+		for( int r=rl, aix=rl*nrow; r<ru; r++, aix+=nrow ) {
+			//gather and pre-aggregate lhs row per offset list
+			for( int k=0; k<numVals; k++ ) {
+				int[] off = offsets[k];
+				double vsum = 0;
+				for( int j=0; j<off.length; j++ )
+					vsum += a[aix+off[j]];
+				vals[k] = vsum;
+			}
+			
+			//post-scaling of pre-aggregate with distinct values
+			postScaling(vals, c, r*clen);
+		}
+	}
 
 	@Override
 	public void readFields(DataInput in) 
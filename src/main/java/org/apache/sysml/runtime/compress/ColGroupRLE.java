@@ -34,7 +34,9 @@ import org.apache.sysml.runtime.instructions.cp.KahanObject;
 import org.apache.sysml.runtime.matrix.data.DenseBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.Pair;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 
 
 /** A group of columns compressed with a single run-length encoded bitmap. */
@@ -361,6 +363,32 @@ public class ColGroupRLE extends ColGroupOffset
 		}
 	}
 
+	@Override
+	public void rightMultByPreAggMatrix(double[] preagg, double[] c, int n, int rl, int ru) {
+		final int numVals = getNumValues();
+		
+		//iterate over all values and scatter pre-aggregated rows 
+		//over the runs of the value, not aligned
+		for( int k=0, voff=0; k<numVals; k++, voff+=n ) {
+			int boff = _ptr[k];
+			int blen = len(k);
+			Pair<Integer,Integer> tmp = skipScanVal(k, rl);
+			int bix = tmp.getKey();
+			int start = tmp.getValue();
+			while( bix<blen ) {
+				int lstart = _data[boff + bix];
+				int llen = _data[boff + bix + 1];
+				int to = Math.min(start+lstart+llen, ru);
+				for( int i=Math.max(rl, start+lstart); i<to; i++ )
+					LinearAlgebraUtils.vectAdd(preagg, c, voff, i*n, n);
+				if(start+lstart+llen >= ru)
+					break;
+				start += lstart + llen;
+				bix += 2;
+			}
+		}
+	}
+	
 	@Override
 	public void leftMultByRowVector(MatrixBlock vector, MatrixBlock result)
 			throws DMLRuntimeException 
@@ -503,6 +531,63 @@ public class ColGroupRLE extends ColGroupOffset
 				rvalues, rbitmaps, rbitmapOffs);
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op)
+		throws DMLRuntimeException 
+	{
+		//fast path: sparse-safe operations
+		// Note that bitmaps don't change and are shallow-copied
+		if( op.sparseSafe || op.fn.execute(0d)==0 ) {
+			return new ColGroupRLE(_colIndexes, _numRows, _zeros, 
+					applyUnaryOp(op, false), _data, _ptr);
+		}
+		
+		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyUnaryOp(op, true));
+	}
+	
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v)
+		throws DMLRuntimeException 
+	{
+		//fast path: zeros remain zeros for all columns
+		// Note that bitmaps don't change and are shallow-copied
+		if( isSparseSafeRowOp(op, v) ) {
+			return new ColGroupRLE(_colIndexes, _numRows, _zeros, 
+					applyBinaryRowOp(op, v, false), _data, _ptr);
+		}
+		
+		//slow path: sparse-unsafe operations (potentially create new bitmap)
+		return appendZeroTuple(applyBinaryRowOp(op, v, true));
+	}
+	
+	/**
+	 * Creates a shallow copy of this column group with the given values, 
+	 * whose last tuple is assigned to all rows that are zero in this group.
+	 * 
+	 * @param rvalues new values, incl the tuple for zero rows
+	 * @return new column group
+	 */
+	private ColGroupRLE appendZeroTuple(double[] rvalues) {
+		//note: for efficiency, we currently don't drop values that become 0
+		boolean[] lind = computeZeroIndicatorVector();
+		int[] loff = computeOffsets(lind);
+		if( loff.length==0 ) { //empty offset list: drop the zero tuple
+			return new ColGroupRLE(_colIndexes, _numRows, false,
+					Arrays.copyOf(rvalues, _values.length), _data, _ptr);
+		}
+		
+		char[] lbitmap = BitmapEncoder.genRLEBitmap(loff, loff.length);
+		char[] rbitmaps = Arrays.copyOf(_data, _data.length+lbitmap.length);
+		System.arraycopy(lbitmap, 0, rbitmaps, _data.length, lbitmap.length);
+		int[] rbitmapOffs = Arrays.copyOf(_ptr, _ptr.length+1);
+		rbitmapOffs[rbitmapOffs.length-1] = rbitmaps.length;
+		
+		//note: all rows are covered by offsets lists, incl the new zero tuple
+		return new ColGroupRLE(_colIndexes, _numRows, false,
+				rvalues, rbitmaps, rbitmapOffs);
+	}
+
 	@Override
 	protected final void computeSum(MatrixBlock result, KahanFunction kplus)
 	{
@@ -876,13 +961,13 @@ public class ColGroupRLE extends ColGroupOffset
 		}
 		
 		@Override
-		public void next(double[] buff, int rowIx, int segIx, boolean last) {
+		public void next(double[] buff, int off, int rowIx, int segIx, boolean last) {
 			final int clen = getNumCols();
 			final int vcode = _vcodes[segIx];
 			if( vcode >= 0 ) {
 				//copy entire value tuple if necessary
-				for(int j=0, off=vcode*clen; j<clen; j++)
-					buff[_colIndexes[j]] = _values[off+j];
+				for(int j=0, voff=vcode*clen; j<clen; j++)
+					buff[off+_colIndexes[j]] = _values[voff+j];
 				//reset vcode to avoid scan on next segment
 				_vcodes[segIx] = -1;
 			}
@@ -28,6 +28,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.utils.LinearAlgebraUtils;
 import org.apache.sysml.runtime.functionobjects.ReduceRow;
 import org.apache.sysml.runtime.matrix.data.IJV;
 import org.apache.sysml.runtime.matrix.data.LibMatrixAgg;
@@ -36,7 +37,10 @@ import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.SparseBlock;
 import org.apache.sysml.runtime.matrix.data.SparseBlock.Type;
 import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.RightScalarOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 import org.apache.sysml.runtime.util.SortUtils;
 
 
@@ -335,6 +339,73 @@ public class ColGroupUncompressed extends ColGroup
 		}
 	}
 
+	@Override
+	public void rightMultByMatrix(double[] b, double[] c, int n, int rl, int ru)
+			throws DMLRuntimeException 
+	{
+		if( _data.isEmptyBlock(false) )
+			return;
+		
+		//scale rows of the rhs by the non-zero cells of each row
+		if( _data.isInSparseFormat() ) {
+			SparseBlock sblock = _data.getSparseBlock();
+			for( int i=rl; i<ru; i++ ) {
+				if( sblock.isEmpty(i) )
+					continue;
+				int apos = sblock.pos(i);
+				int alen = sblock.size(i);
+				int[] aix = sblock.indexes(i);
+				double[] avals = sblock.values(i);
+				for( int j=apos; j<apos+alen; j++ )
+					LinearAlgebraUtils.vectMultiplyAdd(avals[j], b, c, _colIndexes[aix[j]]*n, i*n, n);
+			}
+		}
+		else {
+			double[] a = _data.getDenseBlockValues();
+			int ncol = _colIndexes.length;
+			for( int i=rl, aix=rl*ncol; i<ru; i++, aix+=ncol )
+				for( int j=0; j<ncol; j++ )
+					if( a[aix+j] != 0 )
+						LinearAlgebraUtils.vectMultiplyAdd(a[aix+j], b, c, _colIndexes[j]*n, i*n, n);
+		}
+	}
+	
+	@Override
+	public void leftMultByMatrix(double[] a, double[] c, int clen, int rl, int ru)
+			throws DMLRuntimeException 
+	{
+		if( _data.isEmptyBlock(false) )
+			return;
+		
+		//scale rows of this group by the cells of the lhs rows
+		final int nrow = _data.getNumRows();
+		final int ncol = _colIndexes.length;
+		SparseBlock sblock = _data.getSparseBlock();
+		double[] dvals = _data.getDenseBlockValues();
+		for( int r=rl, aix=rl*nrow; r<ru; r++, aix+=nrow ) {
+			final int coff = r*clen;
+			for( int i=0; i<nrow; i++ ) {
+				double aval = a[aix+i];
+				if( aval == 0 )
+					continue;
+				if( _data.isInSparseFormat() ) {
+					if( sblock.isEmpty(i) )
+						continue;
+					int bpos = sblock.pos(i);
+					int blen = sblock.size(i);
+					int[] bix = sblock.indexes(i);
+					double[] bvals = sblock.values(i);
+					for( int j=bpos; j<bpos+blen; j++ )
+						c[coff+_colIndexes[bix[j]]] += aval * bvals[j];
+				}
+				else {
+					for( int j=0, boff=i*ncol; j<ncol; j++ )
+						c[coff+_colIndexes[j]] += aval * dvals[boff+j];
+				}
+			}
+		}
+	}
+	
 	@Override
 	public ColGroup scalarOperation(ScalarOperator op)
 			throws DMLRuntimeException 
@@ -347,6 +418,41 @@ public class ColGroupUncompressed extends ColGroup
 		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
 	}
 	
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op)
+			throws DMLRuntimeException 
+	{
+		//execute unary operations
+		MatrixBlock retContent = (MatrixBlock) _data
+				.unaryOperations(op, new MatrixBlock());
+		
+		//construct new uncompressed column group
+		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
+	}
+	
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v)
+			throws DMLRuntimeException 
+	{
+		//single column: scalar operation (avoid outer vector-vector semantics)
+		if( _colIndexes.length == 1 ) {
+			return scalarOperation(new RightScalarOperator(op.fn, v[_colIndexes[0]]));
+		}
+		
+		//slice row vector according to column indexes
+		MatrixBlock vect = new MatrixBlock(1, _colIndexes.length, false);
+		vect.allocateDenseBlock();
+		for( int j=0; j<_colIndexes.length; j++ )
+			vect.quickSetValue(0, j, v[_colIndexes[j]]);
+		
+		//execute binary operations
+		MatrixBlock retContent = (MatrixBlock) _data
+				.binaryOperations(op, vect, new MatrixBlock());
+		
+		//construct new uncompressed column group
+		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
+	}
+	
 	@Override
 	public void unaryAggregateOperations(AggregateUnaryOperator op, MatrixBlock ret)
 		throws DMLRuntimeException 
@@ -475,7 +581,7 @@ public class ColGroupUncompressed extends ColGroup
 		}
 		
 		@Override
-		public void next(double[] buff, int rowIx, int segIx, boolean last) {
+		public void next(double[] buff, int off, int rowIx, int segIx, boolean last) {
 			//copy entire dense/sparse row
 			if( _data.isAllocated() ) {
 				if( _data.isInSparseFormat() ) {
@@ -486,14 +592,14 @@ public class ColGroupUncompressed extends ColGroup
 						int[] aix = sblock.indexes(rowIx);
 						double[] avals = sblock.values(rowIx);
 						for(int k=apos; k<apos+alen; k++)
-							buff[_colIndexes[aix[k]]] = avals[k];
+							buff[off+_colIndexes[aix[k]]] = avals[k];
 					}
 				}
 				else {
 					final int clen = getNumCols();
 					double[] a = _data.getDenseBlockValues();
 					for(int j=0, aix=rowIx*clen; j<clen; j++)
-						buff[_colIndexes[j]] = a[aix+j];
+						buff[off+_colIndexes[j]] = a[aix+j];
 				}
 			}
 		}
@@ -22,6 +22,7 @@ package org.apache.sysml.runtime.compress;
 import java.util.Arrays;
 
 import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.compress.utils.LinearAlgebraUtils;
 import org.apache.sysml.runtime.functionobjects.Builtin;
 import org.apache.sysml.runtime.functionobjects.Builtin.BuiltinCode;
 import org.apache.sysml.runtime.functionobjects.KahanFunction;
@@ -30,7 +31,9 @@ import org.apache.sysml.runtime.instructions.cp.KahanObject;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.Pair;
 import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
 
 
 /**
@@ -256,6 +259,72 @@ public abstract class ColGroupValue extends ColGroup
 		return ret;
 	}
 	
+	/**
+	 * Pre-aggregates the distinct value tuples with the relevant rows of a
+	 * dense rhs matrix, i.e., computes the (numVals x n) matrix of row 
+	 * contributions that is shared by all rows mapped to the same tuple.
+	 * 
+	 * @param b dense rhs matrix (clen x n) in row-major layout
+	 * @param n number of columns of b
+	 * @return dense pre-aggregated matrix (numVals x n) in row-major layout
+	 */
+	public final double[] preaggMatrixValues(double[] b, int n) {
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
+		double[] ret = new double[numVals * n];
+		for( int k = 0, valOff = 0; k < numVals; k++, valOff += numCols )
+			for( int j = 0; j < numCols; j++ ) {
+				double val = _values[valOff+j];
+				if( val != 0 )
+					LinearAlgebraUtils.vectMultiplyAdd(val, b, ret, _colIndexes[j]*n, k*n, n);
+			}
+		
+		return ret;
+	}
+	
+	@Override
+	public void rightMultByMatrix(double[] b, double[] c, int n, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		rightMultByPreAggMatrix(preaggMatrixValues(b, n), c, n, rl, ru);
+	}
+	
+	/**
+	 * Multiply a row slice of the matrix that this column group represents
+	 * by a dense matrix on the right, given the pre-aggregated value tuples,
+	 * and add the results to the output.
+	 * 
+	 * @param preagg pre-aggregated values (numVals x n), see preaggMatrixValues
+	 * @param c dense output matrix (rlen x n) in row-major layout
+	 * @param n number of columns of c
+	 * @param rl row lower
+	 * @param ru row upper
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public abstract void rightMultByPreAggMatrix(double[] preagg, double[] c, int n, int rl, int ru) 
+		throws DMLRuntimeException;
+	
+	/**
+	 * Scales the pre-aggregated inputs per value tuple by the distinct values
+	 * and adds the results into a single row of the output.
+	 * 
+	 * @param vals pre-aggregated inputs per value tuple
+	 * @param c dense output matrix in row-major layout
+	 * @param coff offset of the output row
+	 */
+	protected final void postScaling(double[] vals, double[] c, int coff) {
+		final int ncol = getNumCols();
+		final int numVals = getNumValues();
+		
+		for( int k=0, valOff=0; k<numVals; k++, valOff+=ncol ) {
+			double aval = vals[k];
+			if( aval == 0 )
+				continue;
+			for( int j=0; j<ncol; j++ )
+				c[coff+_colIndexes[j]] += aval * _values[valOff+j];
+		}
+	}
+	
 	/**
 	 * NOTE: Shared across OLE/RLE/DDC because value-only computation. 
 	 * 
@@ -353,6 +422,87 @@ public abstract class ColGroupValue extends ColGroup
 		return ret;
 	}
 	
+	/**
+	 * Method for use by subclasses. Applies a cell-wise unary operation to 
+	 * the value metadata stored in the superclass.
+	 * 
+	 * @param op
+	 *            unary operation to perform
+	 * @param appendZero
+	 *            if true, append the tuple of the operation applied to zero
+	 * @return transformed copy of value metadata for this column group
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	protected double[] applyUnaryOp(UnaryOperator op, boolean appendZero)
+		throws DMLRuntimeException 
+	{
+		//scan over linearized values
+		double[] ret = new double[_values.length + (appendZero ? getNumCols() : 0)];
+		for( int i = 0; i < _values.length; i++ ) {
+			ret[i] = op.fn.execute(_values[i]);
+		}
+		
+		//add new value to the end
+		if( appendZero )
+			Arrays.fill(ret, _values.length, ret.length, op.fn.execute(0d));
+		
+		return ret;
+	}
+	
+	/**
+	 * Method for use by subclasses. Applies a cell-wise binary operation with
+	 * a row vector as right-hand-side operand to the value metadata stored in
+	 * the superclass.
+	 * 
+	 * @param op
+	 *            binary operation to perform
+	 * @param v
+	 *            dense row vector of all columns of the matrix
+	 * @param appendZero
+	 *            if true, append the tuple of the operation applied to zero
+	 * @return transformed copy of value metadata for this column group
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	protected double[] applyBinaryRowOp(BinaryOperator op, double[] v, boolean appendZero)
+		throws DMLRuntimeException 
+	{
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
+		
+		//scan over linearized values, w/ per-column operands
+		double[] ret = new double[_values.length + (appendZero ? numCols : 0)];
+		for( int k = 0, off = 0; k < numVals; k++, off += numCols )
+			for( int j = 0; j < numCols; j++ )
+				ret[off+j] = op.fn.execute(_values[off+j], v[_colIndexes[j]]);
+		
+		//add new tuple to the end
+		if( appendZero )
+			for( int j = 0; j < numCols; j++ )
+				ret[_values.length+j] = op.fn.execute(0d, v[_colIndexes[j]]);
+		
+		return ret;
+	}
+	
+	/**
+	 * Indicates if the given binary operation with a row vector as 
+	 * right-hand-side operand maps zeros to zeros for all columns of
+	 * this column group, i.e., if existing offset lists remain valid.
+	 * 
+	 * @param op binary operation
+	 * @param v dense row vector of all columns of the matrix
+	 * @return true if the operation is sparse-safe w.r.t. this column group
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	protected boolean isSparseSafeRowOp(BinaryOperator op, double[] v)
+		throws DMLRuntimeException 
+	{
+		//note: op.sparseSafe only refers to (0 op 0), e.g., for plus
+		for( int j = 0; j < _colIndexes.length; j++ )
+			if( op.fn.execute(0d, v[_colIndexes[j]]) != 0 )
+				return false;
+		return true;
+	}
+	
 	@Override
 	public void unaryAggregateOperations(AggregateUnaryOperator op, MatrixBlock result) 
 		throws DMLRuntimeException 
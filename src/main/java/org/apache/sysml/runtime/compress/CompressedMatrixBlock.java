@@ -70,7 +70,9 @@ import org.apache.sysml.runtime.instructions.cp.KahanObject;
 import org.apache.sysml.runtime.instructions.cp.ScalarObject;
 import org.apache.sysml.runtime.matrix.data.CTableMap;
 import org.apache.sysml.runtime.matrix.data.IJV;
+import org.apache.sysml.runtime.matrix.data.LibMatrixAgg;
 import org.apache.sysml.runtime.matrix.data.LibMatrixBincell;
+import org.apache.sysml.runtime.matrix.data.LibMatrixBincell.BinaryAccessType;
 import org.apache.sysml.runtime.matrix.data.LibMatrixReorg;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
@@ -92,6 +94,7 @@ import org.apache.sysml.runtime.matrix.operators.QuaternaryOperator;
 import org.apache.sysml.runtime.matrix.operators.ReorgOperator;
 import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysml.runtime.matrix.operators.UnaryOperator;
+import org.apache.sysml.runtime.util.DataConverter;
 import org.apache.sysml.runtime.util.IndexRange;
 import org.apache.sysml.runtime.util.SortUtils;
 
@@ -162,6 +165,8 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		else
 			denseBlock = mb.getDenseBlock();
 		nonZeros = mb.getNonZeros();
+		mb.markSharedData();
+		markSharedData();
 	}
 
 	/**
@@ -912,6 +917,20 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		return new DenseRowIterator(rl, ru);
 	}
 	
+	/**
+	 * Create a dense row batch iterator for a row index range, which returns
+	 * row-major buffers of up to blen consecutive rows (the last batch might
+	 * be smaller). The returned buffer is reused across calls.
+	 * 
+	 * @param rl row lower index, inclusive
+	 * @param ru row upper index, exclusive
+	 * @param blen maximum number of rows per batch
+	 * @return an iterator instance
+	 */
+	public Iterator<double[]> getDenseRowBatchIterator(int rl, int ru, int blen) {
+		return new DenseRowBatchIterator(rl, ru, blen);
+	}
+	
 	public Iterator<SparseRow> getSparseRowIterator(int rl, int ru) {
 		return new SparseRowIterator(rl, ru);
 	}
@@ -936,13 +955,7 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		}
 		
 		//allocate the output matrix block
-		CompressedMatrixBlock ret = null;
-		if( result==null || !(result instanceof CompressedMatrixBlock) )
-			ret = new CompressedMatrixBlock(getNumRows(), getNumColumns(), sparse);
-		else {
-			ret = (CompressedMatrixBlock) result;
-			ret.reset(rlen, clen);
-		}
+		CompressedMatrixBlock ret = allocateCompressedOutput(result);
 		
 		// Apply the operation recursively to each of the column groups.
 		// Most implementations will only modify metadata.
@@ -1113,7 +1126,7 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			ret.reset(rl, cl, false, rl*cl);
 		
 		//compute matrix mult
-		if( mv1.getNumRows()>1 && mv2.getNumColumns()==1 ) { //MV right
+		if( this==mv1 && mv1.getNumRows()>1 && mv2.getNumColumns()==1 ) { //MV right
 			CompressedMatrixBlock cmb = (CompressedMatrixBlock)mv1;
 			MatrixBlock mb = (MatrixBlock) mv2;
 			if( op.getNumThreads()>1 )
@@ -1121,17 +1134,18 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			else
 				cmb.rightMultByVector(mb, ret);
 		}
-		else if( mv1.getNumRows()==1 && mv2.getNumColumns()>1 ) { //MV left
+		else if( this==mv2 && mv1.getNumRows()==1 && mv2.getNumColumns()>1 ) { //MV left
 			MatrixBlock mb = (MatrixBlock) mv1;
 			if( op.getNumThreads()>1 )
 				leftMultByVectorTranspose(_colGroups, mb, ret, false, op.getNumThreads());
 			else
 				leftMultByVectorTranspose(_colGroups, mb, ret, false, true);
 		}
-		else {
-			//NOTE: we could decompress and invoke super.aggregateBinary but for now
-			//we want to have an eager fail if this happens
-			throw new DMLRuntimeException("Unsupported matrix-matrix multiplication over compressed matrix block.");
+		else if( this == mv1 ) { //MM right
+			rightMultByMatrix(getUncompressed(mv2), ret, op.getNumThreads());
+		}
+		else { //MM left
+			leftMultByMatrix(getUncompressed(mv1), ret, op.getNumThreads());
 		}
 		
 		if( LOG.isDebugEnabled() )
@@ -1478,6 +1492,149 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		}
 	}
 	
+	/**
+	 * Multiply this matrix block by a matrix on the right (i.e., X%*%B). The
+	 * distinct values of each column group are pre-aggregated with B once, 
+	 * and the pre-aggregated rows are then scattered into the output through
+	 * the offset lists or DDC mappings, in parallel over row segments.
+	 * 
+	 * @param that right-hand operand of the multiplication
+	 * @param result buffer to hold the result; must have the appropriate size already
+	 * @param k number of threads
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	private void rightMultByMatrix(MatrixBlock that, MatrixBlock result, int k)
+		throws DMLRuntimeException 
+	{
+		// initialize and allocate the result
+		result.allocateDenseBlock();
+		if( that.isEmptyBlock(false) ) {
+			result.setNonZeros(0);
+			return;
+		}
+		
+		final int n = that.getNumColumns();
+		double[] b = DataConverter.convertToDoubleVector(that, false);
+		double[] c = result.getDenseBlockValues();
+		
+		//pre-aggregate distinct values once per column group
+		double[][] preagg = new double[_colGroups.size()][];
+		for( int i=0; i<_colGroups.size(); i++ )
+			if( _colGroups.get(i) instanceof ColGroupValue )
+				preagg[i] = ((ColGroupValue)_colGroups.get(i)).preaggMatrixValues(b, n);
+		
+		if( k <= 1 ) {
+			rightMultByMatrix(_colGroups, preagg, b, c, n, 0, rlen);
+			result.recomputeNonZeros();
+			return;
+		}
+		
+		//multi-threaded execution over aligned row segments
+		try {
+			ExecutorService pool = Executors.newFixedThreadPool( k );
+			int blklen = BitmapEncoder.getAlignedBlocksize(
+				(int)(Math.ceil((double)rlen/k)));
+			ArrayList<RightMatrixMatrixMultTask> tasks = new ArrayList<>();
+			for( int i=0; i<k & i*blklen<rlen; i++ )
+				tasks.add(new RightMatrixMatrixMultTask(_colGroups, preagg, b, result, 
+					i*blklen, Math.min((i+1)*blklen,rlen)));
+			List<Future<Long>> ret = pool.invokeAll(tasks);
+			pool.shutdown();
+			
+			//error handling and nnz aggregation
+			long lnnz = 0;
+			for( Future<Long> tmp : ret )
+				lnnz += tmp.get();
+			result.setNonZeros(lnnz);
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static void rightMultByMatrix(ArrayList<ColGroup> groups, double[][] preagg, double[] b, double[] c, int n, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		for( int i=0; i<groups.size(); i++ ) {
+			ColGroup grp = groups.get(i);
+			if( preagg[i] != null )
+				((ColGroupValue)grp).rightMultByPreAggMatrix(preagg[i], c, n, rl, ru);
+			else
+				grp.rightMultByMatrix(b, c, n, rl, ru);
+		}
+	}
+	
+	/**
+	 * Multiply a matrix on the left by this matrix block (i.e., A%*%X). The
+	 * rows of A are pre-aggregated per distinct value tuple of each column 
+	 * group and post-scaled by the distinct values, in parallel over row 
+	 * segments of A.
+	 * 
+	 * @param that left-hand operand of the multiplication
+	 * @param result buffer to hold the result; must have the appropriate size already
+	 * @param k number of threads
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	private void leftMultByMatrix(MatrixBlock that, MatrixBlock result, int k)
+		throws DMLRuntimeException 
+	{
+		// initialize and allocate the result
+		result.allocateDenseBlock();
+		if( that.isEmptyBlock(false) ) {
+			result.setNonZeros(0);
+			return;
+		}
+		
+		final int m = that.getNumRows();
+		double[] a = DataConverter.convertToDoubleVector(that, false);
+		double[] c = result.getDenseBlockValues();
+		
+		//materialize offset lists once per column group
+		int[][][] offsets = new int[_colGroups.size()][][];
+		for( int i=0; i<_colGroups.size(); i++ )
+			if( _colGroups.get(i) instanceof ColGroupOffset )
+				offsets[i] = ((ColGroupOffset)_colGroups.get(i)).getOffsetLists();
+		
+		if( k <= 1 || m == 1 ) {
+			leftMultByMatrix(_colGroups, offsets, a, c, clen, 0, m);
+			result.recomputeNonZeros();
+			return;
+		}
+		
+		//multi-threaded execution over row segments of the lhs
+		try {
+			ExecutorService pool = Executors.newFixedThreadPool( k );
+			int blklen = (int)(Math.ceil((double)m/k));
+			ArrayList<LeftMatrixMatrixMultTask> tasks = new ArrayList<>();
+			for( int i=0; i<k & i*blklen<m; i++ )
+				tasks.add(new LeftMatrixMatrixMultTask(_colGroups, offsets, a, result, 
+					i*blklen, Math.min((i+1)*blklen,m)));
+			List<Future<Long>> ret = pool.invokeAll(tasks);
+			pool.shutdown();
+			
+			//error handling and nnz aggregation
+			long lnnz = 0;
+			for( Future<Long> tmp : ret )
+				lnnz += tmp.get();
+			result.setNonZeros(lnnz);
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static void leftMultByMatrix(ArrayList<ColGroup> groups, int[][][] offsets, double[] a, double[] c, int clen, int rl, int ru) 
+		throws DMLRuntimeException 
+	{
+		for( int i=0; i<groups.size(); i++ ) {
+			ColGroup grp = groups.get(i);
+			if( offsets[i] != null )
+				((ColGroupOffset)grp).leftMultByMatrix(a, c, clen, offsets[i], rl, ru);
+			else
+				grp.leftMultByMatrix(a, c, clen, rl, ru);
+		}
+	}
+	
 	private static void rightMultByVector(ArrayList<ColGroup> groups, MatrixBlock vect, MatrixBlock ret, boolean inclUC, int rl, int ru) 
 		throws DMLRuntimeException 
 	{
@@ -1779,6 +1936,58 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		}
 	}
 	
+	private static class RightMatrixMatrixMultTask implements Callable<Long> 
+	{
+		private final ArrayList<ColGroup> _groups;
+		private final double[][] _preagg;
+		private final double[] _b;
+		private final MatrixBlock _ret;
+		private final int _rl;
+		private final int _ru;
+		
+		protected RightMatrixMatrixMultTask( ArrayList<ColGroup> groups, double[][] preagg, double[] b, MatrixBlock ret, int rl, int ru)  {
+			_groups = groups;
+			_preagg = preagg;
+			_b = b;
+			_ret = ret;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() throws DMLRuntimeException {
+			int n = _ret.getNumColumns();
+			rightMultByMatrix(_groups, _preagg, _b, _ret.getDenseBlockValues(), n, _rl, _ru);
+			return _ret.recomputeNonZeros(_rl, _ru-1, 0, n-1);
+		}
+	}
+	
+	private static class LeftMatrixMatrixMultTask implements Callable<Long> 
+	{
+		private final ArrayList<ColGroup> _groups;
+		private final int[][][] _offsets;
+		private final double[] _a;
+		private final MatrixBlock _ret;
+		private final int _rl;
+		private final int _ru;
+		
+		protected LeftMatrixMatrixMultTask( ArrayList<ColGroup> groups, int[][][] offsets, double[] a, MatrixBlock ret, int rl, int ru)  {
+			_groups = groups;
+			_offsets = offsets;
+			_a = a;
+			_ret = ret;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() throws DMLRuntimeException {
+			int clen = _ret.getNumColumns();
+			leftMultByMatrix(_groups, _offsets, _a, _ret.getDenseBlockValues(), clen, _rl, _ru);
+			return _ret.recomputeNonZeros(_rl, _ru-1, 0, clen-1);
+		}
+	}
+	
 	private static class MatrixMultTransposeTask implements Callable<Object> 
 	{
 		private final ArrayList<ColGroup> _groups;
@@ -1918,27 +2127,68 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 	@Override
 	public MatrixValue unaryOperations(UnaryOperator op, MatrixValue result) 
 			throws DMLRuntimeException {
+		//dictionary-only cell-wise unary operations (excl cumulative aggregates)
+		if( isCompressed() && !LibMatrixAgg.isSupportedUnaryOperator(op) ) {
+			CompressedMatrixBlock ret = allocateCompressedOutput(result);
+			ArrayList<ColGroup> newColGroups = new ArrayList<>();
+			for (ColGroup grp : _colGroups)
+				newColGroups.add(grp.unaryOperation(op));
+			ret._colGroups = newColGroups;
+			ret.setNonZeros(rlen*clen);
+			return ret;
+		}
+		
+		//call uncompressed unary operations if necessary
+		if( !isCompressed() )
+			return super.unaryOperations(op, result);
+		
 		printDecompressWarning("unaryOperations");
-		MatrixBlock tmp = isCompressed() ? decompress() : this;
-		return tmp.unaryOperations(op, result);
+		return decompress().unaryOperations(op, result);
 	}
 
 	@Override
 	public MatrixValue binaryOperations(BinaryOperator op, MatrixValue thatValue, MatrixValue result) 
 			throws DMLRuntimeException {
+		//dictionary-only cell-wise binary operations with row vectors
+		if( isSupportedDictionaryBinaryOp((MatrixBlock)thatValue) ) {
+			double[] v = DataConverter.convertToDoubleVector((MatrixBlock)thatValue, false);
+			CompressedMatrixBlock ret = allocateCompressedOutput(result);
+			ArrayList<ColGroup> newColGroups = new ArrayList<>();
+			for (ColGroup grp : _colGroups)
+				newColGroups.add(grp.binaryRowOperation(op, v));
+			ret._colGroups = newColGroups;
+			ret.setNonZeros(rlen*clen);
+			return ret;
+		}
+		
 		printDecompressWarning("binaryOperations", (MatrixBlock)thatValue);
-		MatrixBlock left = isCompressed() ? decompress() : this;
 		MatrixBlock right = getUncompressed(thatValue);
-		return left.binaryOperations(op, right, result);
+		if( !isCompressed() ) //avoid recursive call of this override
+			return super.binaryOperations(op, right, result);
+		return decompress().binaryOperations(op, right, result);
 	}
 
 	@Override
 	public void binaryOperationsInPlace(BinaryOperator op, MatrixValue thatValue) 
 			throws DMLRuntimeException {
+		//dictionary-only cell-wise binary operations with row vectors
+		if( isSupportedDictionaryBinaryOp((MatrixBlock)thatValue) ) {
+			double[] v = DataConverter.convertToDoubleVector((MatrixBlock)thatValue, false);
+			ArrayList<ColGroup> newColGroups = new ArrayList<>();
+			for (ColGroup grp : _colGroups)
+				newColGroups.add(grp.binaryRowOperation(op, v));
+			_colGroups = newColGroups;
+			_sharedDDC1Dict = false;
+			setNonZeros(rlen*clen);
+			return;
+		}
+		
 		printDecompressWarning("binaryOperationsInPlace", (MatrixBlock)thatValue);
-		MatrixBlock left = isCompressed() ? decompress() : this;
 		MatrixBlock right = getUncompressed(thatValue);
-		left.binaryOperationsInPlace(op, right);
+		if( !isCompressed() ) //avoid recursive call of this override
+			super.binaryOperationsInPlace(op, right);
+		else
+			decompress().binaryOperationsInPlace(op, right);
 	}
 
 	@Override
@@ -2122,10 +2372,12 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 			MatrixBlock m1Value, MatrixIndexes m2Index, MatrixBlock m2Value,
 			MatrixBlock result, AggregateBinaryOperator op)
 			throws DMLRuntimeException {
-		printDecompressWarning("aggregateBinaryOperations");
-		MatrixBlock left = isCompressed() ? decompress() : this;
+		//use compressed matrix-vector and matrix-matrix mult if possible
+		if( isCompressed() )
+			return aggregateBinaryOperations(m1Value, m2Value, result, op);
+		MatrixBlock left = getUncompressed(m1Value);
 		MatrixBlock right = getUncompressed(m2Value);
-		return left.aggregateBinaryOperations(m1Index, left, m2Index, right, result, op);
+		return super.aggregateBinaryOperations(m1Index, left, m2Index, right, result, op);
 	}
 
 	@Override
@@ -2315,6 +2567,23 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 				(MatrixBlock)mVal;
 	}
 
+	private CompressedMatrixBlock allocateCompressedOutput(MatrixValue result) {
+		if( result==null || !(result instanceof CompressedMatrixBlock) )
+			return new CompressedMatrixBlock(getNumRows(), getNumColumns(), sparse);
+		CompressedMatrixBlock ret = (CompressedMatrixBlock) result;
+		ret.reset(rlen, clen);
+		return ret;
+	}
+	
+	private boolean isSupportedDictionaryBinaryOp(MatrixBlock that) {
+		//cell-wise operations with uncompressed row vectors (1 x clen), where
+		//the per-column operands can be applied to the distinct values only
+		return isCompressed() && !isCompressed(that)
+			&& LibMatrixBincell.getBinaryAccessType(this, that) 
+				== BinaryAccessType.MATRIX_ROW_VECTOR
+			&& that.getNumColumns() == clen;
+	}
+
 	private void printDecompressWarning(String operation) {
 		if( isCompressed() ) {
 			LOG.warn("Operation '"+operation+"' not supported yet - decompressing for ULA operations.");
@@ -2436,6 +2705,30 @@ public class CompressedMatrixBlock extends MatrixBlock implements Externalizable
 		}
 	}
 	
+	private class DenseRowBatchIterator extends RowIterator<double[]>
+	{
+		private final int _blen;
+		private final double[] _ret;
+		
+		public DenseRowBatchIterator(int rl, int ru, int blen) {
+			super(rl, ru);
+			_blen = blen;
+			_ret = new double[Math.min(blen, ru-rl)*clen];
+		}
+		
+		@Override
+		public double[] next() {
+			//decode batch of rows group by group into consolidated rows
+			final int ru = Math.min(_rpos+_blen, _ru);
+			Arrays.fill(_ret, 0, (ru-_rpos)*clen, 0);
+			for(int j=0; j<_iters.length; j++)
+				_iters[j].nextBatch(_ret, clen, _rpos, ru, ru==_ru);
+			//advance to next batch and return buffer
+			_rpos = ru;
+			return _ret;
+		}
+	}
+	
 	private class SparseRowIterator extends RowIterator<SparseRow>
 	{
 		private final SparseRowVector _ret = new SparseRowVector(clen);
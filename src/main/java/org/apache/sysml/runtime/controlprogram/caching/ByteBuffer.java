@@ -107,7 +107,12 @@ public class ByteBuffer
 	{
 		if( !_shallow ) {
 			//write out byte serialized array
-			LocalFileUtils.writeByteArrayToLocal(fname, _bdata);
+			LocalFileUtils.writeByteArrayToLocal(fname, _bdata, _matrix);
+		}
+		else if( CacheableData.CACHING_MAPPED_EVICTION && !LocalFileUtils.isLocalCompression()
+			&& CacheMappedFile.isSupported(_cdata) ) {
+			//write matrix block in memory-mapped format
+			CacheMappedFile.writeMatrixBlock(fname, (MatrixBlock)_cdata);
 		}
 		else {
 			//serialize cache block to output stream
@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.controlprogram.caching;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockCSR;
+
+/**
+ * Eviction file format for matrix blocks, which is written and read
+ * through memory-mapped file regions. In contrast to the serialized
+ * stream format, dense values and the CSR arrays of sparse blocks are
+ * stored as contiguous arrays in native byte order, which allows bulk
+ * copies from the page cache into the target arrays without intermediate
+ * stream buffers and per-value deserialization.
+ *
+ * File layout: header (magic, type, rows, cols, nnz), followed by the
+ * dense values or the CSR row pointers, column indexes, and values.
+ */
+public class CacheMappedFile
+{
+	//negative magic number (big endian) to distinguish from the stream format,
+	//which starts with the number of rows
+	private static final int MAGIC = 0xCAC4EF11;
+	private static final int HEADER_SIZE = 32;
+
+	//max size of mapped regions (multiple of 8 for aligned doubles)
+	private static final long MAX_REGION_SIZE = 1L << 30;
+
+	private enum BlockType {
+		EMPTY, DENSE, CSR
+	}
+
+	/**
+	 * Indicates if the given cache block can be written in mapped format.
+	 *
+	 * @param cb cache block
+	 * @return true if mapped format is supported
+	 */
+	public static boolean isSupported(CacheBlock cb) {
+		if( !(cb instanceof MatrixBlock) )
+			return false;
+		MatrixBlock mb = (MatrixBlock) cb;
+		return !mb.isInSparseFormat() || mb.getSparseBlock() == null
+			|| mb.getSparseBlock().size() < Integer.MAX_VALUE; //CSR constraint
+	}
+
+	public static void writeMatrixBlock(String fname, MatrixBlock mb)
+		throws IOException
+	{
+		//determine block type and file size
+		SparseBlock sblock = mb.getSparseBlock();
+		DenseBlock dblock = mb.getDenseBlock();
+		int rlen = mb.getNumRows(), clen = mb.getNumColumns();
+		BlockType type = mb.isEmptyBlock(false) ? BlockType.EMPTY :
+			mb.isInSparseFormat() ? BlockType.CSR : BlockType.DENSE;
+		long nnz = (type==BlockType.CSR) ? sblock.size() :
+			(type==BlockType.DENSE) ? mb.getNonZeros() : 0;
+		long size = HEADER_SIZE + (type==BlockType.DENSE ? 8L*rlen*clen :
+			type==BlockType.CSR ? align(4L*(rlen+1+nnz)) + 8L*nnz : 0);
+
+		try( RandomAccessFile raf = new RandomAccessFile(fname, "rw");
+			FileChannel ch = raf.getChannel() )
+		{
+			raf.setLength(size);
+			MappedWriter out = new MappedWriter(ch, size);
+			out.putHeader(type, rlen, clen, nnz);
+			if( type == BlockType.DENSE ) {
+				for( int bix=0; bix<dblock.numBlocks(); bix++ )
+					out.putDoubles(dblock.valuesAt(bix), 0, dblock.size(bix));
+			}
+			else if( type == BlockType.CSR && sblock instanceof SparseBlockCSR ) {
+				SparseBlockCSR csr = (SparseBlockCSR) sblock;
+				out.putInts(csr.rowPointers(), 0, rlen+1);
+				out.putInts(csr.indexes(), 0, (int)nnz);
+				out.align();
+				out.putDoubles(csr.values(), 0, (int)nnz);
+			}
+			else if( type == BlockType.CSR ) {
+				//row-wise write of other sparse blocks in csr layout
+				int[] ptr = new int[rlen+1];
+				for( int i=0; i<rlen; i++ )
+					ptr[i+1] = ptr[i] + (sblock.isEmpty(i) ? 0 : sblock.size(i));
+				out.putInts(ptr, 0, rlen+1);
+				for( int i=0; i<rlen; i++ )
+					if( !sblock.isEmpty(i) )
+						out.putInts(sblock.indexes(i), sblock.pos(i), sblock.size(i));
+				out.align();
+				for( int i=0; i<rlen; i++ )
+					if( !sblock.isEmpty(i) )
+						out.putDoubles(sblock.values(i), sblock.pos(i), sblock.size(i));
+			}
+		}
+	}
+
+	/**
+	 * Reads a matrix block in mapped format. If the given file is not in
+	 * mapped format (e.g., buffers evicted as serialized byte arrays), this
+	 * method returns null, and the caller falls back to the stream format.
+	 *
+	 * @param fname file name
+	 * @return matrix block or null if not in mapped format
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixBlock readMatrixBlock(String fname)
+		throws IOException
+	{
+		if( new File(fname).length() < HEADER_SIZE )
+			return null;
+
+		try( RandomAccessFile raf = new RandomAccessFile(fname, "r");
+			FileChannel ch = raf.getChannel() )
+		{
+			MappedReader in = new MappedReader(ch, ch.size());
+			if( in.getMagic() != MAGIC )
+				return null;
+			BlockType type = BlockType.values()[in.getInt()];
+			int rlen = in.getInt();
+			int clen = in.getInt();
+			long nnz = in.getLong();
+			in.skip(HEADER_SIZE - 24);
+
+			MatrixBlock ret = null;
+			if( type == BlockType.DENSE ) {
+				ret = new MatrixBlock(rlen, clen, false);
+				ret.allocateDenseBlock();
+				DenseBlock dblock = ret.getDenseBlock();
+				for( int bix=0; bix<dblock.numBlocks(); bix++ )
+					in.getDoubles(dblock.valuesAt(bix), 0, dblock.size(bix));
+				if( nnz >= 0 )
+					ret.setNonZeros(nnz);
+				else
+					ret.recomputeNonZeros();
+			}
+			else if( type == BlockType.CSR ) {
+				int[] ptr = new int[rlen+1];
+				int[] indexes = new int[(int)nnz];
+				double[] values = new double[(int)nnz];
+				in.getInts(ptr, 0, rlen+1);
+				in.getInts(indexes, 0, (int)nnz);
+				in.align();
+				in.getDoubles(values, 0, (int)nnz);
+				ret = new MatrixBlock(rlen, clen, nnz,
+					new SparseBlockCSR(ptr, indexes, values, (int)nnz));
+			}
+			else {
+				ret = new MatrixBlock(rlen, clen, true);
+			}
+			return ret;
+		}
+	}
+
+	private static long align(long pos) {
+		return (pos + 7) / 8 * 8;
+	}
+
+	/**
+	 * Sequential access to a file via memory-mapped regions of bounded size,
+	 * where region boundaries are aligned with all array elements.
+	 */
+	private static abstract class MappedRegions
+	{
+		protected final FileChannel _ch;
+		protected final long _size;
+		protected long _rpos = 0; //start of current region
+		protected MappedByteBuffer _buff = null;
+
+		protected MappedRegions(FileChannel ch, long size) {
+			_ch = ch;
+			_size = size;
+		}
+
+		protected void ensureRemaining()
+			throws IOException
+		{
+			if( _buff != null && _buff.hasRemaining() )
+				return;
+			if( _buff != null )
+				_rpos += _buff.limit();
+			long len = Math.min(MAX_REGION_SIZE, _size - _rpos);
+			if( len <= 0 )
+				throw new IOException("Unexpected end of mapped file.");
+			_buff = _ch.map(getMapMode(), _rpos, len);
+			_buff.order(ByteOrder.nativeOrder());
+		}
+
+		protected void align()
+			throws IOException
+		{
+			int pad = (int)(CacheMappedFile.align(_rpos+_buff.position()) - (_rpos+_buff.position()));
+			if( pad > 0 )
+				skip(pad);
+		}
+
+		protected void skip(int bytes)
+			throws IOException
+		{
+			//note: padding never crosses region boundaries
+			ensureRemaining();
+			_buff.position(_buff.position() + bytes);
+		}
+
+		protected abstract MapMode getMapMode();
+	}
+
+	private static class MappedWriter extends MappedRegions
+	{
+		public MappedWriter(FileChannel ch, long size) {
+			super(ch, size);
+		}
+
+		public void putHeader(BlockType type, int rlen, int clen, long nnz)
+			throws IOException
+		{
+			ensureRemaining();
+			_buff.order(ByteOrder.BIG_ENDIAN).putInt(MAGIC);
+			_buff.order(ByteOrder.nativeOrder());
+			_buff.putInt(type.ordinal());
+			_buff.putInt(rlen);
+			_buff.putInt(clen);
+			_buff.putLong(nnz);
+			_buff.position(HEADER_SIZE);
+		}
+
+		public void putInts(int[] a, int off, int len)
+			throws IOException
+		{
+			while( len > 0 ) {
+				ensureRemaining();
+				int n = Math.min(len, _buff.remaining()/4);
+				_buff.asIntBuffer().put(a, off, n);
+				_buff.position(_buff.position() + 4*n);
+				off += n; len -= n;
+			}
+		}
+
+		public void putDoubles(double[] a, int off, int len)
+			throws IOException
+		{
+			while( len > 0 ) {
+				ensureRemaining();
+				int n = Math.min(len, _buff.remaining()/8);
+				_buff.asDoubleBuffer().put(a, off, n);
+				_buff.position(_buff.position() + 8*n);
+				off += n; len -= n;
+			}
+		}
+
+		@Override
+		protected MapMode getMapMode() {
+			return MapMode.READ_WRITE;
+		}
+	}
+
+	private static class MappedReader extends MappedRegions
+	{
+		public MappedReader(FileChannel ch, long size) {
+			super(ch, size);
+		}
+
+		public int getMagic()
+			throws IOException
+		{
+			ensureRemaining();
+			int ret = _buff.order(ByteOrder.BIG_ENDIAN).getInt();
+			_buff.order(ByteOrder.nativeOrder());
+			return ret;
+		}
+
+		public int getInt()
+			throws IOException
+		{
+			ensureRemaining();
+			return _buff.getInt();
+		}
+
+		public long getLong()
+			throws IOException
+		{
+			ensureRemaining();
+			return _buff.getLong();
+		}
+
+		public void getInts(int[] a, int off, int len)
+			throws IOException
+		{
+			while( len > 0 ) {
+				ensureRemaining();
+				int n = Math.min(len, _buff.remaining()/4);
+				_buff.asIntBuffer().get(a, off, n);
+				_buff.position(_buff.position() + 4*n);
+				off += n; len -= n;
+			}
+		}
+
+		public void getDoubles(double[] a, int off, int len)
+			throws IOException
+		{
+			while( len > 0 ) {
+				ensureRemaining();
+				int n = Math.min(len, _buff.remaining()/8);
+				_buff.asDoubleBuffer().get(a, off, n);
+				_buff.position(_buff.position() + 8*n);
+				off += n; len -= n;
+			}
+		}
+
+		@Override
+		protected MapMode getMapMode() {
+			return MapMode.READ_ONLY;
+		}
+	}
+}
@@ -21,6 +21,9 @@ package org.apache.sysml.runtime.controlprogram.caching;
 
 import java.util.concurrent.atomic.LongAdder;
 
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+
 /**
  * This singleton provides basic caching statistics in CP.
  * 
@@ -54,12 +57,27 @@ public class CacheStatistics
 	private static final LongAdder _numHitsFSBuff   = new LongAdder();
 	private static final LongAdder _numHitsFS       = new LongAdder();
 	private static final LongAdder _numHitsHDFS     = new LongAdder();
+	private static final LongAdder _numIndexedReads = new LongAdder(); //subset of HDFS hits
 	
 	//write statistics caching
 	private static final LongAdder _numWritesFSBuff = new LongAdder();
 	private static final LongAdder _numWritesFS     = new LongAdder();
 	private static final LongAdder _numWritesHDFS   = new LongAdder();
 	
+	//hit/miss statistics of write buffer per eviction policy
+	private static final LongAdder[] _numPolicyHits   = createCounters(RPolicy.values().length);
+	private static final LongAdder[] _numPolicyMisses = createCounters(RPolicy.values().length);
+	
+	//compression statistics of local files (chunks, bytes)
+	private static final LongAdder _numCompChunks   = new LongAdder();
+	private static final LongAdder _numRawChunks    = new LongAdder();
+	private static final LongAdder _compRawBytes    = new LongAdder();
+	private static final LongAdder _compStoredBytes = new LongAdder();
+	
+	//hit/miss statistics of array pool (for dense/sparse allocations)
+	private static final LongAdder _numArrayPoolHits   = new LongAdder();
+	private static final LongAdder _numArrayPoolMisses = new LongAdder();
+	
 	//time statistics caching
 	private static final LongAdder _ctimeAcquireR   = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeAcquireM   = new LongAdder(); //in nano sec
@@ -71,11 +89,24 @@ public class CacheStatistics
 		_numHitsFSBuff.reset();
 		_numHitsFS.reset();
 		_numHitsHDFS.reset();
+		_numIndexedReads.reset();
 		
 		_numWritesFSBuff.reset();
 		_numWritesFS.reset();
 		_numWritesHDFS.reset();
 		
+		for( int i=0; i<_numPolicyHits.length; i++ ) {
+			_numPolicyHits[i].reset();
+			_numPolicyMisses[i].reset();
+		}
+		
+		_numCompChunks.reset();
+		_numRawChunks.reset();
+		_compRawBytes.reset();
+		_compStoredBytes.reset();
+		_numArrayPoolHits.reset();
+		_numArrayPoolMisses.reset();
+
 		_ctimeAcquireR.reset();
 		_ctimeAcquireM.reset();
 		_ctimeRelease.reset();
@@ -129,6 +160,14 @@ public class CacheStatistics
 	public static long getHDFSHits() {
 		return _numHitsHDFS.longValue();
 	}
+	
+	public static void incrementIndexedReads() {
+		_numIndexedReads.increment();
+	}
+	
+	public static long getIndexedReads() {
+		return _numIndexedReads.longValue();
+	}
 
 	public static void incrementFSBuffWrites() {
 		_numWritesFSBuff.increment();
@@ -166,6 +205,64 @@ public class CacheStatistics
 		return _numWritesHDFS.longValue();
 	}
 	
+	public static void incrementPolicyHits(RPolicy policy) {
+		_numPolicyHits[policy.ordinal()].increment();
+	}
+	
+	public static long getPolicyHits(RPolicy policy) {
+		return _numPolicyHits[policy.ordinal()].longValue();
+	}
+	
+	public static void incrementPolicyMisses(RPolicy policy) {
+		_numPolicyMisses[policy.ordinal()].increment();
+	}
+	
+	public static long getPolicyMisses(RPolicy policy) {
+		return _numPolicyMisses[policy.ordinal()].longValue();
+	}
+	
+	public static void incrementCompressedChunks(int compressed, int raw) {
+		_numCompChunks.add(compressed);
+		_numRawChunks.add(raw);
+	}
+	
+	public static long getCompressedChunks() {
+		return _numCompChunks.longValue();
+	}
+	
+	public static long getRawChunks() {
+		return _numRawChunks.longValue();
+	}
+	
+	public static void incrementCompressedBytes(long raw, long stored) {
+		_compRawBytes.add(raw);
+		_compStoredBytes.add(stored);
+	}
+	
+	public static long getCompressionRawBytes() {
+		return _compRawBytes.longValue();
+	}
+	
+	public static long getCompressionStoredBytes() {
+		return _compStoredBytes.longValue();
+	}
+	
+	public static void incrementArrayPoolHits() {
+		_numArrayPoolHits.increment();
+	}
+	
+	public static long getArrayPoolHits() {
+		return _numArrayPoolHits.longValue();
+	}
+	
+	public static void incrementArrayPoolMisses() {
+		_numArrayPoolMisses.increment();
+	}
+	
+	public static long getArrayPoolMisses() {
+		return _numArrayPoolMisses.longValue();
+	}
+	
 	public static void incrementAcquireRTime(long delta) {
 		_ctimeAcquireR.add(delta);
 	}
@@ -207,6 +304,9 @@ public class CacheStatistics
 		sb.append(_numHitsFS.longValue());
 		sb.append("/");
 		sb.append(_numHitsHDFS.longValue());
+		sb.append(" (");
+		sb.append(_numIndexedReads.longValue());
+		sb.append(" indexed)");
 		
 		return sb.toString();
 	}
@@ -222,6 +322,59 @@ public class CacheStatistics
 		return sb.toString();
 	}
 	
+	public static String displayPolicyHits() {
+		StringBuilder sb = new StringBuilder();
+		for( RPolicy policy : RPolicy.values() ) {
+			long hits = _numPolicyHits[policy.ordinal()].longValue();
+			long misses = _numPolicyMisses[policy.ordinal()].longValue();
+			if( hits == 0 && misses == 0 && policy != LazyWriteBuffer.getPolicy() )
+				continue;
+			if( sb.length() > 0 )
+				sb.append(", ");
+			sb.append(policy.name());
+			sb.append(" ");
+			sb.append(hits);
+			sb.append("/");
+			sb.append(misses);
+		}
+		
+		return sb.toString();
+	}
+	
+	public static String displayCompression() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(LocalFileUtils.isLocalCompression() ? "on" : "off");
+		long raw = _compRawBytes.longValue();
+		long stored = _compStoredBytes.longValue();
+		if( raw > 0 ) {
+			sb.append(", ");
+			sb.append(String.format("%.2f", (double)raw/stored));
+			sb.append("x, ");
+			sb.append(_numRawChunks.longValue());
+			sb.append("/");
+			sb.append(_numCompChunks.longValue() + _numRawChunks.longValue());
+			sb.append(" raw chunks");
+		}
+		
+		return sb.toString();
+	}
+	
+	public static String displayArrayPoolHits() {
+		StringBuilder sb = new StringBuilder();
+		long hits = _numArrayPoolHits.longValue();
+		long misses = _numArrayPoolMisses.longValue();
+		sb.append(hits);
+		sb.append("/");
+		sb.append(misses);
+		if( hits + misses > 0 ) {
+			sb.append(" (");
+			sb.append(String.format("%.1f", 100d*hits/(hits+misses)));
+			sb.append("%)");
+		}
+		
+		return sb.toString();
+	}
+	
 	public static String displayTime() {	
 		StringBuilder sb = new StringBuilder();
 		sb.append(String.format("%.3f", ((double)_ctimeAcquireR.longValue())/1000000000)); //in sec
@@ -234,4 +387,11 @@ public class CacheStatistics
 		
 		return sb.toString();
 	}
+	
+	private static LongAdder[] createCounters(int len) {
+		LongAdder[] ret = new LongAdder[len];
+		for( int i=0; i<len; i++ )
+			ret[i] = new LongAdder();
+		return ret;
+	}
 }
@@ -38,6 +38,7 @@ import org.apache.sysml.parser.Expression.DataType;
 import org.apache.sysml.parser.Expression.ValueType;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
+import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
 import org.apache.sysml.runtime.controlprogram.parfor.util.IDSequence;
 import org.apache.sysml.runtime.instructions.cp.CPInstruction;
 import org.apache.sysml.runtime.instructions.cp.Data;
@@ -50,6 +51,7 @@ import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
 import org.apache.sysml.runtime.matrix.MetaDataFormat;
 import org.apache.sysml.runtime.matrix.MetaDataNumItemsByEachReducer;
 import org.apache.sysml.runtime.matrix.MetaData;
+import org.apache.sysml.runtime.matrix.data.ArrayPool;
 import org.apache.sysml.runtime.matrix.data.FileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.InputInfo;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
@@ -79,12 +81,18 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 	// global constant configuration parameters
 	public static final long 	CACHING_THRESHOLD = 4*1024; //obj not s.t. caching if below threshold [in bytes]
 	public static final double 	CACHING_BUFFER_SIZE = 0.15; 
-	public static final RPolicy CACHING_BUFFER_POLICY = RPolicy.FIFO; 
+	public static final RPolicy CACHING_BUFFER_POLICY = RPolicy.FIFO; //default, see sysml.caching.bufferpolicy 
 	public static final boolean CACHING_BUFFER_PAGECACHE = false; 
 	public static final boolean CACHING_WRITE_CACHE_ON_READ = false;	
 	public static final String  CACHING_COUNTER_GROUP_NAME    = "SystemML Caching Counters";
 	public static final String  CACHING_EVICTION_FILEEXTENSION = ".dat";
 	public static final boolean CACHING_ASYNC_FILECLEANUP = true;
+	public static final boolean CACHING_ASYNC_EVICTION = true;
+	public static final boolean CACHING_MAPPED_EVICTION = true; //see CacheMappedFile
+	public static final boolean CACHING_COMPRESSION = false; //default, see sysml.caching.compression
+	public static final boolean CACHING_ARRAY_POOL = true; //reuse of dense/csr arrays, see ArrayPool
+	public static final double  CACHING_ARRAY_POOL_SIZE = 0.05; //max size of pooled arrays [fraction of heap]
+	public static final double  CACHING_BUFFER_LOW_WATERMARK = 0.8; //target of async eviction [fraction of buffer size]
     
 	/**
 	 * Defines all possible cache status types for a data blob.
@@ -415,6 +423,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 					
 					//read cacheable data from hdfs
 					_data = readBlobFromHDFS( _hdfsFileName );
+					ArrayPool.registerReadOwner(_data);
 					
 					//mark for initial local write despite read operation
 					_requiresLocalWrite = CACHING_WRITE_CACHE_ON_READ;
@@ -424,6 +433,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 					//read matrix from rdd (incl execute pending rdd operations)
 					MutableBoolean writeStatus = new MutableBoolean();
 					_data = readBlobFromRDD( getRDDHandle(), writeStatus );
+					ArrayPool.registerReadOwner(_data);
 					
 					//mark for initial local write (prevent repeated execution of rdd operations)
 					_requiresLocalWrite = writeStatus.booleanValue() ? 
@@ -492,6 +502,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 			try
 			{
 				_data = readBlobFromHDFS( _hdfsFileName );
+				ArrayPool.registerReadOwner(_data);
 			}
 			catch (IOException e)
 			{
@@ -540,6 +551,10 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		if (! isAvailableToModify ())
 			throw new CacheException ("CacheableData not available to modify.");
 		
+		//register as owner before clearing old data (which might be the same block)
+		if( newData != null )
+			ArrayPool.registerOwner(newData);
+		
 		//clear old data
 		clearData();
 		
@@ -624,7 +639,8 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 				try {
 					long t1 = DMLScript.STATISTICS && DMLScript.FINEGRAINED_STATISTICS ? System.nanoTime() : 0;
 					
-					int numEvicted = LazyWriteBuffer.writeBlock(filePath, _data);
+					int numEvicted = LazyWriteBuffer.writeBlock(filePath, _data,
+						isHDFSFileExists() && !isDirty());
 					
 					if(DMLScript.STATISTICS && DMLScript.FINEGRAINED_STATISTICS && opcode != null) {
 						long t2 = DMLScript.STATISTICS && DMLScript.FINEGRAINED_STATISTICS ? System.nanoTime() : 0;
@@ -663,6 +679,20 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 	 */
 	public synchronized void clearData() 
 		throws DMLRuntimeException
+	{
+		clearData(false);
+	}
+	
+	/**
+	 * Clears the data as described in {@link #clearData()}, and optionally
+	 * returns the backing arrays of an unshared matrix block to the array pool,
+	 * if this object was the last owner of the block (e.g., on rmvar).
+	 * 
+	 * @param recycle if true, return backing arrays to the array pool
+	 * @throws DMLRuntimeException if error occurs
+	 */
+	public synchronized void clearData(boolean recycle) 
+		throws DMLRuntimeException
 	{
 		if( LOG.isTraceEnabled() )
 			LOG.trace("Clear data "+hashCode());
@@ -679,6 +709,13 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 			  ||(_data!=null && !isCachingActive()) )) //additional condition for JMLC
 			freeEvictedBlob();	
 		
+		// release ownership of in-memory data, incl. array reuse if 
+		// not shared with rdds, broadcasts, or gpu objects
+		T data = (_data != null) ? _data : (_cache != null) ? _cache.get() : null;
+		if( data != null )
+			ArrayPool.releaseOwner(data, recycle && _rddHandle == null
+				&& _bcHandle == null && (_gpuObjects == null || _gpuObjects.isEmpty()));
+		
 		// clear the in-memory data
 		_data = null;
 		clearCache();
@@ -806,6 +843,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 						_data = readBlobFromHDFS( _hdfsFileName );
 					else
 						_data = readBlobFromRDD( getRDDHandle(), new MutableBoolean() );
+					ArrayPool.registerReadOwner(_data);
 					setDirty(false);
 				}
 				catch (IOException e)
@@ -918,6 +956,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 
 		try {
 			_data = readBlobFromCache(cacheFilePathAndName);
+			ArrayPool.registerReadOwner(_data);
 		}
 		catch (IOException e) {
 			throw new CacheException (cacheFilePathAndName + " : Restore failed.", e);	
@@ -1281,8 +1320,9 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 	// --------- STATIC CACHE INIT/CLEANUP OPERATIONS ----------
 
 	public synchronized static void cleanupCacheDir() {
-		//cleanup remaining cached writes
+		//cleanup remaining cached writes and pooled arrays
 		LazyWriteBuffer.cleanup();
+		ArrayPool.clear();
 		
 		//delete cache dir and files
 		cleanupCacheDir(true);
@@ -1342,14 +1382,18 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 			String dir = LocalFileUtils.getWorkingDir( LocalFileUtils.CATEGORY_CACHE );
 			LocalFileUtils.createLocalFileIfNotExist(dir);
 			cacheEvictionLocalFilePath = dir;
+			
+			//init write-ahead buffer (incl config validation)
+			LazyWriteBuffer.init();
 		}
 		catch(DMLRuntimeException e)
 		{
 			throw new IOException(e);
 		}
 	
-		//init write-ahead buffer
-		LazyWriteBuffer.init();
+		//init array pool
+		if( CACHING_ARRAY_POOL )
+			ArrayPool.init((long)(CACHING_ARRAY_POOL_SIZE * InfrastructureAnalyzer.getLocalMaxMemory()));
 		_refBCs.set(0);
 		
 		_activeFlag = true; //turn on caching
@@ -20,44 +20,78 @@
 package org.apache.sysml.runtime.controlprogram.caching;
 
 import java.io.IOException;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.util.LocalFileUtils;
 
 public class LazyWriteBuffer 
 {
 	public enum RPolicy {
 		FIFO, //first-in, first-out eviction
-		LRU   //least recently used eviction
+		LRU,  //least recently used eviction
+		GDS,  //greedy-dual-size eviction (restore cost per byte, w/ aging)
+		COST  //cost-aware eviction (greedy-dual-size w/ access frequency and persistent copies)
 	}
 	
-	//global size limit in bytes
-	private static final long _limit;
+	//global size limit in bytes (high watermark)
+	private static long _limit;
 	
-	//current size in bytes
+	//target size in bytes of asynchronous eviction (low watermark)
+	private static long _lowLimit;
+	
+	//current size in bytes (incl buffers of in-flight evictions)
 	private static long _size;
 	
+	//size in bytes of in-flight evictions
+	private static long _sizeInFlight;
+	
+	//eviction policy (configured via sysml.caching.bufferpolicy)
+	private static RPolicy _policy = CacheableData.CACHING_BUFFER_POLICY;
+	
 	//eviction queue of <filename,buffer> pairs (implemented via linked hash map
 	//for (1) queue semantics and (2) constant time get/insert/delete operations)
 	private static EvictionQueue _mQueue;
 	
+	//in-flight evictions of <filename,task> pairs, which are removed
+	//from the eviction queue but not yet written to local FS
+	private static HashMap<String, EvictionTask> _mInFlight;
+	
+	//last error of asynchronous evictions (reported to next writer)
+	private static IOException _evictError;
+	
+	//background writer pool for asynchronous eviction
+	private static ExecutorService _evictPool;
+	
 	//file cleaner for synchronous or asynchronous delete of evicted files
 	private static FileCleaner _fClean;
 	
 	static {
 		//obtain the logical buffer size in bytes
-		long maxMem = InfrastructureAnalyzer.getLocalMaxMemory();
-		_limit = (long)(CacheableData.CACHING_BUFFER_SIZE * maxMem);
+		setWriteBufferLimit(getWriteBufferSize());
 	}
 	
 	public static int writeBlock(String fname, CacheBlock cb)
 		throws IOException
+	{
+		return writeBlock(fname, cb, false);
+	}
+	
+	public static int writeBlock(String fname, CacheBlock cb, boolean persistent)
+		throws IOException
 	{
 		//obtain basic meta data of cache block
 		long lSize = cb.isShallowSerialize() ?
@@ -75,28 +109,48 @@ public class LazyWriteBuffer
 			//modify buffer pool
 			synchronized( _mQueue )
 			{
-				//evict matrices to make room (by default FIFO)
-				while( _size+lSize > _limit && !_mQueue.isEmpty() )
-				{
-					//remove first entry from eviction queue
-					Entry<String, ByteBuffer> entry = _mQueue.removeFirst();
-					String ftmp = entry.getKey();
-					ByteBuffer tmp = entry.getValue();
-					
-					if( tmp != null ) {
-						//wait for pending serialization
-						tmp.checkSerialized();
-						
-						//evict matrix
-						tmp.evictBuffer(ftmp);
-						tmp.freeMemory();
-						_size -= tmp.getSize();
-						numEvicted++;
+				//wait for in-flight eviction of the same file
+				while( _mInFlight.containsKey(fname) )
+					waitForEviction();
+				
+				//evict matrices to make room (by default FIFO), where async eviction
+				//frees memory down to the low watermark to avoid blocking writers
+				if( _size+lSize > _limit ) {
+					//note: stop on eviction errors, as failed buffers are put back
+					//into the queue and would be evicted again and again
+					long target = (_evictPool != null) ? _lowLimit : _limit;
+					while( _evictError == null
+						&& _size-_sizeInFlight+lSize > target && !_mQueue.isEmpty() )
+					{
+						//remove first entry from eviction queue
+						Entry<String, ByteBuffer> entry = _mQueue.removeFirst();
+						if( entry.getValue() != null ) {
+							//evict matrix (sync or async, size released on completion)
+							EvictionTask task = new EvictionTask(entry.getKey(), entry.getValue());
+							_mInFlight.put(entry.getKey(), task);
+							_sizeInFlight += task.getSize();
+							if( _evictPool != null )
+								_evictPool.submit(task);
+							else
+								task.run();
+							numEvicted++;
+						}
 					}
+					
+					//block only if in-flight evictions still hold the required memory
+					while( _evictError == null && _size+lSize > _limit && _sizeInFlight > 0 )
+						waitForEviction();
+				}
+				
+				//report failures of synchronous or asynchronous evictions
+				if( _evictError != null ) {
+					IOException ex = _evictError;
+					_evictError = null;
+					throw ex;
 				}
 				
 				//put placeholder into buffer pool (reserve mem)
-				_mQueue.addLast(fname, bbuff);
+				_mQueue.addLast(fname, bbuff, persistent);
 				_size += lSize;
 			}
 			
@@ -111,7 +165,11 @@ public class LazyWriteBuffer
 		else
 		{
 			//write directly to local FS (bypass buffer if too large)
-			LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+			if( CacheableData.CACHING_MAPPED_EVICTION && !LocalFileUtils.isLocalCompression()
+				&& CacheMappedFile.isSupported(cb) )
+				CacheMappedFile.writeMatrixBlock(fname, (MatrixBlock)cb);
+			else
+				LocalFileUtils.writeCacheBlockToLocal(fname, cb);
 			if( DMLScript.STATISTICS ) {
 				CacheStatistics.incrementFSWrites();
 			}
@@ -134,6 +192,13 @@ public class LazyWriteBuffer
 				requiresDelete = false;
 				ldata.freeMemory(); //cleanup
 			}
+			
+			//defer delete of in-flight evictions until written
+			EvictionTask task = _mInFlight.get(fname);
+			if( task != null ) {
+				task.setDeleted();
+				requiresDelete = false;
+			}
 		}
 		
 		//delete from FS if required
@@ -150,46 +215,82 @@ public class LazyWriteBuffer
 		//probe write buffer
 		synchronized( _mQueue )
 		{
-			ldata = _mQueue.get(fname);
+			//wait for in-flight eviction of the requested file
+			while( (ldata = _mQueue.get(fname)) == null
+				&& _mInFlight.containsKey(fname) )
+				waitForEviction();
 			
 			//modify eviction order (accordingly to access)
-			if(    CacheableData.CACHING_BUFFER_POLICY == RPolicy.LRU
-				&& ldata != null )
-			{
-				//reinsert entry at end of eviction queue
-				_mQueue.remove( fname );
-				_mQueue.addLast( fname, ldata );
-			}
+			if( ldata != null )
+				_mQueue.access(fname, ldata);
 		}
 		
 		//deserialize or read from FS if required
 		if( ldata != null )
 		{
 			cb = ldata.deserializeBlock();
-			if( DMLScript.STATISTICS )
+			if( DMLScript.STATISTICS ) {
 				CacheStatistics.incrementFSBuffHits();
+				CacheStatistics.incrementPolicyHits(_policy);
+			}
 		}
 		else
 		{
-			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
-			if( DMLScript.STATISTICS )
+			//read mapped format w/ fallback to stream format
+			if( matrix && CacheableData.CACHING_MAPPED_EVICTION )
+				cb = CacheMappedFile.readMatrixBlock(fname);
+			if( cb == null )
+				cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
+			if( DMLScript.STATISTICS ) {
 				CacheStatistics.incrementFSHits();
+				CacheStatistics.incrementPolicyMisses(_policy);
+			}
 		}
 		
 		return cb;
 	}
 
-	public static void init() {
-		_mQueue = new EvictionQueue();
+	public static void init() 
+		throws DMLRuntimeException
+	{
+		_policy = getConfiguredPolicy();
+		LocalFileUtils.setLocalCompression(getConfiguredCompression());
+		_mQueue = new EvictionQueue(_policy);
+		_mInFlight = new HashMap<>();
 		_fClean = new FileCleaner();
 		_size = 0;
+		_sizeInFlight = 0;
+		_evictError = null;
+		if( _evictPool != null ) {
+			_evictPool.shutdownNow();
+			_evictPool = null;
+		}
+		if( CacheableData.CACHING_ASYNC_EVICTION ) {
+			//small writer pool, sufficient to saturate local disk bandwidth
+			//(daemon threads to not block the shutdown of the jvm)
+			int k = Math.max(1, Math.min(4, InfrastructureAnalyzer.getLocalParallelism()/8));
+			_evictPool = Executors.newFixedThreadPool(k, r -> {
+				Thread t = new Thread(r, "lazy-write-buffer-evict");
+				t.setDaemon(true);
+				return t;
+			});
+		}
 		if( CacheableData.CACHING_BUFFER_PAGECACHE )
 			PageCache.init();
 	}
 
 	public static void cleanup() {
-		if( _mQueue != null )
-			_mQueue.clear();
+		if( _evictPool != null ) {
+			_evictPool.shutdownNow();
+			_evictPool = null;
+		}
+		if( _mQueue != null ) {
+			synchronized( _mQueue ) {
+				_mQueue.clear();
+				_mInFlight.clear();
+				_mQueue.notifyAll();
+			}
+		}
 		if( _fClean != null )
 			_fClean.close();
 		if( CacheableData.CACHING_BUFFER_PAGECACHE )
@@ -201,6 +302,56 @@ public class LazyWriteBuffer
 		return (long)(CacheableData.CACHING_BUFFER_SIZE * maxMem);
 	}
 	
+	public static RPolicy getPolicy() {
+		return _policy;
+	}
+	
+	private static RPolicy getConfiguredPolicy() 
+		throws DMLRuntimeException
+	{
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String policy = (conf != null) ? conf.getTextValue(DMLConfig.CACHING_BUFFER_POLICY) : null;
+		if( policy == null )
+			return CacheableData.CACHING_BUFFER_POLICY;
+		try {
+			return RPolicy.valueOf(policy.trim().toUpperCase());
+		}
+		catch(IllegalArgumentException ex) {
+			throw new DMLRuntimeException("Invalid value '"+policy+"' for config "
+				+ DMLConfig.CACHING_BUFFER_POLICY+", valid values: "+Arrays.toString(RPolicy.values())+".", ex);
+		}
+	}
+	
+	private static boolean getConfiguredCompression() {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		return (conf != null) ? conf.getBooleanValue(DMLConfig.CACHING_COMPRESSION) :
+			CacheableData.CACHING_COMPRESSION;
+	}
+	
+	/**
+	 * Sets the size limit (high watermark) of the write buffer and
+	 * derives the target size of asynchronous eviction (low watermark).
+	 * NOTE: use only for debugging or testing.
+	 *
+	 * @param limit size limit in bytes
+	 */
+	public static void setWriteBufferLimit(long limit) {
+		_limit = limit;
+		_lowLimit = (long)(CacheableData.CACHING_BUFFER_LOW_WATERMARK * limit);
+	}
+	
+	private static void waitForEviction()
+		throws IOException
+	{
+		//note: caller holds the lock of the eviction queue
+		try {
+			_mQueue.wait();
+		}
+		catch(InterruptedException ex) {
+			throw new IOException("Interrupted while waiting for eviction.", ex);
+		}
+	}
+	
 	/**
 	 * Print current status of buffer pool, including all entries.
 	 * NOTE: use only for debugging or testing.
@@ -215,6 +366,7 @@ public class LazyWriteBuffer
 		System.out.println("\tWB: Buffer Meta Data: " +
 				     "limit="+_limit+", " +
 				     "size[bytes]="+_size+", " +
+				     "inflight[bytes]="+_sizeInFlight+", " +
 				     "size[elements]="+_mQueue.size()+"/"+_mQueue.size());
 		
 		//print current buffer entries
@@ -254,24 +406,83 @@ public class LazyWriteBuffer
 				tmp.freeMemory();
 			}
 		}
+		
+		//wait for pending asynchronous evictions
+		synchronized( _mQueue ) {
+			while( !_mInFlight.isEmpty() )
+				waitForEviction();
+		}
 	}
 	
 	/**
 	 * Extended LinkedHashMap with convenience methods for adding and removing
-	 * last/first entries.
-	 * 
+	 * last/first entries. For the cost-aware policies GDS and COST, victims
+	 * are selected from an additional index of greedy-dual scores
+	 * H = L + f * cost/size, where L is the score of the last victim (aging),
+	 * f the access frequency (COST only), and cost the restore cost (lower
+	 * for blocks with persistent copies for COST).
+	 *
 	 */
 	private static class EvictionQueue extends LinkedHashMap<String, ByteBuffer>
 	{
 		private static final long serialVersionUID = -5208333402581364859L;
 		
+		//restore cost model: fixed latency in byte equivalents plus size
+		private static final long RESTORE_LATENCY = 1024*1024;
+		
+		private final RPolicy _policy;
+		private final HashMap<String, ScoredEntry> _scores; //null for FIFO/LRU
+		private final TreeSet<ScoredEntry> _index;          //null for FIFO/LRU
+		private double _aging = 0; //L, score of last victim
+		private long _seq = 0;
+		
+		public EvictionQueue(RPolicy policy) {
+			boolean scored = (policy == RPolicy.GDS || policy == RPolicy.COST);
+			_policy = policy;
+			_scores = scored ? new HashMap<>() : null;
+			_index = scored ? new TreeSet<>() : null;
+		}
+		
 		public void addLast( String fname, ByteBuffer bbuff ) {
+			addLast(fname, bbuff, false);
+		}
+		
+		public void addLast( String fname, ByteBuffer bbuff, boolean persistent ) {
 			//put entry into eviction queue w/ 'addLast' semantics
 			put(fname, bbuff);
+			if( _index != null ) {
+				ScoredEntry old = _scores.get(fname);
+				if( old != null )
+					_index.remove(old);
+				updateScore(new ScoredEntry(fname, bbuff.getSize(), persistent));
+			}
+		}
+		
+		public void access( String fname, ByteBuffer bbuff ) {
+			if( _policy == RPolicy.LRU ) {
+				//reinsert entry at end of eviction queue
+				super.remove(fname);
+				put(fname, bbuff);
+			}
+			else if( _index != null ) {
+				//increment frequency and refresh score
+				ScoredEntry entry = _scores.get(fname);
+				_index.remove(entry);
+				entry.freq++;
+				updateScore(entry);
+			}
 		}
 		
 		public Entry<String, ByteBuffer> removeFirst()
 		{
+			//remove entry with minimum score
+			if( _index != null ) {
+				ScoredEntry entry = _index.pollFirst();
+				_scores.remove(entry.fname);
+				_aging = entry.score;
+				return new SimpleEntry<>(entry.fname, super.remove(entry.fname));
+			}
+			
 			//move iterator to first entry
 			Iterator<Entry<String, ByteBuffer>> iter = entrySet().iterator();
 			Entry<String, ByteBuffer> entry = iter.next();
@@ -281,6 +492,117 @@ public class LazyWriteBuffer
 			
 			return entry;
 		}
+		
+		@Override
+		public ByteBuffer remove( Object fname ) {
+			if( _index != null ) {
+				ScoredEntry entry = _scores.remove(fname);
+				if( entry != null )
+					_index.remove(entry);
+			}
+			return super.remove(fname);
+		}
+		
+		@Override
+		public void clear() {
+			if( _index != null ) {
+				_scores.clear();
+				_index.clear();
+			}
+			super.clear();
+		}
+		
+		private void updateScore( ScoredEntry entry ) {
+			double cost = (double)(RESTORE_LATENCY + entry.size) / Math.max(entry.size, 1);
+			if( _policy == RPolicy.COST )
+				cost *= entry.freq * (entry.persistent ? 0.5 : 1);
+			entry.score = _aging + cost;
+			entry.seq = _seq++;
+			_scores.put(entry.fname, entry);
+			_index.add(entry);
+		}
+	}
+	
+	private static class ScoredEntry implements Comparable<ScoredEntry>
+	{
+		private final String fname;
+		private final long size;
+		private final boolean persistent;
+		private int freq = 1;
+		private double score;
+		private long seq;
+		
+		public ScoredEntry(String fname, long size, boolean persistent) {
+			this.fname = fname;
+			this.size = size;
+			this.persistent = persistent;
+		}
+		
+		@Override
+		public int compareTo(ScoredEntry o) {
+			//order by score, ties broken by insertion order
+			int ret = Double.compare(score, o.score);
+			return (ret != 0) ? ret : Long.compare(seq, o.seq);
+		}
+	}
+	
+	/**
+	 * Eviction task that writes a single buffer to local FS and subsequently
+	 * releases its reserved memory. If the block is deleted while in flight,
+	 * the evicted file is deleted once written; if the write fails, the buffer
+	 * is put back into the eviction queue in order to never lose data.
+	 */
+	private static class EvictionTask implements Runnable
+	{
+		private final String _fname;
+		private final ByteBuffer _bbuff;
+		private boolean _deleted = false; //guarded by eviction queue
+		
+		public EvictionTask(String fname, ByteBuffer bbuff) {
+			_fname = fname;
+			_bbuff = bbuff;
+		}
+		
+		public long getSize() {
+			return _bbuff.getSize();
+		}
+		
+		public void setDeleted() {
+			_deleted = true;
+		}
+		
+		@Override
+		public void run() {
+			IOException error = null;
+			try {
+				//wait for pending serialization and write to local FS
+				//(outside the critical path of the eviction queue)
+				_bbuff.checkSerialized();
+				_bbuff.evictBuffer(_fname);
+			}
+			catch(IOException ex) {
+				error = ex;
+			}
+			
+			synchronized( _mQueue ) {
+				//ignore stale tasks after buffer cleanup
+				if( _mInFlight.remove(_fname) != this )
+					return;
+				_sizeInFlight -= getSize();
+				if( error == null || _deleted ) {
+					_bbuff.freeMemory();
+					_size -= getSize();
+					if( _deleted )
+						_fClean.deleteFile(_fname);
+				}
+				else {
+					//keep buffer and report error
+					_mQueue.addLast(_fname, _bbuff);
+					_evictError = error;
+				}
+				_mQueue.notifyAll();
+			}
+		}
 	}
 	
 	/**
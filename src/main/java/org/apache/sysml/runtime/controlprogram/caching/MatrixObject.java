@@ -34,6 +34,7 @@ import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.controlprogram.ParForProgramBlock.PDataPartitionFormat;
 import org.apache.sysml.runtime.controlprogram.context.SparkExecutionContext;
 import org.apache.sysml.runtime.instructions.spark.data.RDDObject;
+import org.apache.sysml.runtime.io.ReadProperties;
 import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
 import org.apache.sysml.runtime.matrix.MetaDataFormat;
 import org.apache.sysml.runtime.matrix.MetaData;
@@ -78,6 +79,11 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 	private int _partitionSize = -1; //indicates n for BLOCKWISE_N
 	private String _partitionCacheName = null; //name of cache block
 	private MatrixBlock _partitionInMemory = null;
+	
+	//information relevant to indexed reads of unread matrices (read pushdown of
+	//right indexing), applied once per object and up to a max fraction of cells
+	private static final double INDEXED_READ_MAX_FRACTION = 0.5;
+	private int _numIndexedReads = 0;
 
 	/**
 	 * Constructor that takes the value type and the HDFS filename.
@@ -395,6 +401,83 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 	
 	
 
+	/**
+	 * Indicates if the given index range can be directly read from the
+	 * binary block file of this matrix, without reading the entire matrix
+	 * into the buffer pool. This requires a matrix with known dimensions
+	 * that has not been read yet (or evicted w/o write), a range of at most
+	 * half the cells, and no prior indexed read because repeated indexing
+	 * indicates reuse, for which a full read is more efficient.
+	 * 
+	 * @param ixrange index range, 0-based, inclusive
+	 * @return true if indexed read applicable
+	 */
+	public synchronized boolean isIndexedReadApplicable( IndexRange ixrange ) 
+	{
+		//probe data in memory or soft reference cache
+		if( _data == null )
+			getCache();
+		
+		if( !(_metaData instanceof MetaDataFormat) )
+			return false;
+		
+		MatrixCharacteristics mc = getMatrixCharacteristics();
+		return _data == null && isEmpty(true) && !isDirty() && !_partitioned 
+			&& _numIndexedReads == 0 && _hdfsFileName != null 
+			&& getRDDHandle() == null && getBroadcastHandle() == null && _gpuObjects.isEmpty()
+			&& ((MetaDataFormat)_metaData).getInputInfo() == InputInfo.BinaryBlockInputInfo
+			&& mc.dimsKnown() && mc.getRowsPerBlock() > 0 && mc.getColsPerBlock() > 0
+			&& (double)(ixrange.rowEnd-ixrange.rowStart+1) * (ixrange.colEnd-ixrange.colStart+1)
+				<= INDEXED_READ_MAX_FRACTION * mc.getRows() * mc.getCols();
+	}
+	
+	/**
+	 * Reads the given index range directly from the binary block file of
+	 * this matrix (see isIndexedReadApplicable). The matrix object itself
+	 * remains unread, i.e., the returned block is not cached.
+	 * 
+	 * @param ixrange index range, 0-based, inclusive
+	 * @return matrix block of the index range
+	 * @throws CacheException if CacheException occurs
+	 */
+	public synchronized MatrixBlock readMatrixRange( IndexRange ixrange ) 
+		throws CacheException
+	{
+		if( LOG.isTraceEnabled() )
+			LOG.trace("Acquire indexed read "+hashCode()+" "+ixrange);
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		
+		MetaDataFormat iimd = (MetaDataFormat) _metaData;
+		MatrixCharacteristics mc = iimd.getMatrixCharacteristics();
+		MatrixBlock mb = null;
+		try {
+			ReadProperties prop = new ReadProperties();
+			prop.path = _hdfsFileName;
+			prop.inputInfo = iimd.getInputInfo();
+			prop.rlen = mc.getRows();
+			prop.clen = mc.getCols();
+			prop.brlen = mc.getRowsPerBlock();
+			prop.bclen = mc.getColsPerBlock();
+			prop.expectedSparsity = (mc.getNonZeros() >= 0) ? 
+				((double)mc.getNonZeros())/(mc.getRows()*mc.getCols()) : 1.0d;
+			prop.indexRange = ixrange;
+			mb = DataConverter.readMatrixFromHDFS(prop);
+			_numIndexedReads++;
+		}
+		catch(IOException ex) {
+			throw new CacheException("Indexed read of " + _hdfsFileName + " ("+hashCode()+") failed.", ex);
+		}
+		
+		if( DMLScript.STATISTICS ){
+			CacheStatistics.incrementHDFSHits();
+			CacheStatistics.incrementIndexedReads();
+			long t1 = System.nanoTime();
+			CacheStatistics.incrementAcquireRTime(t1-t0);
+		}
+		
+		return mb;
+	}
+
 	// *********************************************
 	// ***                                       ***
 	// ***      LOW-LEVEL PROTECTED METHODS      ***
@@ -619,7 +619,7 @@ public class ExecutionContext {
 		try {
 			//compute ref count only if matrix cleanup actually necessary
 			if ( mo.isCleanupEnabled() && !getVariables().hasReferences(mo) )  {
-				mo.clearData(); //clean cached data
+				mo.clearData(true); //clean cached data, incl array reuse
 				if( fileExists ) {
 					MapReduceTool.deleteFileIfExistOnHDFS(mo.getFileName());
 					MapReduceTool.deleteFileIfExistOnHDFS(mo.getFileName()+".mtd");
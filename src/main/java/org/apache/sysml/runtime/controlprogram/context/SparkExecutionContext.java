@@ -1106,8 +1106,8 @@ public class SparkExecutionContext extends ExecutionContext
 				//compute ref count only if matrix cleanup actually necessary
 				if ( !getVariables().hasReferences(mo) )
 				{
-					//clean cached data
-					mo.clearData();
+					//clean cached data, incl array reuse
+					mo.clearData(true);
 
 					//clean hdfs data if no pending rdd operations on it
 					if( mo.isHDFSFileExists() && mo.getFileName()!=null ) {
@@ -27,6 +27,7 @@ import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysml.runtime.instructions.Instruction;
 import org.apache.sysml.runtime.instructions.InstructionUtils;
 import org.apache.sysml.runtime.matrix.data.CTableMap;
+import org.apache.sysml.runtime.matrix.data.LibMatrixCtable;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.operators.Operator;
 import org.apache.sysml.runtime.matrix.operators.SimpleOperator;
@@ -40,10 +41,11 @@ public class CtableCPInstruction extends ComputationCPInstruction {
 	private final boolean _dim2Literal;
 	private final boolean _isExpand;
 	private final boolean _ignoreZeros;
+	private final int _numThreads;
 
 	private CtableCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out,
 			String outputDim1, boolean dim1Literal, String outputDim2, boolean dim2Literal, boolean isExpand,
-			boolean ignoreZeros, String opcode, String istr) {
+			boolean ignoreZeros, int k, String opcode, String istr) {
 		super(CPType.Ctable, op, in1, in2, in3, out, opcode, istr);
 		_outDim1 = outputDim1;
 		_dim1Literal = dim1Literal;
@@ -51,13 +53,14 @@ public class CtableCPInstruction extends ComputationCPInstruction {
 		_dim2Literal = dim2Literal;
 		_isExpand = isExpand;
 		_ignoreZeros = ignoreZeros;
+		_numThreads = k;
 	}
 
 	public static CtableCPInstruction parseInstruction(String inst) 
 		throws DMLRuntimeException
 	{
 		String[] parts = InstructionUtils.getInstructionPartsWithValueType(inst);
-		InstructionUtils.checkNumFields ( parts, 7 );
+		InstructionUtils.checkNumFields ( parts, 7, 8 );
 		
 		String opcode = parts[0];
 		
@@ -78,9 +81,10 @@ public class CtableCPInstruction extends ComputationCPInstruction {
 
 		CPOperand out = new CPOperand(parts[6]);
 		boolean ignoreZeros = Boolean.parseBoolean(parts[7]);
+		int k = (parts.length > 8) ? Integer.parseInt(parts[8]) : 1;
 		
 		// ctable does not require any operator, so we simply pass-in a dummy operator with null functionobject
-		return new CtableCPInstruction(new SimpleOperator(null), in1, in2, in3, out, dim1Fields[0], Boolean.parseBoolean(dim1Fields[1]), dim2Fields[0], Boolean.parseBoolean(dim2Fields[1]), isExpand, ignoreZeros, opcode, inst);
+		return new CtableCPInstruction(new SimpleOperator(null), in1, in2, in3, out, dim1Fields[0], Boolean.parseBoolean(dim1Fields[1]), dim2Fields[0], Boolean.parseBoolean(dim2Fields[1]), isExpand, ignoreZeros, k, opcode, inst);
 	}
 
 	private Ctable.OperationTypes findCtableOperation() {
@@ -107,6 +111,13 @@ public class CtableCPInstruction extends ComputationCPInstruction {
 		long outputDim2 = (_dim2Literal ? (long) Double.parseDouble(_outDim2) : (ec.getScalarInput(_outDim2, ValueType.DOUBLE, false)).getLongValue());
 		
 		boolean outputDimsKnown = (outputDim1 != -1 && outputDim2 != -1);
+		
+		//multi-threaded ctable w/ thread-local partial results (all except expand)
+		if( !_isExpand && LibMatrixCtable.isParallelCtable(matBlock1, _numThreads) ) {
+			processParallelCtable(ec, matBlock1, ctableOp, outputDim1, outputDim2);
+			return;
+		}
+		
 		if ( outputDimsKnown ) {
 			int inputRows = matBlock1.getNumRows();
 			int inputCols = matBlock1.getNumColumns();
@@ -183,4 +194,51 @@ public class CtableCPInstruction extends ComputationCPInstruction {
 		
 		ec.setMatrixOutput(output.getName(), resultBlock, getExtendedOpcode());
 	}
+	
+	private void processParallelCtable(ExecutionContext ec, MatrixBlock matBlock1, Ctable.OperationTypes ctableOp, long outputDim1, long outputDim2) 
+		throws DMLRuntimeException
+	{
+		MatrixBlock matBlock2 = null, wtBlock = null;
+		double cst1 = 0, cst2 = 0;
+		
+		switch(ctableOp) {
+			case CTABLE_TRANSFORM: //(VECTOR)
+				// F=ctable(A,B,W)
+				matBlock2 = ec.getMatrixInput(input2.getName(), getExtendedOpcode());
+				wtBlock = ec.getMatrixInput(input3.getName(), getExtendedOpcode());
+				break;
+			case CTABLE_TRANSFORM_SCALAR_WEIGHT: //(VECTOR/MATRIX)
+				// F = ctable(A,B) or F = ctable(A,B,1)
+				matBlock2 = ec.getMatrixInput(input2.getName(), getExtendedOpcode());
+				cst2 = ec.getScalarInput(input3.getName(), input3.getValueType(), input3.isLiteral()).getDoubleValue();
+				break;
+			case CTABLE_TRANSFORM_HISTOGRAM: //(VECTOR)
+				// F=ctable(A,1) or F = ctable(A,1,1)
+				cst1 = ec.getScalarInput(input2.getName(), input2.getValueType(), input2.isLiteral()).getDoubleValue();
+				cst2 = ec.getScalarInput(input3.getName(), input3.getValueType(), input3.isLiteral()).getDoubleValue();
+				break;
+			case CTABLE_TRANSFORM_WEIGHTED_HISTOGRAM: //(VECTOR)
+				// F=ctable(A,1,W)
+				wtBlock = ec.getMatrixInput(input3.getName(), getExtendedOpcode());
+				cst1 = ec.getScalarInput(input2.getName(), input2.getValueType(), input2.isLiteral()).getDoubleValue();
+				break;
+			default:
+				throw new DMLRuntimeException("Encountered an invalid ctable operation ("+ctableOp+") while executing instruction: " + this.toString());
+		}
+		
+		//note: the ignore zeros flag is only used for ctable(A,B,w)
+		boolean ignoreZeros = (ctableOp == Ctable.OperationTypes.CTABLE_TRANSFORM_SCALAR_WEIGHT) && _ignoreZeros;
+		MatrixBlock resultBlock = LibMatrixCtable.ctable(matBlock1, matBlock2, cst1, 
+			wtBlock, cst2, ignoreZeros, outputDim1, outputDim2, _numThreads);
+		
+		if(input1.getDataType() == DataType.MATRIX)
+			ec.releaseMatrixInput(input1.getName(), getExtendedOpcode());
+		if(input2.getDataType() == DataType.MATRIX)
+			ec.releaseMatrixInput(input2.getName(), getExtendedOpcode());
+		if(input3.getDataType() == DataType.MATRIX)
+			ec.releaseMatrixInput(input3.getName(), getExtendedOpcode());
+		
+		resultBlock.examSparsity();
+		ec.setMatrixOutput(output.getName(), resultBlock, getExtendedOpcode());
+	}
 }
@@ -19,6 +19,7 @@
 
 package org.apache.sysml.runtime.instructions.cp;
 
+import org.apache.sysml.hops.OptimizerUtils;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
@@ -50,7 +51,8 @@ public final class FrameAppendCPInstruction extends AppendCPInstruction {
 		} 
 			
 		//execute append operations (append both inputs to initially empty output)
-		FrameBlock ret = fin1.appendOperations(fin2, new FrameBlock(), _type==AppendType.CBIND);
+		FrameBlock ret = fin1.appendOperations(fin2, new FrameBlock(), 
+			_type==AppendType.CBIND, OptimizerUtils.getConstrainedNumThreads(-1));
 		
 		//set output and release inputs 
 		ec.setFrameOutput(output.getName(), ret);
@@ -19,6 +19,7 @@
 
 package org.apache.sysml.runtime.instructions.cp;
 
+import org.apache.sysml.hops.OptimizerUtils;
 import org.apache.sysml.lops.LeftIndex;
 import org.apache.sysml.lops.RightIndex;
 import org.apache.sysml.parser.Expression.DataType;
@@ -46,13 +47,14 @@ public final class FrameIndexingCPInstruction extends IndexingCPInstruction {
 	{	
 		String opcode = getOpcode();
 		IndexRange ixrange = getIndexRange(ec);
+		int k = OptimizerUtils.getConstrainedNumThreads(-1);
 		
 		//right indexing
 		if( opcode.equalsIgnoreCase(RightIndex.OPCODE) )
 		{
 			//execute right indexing operation
 			FrameBlock in = ec.getFrameInput(input1.getName());
-			FrameBlock out = in.sliceOperations(ixrange, new FrameBlock());	
+			FrameBlock out = in.sliceOperations(ixrange, new FrameBlock(), k);	
 				
 			//unpin rhs input
 			ec.releaseFrameInput(input1.getName());
@@ -68,7 +70,7 @@ public final class FrameIndexingCPInstruction extends IndexingCPInstruction {
 			
 			if(input2.getDataType() == DataType.FRAME) { //FRAME<-FRAME
 				FrameBlock rin = ec.getFrameInput(input2.getName());
-				out = lin.leftIndexingOperations(rin, ixrange, new FrameBlock());
+				out = lin.leftIndexingOperations(rin, ixrange, new FrameBlock(), k);
 				ec.releaseFrameInput(input2.getName());
 			}
 			else { //FRAME<-SCALAR 
@@ -62,6 +62,8 @@ public final class MatrixIndexingCPInstruction extends IndexingCPInstruction {
 			
 			if( mo.isPartitioned() ) //via data partitioning
 				resultBlock = mo.readMatrixPartition(ixrange.add(1));
+			else if( mo.isIndexedReadApplicable(ixrange) ) //via indexed read of unread matrix
+				resultBlock = mo.readMatrixRange(ixrange);
 			else //via slicing the in-memory matrix
 			{
 				//execute right indexing operation (with shallow row copies for range
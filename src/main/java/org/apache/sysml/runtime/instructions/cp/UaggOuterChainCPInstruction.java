@@ -35,12 +35,14 @@ import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
 public class UaggOuterChainCPInstruction extends UnaryCPInstruction {
 	private final AggregateUnaryOperator _uaggOp;
 	private final BinaryOperator _bOp;
+	private final int _numThreads;
 
 	private UaggOuterChainCPInstruction(BinaryOperator bop, AggregateUnaryOperator uaggop, AggregateOperator aggop,
-			CPOperand in1, CPOperand in2, CPOperand out, String opcode, String istr) {
+			CPOperand in1, CPOperand in2, CPOperand out, int k, String opcode, String istr) {
 		super(CPType.UaggOuterChain, bop, in1, in2, out, opcode, istr);
 		_uaggOp = uaggop;
 		_bOp = bop;
+		_numThreads = k;
 	}
 
 	public static UaggOuterChainCPInstruction parseInstruction(String str)
@@ -50,12 +52,15 @@ public class UaggOuterChainCPInstruction extends UnaryCPInstruction {
 		String opcode = parts[0];
 
 		if ( opcode.equalsIgnoreCase(UAggOuterChain.OPCODE)) {
+			InstructionUtils.checkNumFields(parts, 5, 6);
+			
 			AggregateUnaryOperator uaggop = InstructionUtils.parseBasicAggregateUnaryOperator(parts[1]);
 			BinaryOperator bop = InstructionUtils.parseBinaryOperator(parts[2]);
 
 			CPOperand in1 = new CPOperand(parts[3]);
 			CPOperand in2 = new CPOperand(parts[4]);
 			CPOperand out = new CPOperand(parts[5]);
+			int k = (parts.length > 6) ? Integer.parseInt(parts[6]) : 1;
 					
 			//derive aggregation operator from unary operator
 			String aopcode = InstructionUtils.deriveAggregateOperatorOpcode(parts[1]);
@@ -63,7 +68,7 @@ public class UaggOuterChainCPInstruction extends UnaryCPInstruction {
 			String corrExists = (corrLoc != CorrectionLocationType.NONE) ? "true" : "false";
 			AggregateOperator aop = InstructionUtils.parseAggregateOperator(aopcode, corrExists, corrLoc.toString());
 
-			return new UaggOuterChainCPInstruction(bop, uaggop, aop, in1, in2, out, opcode, str);
+			return new UaggOuterChainCPInstruction(bop, uaggop, aop, in1, in2, out, k, opcode, str);
 		} 
 		else {
 			throw new DMLRuntimeException("UaggOuterChainCPInstruction.parseInstruction():: Unknown opcode " + opcode);
@@ -89,7 +94,7 @@ public class UaggOuterChainCPInstruction extends UnaryCPInstruction {
 			mbRight = ec.getMatrixInput(input1.getName(), getExtendedOpcode());
 		}
 		
-		mbOut = mbLeft.uaggouterchainOperations(mbLeft, mbRight, mbOut, _bOp, _uaggOp);
+		mbOut = mbLeft.uaggouterchainOperations(mbLeft, mbRight, mbOut, _bOp, _uaggOp, _numThreads);
 
 		//release locks
 		ec.releaseMatrixInput(input1.getName(), getExtendedOpcode());
@@ -69,6 +69,7 @@ import org.apache.sysml.runtime.matrix.mapred.IndexedMatrixValue;
 import org.apache.sysml.runtime.matrix.mapred.ReblockBuffer;
 import org.apache.sysml.runtime.util.DataConverter;
 import org.apache.sysml.runtime.util.FastStringTokenizer;
+import org.apache.sysml.runtime.util.FastTextTokenizer;
 import org.apache.sysml.runtime.util.MapReduceTool;
 import org.apache.sysml.runtime.util.UtilFunctions;
 
@@ -704,11 +705,13 @@ public class RDDConverterUtils
 			int ncblks = (int)Math.ceil((double)_clen/_bclen);
 			MatrixIndexes[] ix = new MatrixIndexes[ncblks];
 			MatrixBlock[] mb = new MatrixBlock[ncblks];
+			FastTextTokenizer st = new FastTextTokenizer(_delim);
+			double[] rbuff = new double[(int)_clen];
 			
 			while( arg0.hasNext() )
 			{
 				Tuple2<Text,Long> tmp = arg0.next();
-				String row = tmp._1().toString();
+				Text row = tmp._1();
 				long rowix = tmp._2() + (_header ? 0 : 1);
 				
 				//skip existing header
@@ -726,24 +729,31 @@ public class RDDConverterUtils
 					createBlocks(rowix, (int)len, ix, mb);
 				}
 				
-				//process row data
-				String[] parts = IOUtilFunctions.split(row, _delim);
+				//parse row data into reused row buffer (w/o string tokens)
+				st.reset(row);
 				boolean emptyFound = false;
+				int ncol = 0;
+				while( st.next() ) {
+					if( ncol < _clen ) {
+						emptyFound |= st.isEmpty() && !_fill;
+						rbuff[ncol] = (st.isEmpty() && _fill) ?
+							_fillValue : st.getDouble();
+					}
+					ncol++;
+				}
+				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", row, ncol, _clen);
+				
+				//process row data
 				for( int cix=1, pix=0; cix<=ncblks; cix++ ) 
 				{
 					int lclen = (int)UtilFunctions.computeBlockSize(_clen, cix, _bclen);
 					if( mb[cix-1].isInSparseFormat() ) {
 						//allocate row once (avoid re-allocations)
-						int lnnz = IOUtilFunctions.countNnz(parts, pix, lclen);
+						int lnnz = UtilFunctions.computeNnz(rbuff, pix, lclen);
 						mb[cix-1].getSparseBlock().allocate(pos, lnnz);
 					}
-					for( int j=0; j<lclen; j++ ) {
-						String part = parts[pix++];
-						emptyFound |= part.isEmpty() && !_fill;
-						double val = (part.isEmpty() && _fill) ?
-								_fillValue : Double.parseDouble(part);
-						mb[cix-1].appendValue(pos, j, val);
-					}	
+					for( int j=0; j<lclen; j++ )
+						mb[cix-1].appendValue(pos, j, rbuff[pix++]);
 				}
 		
 				//sanity check empty cells filled w/ values
@@ -24,6 +24,8 @@ import java.io.InputStream;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.mapred.JobConf;
@@ -43,9 +45,44 @@ public class FrameReaderBinaryBlock extends FrameReader
 	public final FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen) 
 		throws IOException, DMLRuntimeException 
 	{
-		//allocate output frame block
+		return readFrameFromHDFS(fname, schema, names, rlen, clen, null);
+	}
+	
+	/**
+	 * Reads a binary block frame with column projection, where the schema, 
+	 * names, and number of columns refer to the entire frame on disk, but
+	 * the output frame contains only the selected columns. For frames in 
+	 * columnar serialization format, unselected columns are skipped without
+	 * deserialization.
+	 * 
+	 * @param fname file name
+	 * @param schema schema of the entire frame
+	 * @param names column names of the entire frame
+	 * @param rlen number of rows
+	 * @param clen number of columns of the entire frame
+	 * @param cols column selection, 1-based, or null for all columns
+	 * @return frame block of selected columns
+	 * @throws IOException if IOException occurs
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public final FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen, int[] cols) 
+		throws IOException, DMLRuntimeException 
+	{
+		//allocate output frame block (of selected columns)
 		ValueType[] lschema = createOutputSchema(schema, clen);
 		String[] lnames = createOutputNames(names, clen);
+		if( cols != null ) {
+			ValueType[] tmpSchema = new ValueType[cols.length];
+			String[] tmpNames = new String[cols.length];
+			for( int k=0; k<cols.length; k++ ) {
+				if( cols[k] < 1 || cols[k] > lschema.length )
+					throw new DMLRuntimeException("Invalid column selection "+cols[k]+" for "+lschema.length+" columns.");
+				tmpSchema[k] = lschema[cols[k]-1];
+				tmpNames[k] = lnames[cols[k]-1];
+			}
+			lschema = tmpSchema;
+			lnames = tmpNames;
+		}
 		FrameBlock ret = createOutputFrameBlock(lschema, lnames, rlen);
 		
 		//prepare file access
@@ -57,7 +94,7 @@ public class FrameReaderBinaryBlock extends FrameReader
 		checkValidInputFile(fs, path); 
 	
 		//core read (sequential/parallel)
-		readBinaryBlockFrameFromHDFS(path, job, fs, ret, rlen, clen);
+		readBinaryBlockFrameFromHDFS(path, job, fs, ret, rlen, clen, cols);
 		
 		return ret;
 	}
@@ -69,21 +106,18 @@ public class FrameReaderBinaryBlock extends FrameReader
 		throw new DMLRuntimeException("Not implemented yet.");
 	}
 
-	protected void readBinaryBlockFrameFromHDFS( Path path, JobConf job, FileSystem fs, FrameBlock dest, long rlen, long clen )
+	protected void readBinaryBlockFrameFromHDFS( Path path, JobConf job, FileSystem fs, FrameBlock dest, long rlen, long clen, int[] cols )
 		throws IOException, DMLRuntimeException
 	{
 		//sequential read from sequence files
 		for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ) //1..N files 
-			readBinaryBlockFrameFromSequenceFile(lpath, job, fs, dest);
+			readBinaryBlockFrameFromSequenceFile(lpath, job, fs, dest, cols);
 	}
 
 	@SuppressWarnings({ "deprecation" })
-	protected static void readBinaryBlockFrameFromSequenceFile( Path path, JobConf job, FileSystem fs, FrameBlock dest )
+	protected static void readBinaryBlockFrameFromSequenceFile( Path path, JobConf job, FileSystem fs, FrameBlock dest, int[] cols )
 		throws IOException, DMLRuntimeException
 	{
-		int rlen = dest.getNumRows();
-		int clen = dest.getNumColumns();
-		
 		//directly read from sequence files (individual partfiles)
 		SequenceFile.Reader reader = new SequenceFile.Reader(fs,path,job);
 		LongWritable key = new LongWritable(-1L);
@@ -91,30 +125,83 @@ public class FrameReaderBinaryBlock extends FrameReader
 		
 		try
 		{
-			while( reader.next(key, value) ) {	
-				int row_offset = (int)(key.get()-1);
-				int rows = value.getNumRows();
-				int cols = value.getNumColumns();
-				
-				if(rows == 0 || cols == 0)	//Empty block, ignore it.
-					continue;
-				
-				//bound check per block
-				if( row_offset + rows < 0 || row_offset + rows > rlen ) {
-					throw new IOException("Frame block ["+(row_offset+1)+":"+(row_offset+rows)+","+":"+"] " +
-							              "out of overall frame range [1:"+rlen+",1:"+clen+"].");
+			if( cols == null || (reader.isCompressed() && !reader.isBlockCompressed()) ) {
+				//default read of entire frame blocks
+				while( reader.next(key, value) )
+					appendFrameBlock(dest, key, (cols == null) ? value : 
+						projectFrameBlock(value, cols));
+			}
+			else {
+				//raw read and deserialization of selected columns,
+				//which skips unselected columns of the columnar format
+				DataOutputBuffer kbuff = new DataOutputBuffer();
+				DataOutputBuffer vbuff = new DataOutputBuffer();
+				DataInputBuffer in = new DataInputBuffer();
+				SequenceFile.ValueBytes vbytes = reader.createValueBytes();
+				while( reader.nextRaw(kbuff, vbytes) >= 0 ) {
+					in.reset(kbuff.getData(), kbuff.getLength());
+					key.readFields(in);
+					vbytes.writeUncompressedBytes(vbuff);
+					in.reset(vbuff.getData(), vbuff.getLength());
+					value.readFields(in, cols);
+					appendFrameBlock(dest, key, value);
+					kbuff.reset();
+					vbuff.reset();
 				}
-		
-				//copy block into target frame, incl meta on first
-				dest.copy( row_offset, row_offset+rows-1, 0, cols-1, value);
-				if( row_offset==0 )
-					dest.setColumnMetadata(value.getColumnMetadata());
 			}
 		}
 		finally {
 			IOUtilFunctions.closeSilently(reader);
 		}
-	}	
+	}
+	
+	private static void appendFrameBlock( FrameBlock dest, LongWritable key, FrameBlock value ) 
+		throws IOException
+	{
+		int rlen = dest.getNumRows();
+		int clen = dest.getNumColumns();
+		int row_offset = (int)(key.get()-1);
+		int rows = value.getNumRows();
+		int cols = value.getNumColumns();
+		
+		if(rows == 0 || cols == 0)	//Empty block, ignore it.
+			return;
+		
+		//bound check per block
+		if( row_offset + rows < 0 || row_offset + rows > rlen ) {
+			throw new IOException("Frame block ["+(row_offset+1)+":"+(row_offset+rows)+","+":"+"] " +
+					              "out of overall frame range [1:"+rlen+",1:"+clen+"].");
+		}
+
+		//copy block into target frame, incl meta on first
+		dest.copy( row_offset, row_offset+rows-1, 0, cols-1, value);
+		if( row_offset==0 )
+			dest.setColumnMetadata(value.getColumnMetadata());
+	}
+	
+	private static FrameBlock projectFrameBlock( FrameBlock value, int[] cols ) 
+		throws IOException
+	{
+		//fallback for record-compressed sequence files
+		int rows = value.getNumRows();
+		if( rows == 0 )
+			return value;
+		ValueType[] schema = new ValueType[cols.length];
+		for( int k=0; k<cols.length; k++ )
+			schema[k] = value.getSchema()[cols[k]-1];
+		FrameBlock ret = new FrameBlock(schema);
+		try {
+			for( int k=0; k<cols.length; k++ ) {
+				ret.copy(0, rows-1, k, k, value.sliceOperations(
+					0, rows-1, cols[k]-1, cols[k]-1, new FrameBlock()));
+				ret.setColumnMetadata(k, value.getColumnMetadata(cols[k]-1));
+			}
+		}
+		catch(DMLRuntimeException ex) {
+			throw new IOException(ex);
+		}
+		return ret;
+	}
 	
 	/**
 	 * Specific functionality of FrameReaderBinaryBlock, mostly used for testing.
@@ -42,7 +42,7 @@ import org.apache.sysml.runtime.matrix.data.FrameBlock;
 public class FrameReaderBinaryBlockParallel extends FrameReaderBinaryBlock
 {
 	@Override
-	protected void readBinaryBlockFrameFromHDFS( Path path, JobConf job, FileSystem fs, FrameBlock dest, long rlen, long clen )
+	protected void readBinaryBlockFrameFromHDFS( Path path, JobConf job, FileSystem fs, FrameBlock dest, long rlen, long clen, int[] cols )
 		throws IOException, DMLRuntimeException
 	{
 		int numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
@@ -53,7 +53,7 @@ public class FrameReaderBinaryBlockParallel extends FrameReaderBinaryBlock
 			ExecutorService pool = Executors.newFixedThreadPool(numThreads);
 			ArrayList<ReadFileTask> tasks = new ArrayList<>();
 			for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) )
-				tasks.add(new ReadFileTask(lpath, job, fs, dest));
+				tasks.add(new ReadFileTask(lpath, job, fs, dest, cols));
 
 			//wait until all tasks have been executed
 			List<Future<Object>> rt = pool.invokeAll(tasks);
@@ -74,17 +74,19 @@ public class FrameReaderBinaryBlockParallel extends FrameReaderBinaryBlock
 		private JobConf _job = null;
 		private FileSystem _fs = null;
 		private FrameBlock _dest = null;
+		private int[] _cols = null;
 		
-		public ReadFileTask(Path path, JobConf job, FileSystem fs, FrameBlock dest) {
+		public ReadFileTask(Path path, JobConf job, FileSystem fs, FrameBlock dest, int[] cols) {
 			_path = path;
 			_fs = fs;
 			_job = job;
 			_dest = dest;
+			_cols = cols;
 		}
 
 		@Override
 		public Object call() throws Exception {
-			readBinaryBlockFrameFromSequenceFile(_path, _job, _fs, _dest);
+			readBinaryBlockFrameFromSequenceFile(_path, _job, _fs, _dest, _cols);
 			return null;
 		}
 	}
@@ -40,6 +40,7 @@ import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.Pair;
 import org.apache.sysml.runtime.transform.TfUtils;
+import org.apache.sysml.runtime.util.FastTextTokenizer;
 import org.apache.sysml.runtime.util.InputStreamInputFormat;
 import org.apache.sysml.runtime.util.UtilFunctions;
 
@@ -132,6 +133,7 @@ public class FrameReaderTextCSV extends FrameReader
 		RecordReader<LongWritable, Text> reader = informat.getRecordReader(split, job, Reporter.NULL);
 		LongWritable key = new LongWritable();
 		Text value = new Text();
+		FastTextTokenizer st = new FastTextTokenizer(delim);
 		int row = rl;
 		int col = -1;
 		
@@ -147,38 +149,58 @@ public class FrameReaderTextCSV extends FrameReader
 		{
 			while( reader.next(key, value) ) //foreach line
 			{
-				String cellStr = value.toString().trim();
+				st.reset(value);
 				emptyValuesFound = false; col = 0;
-				String[] parts = IOUtilFunctions.splitCSV(cellStr, delim);
 				
-				//parse frame meta data (missing values / num distinct)
-				if( parts[0].equals(TfUtils.TXMTD_MVPREFIX) || parts[0].equals(TfUtils.TXMTD_NDPREFIX) ) {
-					if( parts[0].equals(TfUtils.TXMTD_MVPREFIX) )
-						for( int j=0; j<dest.getNumColumns(); j++ )
-							dest.getColumnMetadata(j).setMvValue(parts[j+1]);
-					else if( parts[0].equals(TfUtils.TXMTD_NDPREFIX) )
-						for( int j=0; j<dest.getNumColumns(); j++ )
-							dest.getColumnMetadata(j).setNumDistinct(Long.parseLong(parts[j+1]));
-					continue;
-				}
-				
-				for( String part : parts ) //foreach cell
-				{
-					part = part.trim();
-					if ( part.isEmpty() ) {
-						if( isFill && dfillValue!=0 )
-							dest.set(row, col, UtilFunctions.stringToObject(schema[col], sfillValue));
-						emptyValuesFound = true;
+				//parse quoted tokens, frame meta data (w/ leading #), and
+				//empty lines (single empty token) via string splitting
+				if( st.startsWith('#') || st.contains('"') || !st.hasNext() ) {
+					String cellStr = value.toString().trim();
+					String[] parts = IOUtilFunctions.splitCSV(cellStr, delim);
+					
+					//parse frame meta data (missing values / num distinct)
+					if( parts[0].equals(TfUtils.TXMTD_MVPREFIX) || parts[0].equals(TfUtils.TXMTD_NDPREFIX) ) {
+						if( parts[0].equals(TfUtils.TXMTD_MVPREFIX) )
+							for( int j=0; j<dest.getNumColumns(); j++ )
+								dest.getColumnMetadata(j).setMvValue(parts[j+1]);
+						else if( parts[0].equals(TfUtils.TXMTD_NDPREFIX) )
+							for( int j=0; j<dest.getNumColumns(); j++ )
+								dest.getColumnMetadata(j).setNumDistinct(Long.parseLong(parts[j+1]));
+						continue;
 					}
-					else {
-						dest.set(row, col, UtilFunctions.stringToObject(schema[col], part));
+					
+					for( String part : parts ) //foreach cell
+					{
+						part = part.trim();
+						if ( part.isEmpty() ) {
+							if( isFill && dfillValue!=0 )
+								dest.set(row, col, UtilFunctions.stringToObject(schema[col], sfillValue));
+							emptyValuesFound = true;
+						}
+						else {
+							dest.set(row, col, UtilFunctions.stringToObject(schema[col], part));
+						}
+						col++;
+					}
+				}
+				else {
+					while( st.next() ) //foreach cell
+					{
+						if ( st.isEmpty() ) {
+							if( isFill && dfillValue!=0 )
+								dest.set(row, col, UtilFunctions.stringToObject(schema[col], sfillValue));
+							emptyValuesFound = true;
+						}
+						else {
+							dest.set(row, col, st.getObject(schema[col]));
+						}
+						col++;
 					}
-					col++;
 				}
 				
 				//sanity checks for empty values and number of columns
-				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, isFill, emptyValuesFound);
-				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", cellStr, parts, clen);
+				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, isFill, emptyValuesFound);
+				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", value, col, clen);
 				row++;
 			}
 		}
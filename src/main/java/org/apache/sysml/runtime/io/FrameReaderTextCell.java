@@ -39,6 +39,7 @@ import org.apache.sysml.parser.Expression.ValueType;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.util.FastStringTokenizer;
+import org.apache.sysml.runtime.util.FastTextTokenizer;
 import org.apache.sysml.runtime.util.UtilFunctions;
 
 /**
@@ -114,14 +115,14 @@ public class FrameReaderTextCell extends FrameReader
 		
 		LongWritable key = new LongWritable();
 		Text value = new Text();
-		FastStringTokenizer st = new FastStringTokenizer(' ');
+		FastTextTokenizer st = new FastTextTokenizer(' ');
 		int row = -1;
 		int col = -1;
 		
 		try
 		{
 			while( reader.next(key, value) ) {
-				st.reset( value.toString() ); //reinit tokenizer
+				st.reset( value ); //reinit tokenizer
 				row = st.nextInt()-1;
 				col = st.nextInt()-1;
 				if( row == -3 )
@@ -129,7 +130,7 @@ public class FrameReaderTextCell extends FrameReader
 				else if( row == -2 )
 					dest.getColumnMetadata(col).setNumDistinct(st.nextLong());
 				else
-					dest.set(row, col, UtilFunctions.stringToObject(schema[col], st.nextToken()));
+					dest.set(row, col, st.nextObject(schema[col]));
 			}
 		}
 		catch(Exception ex) 
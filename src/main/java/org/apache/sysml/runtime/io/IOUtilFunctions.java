@@ -48,6 +48,7 @@ import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.runtime.transform.TfUtils;
+import org.apache.sysml.runtime.util.FastDoubleParser;
 import org.apache.sysml.runtime.util.LocalFileUtils;
 import org.apache.sysml.runtime.util.UtilFunctions;
 
@@ -127,8 +128,8 @@ public class IOUtilFunctions
 
 	public static double parseDoubleParallel( String str ) 
 	{
-		//return FloatingDecimal.parseDouble(str);
-		return Double.parseDouble(str);
+		//allocation-free parsing w/ fallback to Double.parseDouble
+		return FastDoubleParser.parseDouble(str);
 	}
 
 	public static void checkAndRaiseErrorCSVEmptyField(String row, boolean fill, boolean emptyFound) 
@@ -140,11 +141,31 @@ public class IOUtilFunctions
 		}
 	}
 
+	public static void checkAndRaiseErrorCSVEmptyField(Text row, boolean fill, boolean emptyFound) 
+		throws IOException
+	{
+		//materialize the row string only in case of errors
+		if ( !fill && emptyFound )
+			checkAndRaiseErrorCSVEmptyField(row.toString(), fill, emptyFound);
+	}
+
 	public static void checkAndRaiseErrorCSVNumColumns(String fname, String line, String[] parts, long ncol) 
 		throws IOException
 	{
-		int realncol = parts.length;
-		
+		checkAndRaiseErrorCSVNumColumns(fname, line, parts.length, ncol);
+	}
+	
+	public static void checkAndRaiseErrorCSVNumColumns(String fname, Text line, int realncol, long ncol) 
+		throws IOException
+	{
+		//materialize the line string only in case of errors
+		if( realncol != ncol )
+			checkAndRaiseErrorCSVNumColumns(fname, line.toString().trim(), realncol, ncol);
+	}
+	
+	private static void checkAndRaiseErrorCSVNumColumns(String fname, String line, int realncol, long ncol) 
+		throws IOException
+	{
 		if( realncol != ncol ) {
 			throw new IOException("Invalid number of columns (" + realncol + ", expected=" + ncol + ") "
 					+ "found in delimited file (" + fname + ") for line: " + line);
@@ -0,0 +1,600 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockCSR;
+import org.apache.sysml.runtime.matrix.data.SparseBlockMCSR;
+
+/**
+ * Binary block file layout for matrices on the local file system, which
+ * is written and read via positional FileChannel writes and reads, and
+ * thus bypasses the hadoop FileSystem, SequenceFile, and Writable stack
+ * (incl checksums and per-block object creation) in single-node and JMLC
+ * deployments (see sysml.cp.parallel.io.localnio).
+ *
+ * File layout: header (magic, version), followed by the non-empty blocks
+ * in arbitrary order, and a footer with the block index (block indexes,
+ * offset, length, and nnz per block) and the trailer (matrix meta data,
+ * footer offset, magic). Each block record consists of a header (type,
+ * rows, cols, nnz), followed by the dense values in row-major order or
+ * the CSR row pointers, column indexes, and values. All values are stored
+ * in little endian byte order.
+ *
+ * The readers of the binary block format transparently detect this layout
+ * via its magic number, and {@link #convertToSequenceFile} converts it to
+ * the regular binary block format (i.e., InputInfo.BinaryBlockInputInfo)
+ * with exactly the same blocks as the sequence file writer, which is
+ * required if such files are consumed by distributed backends.
+ */
+public class LocalBinaryBlockFile
+{
+	//magic number "SYSMLBB1", distinct from sequence files ("SEQ")
+	private static final long MAGIC = 0x5359534D4C424231L;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 16;
+	private static final int TRAILER_SIZE = 56;
+	private static final int INDEX_ENTRY_SIZE = 40;
+	private static final int BLOCK_HEADER_SIZE = 24;
+
+	private enum BlockType {
+		DENSE, CSR
+	}
+
+	/**
+	 * Indicates if the local binary block layout should be used for writing
+	 * the given path, which requires the configuration flag, a local
+	 * file system, and blocks of less than 2GB.
+	 *
+	 * @param fs file system
+	 * @param brlen number of rows per block
+	 * @param bclen number of columns per block
+	 * @return true if the local layout should be used
+	 */
+	public static boolean isApplicable(FileSystem fs, int brlen, int bclen) {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		return conf != null && conf.getBooleanValue(DMLConfig.CP_PARALLEL_IO_LOCALNIO)
+			&& fs instanceof LocalFileSystem
+			&& getMaxBlockSize(brlen, bclen) < Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Indicates if the given path refers to a local file in the
+	 * local binary block layout.
+	 *
+	 * @param fs file system
+	 * @param path file path
+	 * @return true if local file in local binary block layout
+	 * @throws IOException if IOException occurs
+	 */
+	public static boolean isLocalBinaryBlockFile(FileSystem fs, Path path)
+		throws IOException
+	{
+		if( !(fs instanceof LocalFileSystem) )
+			return false;
+		File file = ((LocalFileSystem)fs).pathToFile(path);
+		if( !file.isFile() || file.length() < HEADER_SIZE + TRAILER_SIZE )
+			return false;
+		try( FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ) ) {
+			ByteBuffer buff = readFully(ch, ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN), 0, 8);
+			return buff.getLong(0) == MAGIC;
+		}
+	}
+
+	public static void writeMatrix(FileSystem fs, Path path, MatrixBlock src, int brlen, int bclen, int numThreads)
+		throws IOException
+	{
+		File file = ((LocalFileSystem)fs).pathToFile(path);
+		int rlen = src.getNumRows();
+		int clen = src.getNumColumns();
+		int nrblks = (int)Math.ceil((double)rlen/brlen);
+		numThreads = Math.max(Math.min(numThreads, nrblks), 1);
+
+		try( FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE) )
+		{
+			//write header
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			header.putLong(MAGIC).putInt(VERSION).putInt(0).flip();
+			writeFully(ch, header, 0);
+
+			//write blocks (concurrently over disjoint ranges of block rows)
+			AtomicLong offset = new AtomicLong(HEADER_SIZE);
+			ArrayList<WriteTask> tasks = new ArrayList<>();
+			int blklen = (int)Math.ceil((double)nrblks/numThreads);
+			for( int i=0; i<numThreads & i*blklen<nrblks; i++ )
+				tasks.add(new WriteTask(ch, offset, src, brlen, bclen,
+					i*blklen, Math.min((i+1)*blklen, nrblks)));
+			ArrayList<long[]> index = new ArrayList<>();
+			for( List<long[]> tmp : execute(tasks, numThreads) )
+				index.addAll(tmp);
+
+			//write footer (block index and trailer)
+			long foffset = offset.get();
+			ByteBuffer footer = ByteBuffer.allocate(index.size()*INDEX_ENTRY_SIZE + TRAILER_SIZE)
+				.order(ByteOrder.LITTLE_ENDIAN);
+			long nnz = 0;
+			for( long[] entry : index ) {
+				for( long val : entry )
+					footer.putLong(val);
+				nnz += entry[4];
+			}
+			footer.putLong(rlen).putLong(clen).putInt(brlen).putInt(bclen)
+				.putInt(index.size()).putInt(0).putLong(nnz).putLong(foffset).putLong(MAGIC);
+			footer.flip();
+			writeFully(ch, footer, foffset);
+		}
+	}
+
+	public static MatrixBlock readMatrix(FileSystem fs, Path path, long rlen, long clen, int numThreads)
+		throws IOException
+	{
+		File file = ((LocalFileSystem)fs).pathToFile(path);
+		try( FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ) )
+		{
+			//read and validate footer
+			Footer footer = readFooter(ch, file.toString());
+			if( (rlen > 0 && rlen != footer.rlen) || (clen > 0 && clen != footer.clen) )
+				throw new IOException("Read matrix inconsistent with given meta data: expected dims=["
+					+rlen+","+clen+"], real dims=["+footer.rlen+","+footer.clen+"]: "+file);
+
+			//allocate output block w/ exact nnz
+			boolean sparse = MatrixBlock.evalSparseFormatInMemory(footer.rlen, footer.clen, footer.nnz);
+			MatrixBlock ret = sparse ?
+				new MatrixBlock(footer.rlen, footer.clen, footer.nnz, new SparseBlockMCSR(footer.rlen, footer.clen)) :
+				new MatrixBlock(footer.rlen, footer.clen, false);
+			if( footer.index.length == 0 )
+				return ret;
+			if( !sparse )
+				ret.allocateDenseBlock();
+
+			//read and decode blocks (concurrently over disjoint ranges of block rows,
+			//and in column order within block rows to append sparse rows in order)
+			ArrayList<ReadTask> tasks = new ArrayList<>();
+			int nrblks = (int)Math.ceil((double)footer.rlen/footer.brlen);
+			numThreads = Math.max(Math.min(numThreads, nrblks), 1);
+			int blklen = (int)Math.ceil((double)nrblks/numThreads);
+			for( int i=0, pos=0; i<numThreads & i*blklen<nrblks; i++ ) {
+				int start = pos;
+				while( pos < footer.index.length && footer.index[pos][0] <= (long)(i+1)*blklen )
+					pos++;
+				if( pos > start )
+					tasks.add(new ReadTask(ch, footer, ret, start, pos));
+			}
+			execute(tasks, numThreads);
+
+			ret.setNonZeros(footer.nnz);
+			return ret;
+		}
+	}
+
+	/**
+	 * Converts a local file in local binary block layout into the regular
+	 * binary block format, with a sequence file of all blocks (including
+	 * empty blocks) in row-major order of blocks.
+	 *
+	 * @param fs file system of the input file
+	 * @param path path of the input file
+	 * @param job job configuration
+	 * @param newPath path of the output sequence file
+	 * @throws IOException if IOException occurs
+	 */
+	@SuppressWarnings("deprecation")
+	public static void convertToSequenceFile(FileSystem fs, Path path, JobConf job, Path newPath)
+		throws IOException
+	{
+		File file = ((LocalFileSystem)fs).pathToFile(path);
+		FileSystem fs2 = IOUtilFunctions.getFileSystem(newPath, job);
+		try( FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ) )
+		{
+			Footer footer = readFooter(ch, file.toString());
+			ByteBuffer buff = allocateBuffer(footer.getMaxLength());
+			SequenceFile.Writer writer = new SequenceFile.Writer(fs2, job, newPath, MatrixIndexes.class, MatrixBlock.class);
+			try {
+				MatrixIndexes ix = new MatrixIndexes();
+				int nrblks = (int)Math.ceil((double)footer.rlen/footer.brlen);
+				int ncblks = (int)Math.ceil((double)footer.clen/footer.bclen);
+				for( int bi=1, pos=0; bi<=Math.max(nrblks, 1); bi++ )
+					for( int bj=1; bj<=Math.max(ncblks, 1); bj++ ) {
+						MatrixBlock block = null;
+						long[] entry = (pos < footer.index.length) ? footer.index[pos] : null;
+						if( entry != null && entry[0] == bi && entry[1] == bj ) {
+							block = decodeBlock(readFully(ch, buff, entry[2], (int)entry[3]));
+							pos++;
+						}
+						else {
+							block = new MatrixBlock(
+								Math.min(footer.rlen-(bi-1)*footer.brlen, footer.brlen),
+								Math.min(footer.clen-(bj-1)*footer.bclen, footer.bclen), true);
+						}
+						ix.setIndexes(bi, bj);
+						writer.append(ix, block);
+					}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(writer);
+			}
+		}
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs2, newPath);
+	}
+
+	private static long getMaxBlockSize(int brlen, int bclen) {
+		return BLOCK_HEADER_SIZE + 8L * brlen * bclen;
+	}
+
+	private static ByteBuffer allocateBuffer(int size) {
+		return ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static Footer readFooter(FileChannel ch, String fname)
+		throws IOException
+	{
+		long size = ch.size();
+		if( size < HEADER_SIZE + TRAILER_SIZE )
+			throw new IOException("Invalid local binary block file (missing footer): "+fname);
+		ByteBuffer trailer = readFully(ch, ByteBuffer.allocate(TRAILER_SIZE)
+			.order(ByteOrder.LITTLE_ENDIAN), size-TRAILER_SIZE, TRAILER_SIZE);
+		if( trailer.getLong(48) != MAGIC )
+			throw new IOException("Invalid local binary block file (missing footer): "+fname);
+		Footer ret = new Footer();
+		ret.rlen = (int) trailer.getLong(0);
+		ret.clen = (int) trailer.getLong(8);
+		ret.brlen = trailer.getInt(16);
+		ret.bclen = trailer.getInt(20);
+		ret.nnz = trailer.getLong(32);
+		int nblks = trailer.getInt(24);
+		ByteBuffer index = readFully(ch, ByteBuffer.allocate(nblks*INDEX_ENTRY_SIZE)
+			.order(ByteOrder.LITTLE_ENDIAN), trailer.getLong(40), nblks*INDEX_ENTRY_SIZE);
+		ret.index = new long[nblks][5];
+		for( int i=0; i<nblks; i++ )
+			for( int j=0; j<5; j++ )
+				ret.index[i][j] = index.getLong();
+		//sort block index by block row and column indexes
+		Arrays.sort(ret.index, (a, b) -> (a[0] != b[0]) ?
+			Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+		return ret;
+	}
+
+	private static ByteBuffer readFully(FileChannel ch, ByteBuffer buff, long pos, int len)
+		throws IOException
+	{
+		buff.clear().limit(len);
+		while( buff.hasRemaining() ) {
+			if( ch.read(buff, pos + buff.position()) < 0 )
+				throw new IOException("Unexpected end of local binary block file.");
+		}
+		buff.flip();
+		return buff;
+	}
+
+	private static void writeFully(FileChannel ch, ByteBuffer buff, long pos)
+		throws IOException
+	{
+		while( buff.hasRemaining() )
+			ch.write(buff, pos + buff.position());
+	}
+
+	private static MatrixBlock decodeBlock(ByteBuffer buff) {
+		BlockType type = BlockType.values()[buff.getInt(0)];
+		int rows = buff.getInt(4);
+		int cols = buff.getInt(8);
+		long nnz = buff.getLong(16);
+		buff.position(BLOCK_HEADER_SIZE);
+		if( type == BlockType.DENSE ) {
+			MatrixBlock ret = new MatrixBlock(rows, cols, false);
+			ret.allocateDenseBlock();
+			DenseBlock c = ret.getDenseBlock();
+			DoubleBuffer db = buff.asDoubleBuffer();
+			for( int i=0; i<rows; i++ )
+				db.get(c.values(i), c.pos(i), cols);
+			ret.setNonZeros(nnz);
+			return ret;
+		}
+		else {
+			int[] ptr = new int[rows+1];
+			int[] indexes = new int[(int)nnz];
+			double[] values = new double[(int)nnz];
+			IntBuffer ib = buff.asIntBuffer();
+			ib.get(ptr).get(indexes);
+			buff.position(buff.position() + 4*(rows+1+(int)nnz));
+			buff.asDoubleBuffer().get(values);
+			return new MatrixBlock(rows, cols, nnz,
+				new SparseBlockCSR(ptr, indexes, values, (int)nnz));
+		}
+	}
+
+	private static <T> List<T> execute(List<? extends Callable<T>> tasks, int numThreads)
+		throws IOException
+	{
+		ArrayList<T> ret = new ArrayList<>();
+		try {
+			if( numThreads <= 1 ) {
+				for( Callable<T> task : tasks )
+					ret.add(task.call());
+			}
+			else {
+				ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+				try {
+					for( Future<T> task : pool.invokeAll(tasks) )
+						ret.add(task.get());
+				}
+				finally {
+					pool.shutdown();
+				}
+			}
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed parallel read/write of local binary block file.", ex);
+		}
+		return ret;
+	}
+
+	private static class Footer {
+		private int rlen;
+		private int clen;
+		private int brlen;
+		private int bclen;
+		private long nnz;
+		//sorted block index (row index, column index, offset, length, nnz)
+		private long[][] index;
+
+		private int getMaxLength() {
+			long max = 0;
+			for( long[] entry : index )
+				max = Math.max(max, entry[3]);
+			return (int) Math.max(max, BLOCK_HEADER_SIZE);
+		}
+	}
+
+	private static class WriteTask implements Callable<List<long[]>>
+	{
+		private final FileChannel _ch;
+		private final AtomicLong _offset;
+		private final MatrixBlock _src;
+		private final int _brlen;
+		private final int _bclen;
+		private final int _rl; //block row lower
+		private final int _ru; //block row upper (exclusive)
+
+		public WriteTask(FileChannel ch, AtomicLong offset, MatrixBlock src, int brlen, int bclen, int rl, int ru) {
+			_ch = ch;
+			_offset = offset;
+			_src = src;
+			_brlen = brlen;
+			_bclen = bclen;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public List<long[]> call() throws Exception {
+			ArrayList<long[]> index = new ArrayList<>();
+			if( _src.isEmptyBlock(false) )
+				return index;
+
+			int rlen = _src.getNumRows();
+			int clen = _src.getNumColumns();
+			ByteBuffer buff = allocateBuffer((int)getMaxBlockSize(_brlen, _bclen));
+			double[] row = new double[_bclen];
+			int[] ptr = new int[_brlen+1];
+			int[] cur = new int[_brlen];
+			int[] end = new int[_brlen];
+
+			for( int bi=_rl; bi<_ru; bi++ ) {
+				int rl = bi * _brlen;
+				int rows = Math.min(rlen-rl, _brlen);
+				SparseBlock a = _src.getSparseBlock();
+				if( _src.isInSparseFormat() ) //init row cursors
+					for( int i=0; i<rows; i++ )
+						cur[i] = a.isEmpty(rl+i) ? 0 : a.pos(rl+i);
+
+				for( int bj=0; bj*_bclen<clen; bj++ ) {
+					int cl = bj * _bclen;
+					int cols = Math.min(clen-cl, _bclen);
+					buff.clear().position(BLOCK_HEADER_SIZE);
+					BlockType type = BlockType.DENSE;
+					long nnz = 0;
+
+					if( _src.isInSparseFormat() ) {
+						//determine row ranges and nnz of block
+						for( int i=0; i<rows; i++ ) {
+							end[i] = cur[i];
+							if( !a.isEmpty(rl+i) ) {
+								int alen = a.pos(rl+i) + a.size(rl+i);
+								int[] aix = a.indexes(rl+i);
+								while( end[i] < alen && aix[end[i]] < cl+cols )
+									end[i]++;
+							}
+							ptr[i+1] = ptr[i] + end[i] - cur[i];
+						}
+						nnz = ptr[rows];
+						if( nnz > 0 && 4L*(rows+1) + 12L*nnz <= 8L*rows*cols ) {
+							type = BlockType.CSR;
+							IntBuffer ib = buff.asIntBuffer();
+							ib.put(ptr, 0, rows+1);
+							for( int i=0; i<rows; i++ ) {
+								int[] aix = a.isEmpty(rl+i) ? null : a.indexes(rl+i);
+								for( int k=cur[i]; k<end[i]; k++ )
+									ib.put(aix[k] - cl);
+							}
+							buff.position(buff.position() + 4*ib.position());
+							DoubleBuffer db = buff.asDoubleBuffer();
+							for( int i=0; i<rows; i++ )
+								if( end[i] > cur[i] )
+									db.put(a.values(rl+i), cur[i], end[i]-cur[i]);
+							buff.position(buff.position() + 8*db.position());
+						}
+						else if( nnz > 0 ) {
+							DoubleBuffer db = buff.asDoubleBuffer();
+							for( int i=0; i<rows; i++ ) {
+								Arrays.fill(row, 0, cols, 0);
+								if( end[i] > cur[i] ) {
+									int[] aix = a.indexes(rl+i);
+									double[] avals = a.values(rl+i);
+									for( int k=cur[i]; k<end[i]; k++ )
+										row[aix[k]-cl] = avals[k];
+								}
+								db.put(row, 0, cols);
+							}
+							buff.position(buff.position() + 8*db.position());
+						}
+						System.arraycopy(end, 0, cur, 0, rows);
+					}
+					else {
+						DenseBlock c = _src.getDenseBlock();
+						DoubleBuffer db = buff.asDoubleBuffer();
+						for( int i=0; i<rows; i++ ) {
+							double[] cvals = c.values(rl+i);
+							int cix = c.pos(rl+i) + cl;
+							for( int j=cix; j<cix+cols; j++ )
+								nnz += (cvals[j] != 0) ? 1 : 0;
+							db.put(cvals, cix, cols);
+						}
+						buff.position(buff.position() + 8*db.position());
+					}
+
+					//write non-empty block at reserved file offset
+					if( nnz == 0 )
+						continue;
+					buff.putInt(0, type.ordinal()).putInt(4, rows).putInt(8, cols)
+						.putInt(12, 0).putLong(16, nnz).flip();
+					long len = buff.limit();
+					long off = _offset.getAndAdd(len);
+					writeFully(_ch, buff, off);
+					index.add(new long[]{bi+1, bj+1, off, len, nnz});
+				}
+			}
+			return index;
+		}
+	}
+
+	private static class ReadTask implements Callable<Object>
+	{
+		private final FileChannel _ch;
+		private final Footer _footer;
+		private final MatrixBlock _dest;
+		private final int _pl; //index position lower
+		private final int _pu; //index position upper (exclusive)
+
+		public ReadTask(FileChannel ch, Footer footer, MatrixBlock dest, int pl, int pu) {
+			_ch = ch;
+			_footer = footer;
+			_dest = dest;
+			_pl = pl;
+			_pu = pu;
+		}
+
+		@Override
+		public Object call() throws Exception {
+			ByteBuffer buff = allocateBuffer(_footer.getMaxLength());
+			double[] row = new double[_footer.bclen];
+			int[] ptr = new int[_footer.brlen+1];
+			int[] ix = null;
+			double[] vals = null;
+
+			for( int p=_pl; p<_pu; p++ ) {
+				long[] entry = _footer.index[p];
+				readFully(_ch, buff, entry[2], (int)entry[3]);
+				BlockType type = BlockType.values()[buff.getInt(0)];
+				int rows = buff.getInt(4);
+				int cols = buff.getInt(8);
+				int nnz = (int) buff.getLong(16);
+				int rl = (int)(entry[0]-1) * _footer.brlen;
+				int cl = (int)(entry[1]-1) * _footer.bclen;
+				if( rl + rows > _footer.rlen || cl + cols > _footer.clen )
+					throw new IOException("Matrix block ["+(rl+1)+":"+(rl+rows)+","+(cl+1)+":"+(cl+cols)+"] " +
+						"out of overall matrix range [1:"+_footer.rlen+",1:"+_footer.clen+"].");
+				buff.position(BLOCK_HEADER_SIZE);
+
+				if( type == BlockType.DENSE ) {
+					DoubleBuffer db = buff.asDoubleBuffer();
+					if( _dest.isInSparseFormat() ) { //SPARSE<-DENSE
+						SparseBlock c = _dest.getSparseBlock();
+						for( int i=0; i<rows; i++ ) {
+							db.get(row, 0, cols);
+							for( int j=0; j<cols; j++ )
+								if( row[j] != 0 )
+									c.append(rl+i, cl+j, row[j]);
+						}
+					}
+					else { //DENSE<-DENSE
+						DenseBlock c = _dest.getDenseBlock();
+						for( int i=0; i<rows; i++ )
+							db.get(c.values(rl+i), c.pos(rl+i)+cl, cols);
+					}
+				}
+				else {
+					//read csr arrays into reused buffers
+					if( ix == null || ix.length < nnz ) {
+						ix = new int[nnz];
+						vals = new double[nnz];
+					}
+					IntBuffer ib = buff.asIntBuffer();
+					ib.get(ptr, 0, rows+1).get(ix, 0, nnz);
+					buff.position(buff.position() + 4*(rows+1+nnz));
+					buff.asDoubleBuffer().get(vals, 0, nnz);
+					if( _dest.isInSparseFormat() ) { //SPARSE<-CSR
+						SparseBlock c = _dest.getSparseBlock();
+						for( int i=0; i<rows; i++ )
+							for( int k=ptr[i]; k<ptr[i+1]; k++ )
+								c.append(rl+i, cl+ix[k], vals[k]);
+					}
+					else { //DENSE<-CSR
+						DenseBlock c = _dest.getDenseBlock();
+						for( int i=0; i<rows; i++ ) {
+							double[] cvals = c.values(rl+i);
+							int cix = c.pos(rl+i) + cl;
+							for( int k=ptr[i]; k<ptr[i+1]; k++ )
+								cvals[cix+ix[k]] = vals[k];
+						}
+					}
+				}
+			}
+			return null;
+		}
+	}
+}
@@ -21,6 +21,7 @@ package org.apache.sysml.runtime.io;
 
 import org.apache.sysml.runtime.matrix.data.FileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.util.IndexRange;
 
 public class ReadProperties 
 {
@@ -36,6 +37,10 @@ public class ReadProperties
 	// Properties specific to CSV files
 	public FileFormatProperties formatProperties;
 	
+	// Optional index range for indexed reads (0-based, inclusive),
+	// currently only supported for binary block files
+	public IndexRange indexRange;
+	
 	public ReadProperties() {
 		rlen = -1;
 		clen = -1;
@@ -44,5 +49,6 @@ public class ReadProperties
 		expectedSparsity = 0.1d;
 		inputInfo = null;
 		localFS = false;
+		indexRange = null;
 	}
 }
@@ -36,6 +36,7 @@ import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
 import org.apache.sysml.runtime.matrix.data.SparseBlock;
 import org.apache.sysml.runtime.matrix.mapred.IndexedMatrixValue;
 import org.apache.sysml.runtime.matrix.mapred.MRJobConfiguration;
+import org.apache.sysml.runtime.util.IndexRange;
 
 public class ReaderBinaryBlock extends MatrixReader
 {
@@ -54,9 +55,6 @@ public class ReaderBinaryBlock extends MatrixReader
 	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int brlen, int bclen, long estnnz) 
 		throws IOException, DMLRuntimeException 
 	{
-		//allocate output matrix block
-		MatrixBlock ret = createOutputMatrixBlock(rlen, clen, brlen, bclen, estnnz, false, false);
-		
 		//prepare file access
 		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
 		Path path = new Path( (_localFS ? "file:///" : "") + fname); 
@@ -64,6 +62,16 @@ public class ReaderBinaryBlock extends MatrixReader
 		
 		//check existence and non-empty file
 		checkValidInputFile(fs, path); 
+		
+		//nio-based read of local files in local binary block layout
+		if( LocalBinaryBlockFile.isLocalBinaryBlockFile(fs, path) ) {
+			MatrixBlock ret = LocalBinaryBlockFile.readMatrix(fs, path, rlen, clen, 1);
+			ret.examSparsity();
+			return ret;
+		}
+		
+		//allocate output matrix block
+		MatrixBlock ret = createOutputMatrixBlock(rlen, clen, brlen, bclen, estnnz, false, false);
 	
 		//core read 
 		readBinaryBlockMatrixFromHDFS(path, job, fs, ret, rlen, clen, brlen, bclen);
@@ -76,6 +84,64 @@ public class ReaderBinaryBlock extends MatrixReader
 		return ret;
 	}
 	
+	/**
+	 * Reads the given index range of a binary block matrix, which pushes
+	 * right indexing into the read. Only blocks that overlap with the index
+	 * range are deserialized, while the values of all other blocks are
+	 * skipped after reading their keys.
+	 * 
+	 * @param fname file name
+	 * @param rlen number of rows of the entire matrix
+	 * @param clen number of columns of the entire matrix
+	 * @param brlen number of rows in block
+	 * @param bclen number of columns in block
+	 * @param estnnz estimated number of non-zeros of the entire matrix
+	 * @param ixrange index range, 0-based, inclusive
+	 * @return matrix block of the index range
+	 * @throws IOException if IOException occurs
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int brlen, int bclen, long estnnz, IndexRange ixrange) 
+		throws IOException, DMLRuntimeException 
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
+		Path path = new Path( (_localFS ? "file:///" : "") + fname); 
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//check existence and non-empty file, and valid index range
+		checkValidInputFile(fs, path); 
+		if( ixrange.rowStart < 0 || ixrange.rowEnd >= rlen || ixrange.rowStart > ixrange.rowEnd
+			|| ixrange.colStart < 0 || ixrange.colEnd >= clen || ixrange.colStart > ixrange.colEnd )
+			throw new DMLRuntimeException("Invalid index range "+ixrange+" for matrix of size ["+rlen+","+clen+"].");
+		
+		//local binary block files are read entirely
+		if( LocalBinaryBlockFile.isLocalBinaryBlockFile(fs, path) ) {
+			MatrixBlock tmp = LocalBinaryBlockFile.readMatrix(fs, path, rlen, clen, 1);
+			MatrixBlock ret = tmp.sliceOperations((int)ixrange.rowStart, (int)ixrange.rowEnd,
+				(int)ixrange.colStart, (int)ixrange.colEnd, new MatrixBlock());
+			ret.examSparsity();
+			return ret;
+		}
+		
+		//allocate output matrix block (w/ proportional nnz estimate)
+		long nrow = ixrange.rowEnd - ixrange.rowStart + 1;
+		long ncol = ixrange.colEnd - ixrange.colStart + 1;
+		long lestnnz = (estnnz < 0) ? -1 : (long)Math.ceil((double)estnnz / rlen / clen * nrow * ncol);
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, brlen, bclen, lestnnz, false, false);
+		
+		//core read of overlapping blocks
+		readBinaryBlockMatrixRangeFromHDFS(path, job, fs, ret, rlen, clen, brlen, bclen, ixrange);
+		
+		//finally check if change of sparse/dense block representation required
+		if( ret.isInSparseFormat() )
+			ret.sortSparseRows();
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		
+		return ret;
+	}
+	
 	@Override
 	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int brlen, int bclen, long estnnz) 
 		throws IOException, DMLRuntimeException 
@@ -103,6 +169,69 @@ public class ReaderBinaryBlock extends MatrixReader
 		return ret;
 	}
 	
+	@SuppressWarnings("deprecation")
+	private static void readBinaryBlockMatrixRangeFromHDFS( Path path, JobConf job, FileSystem fs, MatrixBlock dest, 
+			long rlen, long clen, int brlen, int bclen, IndexRange ixrange )
+		throws IOException, DMLRuntimeException
+	{
+		boolean sparse = dest.isInSparseFormat();
+		MatrixIndexes key = new MatrixIndexes(); 
+		MatrixBlock value = new MatrixBlock();
+		
+		//set up preferred custom serialization framework for binary block format
+		if( MRJobConfiguration.USE_BINARYBLOCK_SERIALIZATION )
+			MRJobConfiguration.addBinaryBlockSerializationFramework( job );
+		
+		for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ) //1..N files 
+		{
+			SequenceFile.Reader reader = new SequenceFile.Reader(fs, lpath, job);
+			try
+			{
+				//note: next(key) reads the key only, and the value is deserialized
+				//on getCurrentValue, which allows skipping non-overlapping blocks
+				while( reader.next(key) )
+				{
+					long row_offset = (key.getRowIndex()-1)*brlen;
+					long col_offset = (key.getColumnIndex()-1)*bclen;
+					if( row_offset > ixrange.rowEnd || row_offset + brlen <= ixrange.rowStart
+						|| col_offset > ixrange.colEnd || col_offset + bclen <= ixrange.colStart )
+						continue;
+					reader.getCurrentValue(value);
+					
+					int rows = value.getNumRows();
+					int cols = value.getNumColumns();
+					
+					//bound check per block
+					if( row_offset + rows < 0 || row_offset + rows > rlen || col_offset + cols<0 || col_offset + cols > clen ) {
+						throw new IOException("Matrix block ["+(row_offset+1)+":"+(row_offset+rows)+","+(col_offset+1)+":"+(col_offset+cols)+"] " +
+							"out of overall matrix range [1:"+rlen+",1:"+clen+"].");
+					}
+					if( value.isEmptyBlock(false) )
+						continue;
+					
+					//slice overlapping range and copy to result
+					int rl = (int)(Math.max(row_offset, ixrange.rowStart) - row_offset);
+					int ru = (int)(Math.min(row_offset + rows - 1, ixrange.rowEnd) - row_offset);
+					int cl = (int)(Math.max(col_offset, ixrange.colStart) - col_offset);
+					int cu = (int)(Math.min(col_offset + cols - 1, ixrange.colEnd) - col_offset);
+					MatrixBlock tmp = value.sliceOperations(rl, ru, cl, cu, new MatrixBlock());
+					int drl = (int)(row_offset + rl - ixrange.rowStart);
+					int dcl = (int)(col_offset + cl - ixrange.colStart);
+					if( sparse ) {
+						//note: append requires final sort (but prevents repeated shifting)
+						dest.appendToSparse(tmp, drl, dcl);
+					} 
+					else {
+						dest.copy(drl, drl+ru-rl, dcl, dcl+cu-cl, tmp, false);
+					}
+				}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+		}
+	}
+	
 	protected static MatrixBlock getReuseBlock(int brlen, int bclen, boolean sparse) {
 		//note: we allocate the reuse block in CSR because this avoids unnecessary
 		//reallocations in the presence of a mix of sparse and ultra-sparse blocks,
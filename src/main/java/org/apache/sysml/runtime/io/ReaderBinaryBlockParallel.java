@@ -55,9 +55,6 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int brlen, int bclen, long estnnz) 
 		throws IOException, DMLRuntimeException 
 	{	
-		//allocate output matrix block (incl block allocation for parallel)
-		MatrixBlock ret = createOutputMatrixBlock(rlen, clen, brlen, bclen, estnnz, true, true);
-		
 		//prepare file access
 		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
 		Path path = new Path( (_localFS ? "file:///" : "") + fname); 
@@ -66,6 +63,17 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		//check existence and non-empty file
 		checkValidInputFile(fs, path); 
 		
+		//nio-based read of local files in local binary block layout
+		//(positional reads and parallel decoding of disjoint block rows)
+		if( LocalBinaryBlockFile.isLocalBinaryBlockFile(fs, path) ) {
+			MatrixBlock ret = LocalBinaryBlockFile.readMatrix(fs, path, rlen, clen, _numThreads);
+			ret.examSparsity();
+			return ret;
+		}
+		
+		//allocate output matrix block (incl block allocation for parallel)
+		MatrixBlock ret = createOutputMatrixBlock(rlen, clen, brlen, bclen, estnnz, true, true);
+		
 		//core read 
 		readBinaryBlockMatrixFromHDFS(path, job, fs, ret, rlen, clen, brlen, bclen);
 		
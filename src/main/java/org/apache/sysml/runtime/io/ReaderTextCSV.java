@@ -32,7 +32,9 @@ import org.apache.commons.lang.mutable.MutableInt;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
 import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.util.LineReader;
 
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.runtime.DMLRuntimeException;
@@ -40,7 +42,7 @@ import org.apache.sysml.runtime.matrix.CSVReblockMR;
 import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.DenseBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
-import org.apache.sysml.runtime.util.UtilFunctions;
+import org.apache.sysml.runtime.util.FastTextTokenizer;
 
 public class ReaderTextCSV extends MatrixReader
 {
@@ -136,14 +138,15 @@ public class ReaderTextCSV extends MatrixReader
 		throws IOException
 	{
 		boolean sparse = dest.isInSparseFormat();
-		String value = null;
+		Text value = new Text();
+		FastTextTokenizer st = new FastTextTokenizer(delim);
 		int row = rowPos.intValue();
 		double cellValue = 0;
 		long lnnz = 0;
 		
-		BufferedReader br = new BufferedReader(new InputStreamReader(is));
+		LineReader br = new LineReader(is);
 		if(first && hasHeader ) 
-			br.readLine(); //ignore header
+			br.readLine(value); //ignore header
 		
 		// Read the data
 		boolean emptyValuesFound = false;
@@ -151,24 +154,22 @@ public class ReaderTextCSV extends MatrixReader
 		{
 			if( sparse ) //SPARSE<-value
 			{
-				while( (value=br.readLine())!=null ) //foreach line
+				while( br.readLine(value) > 0 ) //foreach line
 				{
-					String cellStr = value.toString().trim();
+					st.reset(value);
 					emptyValuesFound = false;
-					String[] parts = IOUtilFunctions.split(cellStr, delim);
 					int col = 0;
 					
-					for(String part : parts) //foreach cell
+					while( st.next() ) //foreach cell
 					{
-						part = part.trim();
-						if ( part.isEmpty() ) {
+						if ( st.isEmpty() ) {
 							emptyValuesFound = true;
 							cellValue = fillValue;
 						}
 						else {
-							cellValue = UtilFunctions.parseToDouble(part);
+							cellValue = st.getDouble();
 						}
-						if ( cellValue != 0 ) {
+						if ( cellValue != 0 && col < clen ) {
 							dest.appendValue(row, col, cellValue);
 							lnnz++;
 						}
@@ -176,29 +177,27 @@ public class ReaderTextCSV extends MatrixReader
 					}
 					
 					//sanity checks for empty values and number of columns
-					IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, fill, emptyValuesFound);
-					IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, cellStr, parts, clen);
+					IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, fill, emptyValuesFound);
+					IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, value, col, clen);
 					row++;
 				}
 			} 
 			else //DENSE<-value
 			{
 				DenseBlock a = dest.getDenseBlock();
-				while( (value=br.readLine())!=null ) { //foreach line
-					String cellStr = value.toString().trim();
+				while( br.readLine(value) > 0 ) { //foreach line
+					st.reset(value);
 					emptyValuesFound = false;
-					String[] parts = IOUtilFunctions.split(cellStr, delim);
 					int col = 0;
-					for( String part : parts ) { //foreach cell
-						part = part.trim();
-						if ( part.isEmpty() ) {
+					while( st.next() ) { //foreach cell
+						if ( st.isEmpty() ) {
 							emptyValuesFound = true;
 							cellValue = fillValue;
 						}
 						else {
-							cellValue = UtilFunctions.parseToDouble(part);
+							cellValue = st.getDouble();
 						}
-						if ( cellValue != 0 ) {
+						if ( cellValue != 0 && col < clen ) {
 							a.set(row, col, cellValue);
 							lnnz++;
 						}
@@ -206,8 +205,8 @@ public class ReaderTextCSV extends MatrixReader
 					}
 					
 					//sanity checks for empty values and number of columns
-					IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, fill, emptyValuesFound);
-					IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, cellStr, parts, clen);
+					IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, fill, emptyValuesFound);
+					IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, value, col, clen);
 					row++;
 				}
 			}
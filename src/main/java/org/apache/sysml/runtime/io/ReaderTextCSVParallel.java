@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.fs.FileSystem;
@@ -39,11 +40,15 @@ import org.apache.hadoop.mapred.Reporter;
 import org.apache.hadoop.mapred.TextInputFormat;
 
 import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
 import org.apache.sysml.hops.OptimizerUtils;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
 import org.apache.sysml.runtime.matrix.data.DenseBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockMCSR;
+import org.apache.sysml.runtime.util.FastTextTokenizer;
 
 /**
  * Parallel version of ReaderTextCSV.java. To summarize, we do two passes in
@@ -55,17 +60,29 @@ import org.apache.sysml.runtime.matrix.data.MatrixBlock;
  * danger of lost updates. Note, there is also no sorting of sparse rows
  * required because data comes in sorted order per row.
  * 
+ * Alternatively (see sysml.cp.parallel.io.csv.singlepass), the input is read
+ * in a single pass: each split is parsed into split-local row blocks with
+ * local nnz counts, and these blocks are then stitched into the output
+ * matrix block at row offsets obtained via prefix sums over the split row
+ * counts. This avoids the second read of the input at the cost of
+ * temporarily buffering the parsed splits.
  */
 public class ReaderTextCSVParallel extends MatrixReader 
 {
+	//max number of cells per split-local row block of single-pass read
+	private static final int BUFFER_BLOCK_CELLS = 1024 * 1024;
+	
 	private CSVFileFormatProperties _props = null;
 	private int _numThreads = 1;
+	private boolean _singlePass = false;
 
 	private SplitOffsetInfos _offsets = null;
 
 	public ReaderTextCSVParallel(CSVFileFormatProperties props) {
 		_numThreads = OptimizerUtils.getParallelTextReadParallelism();
 		_props = props;
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		_singlePass = (conf != null) && conf.getBooleanValue(DMLConfig.CP_PARALLEL_IO_CSV_SINGLEPASS);
 	}
 
 	@Override
@@ -88,17 +105,25 @@ public class ReaderTextCSVParallel extends MatrixReader
 		// check existence and non-empty file
 		checkValidInputFile(fs, path);
 
-		// allocate output matrix block
-		// First Read Pass (count rows/cols, determine offsets, allocate matrix block)
-		MatrixBlock ret = computeCSVSizeAndCreateOutputMatrixBlock(splits,
-				path, job, _props.hasHeader(), _props.getDelim(), estnnz);
-		rlen = ret.getNumRows();
-		clen = ret.getNumColumns();
-
-		// Second Read Pass (read, parse strings, append to matrix block)
-		readCSVMatrixFromHDFS(splits, path, job, ret, rlen, clen, brlen, bclen,
-				_props.hasHeader(), _props.getDelim(), _props.isFill(),
-				_props.getFillValue());
+		MatrixBlock ret = null;
+		if( _singlePass ) {
+			// Single Read Pass (read, parse strings into split-local blocks, stitch blocks)
+			ret = readCSVMatrixFromHDFSSinglePass(splits, path, job, rlen, estnnz,
+				_props.hasHeader(), _props.getDelim(), _props.isFill(), _props.getFillValue());
+		}
+		else {
+			// allocate output matrix block
+			// First Read Pass (count rows/cols, determine offsets, allocate matrix block)
+			ret = computeCSVSizeAndCreateOutputMatrixBlock(splits,
+					path, job, _props.hasHeader(), _props.getDelim(), estnnz);
+			rlen = ret.getNumRows();
+			clen = ret.getNumColumns();
+			
+			// Second Read Pass (read, parse strings, append to matrix block)
+			readCSVMatrixFromHDFS(splits, path, job, ret, rlen, clen, brlen, bclen,
+					_props.hasHeader(), _props.getDelim(), _props.isFill(),
+					_props.getFillValue());
+		}
 		
 		//post-processing (representation-specific, change of sparse/dense block representation)
 		// - no sorting required for CSV because it is read in sorted order per row
@@ -166,26 +191,13 @@ public class ReaderTextCSVParallel extends MatrixReader
 			String delim, long estnnz) throws IOException, DMLRuntimeException 
 	{
 		int nrow = 0;
-		int ncol = 0;
 		
 		FileInputFormat.addInputPath(job, path);
 		TextInputFormat informat = new TextInputFormat();
 		informat.configure(job);
-
+		
 		// count no of entities in the first non-header row
-		LongWritable key = new LongWritable();
-		Text oneLine = new Text();
-		RecordReader<LongWritable, Text> reader = informat
-				.getRecordReader(splits[0], job, Reporter.NULL);
-		try {
-			if (reader.next(key, oneLine)) {
-				String cellStr = oneLine.toString().trim();
-				ncol = StringUtils.countMatches(cellStr, delim) + 1;
-			}
-		} 
-		finally {
-			IOUtilFunctions.closeSilently(reader);
-		}
+		int ncol = computeNumColumns(splits[0], informat, job, delim);
 
 		// count rows in parallel per split
 		try 
@@ -219,6 +231,78 @@ public class ReaderTextCSVParallel extends MatrixReader
 		long estnnz2 = (estnnz < 0) ? (long)nrow * ncol : estnnz;
 		return createOutputMatrixBlock(nrow, ncol, nrow, ncol, estnnz2, true, true);
 	}
+	
+	private static int computeNumColumns(InputSplit split, TextInputFormat informat, 
+			JobConf job, String delim) throws IOException 
+	{
+		LongWritable key = new LongWritable();
+		Text oneLine = new Text();
+		RecordReader<LongWritable, Text> reader = informat
+				.getRecordReader(split, job, Reporter.NULL);
+		try {
+			if (reader.next(key, oneLine)) {
+				String cellStr = oneLine.toString().trim();
+				return StringUtils.countMatches(cellStr, delim) + 1;
+			}
+			return 0;
+		} 
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+	}
+	
+	private MatrixBlock readCSVMatrixFromHDFSSinglePass(InputSplit[] splits, Path path, JobConf job, 
+			long rlen, long estnnz, boolean hasHeader, String delim, boolean fill, double fillValue) 
+		throws IOException, DMLRuntimeException 
+	{
+		FileInputFormat.addInputPath(job, path);
+		TextInputFormat informat = new TextInputFormat();
+		informat.configure(job);
+		
+		// count no of entities in the first non-header row (single line, not a pass)
+		int ncol = computeNumColumns(splits[0], informat, job, delim);
+		
+		// initial representation of split-local blocks (adapted per block)
+		boolean sparse = (rlen > 0 && estnnz >= 0) ?
+			MatrixBlock.evalSparseFormatInMemory(rlen, ncol, estnnz) : false;
+		
+		ExecutorService pool = Executors.newFixedThreadPool(_numThreads);
+		try 
+		{
+			// parse all splits into split-local row blocks
+			ArrayList<CSVParseTask> tasks = new ArrayList<>();
+			for( int i=0; i<splits.length; i++ )
+				tasks.add(new CSVParseTask(splits[i], informat, job, ncol, sparse,
+					hasHeader && i==0, delim, fill, fillValue));
+			for( Future<Object> task : pool.invokeAll(tasks) )
+				task.get();
+			
+			// compute split row offsets via prefix sums, and aggregate nnz
+			int[] offsets = new int[tasks.size()];
+			long nrow = 0, lnnz = 0;
+			for( int i=0; i<tasks.size(); i++ ) {
+				offsets[i] = (int) nrow;
+				nrow += tasks.get(i).getRowCount();
+				lnnz += tasks.get(i).getPartialNnz();
+			}
+			
+			// allocate output block w/ exact nnz and stitch split-local blocks
+			MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, (int)nrow, ncol, lnnz, true, true);
+			ArrayList<CSVStitchTask> tasks2 = new ArrayList<>();
+			for( int i=0; i<tasks.size(); i++ )
+				tasks2.add(new CSVStitchTask(tasks.get(i), ret, offsets[i]));
+			for( Future<Object> task : pool.invokeAll(tasks2) )
+				task.get();
+			ret.setNonZeros(lnnz);
+			return ret;
+		}
+		catch (Exception e) {
+			throw new IOException("Threadpool issue, while parallel read.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
 
 	private static class SplitOffsetInfos {
 		// offset & length info per split
@@ -387,26 +471,26 @@ public class ReaderTextCSVParallel extends MatrixReader
 				row = _splitoffsets.getOffsetPerSplit(_splitCount);
 
 				try {
+					FastTextTokenizer st = new FastTextTokenizer(_delim);
+					String srcInfo = _split.toString();
 					if (_sparse) // SPARSE<-value
 					{
 						while (reader.next(key, value)) // foreach line
 						{
-							String cellStr = value.toString().trim();
-							String[] parts = IOUtilFunctions.split(cellStr, _delim);
+							st.reset(value);
 							col = 0;
 
-							for (String part : parts) // foreach cell
+							while (st.next()) // foreach cell
 							{
-								part = part.trim();
-								if (part.isEmpty()) {
+								if (st.isEmpty()) {
 									noFillEmpty |= !_fill;
 									cellValue = _fillValue;
 								} 
 								else {
-									cellValue = IOUtilFunctions.parseDoubleParallel(part);
+									cellValue = st.getDouble();
 								}
 
-								if( cellValue != 0 ) {
+								if( cellValue != 0 && col < _clen ) {
 									_dest.appendValue(row, col, cellValue);
 									lnnz++;
 								}
@@ -414,8 +498,8 @@ public class ReaderTextCSVParallel extends MatrixReader
 							}
 
 							// sanity checks (number of columns, fill values)
-							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, _fill, noFillEmpty);
-							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, parts, _clen);
+							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, _fill, noFillEmpty);
+							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, value, col, _clen);
 							
 							row++;
 						}
@@ -424,19 +508,17 @@ public class ReaderTextCSVParallel extends MatrixReader
 					{
 						DenseBlock a = _dest.getDenseBlock();
 						while (reader.next(key, value)) { // foreach line
-							String cellStr = value.toString().trim();
-							String[] parts = IOUtilFunctions.split(cellStr, _delim);
+							st.reset(value);
 							col = 0;
-							for (String part : parts) { // foreach cell
-								part = part.trim();
-								if (part.isEmpty()) {
+							while (st.next()) { // foreach cell
+								if (st.isEmpty()) {
 									noFillEmpty |= !_fill;
 									cellValue = _fillValue;
 								} 
 								else {
-									cellValue = IOUtilFunctions.parseDoubleParallel(part);
+									cellValue = st.getDouble();
 								}
-								if( cellValue != 0 ) {
+								if( cellValue != 0 && col < _clen ) {
 									a.set(row, col, cellValue);
 									lnnz++;
 								}
@@ -444,8 +526,8 @@ public class ReaderTextCSVParallel extends MatrixReader
 							}
 
 							// sanity checks (number of columns, fill values)
-							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, _fill, noFillEmpty);
-							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, parts, _clen);
+							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, _fill, noFillEmpty);
+							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, value, col, _clen);
 							
 							row++;
 						}
@@ -486,4 +568,218 @@ public class ReaderTextCSVParallel extends MatrixReader
 			return null;
 		}
 	}
+	
+	/**
+	 * Parses a split into split-local row blocks of bounded size, where the
+	 * representation (sparse/dense) of each block is chosen according to the
+	 * number of non-zeros of the preceding block.
+	 */
+	private static class CSVParseTask implements Callable<Object> 
+	{
+		private final InputSplit _split;
+		private final TextInputFormat _informat;
+		private final JobConf _job;
+		private final int _clen;
+		private final boolean _hasHeader;
+		private final String _delim;
+		private final boolean _fill;
+		private final double _fillValue;
+		private boolean _sparse;
+		
+		private final ArrayList<MatrixBlock> _blocks = new ArrayList<>();
+		private int _nrows = 0;
+		private long _nnz = 0;
+		
+		public CSVParseTask(InputSplit split, TextInputFormat informat, JobConf job, 
+				int clen, boolean sparse, boolean hasHeader, String delim, boolean fill, double fillValue) 
+		{
+			_split = split;
+			_informat = informat;
+			_job = job;
+			_clen = clen;
+			_sparse = sparse;
+			_hasHeader = hasHeader;
+			_delim = delim;
+			_fill = fill;
+			_fillValue = fillValue;
+		}
+		
+		public ArrayList<MatrixBlock> getBlocks() {
+			return _blocks;
+		}
+		
+		public int getRowCount() {
+			return _nrows;
+		}
+		
+		public long getPartialNnz() {
+			return _nnz;
+		}
+		
+		@Override
+		public Object call() 
+			throws Exception 
+		{
+			int blen = Math.max(BUFFER_BLOCK_CELLS / Math.max(_clen, 1), 1);
+			RecordReader<LongWritable, Text> reader = _informat.getRecordReader(_split, _job, Reporter.NULL);
+			LongWritable key = new LongWritable();
+			Text value = new Text();
+			FastTextTokenizer st = new FastTextTokenizer(_delim);
+			String srcInfo = _split.toString();
+			
+			MatrixBlock block = null;
+			DenseBlock a = null;
+			int row = blen; //row in current block
+			long lnnz = 0;  //nnz of current block
+			boolean noFillEmpty = false;
+			
+			try
+			{
+				// skip the header line
+				if( _hasHeader )
+					reader.next(key, value);
+				
+				while( reader.next(key, value) ) //foreach line
+				{
+					st.reset(value);
+					
+					// allocate new split-local block if necessary
+					if( row == blen ) {
+						appendBlock(block, row, lnnz);
+						block = new MatrixBlock(blen, _clen, _sparse);
+						a = _sparse ? null : block.allocateDenseBlock().getDenseBlock();
+						row = 0;
+						lnnz = 0;
+					}
+					
+					int col = 0;
+					while( st.next() ) //foreach cell
+					{
+						double cellValue = 0;
+						if( st.isEmpty() ) {
+							noFillEmpty |= !_fill;
+							cellValue = _fillValue;
+						}
+						else {
+							cellValue = st.getDouble();
+						}
+						if( cellValue != 0 && col < _clen ) {
+							if( _sparse )
+								block.appendValue(row, col, cellValue);
+							else
+								a.set(row, col, cellValue);
+							lnnz++;
+						}
+						col++;
+					}
+					
+					// sanity checks (number of columns, fill values)
+					IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, _fill, noFillEmpty);
+					IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, value, col, _clen);
+					row++;
+				}
+				appendBlock(block, row, lnnz);
+			}
+			catch(Exception ex) {
+				throw new IOException("Unable to read matrix in text CSV format. "+ ex.getMessage(), ex);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+			
+			return null;
+		}
+		
+		private void appendBlock(MatrixBlock block, int rows, long nnz) {
+			if( block == null )
+				return;
+			block.setNonZeros(nnz);
+			_blocks.add(block);
+			_nrows += rows;
+			_nnz += nnz;
+			//adapt representation of next block to observed sparsity
+			_sparse = MatrixBlock.evalSparseFormatInMemory(rows, _clen, nnz);
+		}
+	}
+	
+	/**
+	 * Copies the split-local row blocks of a parsed split into the output
+	 * matrix block, starting at the row offset of the split. Sparse rows of
+	 * MCSR blocks are passed by reference because the blocks are discarded.
+	 */
+	private static class CSVStitchTask implements Callable<Object> 
+	{
+		private final CSVParseTask _task;
+		private final MatrixBlock _dest;
+		private final int _rl;
+		
+		public CSVStitchTask(CSVParseTask task, MatrixBlock dest, int rl) {
+			_task = task;
+			_dest = dest;
+			_rl = rl;
+		}
+		
+		@Override
+		public Object call() 
+			throws Exception 
+		{
+			ArrayList<MatrixBlock> blocks = _task.getBlocks();
+			int ru = _rl + _task.getRowCount();
+			for( int k=0, rl=_rl; k<blocks.size(); k++ ) {
+				MatrixBlock in = blocks.get(k);
+				int len = Math.min(in.getNumRows(), ru - rl);
+				if( !in.isEmptyBlock(false) )
+					copyRows(in, _dest, rl, len);
+				blocks.set(k, null); //release block
+				rl += len;
+			}
+			return null;
+		}
+		
+		private static void copyRows(MatrixBlock in, MatrixBlock dest, int rl, int len) {
+			int clen = dest.getNumColumns();
+			if( in.isInSparseFormat() ) {
+				SparseBlock a = in.getSparseBlock();
+				if( dest.isInSparseFormat() ) { //SPARSE<-SPARSE
+					SparseBlock c = dest.getSparseBlock();
+					boolean deep = !(a instanceof SparseBlockMCSR);
+					for( int i=0; i<len; i++ )
+						if( !a.isEmpty(i) )
+							c.set(rl+i, a.get(i), deep);
+				}
+				else { //DENSE<-SPARSE
+					DenseBlock c = dest.getDenseBlock();
+					for( int i=0; i<len; i++ ) {
+						if( a.isEmpty(i) ) continue;
+						int apos = a.pos(i);
+						int alen = a.size(i);
+						int[] aix = a.indexes(i);
+						double[] avals = a.values(i);
+						double[] cvals = c.values(rl+i);
+						int cix = c.pos(rl+i);
+						for( int j=apos; j<apos+alen; j++ )
+							cvals[cix+aix[j]] = avals[j];
+					}
+				}
+			}
+			else {
+				DenseBlock a = in.getDenseBlock();
+				if( dest.isInSparseFormat() ) { //SPARSE<-DENSE
+					SparseBlock c = dest.getSparseBlock();
+					for( int i=0; i<len; i++ ) {
+						double[] avals = a.values(i);
+						int aix = a.pos(i);
+						for( int j=0; j<clen; j++ )
+							if( avals[aix+j] != 0 )
+								c.append(rl+i, j, avals[aix+j]);
+					}
+				}
+				else { //DENSE<-DENSE
+					DenseBlock c = dest.getDenseBlock();
+					for( int i=0; i<len; i++ )
+						System.arraycopy(a.values(i), a.pos(i), c.values(rl+i), c.pos(rl+i), clen);
+				}
+			}
+		}
+	}
 }
@@ -41,6 +41,7 @@ import org.apache.sysml.runtime.matrix.data.DenseBlock;
 import org.apache.sysml.runtime.matrix.data.InputInfo;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.util.FastStringTokenizer;
+import org.apache.sysml.runtime.util.FastTextTokenizer;
 
 public class ReaderTextCell extends MatrixReader
 {
@@ -114,7 +115,7 @@ public class ReaderTextCell extends MatrixReader
 		
 		try
 		{
-			FastStringTokenizer st = new FastStringTokenizer(' ');
+			FastTextTokenizer st = new FastTextTokenizer(' ');
 			
 			for(InputSplit split: splits)
 			{
@@ -125,7 +126,7 @@ public class ReaderTextCell extends MatrixReader
 					if( sparse ) //SPARSE<-value
 					{
 						while( reader.next(key, value) ) {
-							st.reset( value.toString() ); //reinit tokenizer
+							st.reset( value ); //reinit tokenizer
 							row = st.nextInt() - 1;
 							col = st.nextInt() - 1;
 							double lvalue = st.nextDouble();
@@ -138,7 +139,7 @@ public class ReaderTextCell extends MatrixReader
 					{
 						DenseBlock a = dest.getDenseBlock();
 						while( reader.next(key, value) ) {
-							st.reset( value.toString() ); //reinit tokenizer
+							st.reset( value ); //reinit tokenizer
 							row = st.nextInt()-1;
 							col = st.nextInt()-1;
 							double lvalue = st.nextDouble();
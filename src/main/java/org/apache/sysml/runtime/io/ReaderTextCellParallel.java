@@ -44,7 +44,7 @@ import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.matrix.data.DenseBlock;
 import org.apache.sysml.runtime.matrix.data.InputInfo;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
-import org.apache.sysml.runtime.util.FastStringTokenizer;
+import org.apache.sysml.runtime.util.FastTextTokenizer;
 import org.apache.sysml.runtime.util.MapReduceTool;
 
 /**
@@ -195,7 +195,7 @@ public class ReaderTextCellParallel extends MatrixReader
 			int row = -1; 
 			int col = -1; 
 			
-			FastStringTokenizer st = new FastStringTokenizer(' ');
+			FastTextTokenizer st = new FastTextTokenizer(' ');
 			RecordReader<LongWritable,Text> reader = _informat.getRecordReader(_split, _job, Reporter.NULL);
 			
 			try
@@ -211,10 +211,10 @@ public class ReaderTextCellParallel extends MatrixReader
 					
 					//process current value (otherwise ignore following meta data)
 					if( !foundComment ) {
-						st.reset( value.toString() ); //reinit tokenizer
+						st.reset( value ); //reinit tokenizer
 						row = st.nextInt()-1;
 						col = st.nextInt()-1;
-						double lvalue = st.nextDoubleForParallel();
+						double lvalue = st.nextDouble();
 						synchronized( _dest ){ //sparse requires lock
 							_dest.appendValue(row, col, lvalue);
 							lnnz++;
@@ -227,10 +227,10 @@ public class ReaderTextCellParallel extends MatrixReader
 					CellBuffer buff = new CellBuffer();
 					
 					while( reader.next(key, value) ) {
-						st.reset( value.toString() ); //reinit tokenizer
+						st.reset( value ); //reinit tokenizer
 						row = st.nextInt() - 1;
 						col = st.nextInt() - 1;
-						double lvalue = st.nextDoubleForParallel();
+						double lvalue = st.nextDouble();
 						
 						buff.addCell(row, col, lvalue);
 						//capacity buffer flush on demand
@@ -251,10 +251,10 @@ public class ReaderTextCellParallel extends MatrixReader
 				{
 					DenseBlock a = _dest.getDenseBlock();
 					while( reader.next(key, value) ) {
-						st.reset( value.toString() ); //reinit tokenizer
+						st.reset( value ); //reinit tokenizer
 						row = st.nextInt()-1;
 						col = st.nextInt()-1;
-						double lvalue = st.nextDoubleForParallel();
+						double lvalue = st.nextDouble();
 						a.set( row, col, lvalue );
 						lnnz += (lvalue!=0) ? 1 : 0;
 					}
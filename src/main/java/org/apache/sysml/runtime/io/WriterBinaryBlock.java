@@ -99,7 +99,10 @@ public class WriterBinaryBlock extends MatrixWriter
 		throws IOException, DMLRuntimeException
 	{
 		//sequential write 
-		writeBinaryBlockMatrixToSequenceFile(path, job, fs, src, brlen, bclen, 0, (int)rlen);
+		if( LocalBinaryBlockFile.isApplicable(fs, brlen, bclen) )
+			LocalBinaryBlockFile.writeMatrix(fs, path, src, brlen, bclen, 1);
+		else
+			writeBinaryBlockMatrixToSequenceFile(path, job, fs, src, brlen, bclen, 0, (int)rlen);
 	}
 
 	@SuppressWarnings("deprecation")
@@ -48,6 +48,13 @@ public class WriterBinaryBlockParallel extends WriterBinaryBlock
 	protected void writeBinaryBlockMatrixToHDFS( Path path, JobConf job, FileSystem fs, MatrixBlock src, long rlen, long clen, int brlen, int bclen )
 		throws IOException, DMLRuntimeException
 	{
+		//nio-based write of local files (single file w/ concurrent block writes)
+		if( LocalBinaryBlockFile.isApplicable(fs, brlen, bclen) ) {
+			LocalBinaryBlockFile.writeMatrix(fs, path, src, brlen, bclen,
+				OptimizerUtils.getParallelBinaryWriteParallelism());
+			return;
+		}
+		
 		//estimate output size and number of output blocks (min 1)
 		int numPartFiles = (int)(OptimizerUtils.estimatePartitionedSizeExactSparsity(rlen, clen, 
 				brlen, bclen, src.getNonZeros()) / InfrastructureAnalyzer.getHDFSBlockSize());
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.matrix.data;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysml.runtime.controlprogram.caching.CacheStatistics;
+
+/**
+ * Thread-safe pool of backing arrays of dense blocks (DRB) and sparse
+ * blocks (CSR), which allows iterative scripts to reuse the arrays of
+ * removed intermediates of equal size instead of allocating new arrays
+ * in every iteration. Arrays are pooled in size classes of equal length,
+ * held via soft references, and the total size is bounded.
+ *
+ * Arrays are only returned to the pool on the removal (rmvar) of the last
+ * cacheable data object that owns the matrix block, and only if the block
+ * did not share its dense or sparse block with other matrix blocks
+ * (e.g., via shallow copies).
+ */
+public class ArrayPool
+{
+	//min number of array elements to be pooled (small arrays are cheap to allocate)
+	private static final int MIN_ARRAY_SIZE = 1024;
+	//cleanup threshold for the number of different size classes
+	private static final int CLEANUP_THRESHOLD = 256;
+
+	private static final ConcurrentHashMap<Integer, Deque<PooledArray<double[]>>> _dpool = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<Integer, Deque<PooledArray<int[]>>> _ipool = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<Object> _cleared = new ReferenceQueue<>();
+	private static final AtomicLong _size = new AtomicLong(0); //in bytes
+	private static volatile long _limit = 0; //in bytes
+	private static volatile boolean _active = false;
+
+	private static final AtomicIntegerFieldUpdater<MatrixBlock> _owners =
+		AtomicIntegerFieldUpdater.newUpdater(MatrixBlock.class, "numOwners");
+
+	public static void init(long limit) {
+		clear();
+		_limit = limit;
+		_active = (limit > 0);
+	}
+
+	public static void clear() {
+		_active = false;
+		clearPool(_dpool);
+		clearPool(_ipool);
+		purgeClearedReferences();
+	}
+
+	public static boolean isActive() {
+		return _active;
+	}
+
+	/**
+	 * Returns the current size of pooled arrays in bytes.
+	 *
+	 * @return pool size in bytes
+	 */
+	public static long getSize() {
+		return _size.get();
+	}
+
+	/**
+	 * Allocates a zero-initialized double array, either from the pool or new.
+	 *
+	 * @param len array length
+	 * @return double array
+	 */
+	public static double[] allocateDoubleArray(int len) {
+		if( !_active || len < MIN_ARRAY_SIZE )
+			return new double[len];
+		double[] ret = poll(_dpool, len);
+		if( ret != null )
+			Arrays.fill(ret, 0);
+		maintainStatistics(ret != null);
+		return (ret != null) ? ret : new double[len];
+	}
+
+	/**
+	 * Allocates a zero-initialized int array, either from the pool or new.
+	 *
+	 * @param len array length
+	 * @return int array
+	 */
+	public static int[] allocateIntArray(int len) {
+		if( !_active || len < MIN_ARRAY_SIZE )
+			return new int[len];
+		int[] ret = poll(_ipool, len);
+		if( ret != null )
+			Arrays.fill(ret, 0);
+		maintainStatistics(ret != null);
+		return (ret != null) ? ret : new int[len];
+	}
+
+	/**
+	 * Registers a cacheable data object as owner of the given block.
+	 *
+	 * @param cb cache block
+	 */
+	public static void registerOwner(CacheBlock cb) {
+		if( cb instanceof MatrixBlock )
+			_owners.incrementAndGet((MatrixBlock)cb);
+	}
+
+	/**
+	 * Registers a cacheable data object as owner of the given block, which
+	 * was read from HDFS, RDDs, or restored from the buffer pool. Blocks
+	 * restored from the write buffer are the same objects as evicted and
+	 * hence already owned by this object.
+	 *
+	 * @param cb cache block
+	 */
+	public static void registerReadOwner(CacheBlock cb) {
+		if( cb instanceof MatrixBlock )
+			_owners.compareAndSet((MatrixBlock)cb, 0, 1);
+	}
+
+	/**
+	 * Unregisters a cacheable data object as owner of the given block, and
+	 * returns the backing arrays to the pool if requested and if this was
+	 * the last owner of an unshared block.
+	 *
+	 * @param cb cache block
+	 * @param recycle true if arrays should be returned to the pool
+	 */
+	public static void releaseOwner(CacheBlock cb, boolean recycle) {
+		if( !(cb instanceof MatrixBlock) )
+			return;
+		MatrixBlock mb = (MatrixBlock) cb;
+		int prev = _owners.getAndUpdate(mb, n -> Math.max(n-1, 0));
+		if( recycle && prev == 1 && _active && !mb.isSharedData() )
+			recycleBlock(mb);
+	}
+
+	private static void recycleBlock(MatrixBlock mb) {
+		//note: the block itself is not modified, because it might be still
+		//referenced by in-flight evictions of the buffer pool
+		if( !mb.sparse && mb.denseBlock instanceof DenseBlockDRB )
+			offer(_dpool, mb.denseBlock.valuesAt(0), mb.denseBlock.valuesAt(0).length, 8);
+		else if( mb.sparse && mb.sparseBlock instanceof SparseBlockCSR ) {
+			SparseBlockCSR csr = (SparseBlockCSR) mb.sparseBlock;
+			offer(_ipool, csr.rowPointers(), csr.rowPointers().length, 4);
+			offer(_ipool, csr.indexes(), csr.indexes().length, 4);
+			offer(_dpool, csr.values(), csr.values().length, 8);
+		}
+	}
+
+	private static <T> T poll(ConcurrentHashMap<Integer, Deque<PooledArray<T>>> pool, int len) {
+		Deque<PooledArray<T>> list = pool.get(len);
+		if( list == null )
+			return null;
+		PooledArray<T> ref = null;
+		while( (ref = list.pollFirst()) != null ) {
+			T tmp = ref.get();
+			if( tmp != null && ref.release(true) )
+				return tmp;
+		}
+		return null;
+	}
+
+	private static <T> void offer(ConcurrentHashMap<Integer, Deque<PooledArray<T>>> pool, T arr, int len, int width) {
+		if( len < MIN_ARRAY_SIZE )
+			return;
+		purgeClearedReferences();
+		long size = (long)len * width;
+		if( _size.addAndGet(size) > _limit ) {
+			_size.addAndGet(-size);
+			return;
+		}
+		//cleanup if too many different size classes
+		if( pool.size() > CLEANUP_THRESHOLD )
+			clearPool(pool);
+		pool.computeIfAbsent(len, k -> new ConcurrentLinkedDeque<>())
+			.addLast(new PooledArray<>(arr, size));
+	}
+
+	private static <T> void clearPool(ConcurrentHashMap<Integer, Deque<PooledArray<T>>> pool) {
+		for( Deque<PooledArray<T>> list : pool.values() ) {
+			PooledArray<T> ref = null;
+			while( (ref = list.pollFirst()) != null )
+				ref.release(true);
+		}
+		pool.clear();
+	}
+
+	private static void purgeClearedReferences() {
+		Reference<?> ref = null;
+		while( (ref = _cleared.poll()) != null )
+			((PooledArray<?>)ref).release(false);
+	}
+
+	private static void maintainStatistics(boolean hit) {
+		if( !DMLScript.STATISTICS )
+			return;
+		if( hit )
+			CacheStatistics.incrementArrayPoolHits();
+		else
+			CacheStatistics.incrementArrayPoolMisses();
+	}
+
+	/**
+	 * Soft reference to a pooled array, which releases its size from
+	 * the pool size exactly once on reuse or garbage collection.
+	 */
+	private static class PooledArray<T> extends SoftReference<T>
+	{
+		private final long _asize;
+		private boolean _released = false;
+
+		public PooledArray(T arr, long size) {
+			super(arr, _cleared);
+			_asize = size;
+		}
+
+		public synchronized boolean release(boolean reuse) {
+			if( _released )
+				return false;
+			_released = true;
+			_size.addAndGet(-_asize);
+			if( reuse )
+				super.clear();
+			return true;
+		}
+	}
+}
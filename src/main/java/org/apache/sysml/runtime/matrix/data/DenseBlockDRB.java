@@ -56,7 +56,7 @@ public class DenseBlockDRB extends DenseBlock
 	public void reset(int rlen, int clen, double v) {
 		int len = rlen * clen;
 		if( len > capacity() ) {
-			data = new double[len];
+			data = ArrayPool.allocateDoubleArray(len);
 			if( v != 0 )
 				Arrays.fill(data, v);
 		}
@@ -191,11 +191,21 @@ public class DenseBlockDRB extends DenseBlock
 	
 	@Override
 	public void set(DenseBlock db) {
+		if( db.numBlocks() > 1 ) { //large dense source (linearized copy)
+			for(int bi=0, off=0; bi<db.numBlocks(); off+=db.size(bi), bi++)
+				System.arraycopy(db.valuesAt(bi), 0, data, off, db.size(bi));
+			return;
+		}
 		System.arraycopy(db.valuesAt(0), 0, data, 0, rlen*clen);
 	}
 	
 	@Override
 	public void set(int rl, int ru, int cl, int cu, DenseBlock db) {
+		if( db.numBlocks() > 1 ) { //large dense source
+			for(int i=rl, ix=rl*clen+cl; i<ru; i++, ix+=clen)
+				System.arraycopy(db.values(i-rl), db.pos(i-rl), data, ix, cu-cl);
+			return;
+		}
 		double[] a = db.valuesAt(0);
 		if( cl == 0 && cu == clen)
 			System.arraycopy(a, 0, data, rl*clen+cl, (int)db.size());
@@ -159,12 +159,12 @@ public class DenseBlockLDRB extends DenseBlock
 		final int biu = index(ru-1);
 		for(int bi=bil; bi<=biu; bi++) {
 			int lpos = (bi==bil) ? pos(rl) : 0;
-			int len = (bi==biu) ? pos(ru-1)-lpos+clen : blockSize(bi)*clen;
+			int len = (bi==biu) ? pos(ru-1)-lpos+clen : blockSize(bi)*clen-lpos;
 			if( rowBlock )
 				nnz += UtilFunctions.computeNnz(data[bi], lpos, len);
 			else
 				for(int i=lpos; i<lpos+len; i+=clen)
-					nnz += UtilFunctions.computeNnz(data[i], i+cl, cu-cl);
+					nnz += UtilFunctions.computeNnz(data[bi], i+cl, cu-cl);
 		}
 		return nnz;
 	}
@@ -212,7 +212,7 @@ public class DenseBlockLDRB extends DenseBlock
 		final int biu = index(ru-1);
 		for(int bi=bil; bi<=biu; bi++) {
 			int lpos = (bi==bil) ? pos(rl) : 0;
-			int len = (bi==biu) ? pos(ru-1)-lpos+clen : blockSize(bi)*clen;
+			int len = (bi==biu) ? pos(ru-1)-lpos+clen : blockSize(bi)*clen-lpos;
 			if( rowBlock )
 				Arrays.fill(data[bi], lpos, lpos+len, v);
 			else
@@ -233,8 +233,28 @@ public class DenseBlockLDRB extends DenseBlock
 	
 	@Override
 	public void set(DenseBlock db) {
-		for(int bi=0; bi<numBlocks(); bi++)
-			System.arraycopy(db.valuesAt(bi), 0, data[bi], 0, size(bi));
+		if( db.numBlocks() == numBlocks() && db.blockSize() == blen ) {
+			//block-wise copy for equal block layouts
+			for(int bi=0; bi<numBlocks(); bi++)
+				System.arraycopy(db.valuesAt(bi), 0, data[bi], 0, size(bi));
+		}
+		else {
+			//linearized copy for different block layouts (e.g., reshape)
+			long off = 0;
+			long tblen = (long)blen * clen;
+			for(int bi=0; bi<db.numBlocks(); bi++) {
+				double[] a = db.valuesAt(bi);
+				int alen = db.size(bi);
+				for(int apos=0; apos<alen; ) {
+					int ti = (int)(off / tblen);
+					int tpos = (int)(off % tblen);
+					int len = Math.min(alen-apos, size(ti)-tpos);
+					System.arraycopy(a, apos, data[ti], tpos, len);
+					apos += len;
+					off += len;
+				}
+			}
+		}
 	}
 	
 	@Override
@@ -40,7 +40,8 @@ import org.apache.sysml.parser.Expression.ValueType;
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysml.runtime.io.IOUtilFunctions;
-import org.apache.sysml.runtime.transform.encode.EncoderRecode;
+import org.apache.sysml.runtime.transform.encode.RecodeDictionary;
+import org.apache.sysml.runtime.util.ColumnParallelUtils;
 import org.apache.sysml.runtime.util.IndexRange;
 import org.apache.sysml.runtime.util.UtilFunctions;
 
@@ -53,6 +54,13 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 
 	//internal configuration
 	private static final boolean REUSE_RECODE_MAPS = true;
+	private static final long PAR_NUMCELL_THRESHOLD = 1024*1024; //Min 1M cells
+	
+	//serialization flags and column encodings
+	private static final int SER_DEFAULT_META = 1;
+	private static final int SER_COLUMNAR = 2;
+	private static final byte ENC_PLAIN = 0;
+	private static final byte ENC_DICT = 1;
 	
 	/** The number of rows of the FrameBlock */
 	private int _numRows = -1;
@@ -68,6 +76,9 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	/** The data frame data as an ordered list of columns */
 	private Array[] _coldata = null;
 	
+	/** The column encodings determined by getExactSerializedSize, reused by the subsequent write */
+	private transient DictEncoding[] _serDicts = null;
+	
 	public FrameBlock() {
 		_numRows = 0;
 	}
@@ -258,15 +269,8 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		}
 		//allocate columns if necessary
 		_coldata = new Array[_schema.length];
-		for( int j=0; j<_schema.length; j++ ) {
-			switch( _schema[j] ) {
-				case STRING:  _coldata[j] = new StringArray(new String[numRows]); break;
-				case BOOLEAN: _coldata[j] = new BooleanArray(new boolean[numRows]); break;
-				case INT:     _coldata[j] = new LongArray(new long[numRows]); break;
-				case DOUBLE:  _coldata[j] = new DoubleArray(new double[numRows]); break;
-				default: throw new RuntimeException("Unsupported value type: "+_schema[j]);
-			}
-		}
+		for( int j=0; j<_schema.length; j++ )
+			_coldata[j] = allocateColumn(_schema[j], numRows);
 		_numRows = numRows;
 	}
 	
@@ -308,14 +312,27 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	}
 
 	public void recomputeColumnCardinality() {
-		for( int j=0; j<getNumColumns(); j++ ) {
-			int card = 0;
-			for( int i=0; i<getNumRows(); i++ )
-				card += (get(i, j) != null) ? 1 : 0;
-			_colmeta[j].setNumDistinct(card);
+		try {
+			recomputeColumnCardinality(1);
+		}
+		catch(DMLRuntimeException ex) {
+			throw new RuntimeException(ex);
 		}
 	}
 	
+	public void recomputeColumnCardinality(int k) 
+		throws DMLRuntimeException
+	{
+		ColumnParallelUtils.executeColumnRanges(getNumColumns(), getParColumnThreads(k), (cl, cu) -> {
+			for( int j=cl; j<cu; j++ ) {
+				int card = 0;
+				for( int i=0; i<getNumRows(); i++ )
+					card += (get(i, j) != null) ? 1 : 0;
+				_colmeta[j].setNumDistinct(card);
+			}
+		});
+	}
+	
 	///////
 	// basic get and set functionality
 	
@@ -611,11 +628,16 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	public void write(DataOutput out) throws IOException {
 		boolean isDefaultMeta = isColNamesDefault()
 				&& isColumnMetadataDefault();
-		//write header (rows, cols, default)
+		//write header (rows, cols, flags)
 		out.writeInt(getNumRows());
 		out.writeInt(getNumColumns());
-		out.writeBoolean(isDefaultMeta);
-		//write columns (value type, data)
+		out.writeByte((isDefaultMeta ? SER_DEFAULT_META : 0) | SER_COLUMNAR);
+		//reuse column encodings of preceding size computation (if available)
+		DictEncoding[] dicts = _serDicts;
+		_serDicts = null;
+		if( dicts == null || dicts.length != getNumColumns() )
+			dicts = createDictEncodings();
+		//write columns (value type, meta, encoding, size, data)
 		for( int j=0; j<getNumColumns(); j++ ) {
 			out.writeByte(_schema[j].ordinal());
 			if( !isDefaultMeta ) {
@@ -624,45 +646,121 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 				out.writeUTF( (_colmeta[j].getMvValue()!=null) ? 
 						_colmeta[j].getMvValue() : "" );
 			}
-			_coldata[j].write(out);
+			//dictionary encoding of string columns, if smaller (the plain
+			//encoding is always valid, a reused dictionary is checked)
+			DictEncoding dict = (_schema[j] == ValueType.STRING) ? dicts[j] : null;
+			if( dict != null && !dict.isValid((StringArray)_coldata[j], _numRows) )
+				dict = DictEncoding.create((StringArray)_coldata[j], _numRows);
+			out.writeByte((dict != null) ? ENC_DICT : ENC_PLAIN);
+			out.writeLong((dict != null) ? dict.getSize() : getPlainColumnSize(j));
+			if( dict != null )
+				dict.write(out);
+			else
+				_coldata[j].write(out);
 		}
 	}
 
 	@Override
 	public void readFields(DataInput in) throws IOException {
-		//read head (rows, cols)
+		readFields(in, null);
+	}
+	
+	/**
+	 * Deserializes a frame block with optional column projection. For
+	 * the columnar serialization format, unselected columns are skipped
+	 * without decoding, otherwise all columns are decoded but only the
+	 * selected columns are retained.
+	 * 
+	 * @param in data input
+	 * @param cols column selection, 1-based, or null for all columns
+	 * @throws IOException if IOException occurs
+	 */
+	public void readFields(DataInput in, int[] cols) throws IOException {
+		//read head (rows, cols, flags)
 		_numRows = in.readInt();
 		int numCols = in.readInt();
-		boolean isDefaultMeta = in.readBoolean();
+		int flags = in.readByte();
+		boolean isDefaultMeta = (flags & SER_DEFAULT_META) != 0;
+		boolean isColumnar = (flags & SER_COLUMNAR) != 0;
+		//determine output positions of selected columns
+		int[] pos = new int[numCols];
+		int ncols = (cols != null) ? cols.length : numCols;
+		for( int j=0; j<numCols; j++ )
+			pos[j] = (cols != null) ? -1 : j;
+		for( int k=0; cols != null && k<cols.length; k++ ) {
+			if( cols[k] < 1 || cols[k] > numCols )
+				throw new IOException("Invalid column selection "+cols[k]+" for "+numCols+" columns.");
+			pos[cols[k]-1] = k;
+		}
 		//allocate schema/meta data arrays
-		_schema = (_schema!=null && _schema.length==numCols) ? 
-				_schema : new ValueType[numCols];
-		_colnames = (_colnames != null && _colnames.length==numCols) ? 
-				_colnames : new String[numCols];
-		_colmeta = (_colmeta != null && _colmeta.length==numCols) ? 
-				_colmeta : new ColumnMetadata[numCols];
-		_coldata = (_coldata!=null && _coldata.length==numCols) ? 
-				_coldata : new Array[numCols];
+		_schema = (_schema!=null && _schema.length==ncols) ? 
+				_schema : new ValueType[ncols];
+		_colnames = (_colnames != null && _colnames.length==ncols) ? 
+				_colnames : new String[ncols];
+		_colmeta = (_colmeta != null && _colmeta.length==ncols) ? 
+				_colmeta : new ColumnMetadata[ncols];
+		_coldata = (_coldata!=null && _coldata.length==ncols) ? 
+				_coldata : new Array[ncols];
 		//read columns (value type, meta, data)
 		for( int j=0; j<numCols; j++ ) {
 			ValueType vt = ValueType.values()[in.readByte()];
 			String name = isDefaultMeta ? createColName(j) : in.readUTF();
 			long ndistinct = isDefaultMeta ? 0 : in.readLong();
 			String mvvalue = isDefaultMeta ? null : in.readUTF();
+			byte enc = isColumnar ? in.readByte() : ENC_PLAIN;
+			long size = isColumnar ? in.readLong() : -1;
+			if( pos[j] < 0 && isColumnar ) {
+				skipBytesFully(in, size);
+				continue;
+			}
 			Array arr = null;
-			switch( vt ) {
-				case STRING:  arr = new StringArray(new String[_numRows]); break;
-				case BOOLEAN: arr = new BooleanArray(new boolean[_numRows]); break;
-				case INT:     arr = new LongArray(new long[_numRows]); break;
-				case DOUBLE:  arr = new DoubleArray(new double[_numRows]); break;
-				default: throw new IOException("Unsupported value type: "+vt);
+			if( enc == ENC_DICT ) {
+				if( vt != ValueType.STRING )
+					throw new IOException("Unsupported dictionary encoding for value type: "+vt);
+				arr = DictEncoding.read(in, _numRows);
+			}
+			else {
+				switch( vt ) {
+					case STRING:  arr = new StringArray(new String[_numRows]); break;
+					case BOOLEAN: arr = new BooleanArray(new boolean[_numRows]); break;
+					case INT:     arr = new LongArray(new long[_numRows]); break;
+					case DOUBLE:  arr = new DoubleArray(new double[_numRows]); break;
+					default: throw new IOException("Unsupported value type: "+vt);
+				}
+				arr.readFields(in);
 			}
-			arr.readFields(in);
-			_schema[j] = vt;
-			_colnames[j] = name;
-			_colmeta[j] = new ColumnMetadata(ndistinct, 
+			if( pos[j] < 0 )
+				continue;
+			_schema[pos[j]] = vt;
+			_colnames[pos[j]] = (cols != null && isDefaultMeta) ? createColName(pos[j]) : name;
+			_colmeta[pos[j]] = new ColumnMetadata(ndistinct, 
 					(mvvalue==null || mvvalue.isEmpty()) ? null : mvvalue);
-			_coldata[j] = arr;
+			_coldata[pos[j]] = arr;
+		}
+	}
+	
+	private static void skipBytesFully(DataInput in, long len) throws IOException {
+		while( len > 0 ) {
+			int n = in.skipBytes((int)Math.min(len, Integer.MAX_VALUE));
+			if( n <= 0 ) //fallback for inputs w/o skip support
+				in.readByte();
+			len -= Math.max(n, 1);
+		}
+	}
+	
+	private long getPlainColumnSize(int j) {
+		switch( _schema[j] ) {
+			case BOOLEAN: return _numRows;
+			case INT:
+			case DOUBLE: return 8L*_numRows;
+			case STRING: 
+				StringArray arr = (StringArray)_coldata[j];
+				long size = 0;
+				for( int i=0; i<_numRows; i++ )
+					size += IOUtilFunctions.getUTFSize(arr.get(i));
+				return size;
+			default: //not applicable
+				return 0;
 		}
 	}
 
@@ -729,6 +827,7 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		//column sizes
 		boolean isDefaultMeta = isColNamesDefault()
 				&& isColumnMetadataDefault();
+		DictEncoding[] dicts = createDictEncodings();
 		for( int j=0; j<getNumColumns(); j++ ) {
 			size += 1; //column schema
 			if( !isDefaultMeta ) {
@@ -736,22 +835,23 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 				size += 8;
 				size += IOUtilFunctions.getUTFSize(_colmeta[j].getMvValue());
 			}
-			switch( _schema[j] ) {
-				case BOOLEAN: size += _numRows; break;
-				case INT:
-				case DOUBLE: size += 8*_numRows; break;
-				case STRING: 
-					StringArray arr = (StringArray)_coldata[j];
-					for( int i=0; i<_numRows; i++ )
-						size += IOUtilFunctions.getUTFSize(arr.get(i));
-					break;
-				default: //not applicable	
-			}
+			size += 1 + 8; //column encoding, size
+			size += (dicts[j] != null) ? dicts[j].getSize() : getPlainColumnSize(j);
 		}
 		
+		//keep encodings for reuse by the subsequent write
+		_serDicts = dicts;
 		return size;
 	}
 	
+	private DictEncoding[] createDictEncodings() {
+		DictEncoding[] ret = new DictEncoding[getNumColumns()];
+		for( int j=0; j<getNumColumns(); j++ )
+			if( _schema[j] == ValueType.STRING )
+				ret[j] = DictEncoding.create((StringArray)_coldata[j], _numRows);
+		return ret;
+	}
+	
 	@Override
 	public boolean isShallowSerialize() {
 		return isShallowSerialize(false);
@@ -795,14 +895,40 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	
 	public FrameBlock leftIndexingOperations(FrameBlock rhsFrame, IndexRange ixrange, FrameBlock ret)
 		throws DMLRuntimeException
+	{
+		return leftIndexingOperations(rhsFrame, ixrange, ret, 1);
+	}
+	
+	public FrameBlock leftIndexingOperations(FrameBlock rhsFrame, IndexRange ixrange, FrameBlock ret, int k)
+		throws DMLRuntimeException
 	{
 		return leftIndexingOperations(rhsFrame, 
 				(int)ixrange.rowStart, (int)ixrange.rowEnd, 
-				(int)ixrange.colStart, (int)ixrange.colEnd, ret);
+				(int)ixrange.colStart, (int)ixrange.colEnd, ret, k);
 	}
 
 	public FrameBlock leftIndexingOperations(FrameBlock rhsFrame, int rl, int ru, int cl, int cu, FrameBlock ret)
 		throws DMLRuntimeException
+	{
+		return leftIndexingOperations(rhsFrame, rl, ru, cl, cu, ret, 1);
+	}
+	
+	/**
+	 * Left indexing operations to overwrite a subframe of a copy of this 
+	 * frame block, where columns are processed in parallel for large frames.
+	 * 
+	 * @param rhsFrame right-hand-side frame block
+	 * @param rl row lower index, inclusive, 0-based
+	 * @param ru row upper index, inclusive, 0-based
+	 * @param cl column lower index, inclusive, 0-based
+	 * @param cu column upper index, inclusive, 0-based
+	 * @param ret frame block to return, can be null
+	 * @param k degree of parallelism
+	 * @return frame block
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public FrameBlock leftIndexingOperations(FrameBlock rhsFrame, int rl, int ru, int cl, int cu, FrameBlock ret, int k)
+		throws DMLRuntimeException
 	{
 		// check the validity of bounds
 		if (   rl < 0 || rl >= getNumRows() || ru < rl || ru >= getNumRows()
@@ -829,31 +955,46 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		ret._coldata = new Array[getNumColumns()];
 		
 		//copy data to output and partial overwrite w/ rhs
-		for( int j=0; j<getNumColumns(); j++ ) {
-			Array tmp = _coldata[j].clone();
-			if( j>=cl && j<=cu ) {
-				//fast-path for homogeneous column schemas
-				if( _schema[j]==rhsFrame._schema[j-cl] )
-					tmp.set(rl, ru, rhsFrame._coldata[j-cl]);
-				//general-path for heterogeneous column schemas
-				else {
-					for( int i=rl; i<=ru; i++ )
-						tmp.set(i, UtilFunctions.objectToObject(
-							_schema[j], rhsFrame._coldata[j-cl].get(i-rl)));
+		final Array[] coldata = ret._coldata;
+		ColumnParallelUtils.executeColumnRanges(getNumColumns(), getParColumnThreads(k), (lcl, lcu) -> {
+			for( int j=lcl; j<lcu; j++ ) {
+				Array tmp = _coldata[j].clone();
+				if( j>=cl && j<=cu ) {
+					//fast-path for homogeneous column schemas
+					if( _schema[j]==rhsFrame._schema[j-cl] )
+						tmp.set(rl, ru, rhsFrame._coldata[j-cl]);
+					//general-path for heterogeneous column schemas
+					else {
+						for( int i=rl; i<=ru; i++ )
+							tmp.set(i, UtilFunctions.objectToObject(
+								_schema[j], rhsFrame._coldata[j-cl].get(i-rl)));
+					}
 				}
+				coldata[j] = tmp;
 			}
-			ret._coldata[j] = tmp;
-		}
+		});
 		
 		return ret;
 	}
 
 	public FrameBlock sliceOperations(IndexRange ixrange, FrameBlock ret) 
 		throws DMLRuntimeException
+	{
+		return sliceOperations(ixrange, ret, 1);
+	}
+	
+	public FrameBlock sliceOperations(IndexRange ixrange, FrameBlock ret, int k) 
+		throws DMLRuntimeException
 	{
 		return sliceOperations(
 				(int)ixrange.rowStart, (int)ixrange.rowEnd,
-				(int)ixrange.colStart, (int)ixrange.colEnd, ret);
+				(int)ixrange.colStart, (int)ixrange.colEnd, ret, k);
+	}
+	
+	public FrameBlock sliceOperations(int rl, int ru, int cl, int cu, CacheBlock retCache) 
+		throws DMLRuntimeException
+	{
+		return sliceOperations(rl, ru, cl, cu, retCache, 1);
 	}
 	
 	/**
@@ -865,10 +1006,11 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	 * @param cl column lower index, inclusive, 0-based
 	 * @param cu column upper index, inclusive, 0-based
 	 * @param retCache cache block
+	 * @param k degree of parallelism
 	 * @return frame block
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	public FrameBlock sliceOperations(int rl, int ru, int cl, int cu, CacheBlock retCache) 
+	public FrameBlock sliceOperations(int rl, int ru, int cl, int cu, CacheBlock retCache, int k) 
 		throws DMLRuntimeException
 	{
 		FrameBlock ret = (FrameBlock)retCache;
@@ -911,12 +1053,15 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		}
 		//copy output data
 		else {
-			for( int j=cl; j<=cu; j++ ) {
-				if( ret._coldata[j-cl] == null )
-					ret._coldata[j-cl] = _coldata[j].slice(rl,ru);
-				else
-					ret._coldata[j-cl].set(0, ru-rl, _coldata[j], rl);
-			}
+			final Array[] coldata = ret._coldata;
+			ColumnParallelUtils.executeColumnRanges(numCols, getParColumnThreads(k, ru-rl+1, numCols), (lcl, lcu) -> {
+				for( int j=cl+lcl; j<cl+lcu; j++ ) {
+					if( coldata[j-cl] == null )
+						coldata[j-cl] = _coldata[j].slice(rl,ru);
+					else
+						coldata[j-cl].set(0, ru-rl, _coldata[j], rl);
+				}
+			});
 		}
 		
 		return ret;
@@ -970,6 +1115,23 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	 */
 	public FrameBlock appendOperations( FrameBlock that, FrameBlock ret, boolean cbind )
 		throws DMLRuntimeException
+	{
+		return appendOperations(that, ret, cbind, 1);
+	}
+	
+	/**
+	 * Appends the given argument frameblock 'that' to this frameblock, where
+	 * the deep copy of columns for rbind is done in parallel for large frames.
+	 * 
+	 * @param that frame block to append to current frame block
+	 * @param ret frame block to return, can be null
+	 * @param cbind if true, column append
+	 * @param k degree of parallelism
+	 * @return frame block
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public FrameBlock appendOperations( FrameBlock that, FrameBlock ret, boolean cbind, int k )
+		throws DMLRuntimeException
 	{
 		if( cbind ) //COLUMN APPEND
 		{
@@ -1007,20 +1169,36 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 			//allocate output frame (incl deep copy schema)
 			if( ret == null )
 				ret = new FrameBlock();
-			ret._numRows = _numRows;
+			int nrow1 = getNumRows(), nrow2 = that.getNumRows();
+			ret._numRows = nrow1 + nrow2;
 			ret._schema = _schema.clone();
 			ret._colnames = (_colnames!=null) ? _colnames.clone() : null;
 			ret._colmeta = new ColumnMetadata[getNumColumns()];
 			for( int j=0; j<_schema.length; j++ )
 				ret._colmeta[j] = new ColumnMetadata(0);
 			
-			//concatenate data (deep copy first, append second)
-			ret._coldata = new Array[getNumColumns()];
-			for( int j=0; j<getNumColumns(); j++ )
-				ret._coldata[j] = _coldata[j].clone();
-			Iterator<Object[]> iter = that.getObjectRowIterator(_schema);
-			while( iter.hasNext() )
-				ret.appendRow(iter.next());
+			//concatenate data column-wise (allocate output columns once, 
+			//copy both inputs, and convert the second input if necessary)
+			final Array[] coldata = new Array[getNumColumns()];
+			ColumnParallelUtils.executeColumnRanges(getNumColumns(), getParColumnThreads(k, nrow1+nrow2, getNumColumns()), (cl, cu) -> {
+				for( int j=cl; j<cu; j++ ) {
+					Array tmp = allocateColumn(_schema[j], nrow1+nrow2);
+					if( nrow1 > 0 )
+						tmp.set(0, nrow1-1, _coldata[j]);
+					if( nrow2 > 0 ) {
+						//fast-path for homogeneous column schemas
+						if( _schema[j]==that._schema[j] )
+							tmp.set(nrow1, nrow1+nrow2-1, that._coldata[j]);
+						//general-path for heterogeneous column schemas
+						else
+							for( int i=0; i<nrow2; i++ )
+								tmp.set(nrow1+i, UtilFunctions.objectToObject(
+									_schema[j], that._coldata[j].get(i)));
+					}
+					coldata[j] = tmp;
+				}
+			});
+			ret._coldata = coldata;
 		}
 		
 		return ret;
@@ -1055,30 +1233,22 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	
 	/**
 	 * This function will split every Recode map in the column using delimiter Lop.DATATYPE_PREFIX, 
-	 * as Recode map generated earlier in the form of Code+Lop.DATATYPE_PREFIX+Token and store it in a map 
-	 * which contains token and code for every unique tokens.
+	 * as Recode map generated earlier in the form of Token+Lop.DATATYPE_PREFIX+Code and store it in a 
+	 * compact recode dictionary which contains token and code for every unique tokens.
 	 *
 	 * @param col	is the column # from frame data which contains Recode map generated earlier.
-	 * @return map of token and code for every element in the input column of a frame containing Recode map
+	 * @return dictionary of token and code for every element in the input column of a frame containing Recode map
 	 */
-	public HashMap<String,Long> getRecodeMap(int col) {
+	public RecodeDictionary getRecodeMap(int col) {
 		//probe cache for existing map
 		if( REUSE_RECODE_MAPS ) {
-			SoftReference<HashMap<String,Long>> tmp = _coldata[col]._rcdMapCache;
-			HashMap<String,Long> map = (tmp!=null) ? tmp.get() : null;
+			SoftReference<RecodeDictionary> tmp = _coldata[col]._rcdMapCache;
+			RecodeDictionary map = (tmp!=null) ? tmp.get() : null;
 			if( map != null ) return map;
 		}
 		
 		//construct recode map
-		HashMap<String,Long> map = new HashMap<>();
-		Array ldata = _coldata[col]; 
-		for( int i=0; i<getNumRows(); i++ ) {
-			Object val = ldata.get(i);
-			if( val != null ) {
-				String[] tmp = EncoderRecode.splitRecodeMapEntry(val.toString());
-				map.put(tmp[0], Long.parseLong(tmp[1]));
-			}
-		}
+		RecodeDictionary map = RecodeDictionary.readFromMetaFrame(this, col);
 		
 		//put created map into cache
 		if( REUSE_RECODE_MAPS )
@@ -1188,9 +1358,32 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	}
 
 	
+	///////
+	// column-parallel execution 
+	
+	private int getParColumnThreads(int k) {
+		return getParColumnThreads(k, getNumRows(), getNumColumns());
+	}
+	
+	private static int getParColumnThreads(int k, int nrow, int ncol) {
+		//parallelize over columns only if worthwhile
+		return ((long)nrow * ncol >= PAR_NUMCELL_THRESHOLD) ? 
+			Math.min(k, ncol) : 1;
+	}
+	
+	private static Array allocateColumn(ValueType vt, int nrow) {
+		switch( vt ) {
+			case STRING:  return new StringArray(new String[nrow]);
+			case BOOLEAN: return new BooleanArray(new boolean[nrow]);
+			case INT:     return new LongArray(new long[nrow]);
+			case DOUBLE:  return new DoubleArray(new double[nrow]);
+			default: throw new RuntimeException("Unsupported value type: "+vt);
+		}
+	}
+	
 	///////
 	// row iterators (over strings and boxed objects)
-
+	
 	private abstract class RowIterator<T> implements Iterator<T[]> {
 		protected final int[] _cols;
 		protected final T[] _curRow;
@@ -1282,6 +1475,139 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		}
 	}
 	
+	///////
+	// dictionary encoding of string columns
+	
+	/**
+	 * Dictionary encoding of a string column for serialization, consisting
+	 * of the distinct values and bit-packed codes (ceil(log2(#distinct)) 
+	 * bits per row). Null and empty strings share a code, consistent with 
+	 * the plain encoding which maps both to empty strings.
+	 */
+	private static class DictEncoding {
+		private final String[] _dict;
+		private final int[] _codes;
+		private final int _bits;
+		
+		private DictEncoding(String[] dict, int[] codes) {
+			_dict = dict;
+			_codes = codes;
+			_bits = getNumBits(dict.length);
+		}
+		
+		/**
+		 * Creates the dictionary encoding of the given string column if
+		 * the number of distinct values is at most half the number of 
+		 * rows and the encoding is smaller than the plain encoding.
+		 * 
+		 * @param arr string array
+		 * @param nrow number of rows
+		 * @return dictionary encoding or null if not beneficial
+		 */
+		public static DictEncoding create(StringArray arr, int nrow) {
+			if( nrow < 2 )
+				return null;
+			HashMap<String, Integer> map = new HashMap<>();
+			ArrayList<String> dict = new ArrayList<>();
+			int[] codes = new int[nrow];
+			long psize = 0, dsize = 4;
+			for( int i=0; i<nrow; i++ ) {
+				String val = arr.get(i);
+				val = (val != null) ? val : "";
+				int len = IOUtilFunctions.getUTFSize(val);
+				Integer code = map.get(val);
+				if( code == null ) {
+					if( map.size() >= nrow/2 )
+						return null; //too many distinct values
+					code = dict.size();
+					map.put(val, code);
+					dict.add(val);
+					dsize += len;
+				}
+				codes[i] = code;
+				psize += len;
+			}
+			DictEncoding ret = new DictEncoding(dict.toArray(new String[0]), codes);
+			return (dsize + 8L*ret.getNumWords() < psize) ? ret : null;
+		}
+		
+		/**
+		 * Indicates if this encoding still matches the given string column,
+		 * which is cheaper than creating the encoding because it requires
+		 * only reference or value comparisons but no hashing.
+		 * 
+		 * @param arr string array
+		 * @param nrow number of rows
+		 * @return true if the encoding matches the column
+		 */
+		public boolean isValid(StringArray arr, int nrow) {
+			if( _codes.length != nrow )
+				return false;
+			for( int i=0; i<nrow; i++ ) {
+				String val = arr.get(i);
+				val = (val != null) ? val : "";
+				String dval = _dict[_codes[i]];
+				if( dval != val && !dval.equals(val) )
+					return false;
+			}
+			return true;
+		}
+		
+		public long getSize() {
+			long size = 4;
+			for( String val : _dict )
+				size += IOUtilFunctions.getUTFSize(val);
+			return size + 8L*getNumWords();
+		}
+		
+		public void write(DataOutput out) throws IOException {
+			out.writeInt(_dict.length);
+			for( String val : _dict )
+				out.writeUTF(val);
+			long[] words = new long[getNumWords()];
+			for( int i=0; i<_codes.length && _bits>0; i++ ) {
+				long bpos = (long)i * _bits;
+				int wix = (int)(bpos >>> 6), off = (int)(bpos & 63);
+				words[wix] |= ((long)_codes[i]) << off;
+				if( off + _bits > 64 )
+					words[wix+1] |= ((long)_codes[i]) >>> (64 - off);
+			}
+			for( long word : words )
+				out.writeLong(word);
+		}
+		
+		public static StringArray read(DataInput in, int nrow) throws IOException {
+			String[] dict = new String[in.readInt()];
+			for( int k=0; k<dict.length; k++ ) {
+				String tmp = in.readUTF();
+				dict[k] = (!tmp.isEmpty()) ? tmp : null;
+			}
+			int bits = getNumBits(dict.length);
+			long[] words = new long[(int)((nrow * (long)bits + 63) >>> 6)];
+			for( int k=0; k<words.length; k++ )
+				words[k] = in.readLong();
+			long mask = (1L << bits) - 1;
+			String[] data = new String[nrow];
+			for( int i=0; i<nrow; i++ ) {
+				long bpos = (long)i * bits;
+				int wix = (int)(bpos >>> 6), off = (int)(bpos & 63);
+				long code = (bits > 0) ? words[wix] >>> off : 0;
+				if( off + bits > 64 )
+					code |= words[wix+1] << (64 - off);
+				data[i] = dict[(int)(code & mask)];
+			}
+			return new StringArray(data);
+		}
+		
+		private int getNumWords() {
+			return (int)((_codes.length * (long)_bits + 63) >>> 6);
+		}
+		
+		private static int getNumBits(int ndict) {
+			return (ndict <= 1) ? 0 : 32 - Integer.numberOfLeadingZeros(ndict-1);
+		}
+	}
+	
 	///////
 	// generic, resizable native arrays 
 	
@@ -1291,7 +1617,7 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	 * in order to avoid unnecessary dependencies.
 	 */
 	private abstract static class Array<T> implements Writable {
-		protected SoftReference<HashMap<String,Long>> _rcdMapCache = null;
+		protected SoftReference<RecodeDictionary> _rcdMapCache = null;
 		
 		protected int _size = 0;
 		protected int newSize() {
@@ -662,35 +662,47 @@ public class LibMatrixAgg
 		KahanObject kbuff = new KahanObject(0, 0);
 		KahanPlus kplus = KahanPlus.getKahanPlusFnObject();
 		
-		double[] a = in1.getDenseBlockValues();
-		double[] b1 = in2.getDenseBlockValues();
-		double[] b2 = (in3!=null) ? in3.getDenseBlockValues() : null; //if null, literal 1
+		//note: row-wise access w/ individual positions because the inputs
+		//might be large dense blocks with different block layouts
+		DenseBlock da = in1.getDenseBlock();
+		DenseBlock db1 = in2.getDenseBlock();
+		DenseBlock db2 = (in3!=null) ? in3.getDenseBlock() : null; //if null, literal 1
 		final int n = in1.clen;
 		
 		if( ixFn instanceof ReduceAll ) //tak+*
 		{
-			for( int i=rl, ix=rl*n; i<ru; i++ ) 
-				for( int j=0; j<n; j++, ix++ ) {
-					double b2val = (b2 != null) ? b2[ix] : 1;
-					double val = a[ix] * b1[ix] * b2val;
+			for( int i=rl; i<ru; i++ ) {
+				double[] a = da.values(i), b1 = db1.values(i);
+				double[] b2 = (db2 != null) ? db2.values(i) : null;
+				int aix = da.pos(i), b1ix = db1.pos(i);
+				int b2ix = (db2 != null) ? db2.pos(i) : 0;
+				for( int j=0; j<n; j++ ) {
+					double b2val = (b2 != null) ? b2[b2ix+j] : 1;
+					double val = a[aix+j] * b1[b1ix+j] * b2val;
 					kplus.execute2( kbuff, val );
 				}
+			}
 			ret.quickSetValue(0, 0, kbuff._sum);
 			ret.quickSetValue(0, 1, kbuff._correction);
 		}
 		else //tack+*
 		{
 			double[] c = ret.getDenseBlockValues();
-			for( int i=rl, ix=rl*n; i<ru; i++ )
-				for( int j=0; j<n; j++, ix++ ) {
-					double b2val = (b2 != null) ? b2[ix] : 1;
-					double val = a[ix] * b1[ix] * b2val;
+			for( int i=rl; i<ru; i++ ) {
+				double[] a = da.values(i), b1 = db1.values(i);
+				double[] b2 = (db2 != null) ? db2.values(i) : null;
+				int aix = da.pos(i), b1ix = db1.pos(i);
+				int b2ix = (db2 != null) ? db2.pos(i) : 0;
+				for( int j=0; j<n; j++ ) {
+					double b2val = (b2 != null) ? b2[b2ix+j] : 1;
+					double val = a[aix+j] * b1[b1ix+j] * b2val;
 					kbuff._sum = c[j];
 					kbuff._correction = c[j+n];
 					kplus.execute2(kbuff, val);
 					c[j] = kbuff._sum;
 					c[j+n] = kbuff._correction;
 				}
+			}
 		}
 	}
 
@@ -1001,27 +1013,35 @@ public class LibMatrixAgg
 		aggVal.allocateDenseBlock(); //should always stay in dense
 		aggCorr.allocateDenseBlock(); //should always stay in dense
 		
-		double[] a = in.getDenseBlockValues();
-		double[] c = aggVal.getDenseBlockValues();
-		double[] cc = aggCorr.getDenseBlockValues();
+		DenseBlock da = in.getDenseBlock();
+		DenseBlock dc = aggVal.getDenseBlock();
+		DenseBlock dcc = aggCorr.getDenseBlock();
 		
 		KahanObject buffer1 = new KahanObject(0, 0);
 		KahanPlus akplus = KahanPlus.getKahanPlusFnObject();
 		
-		final int len = Math.min(a.length, in.rlen*in.clen);
+		final int m = in.rlen;
+		final int n = in.clen;
 		
-		int nnzC = 0;
-		int nnzCC = 0;
+		long nnzC = 0;
+		long nnzCC = 0;
 		
-		for( int i=0; i<len; i++ )
+		//row-wise processing for large dense blocks
+		for( int i=0; i<m; i++ )
 		{
-			buffer1._sum        = c[i];
-			buffer1._correction = cc[i];
-			akplus.execute2(buffer1, a[i]);
-			c[i]  = buffer1._sum;
-			cc[i] = buffer1._correction;
-			nnzC += (buffer1._sum!=0)?1:0;
-			nnzCC += (buffer1._correction!=0)?1:0;
+			double[] a = da.values(i);
+			double[] c = dc.values(i);
+			double[] cc = dcc.values(i);
+			int aix = da.pos(i), cix = dc.pos(i);
+			for( int j=0; j<n; j++ ) {
+				buffer1._sum        = c[cix+j];
+				buffer1._correction = cc[cix+j];
+				akplus.execute2(buffer1, a[aix+j]);
+				c[cix+j]  = buffer1._sum;
+				cc[cix+j] = buffer1._correction;
+				nnzC += (buffer1._sum!=0)?1:0;
+				nnzCC += (buffer1._correction!=0)?1:0;
+			}
 		}
 		
 		aggVal.nonZeros = nnzC;
@@ -1039,17 +1059,17 @@ public class LibMatrixAgg
 		aggCorr.allocateDenseBlock(); //should always stay in dense
 		
 		SparseBlock a = in.getSparseBlock();
-		double[] c = aggVal.getDenseBlockValues();
-		double[] cc = aggCorr.getDenseBlockValues();
+		DenseBlock dc = aggVal.getDenseBlock();
+		DenseBlock dcc = aggCorr.getDenseBlock();
 		
 		KahanObject buffer1 = new KahanObject(0, 0);
 		KahanPlus akplus = KahanPlus.getKahanPlusFnObject();
 		
 		final int m = in.rlen;
-		final int n = in.clen;
 		final int rlen = Math.min(a.numRows(), m);
 		
-		for( int i=0, cix=0; i<rlen; i++, cix+=n )
+		//row-wise processing for large dense blocks
+		for( int i=0; i<rlen; i++ )
 		{
 			if( !a.isEmpty(i) )
 			{
@@ -1057,6 +1077,9 @@ public class LibMatrixAgg
 				int alen = a.size(i);
 				int[] aix = a.indexes(i);
 				double[] avals = a.values(i);
+				double[] c = dc.values(i);
+				double[] cc = dcc.values(i);
+				int cix = dc.pos(i);
 				
 				for( int j=apos; j<apos+alen; j++ )
 				{
@@ -1123,13 +1146,15 @@ public class LibMatrixAgg
 		final int m = in.rlen;
 		final int n = in.clen;
 		
-		double[] a = in.getDenseBlockValues();
+		DenseBlock da = in.getDenseBlock();
 		
 		KahanObject buffer = new KahanObject(0, 0);
 		KahanPlus akplus = KahanPlus.getKahanPlusFnObject();
 		
 		//incl implicit nnz maintenance
-		for(int i=0, ix=0; i<m; i++)
+		for(int i=0; i<m; i++) {
+			double[] a = da.values(i);
+			int ix = da.pos(i);
 			for(int j=0; j<n; j++, ix++)
 			{
 				buffer._sum = aggVal.quickGetValue(i, j);
@@ -1138,6 +1163,7 @@ public class LibMatrixAgg
 				aggVal.quickSetValue(i, j, buffer._sum);
 				aggCorr.quickSetValue(i, j, buffer._correction);
 			}
+		}
 		
 		//note: nnz of aggVal/aggCorr maintained internally 
 		aggVal.examSparsity();
@@ -1152,23 +1178,27 @@ public class LibMatrixAgg
 		
 		final int m = in.rlen;
 		final int n = in.clen;
-		final int cix = (m-1)*n;
 		
-		double[] a = in.getDenseBlockValues();
+		DenseBlock da = in.getDenseBlock();
+		double[] corr = da.values(m-1);
+		final int cix = da.pos(m-1);
 		
 		KahanObject buffer = new KahanObject(0, 0);
 		KahanPlus akplus = KahanPlus.getKahanPlusFnObject();
 		
 		//incl implicit nnz maintenance
-		for(int i=0, ix=0; i<m-1; i++)
+		for(int i=0; i<m-1; i++) {
+			double[] a = da.values(i);
+			int ix = da.pos(i);
 			for(int j=0; j<n; j++, ix++)
 			{
 				buffer._sum = aggVal.quickGetValue(i, j);
 				buffer._correction = aggVal.quickGetValue(m-1, j);
-				akplus.execute(buffer, a[ix], a[cix+j]);
+				akplus.execute(buffer, a[ix], corr[cix+j]);
 				aggVal.quickSetValue(i, j, buffer._sum);
 				aggVal.quickSetValue(m-1, j, buffer._correction);
 			}
+		}
 		
 		//note: nnz of aggVal maintained internally 
 		aggVal.examSparsity();
@@ -1224,13 +1254,15 @@ public class LibMatrixAgg
 		final int m = in.rlen;
 		final int n = in.clen;
 		
-		double[] a = in.getDenseBlockValues();
+		DenseBlock da = in.getDenseBlock();
 		
 		KahanObject buffer = new KahanObject(0, 0);
 		KahanPlus akplus = KahanPlus.getKahanPlusFnObject();
 		
 		//incl implicit nnz maintenance
-		for(int i=0, ix=0; i<m; i++, ix+=n)
+		for(int i=0; i<m; i++) {
+			double[] a = da.values(i);
+			int ix = da.pos(i);
 			for(int j=0; j<n-1; j++)
 			{
 				buffer._sum = aggVal.quickGetValue(i, j);
@@ -1239,6 +1271,7 @@ public class LibMatrixAgg
 				aggVal.quickSetValue(i, j, buffer._sum);
 				aggVal.quickSetValue(i, n-1, buffer._correction);
 			}
+		}
 		
 		//note: nnz of aggVal maintained internally 
 		aggVal.examSparsity();
@@ -1326,13 +1359,13 @@ public class LibMatrixAgg
 				break;
 			}
 			case CUM_PROD: { //CUMPROD
-				d_ucumm(in.getDenseBlockValues(), null, out.getDenseBlockValues(), n, rl, ru);
+				d_ucumm(in.getDenseBlock(), null, out.getDenseBlock(), n, rl, ru);
 				break;
 			}
 			case CUM_MIN:
 			case CUM_MAX: {
 				double init = Double.MAX_VALUE * ((optype==AggType.CUM_MAX)?-1:1);
-				d_ucummxx(in.getDenseBlockValues(), null, out.getDenseBlockValues(), n, init, (Builtin)vFn, rl, ru);
+				d_ucummxx(in.getDenseBlock(), null, out.getDenseBlock(), n, init, (Builtin)vFn, rl, ru);
 				break;
 			}
 			case MIN: 
@@ -1430,13 +1463,13 @@ public class LibMatrixAgg
 				break;
 			}
 			case CUM_PROD: { //CUMPROD
-				s_ucumm(a, null, out.getDenseBlockValues(), n, rl, ru);
+				s_ucumm(a, null, out.getDenseBlock(), n, rl, ru);
 				break;
 			}
 			case CUM_MIN:
 			case CUM_MAX: {
 				double init = Double.MAX_VALUE * ((optype==AggType.CUM_MAX)?-1:1);
-				s_ucummxx(a, null, out.getDenseBlockValues(), n, init, (Builtin)vFn, rl, ru);
+				s_ucummxx(a, null, out.getDenseBlock(), n, init, (Builtin)vFn, rl, ru);
 				break;
 			}
 			case MIN:
@@ -1500,8 +1533,6 @@ public class LibMatrixAgg
 		
 		DenseBlock da = in.getDenseBlock();
 		DenseBlock dc = out.getDenseBlock();
-		double[] a = in.getDenseBlockValues();
-		double[] c = out.getDenseBlockValues();
 		
 		switch( optype ) {
 			case CUM_KAHAN_SUM: { //CUMSUM
@@ -1511,13 +1542,13 @@ public class LibMatrixAgg
 				break;
 			}
 			case CUM_PROD: { //CUMPROD
-				d_ucumm(a, agg, c, n, rl, ru);
+				d_ucumm(da, agg, dc, n, rl, ru);
 				break;
 			}
 			case CUM_MIN:
 			case CUM_MAX: {
 				double init = Double.MAX_VALUE * ((optype==AggType.CUM_MAX)?-1:1);
-				d_ucummxx(a, agg, c, n, init, (Builtin)vFn, rl, ru);
+				d_ucummxx(da, agg, dc, n, init, (Builtin)vFn, rl, ru);
 				break;
 			}
 			default:
@@ -1533,7 +1564,6 @@ public class LibMatrixAgg
 		
 		SparseBlock a = in.getSparseBlock();
 		DenseBlock dc = out.getDenseBlock();
-		double[] c = out.getDenseBlockValues();
 		
 		switch( optype ) {
 			case CUM_KAHAN_SUM: { //CUMSUM
@@ -1543,13 +1573,13 @@ public class LibMatrixAgg
 				break;
 			}
 			case CUM_PROD: { //CUMPROD
-				s_ucumm(a, agg, c, n, rl, ru);
+				s_ucumm(a, agg, dc, n, rl, ru);
 				break;
 			}
 			case CUM_MIN:
 			case CUM_MAX: {
 				double init = Double.MAX_VALUE * ((optype==AggType.CUM_MAX)?-1:1);
-				s_ucummxx(a, agg, c, n, init, (Builtin)vFn, rl, ru);
+				s_ucummxx(a, agg, dc, n, init, (Builtin)vFn, rl, ru);
 				break;
 			}
 			default:
@@ -1784,7 +1814,7 @@ public class LibMatrixAgg
 	 * @param rl row lower index
 	 * @param ru row upper index
 	 */
-	private static void d_ucumm( double[] a, double[] agg, double[] c, int n, int rl, int ru ) 
+	private static void d_ucumm( DenseBlock a, double[] agg, DenseBlock c, int n, int rl, int ru ) 
 	{
 		//init current row product array w/ neutral 1
 		double[] cprods = (agg!=null) ? agg : new double[ n ]; 
@@ -1792,9 +1822,9 @@ public class LibMatrixAgg
 			Arrays.fill(cprods, 1);
 		
 		//scan once and compute prefix products
-		for( int i=rl, aix=rl*n; i<ru; i++, aix+=n ) {
-			productAgg( a, cprods, aix, 0, n );
-			System.arraycopy(cprods, 0, c, aix, n);
+		for( int i=rl; i<ru; i++ ) {
+			productAgg( a.values(i), cprods, a.pos(i), 0, n );
+			c.set(i, cprods);
 		}
 	}
 	
@@ -1810,7 +1840,7 @@ public class LibMatrixAgg
 	 * @param rl row lower index
 	 * @param ru row upper index
 	 */
-	private static void d_ucummxx( double[] a, double[] agg, double[] c, int n, double init, Builtin builtin, int rl, int ru )
+	private static void d_ucummxx( DenseBlock a, double[] agg, DenseBlock c, int n, double init, Builtin builtin, int rl, int ru )
 	{
 		//init current row min/max array w/ extreme value 
 		double[] cmxx = (agg!=null) ? agg : new double[ n ]; 
@@ -1818,9 +1848,9 @@ public class LibMatrixAgg
 			Arrays.fill(cmxx, init);
 				
 		//scan once and compute prefix min/max
-		for( int i=rl, aix=rl*n; i<ru; i++, aix+=n ) {
-			builtinAgg( a, cmxx, aix, n, builtin );
-			System.arraycopy(cmxx, 0, c, aix, n);
+		for( int i=rl; i<ru; i++ ) {
+			builtinAgg( a.values(i), cmxx, a.pos(i), n, builtin );
+			c.set(i, cmxx);
 		}
 	}
 	/**
@@ -2308,7 +2338,7 @@ public class LibMatrixAgg
 	 * @param rl row lower index
 	 * @param ru row upper index
 	 */
-	private static void s_ucumm( SparseBlock a, double[] agg, double[] c, int n, int rl, int ru )
+	private static void s_ucumm( SparseBlock a, double[] agg, DenseBlock c, int n, int rl, int ru )
 	{
 		//init current row prod arrays w/ neutral 1
 		double[] cprod = (agg!=null) ? agg : new double[ n ]; 
@@ -2319,7 +2349,7 @@ public class LibMatrixAgg
 		int[] cnt = new int[ n ]; 
 
 		//scan once and compute prefix products
-		for( int i=rl, ix=rl*n; i<ru; i++, ix+=n )
+		for( int i=rl; i<ru; i++ )
 		{
 			//multiply row of non-zero elements
 			if( !a.isEmpty(i) ) {
@@ -2338,7 +2368,7 @@ public class LibMatrixAgg
 					cprod[j] *= 0;
 			
 			//always copy current sum (not sparse-safe)
-			System.arraycopy(cprod, 0, c, ix, n);
+			c.set(i, cprod);
 		}
 	}
 	
@@ -2354,7 +2384,7 @@ public class LibMatrixAgg
 	 * @param rl row lower index
 	 * @param ru row upper index
 	 */
-	private static void s_ucummxx( SparseBlock a, double[] agg, double[] c, int n, double init, Builtin builtin, int rl, int ru ) 
+	private static void s_ucummxx( SparseBlock a, double[] agg, DenseBlock c, int n, double init, Builtin builtin, int rl, int ru ) 
 	{
 		//init current row min/max array w/ extreme value 
 		double[] cmxx = (agg!=null) ? agg : new double[ n ]; 
@@ -2365,7 +2395,7 @@ public class LibMatrixAgg
 		int[] cnt = new int[ n ]; 
 
 		//compute column aggregates min/max
-		for( int i=rl, ix=rl*n; i<ru; i++, ix+=n )
+		for( int i=rl; i<ru; i++ )
 		{
 			if( !a.isEmpty(i) ) {
 				int apos = a.pos(i);
@@ -2383,7 +2413,7 @@ public class LibMatrixAgg
 					cmxx[j] = builtin.execute2(cmxx[j], 0);
 			
 			//always copy current sum (not sparse-safe)
-			System.arraycopy(cmxx, 0, c, ix, n);
+			c.set(i, cmxx);
 		}
 	}
 	
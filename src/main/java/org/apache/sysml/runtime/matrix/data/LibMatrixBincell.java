@@ -290,7 +290,7 @@ public class LibMatrixBincell
 					if( isMultiply && v2 == 1 ) { //ROW COPY
 						//a guaranteed to be non-null (see early abort)
 						System.arraycopy(a, ix, c, ix, clen);
-						nnz += m1.recomputeNonZeros(i, i, 0, clen-1);
+						nnz += m1.recomputeNonZeros(off+i, off+i, 0, clen-1);
 					}
 					else { //GENERAL CASE
 						if( a != null )
@@ -895,9 +895,10 @@ public class LibMatrixBincell
 		}
 		else // MATRIX - MATRIX
 		{
-			//dense non-empty vectors (always single block)
+			//dense non-empty vectors (single block, guarded for large blocks)
 			if( m1.clen==1 && !m1.sparse && !m1.isEmptyBlock(false)
-				&& !m2.sparse && !m2.isEmptyBlock(false)  )
+				&& !m2.sparse && !m2.isEmptyBlock(false)
+				&& m1.getDenseBlock().isContiguous() && m2.getDenseBlock().isContiguous() )
 			{
 				ret.allocateDenseBlock();
 				double[] a = m1.getDenseBlockValues();
@@ -0,0 +1,416 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.matrix.data;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.util.LongDoubleHashMap;
+import org.apache.sysml.runtime.util.UtilFunctions;
+
+/**
+ * Library for multi-threaded contingency table (ctable) construction.
+ *
+ * The input rows are partitioned into disjoint ranges, where each thread
+ * aggregates its tuples into thread-local partial results. If the output
+ * dimensions are known and small relative to the input, these partials are
+ * dense blocks, otherwise primitive hash maps (one per output row partition)
+ * which avoid the per-entry object overhead of {@link CTableMap}. All partial
+ * results are then merged in parallel over disjoint output row partitions.
+ *
+ * The semantics (handling of NaNs, zeros, invalid inputs, and output
+ * dimensions) are equivalent to the single-threaded ctable in
+ * {@link MatrixBlock#ctableOperations} and {@link CTableMap#toMatrixBlock}.
+ */
+public class LibMatrixCtable
+{
+	//minimum number of input cells for multi-threaded execution
+	public static final long PAR_NUMCELL_THRESHOLD = 1024*1024;
+
+	private LibMatrixCtable() {
+		//prevent instantiation via private constructor
+	}
+
+	/**
+	 * Indicates if multi-threaded ctable construction is beneficial
+	 * for the given primary input and degree of parallelism.
+	 *
+	 * @param in primary input matrix
+	 * @param k degree of parallelism
+	 * @return true if multi-threaded ctable should be used
+	 */
+	public static boolean isParallelCtable(MatrixBlock in, int k) {
+		return k > 1 && (long)in.getNumRows()*in.getNumColumns() >= PAR_NUMCELL_THRESHOLD;
+	}
+
+	/**
+	 * Multi-threaded ctable construction. The second and third input can be
+	 * either matrices (with the same dimensions as the first input) or scalars,
+	 * which covers the cases ctable(A,B,W), ctable(A,B,w), ctable(A,b,w), and
+	 * ctable(A,b,W).
+	 *
+	 * @param A first input matrix (row indexes)
+	 * @param B second input matrix (column indexes), or null if scalar
+	 * @param b second input scalar (used if B is null)
+	 * @param W weight matrix, or null if scalar
+	 * @param w weight scalar (used if W is null)
+	 * @param ignoreZeros if true, (0,0) tuples are skipped
+	 * @param dim1 number of output rows, or -1 if unknown
+	 * @param dim2 number of output columns, or -1 if unknown
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock ctable(MatrixBlock A, MatrixBlock B, double b, MatrixBlock W, double w,
+			boolean ignoreZeros, long dim1, long dim2, int k)
+		throws DMLRuntimeException
+	{
+		int m = A.getNumRows();
+		boolean dimsKnown = (dim1 != -1 && dim2 != -1);
+
+		//check for dense partials (bounded by the size of the input)
+		boolean densePartials = dimsKnown && (dim1*dim2*k <= (long)m*A.getNumColumns())
+			&& dim1*dim2 < Integer.MAX_VALUE;
+
+		try {
+			ExecutorService pool = Executors.newFixedThreadPool( k );
+
+			//compute thread-local partial results over disjoint row ranges
+			ArrayList<CtableTask> tasks = new ArrayList<CtableTask>();
+			int blklen = (int)(Math.ceil((double)m/k));
+			for( int i=0; i<k && i*blklen<m; i++ )
+				tasks.add(new CtableTask(A, B, b, W, w, ignoreZeros, dim1, dim2,
+					densePartials, k, i*blklen, Math.min((i+1)*blklen, m)));
+			for( Future<Object> task : pool.invokeAll(tasks) )
+				task.get(); //check for errors
+
+			//merge partial results into output
+			MatrixBlock ret = densePartials ?
+				mergeDensePartials(pool, tasks, (int)dim1, (int)dim2, k) :
+				mergeSparsePartials(pool, tasks, dim1, dim2, k);
+			pool.shutdown();
+
+			return ret;
+		}
+		catch(Exception ex) {
+			if( ex.getCause() instanceof DMLRuntimeException )
+				throw (DMLRuntimeException) ex.getCause();
+			throw new DMLRuntimeException(ex);
+		}
+	}
+
+	private static MatrixBlock mergeDensePartials(ExecutorService pool, ArrayList<CtableTask> tasks, int rlen, int clen, int k)
+		throws Exception
+	{
+		//allocate dense output
+		MatrixBlock ret = new MatrixBlock(rlen, clen, false);
+		ret.allocateDenseBlock();
+
+		//aggregate partials over disjoint output row ranges
+		ArrayList<DenseMergeTask> mtasks = new ArrayList<DenseMergeTask>();
+		int blklen = (int)(Math.ceil((double)rlen/k));
+		for( int i=0; i<k && i*blklen<rlen; i++ )
+			mtasks.add(new DenseMergeTask(tasks, ret, i*blklen, Math.min((i+1)*blklen, rlen)));
+		for( Future<Object> task : pool.invokeAll(mtasks) )
+			task.get(); //check for errors
+
+		ret.recomputeNonZeros();
+		return ret;
+	}
+
+	private static MatrixBlock mergeSparsePartials(ExecutorService pool, ArrayList<CtableTask> tasks, long dim1, long dim2, int k)
+		throws Exception
+	{
+		//merge hash maps per output row partition
+		ArrayList<MapMergeTask> mtasks = new ArrayList<MapMergeTask>();
+		for( int i=0; i<k; i++ )
+			mtasks.add(new MapMergeTask(tasks, i));
+		for( Future<Object> task : pool.invokeAll(mtasks) )
+			task.get(); //check for errors
+
+		//determine output dimensions and format
+		long maxRow = -1, maxCol = -1, nnz = 0;
+		for( CtableTask task : tasks ) {
+			maxRow = Math.max(maxRow, task._maxRow);
+			maxCol = Math.max(maxCol, task._maxCol);
+		}
+		for( MapMergeTask task : mtasks )
+			nnz += task._map.size();
+		int rlen = (int) ((dim1 != -1) ? dim1 : maxRow);
+		int clen = (int) ((dim2 != -1) ? dim2 : maxCol);
+		boolean sparse = MatrixBlock.evalSparseFormatInMemory(rlen, clen, nnz);
+		MatrixBlock ret = new MatrixBlock(rlen, clen, sparse, nnz);
+
+		//write output rows (disjoint per partition, thread-safe for MCSR and dense)
+		if( sparse )
+			ret.allocateSparseRowsBlock();
+		else
+			ret.allocateDenseBlock();
+		for( MapMergeTask task : mtasks )
+			task.setOutput(ret);
+		for( Future<Object> task : pool.invokeAll(mtasks) )
+			task.get(); //check for errors
+
+		ret.recomputeNonZeros();
+		return ret;
+	}
+
+	private static long getKey(long row, long col) {
+		return (row << 32) | col;
+	}
+
+	private static int getRow(long key) {
+		return (int) (key >>> 32);
+	}
+
+	private static int getCol(long key) {
+		return (int) (key & 0xFFFFFFFFL);
+	}
+
+	private static class CtableTask implements Callable<Object>
+	{
+		private final MatrixBlock _a;
+		private final MatrixBlock _b;
+		private final double _bval;
+		private final MatrixBlock _w;
+		private final double _wval;
+		private final boolean _ignoreZeros;
+		private final long _dim1;
+		private final long _dim2;
+		private final int _rl;
+		private final int _ru;
+
+		//partial results (dense or per row partition)
+		private double[] _partial = null;
+		private LongDoubleHashMap[] _maps = null;
+		private long _maxRow = -1;
+		private long _maxCol = -1;
+
+		protected CtableTask(MatrixBlock a, MatrixBlock b, double bval, MatrixBlock w, double wval, boolean ignoreZeros,
+				long dim1, long dim2, boolean densePartial, int numParts, int rl, int ru) {
+			_a = a;
+			_b = b;
+			_bval = bval;
+			_w = w;
+			_wval = wval;
+			_ignoreZeros = ignoreZeros;
+			_dim1 = dim1;
+			_dim2 = dim2;
+			_rl = rl;
+			_ru = ru;
+			if( densePartial )
+				_partial = new double[(int)(dim1*dim2)];
+			else {
+				_maps = new LongDoubleHashMap[numParts];
+				for( int i=0; i<numParts; i++ )
+					_maps[i] = new LongDoubleHashMap();
+			}
+		}
+
+		@Override
+		public Object call() throws DMLRuntimeException {
+			int n = _a.getNumColumns();
+
+			if( _ignoreZeros && _b != null && _a.isInSparseFormat() && _b.isInSparseFormat() )
+			{
+				//sparse-safe ctable over aligned non-zeros (see MatrixBlock)
+				if( _a.isEmptyBlock(false) && _b.isEmptyBlock(false) )
+					return null;
+				SparseBlock a = _a.getSparseBlock();
+				SparseBlock b = _b.getSparseBlock();
+				for( int i=_rl; i<_ru; i++ ) {
+					if( a.isEmpty(i) ) continue;
+					int alen = a.size(i);
+					int apos = a.pos(i);
+					double[] avals = a.values(i);
+					int bpos = b.pos(i);
+					double[] bvals = b.values(i);
+					for( int j=0; j<alen; j++ )
+						aggregate(avals[apos+j], bvals[bpos+j], _wval);
+				}
+			}
+			else
+			{
+				//sparse-unsafe ctable execution
+				//(because input values of 0 are invalid and have to result in errors)
+				for( int i=_rl; i<_ru; i++ )
+					for( int j=0; j<n; j++ ) {
+						double v1 = _a.quickGetValue(i, j);
+						double v2 = (_b != null) ? _b.quickGetValue(i, j) : _bval;
+						double w = (_w != null) ? _w.quickGetValue(i, j) : _wval;
+						aggregate(v1, v2, w);
+					}
+			}
+
+			return null;
+		}
+
+		private void aggregate(double v1, double v2, double w)
+			throws DMLRuntimeException
+		{
+			// If any of the values are NaN (i.e., missing) then
+			// we skip this tuple, proceed to the next tuple
+			if( Double.isNaN(v1) || Double.isNaN(v2) || Double.isNaN(w) )
+				return;
+
+			// safe casts to long for consistent behavior with indexing
+			long row = UtilFunctions.toLong( v1 );
+			long col = UtilFunctions.toLong( v2 );
+
+			// skip this entry as it does not fall within specified output dimensions
+			if( _ignoreZeros && row == 0 && col == 0 )
+				return;
+
+			//check for incorrect ctable inputs
+			if( row <= 0 || col <= 0 )
+				throw new DMLRuntimeException("Erroneous input while computing the contingency table (one of the value <= zero): "+v1+" "+v2);
+
+			if( _dim1 != -1 && _dim2 != -1 ) {
+				// skip this entry as it does not fall within specified output dimensions
+				if( row > _dim1 || col > _dim2 )
+					return;
+			}
+			else if( row > Integer.MAX_VALUE || col > Integer.MAX_VALUE ) {
+				throw new DMLRuntimeException("Contingency table output dimensions exceed "
+					+ "integer range: "+row+" x "+col);
+			}
+
+			if( _partial != null ) {
+				//dense partial aggregation
+				_partial[(int)((row-1)*_dim2 + col-1)] += w;
+			}
+			else {
+				//hash group-by, partitioned by output row
+				_maps[(int)((row-1) % _maps.length)].addValue(getKey(row, col), w);
+				_maxRow = Math.max(_maxRow, row);
+				_maxCol = Math.max(_maxCol, col);
+			}
+		}
+	}
+
+	private static class DenseMergeTask implements Callable<Object>
+	{
+		private final ArrayList<CtableTask> _tasks;
+		private final MatrixBlock _ret;
+		private final int _rl;
+		private final int _ru;
+
+		protected DenseMergeTask(ArrayList<CtableTask> tasks, MatrixBlock ret, int rl, int ru) {
+			_tasks = tasks;
+			_ret = ret;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public Object call() {
+			DenseBlock c = _ret.getDenseBlock();
+			int n = _ret.getNumColumns();
+			for( CtableTask task : _tasks ) {
+				double[] partial = task._partial;
+				for( int i=_rl, aix=_rl*n; i<_ru; i++, aix+=n ) {
+					double[] cvals = c.values(i);
+					int cix = c.pos(i);
+					for( int j=0; j<n; j++ )
+						cvals[cix+j] += partial[aix+j];
+				}
+			}
+			return null;
+		}
+	}
+
+	private static class MapMergeTask implements Callable<Object>
+	{
+		private final ArrayList<CtableTask> _tasks;
+		private final int _part;
+		private LongDoubleHashMap _map = null;
+		private MatrixBlock _ret = null;
+
+		protected MapMergeTask(ArrayList<CtableTask> tasks, int part) {
+			_tasks = tasks;
+			_part = part;
+		}
+
+		public void setOutput(MatrixBlock ret) {
+			_ret = ret;
+		}
+
+		@Override
+		public Object call() {
+			if( _ret == null )
+				mergeMaps();
+			else
+				writeOutput();
+			return null;
+		}
+
+		private void mergeMaps() {
+			//merge into the largest partial map to minimize rehashing
+			for( CtableTask task : _tasks )
+				if( _map == null || task._maps[_part].size() > _map.size() )
+					_map = task._maps[_part];
+			for( CtableTask task : _tasks )
+				if( task._maps[_part] != _map )
+					_map.addAll(task._maps[_part]);
+		}
+
+		private void writeOutput() {
+			int rlen = _ret.getNumRows();
+			int clen = _ret.getNumColumns();
+			int len = _map.capacity();
+
+			if( _ret.isInSparseFormat() ) {
+				//append cells to sparse target (unordered to avoid shifting)
+				SparseBlock c = _ret.getSparseBlock();
+				for( int i=0; i<len; i++ ) {
+					long key = _map.getKey(i);
+					double val = _map.getValue(i);
+					if( key == 0 || val == 0 ) continue;
+					int rix = getRow(key);
+					int cix = getCol(key);
+					if( rix<=rlen && cix<=clen )
+						c.append(rix-1, cix-1, val);
+				}
+				//sort sparse rows of this partition
+				int numParts = _tasks.get(0)._maps.length;
+				for( int r=_part; r<rlen; r+=numParts )
+					if( !c.isEmpty(r) )
+						c.sort(r);
+			}
+			else {
+				//directly insert cells into dense target
+				DenseBlock c = _ret.getDenseBlock();
+				for( int i=0; i<len; i++ ) {
+					long key = _map.getKey(i);
+					double val = _map.getValue(i);
+					if( key == 0 || val == 0 ) continue;
+					int rix = getRow(key);
+					int cix = getCol(key);
+					if( rix<=rlen && cix<=clen )
+						c.set(rix-1, cix-1, val);
+				}
+			}
+		}
+	}
+}
@@ -45,6 +45,7 @@ public class LibMatrixDatagen
 {
 	private static final Log LOG = LogFactory.getLog(LibMatrixDatagen.class.getName());
 	private static final long PAR_NUMCELL_THRESHOLD = 512*1024; //Min 500k elements
+	private static final long PAR_NUMCELL_THRESHOLD2 = 64*1024; //Min 64k elements (normal, poisson)
 	
 	private static IDSequence _seqRandInput = new IDSequence(); 
 	
@@ -207,22 +208,13 @@ public class LibMatrixDatagen
 		double max = rgen._pdf == RandomMatrixGenerator.PDF.UNIFORM ? rgen._max : 1;
 		
 		// Special case shortcuts for efficiency
-		if ( rgen._pdf == RandomMatrixGenerator.PDF.UNIFORM) {
-			if ( min == 0.0 && max == 0.0 ) { //all zeros
-				out.reset(rows, cols, true);
-				return;
-			} 
-			else if( sparsity==1.0d && (min == max  //equal values, dense
-					|| (Double.isNaN(min) && Double.isNaN(max))) ) { //min == max == NaN
-				out.reset(rows, cols, min); 
-				return;
-			}
-		}
+		if( shortcutRandOperation(out, rgen, min, max) )
+			return;
 		
 		// Determine the sparsity of output matrix
 		// if invoked from CP: estimated NNZ is for entire matrix (nnz=0, if 0 initialized)
 		// if invoked from MR: estimated NNZ is for one block
-		final long estnnz = (long) Math.ceil((min==0.0 && max==0.0) ? 0 : sparsity*rows*cols);
+		final long estnnz = estimateNnz(rows, cols, sparsity, min, max);
 		boolean lsparse = MatrixBlock.evalSparseFormatInMemory( rows, cols, estnnz );
 		out.reset(rows, cols, lsparse, estnnz);
 		
@@ -258,7 +250,7 @@ public class LibMatrixDatagen
      * @param rgen random matrix generator
      * @param bigrand Well1024a pseudo-random number generator
      * @param bSeed seed for random generator
-     * @param k ?
+     * @param k degree of parallelism
      * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
 	public static void generateRandomMatrix( MatrixBlock out, RandomMatrixGenerator rgen, Well1024a bigrand, long bSeed, int k ) 
@@ -284,27 +276,23 @@ public class LibMatrixDatagen
 		
 		//determine the sparsity of output matrix (multi-threaded always invoked from CP):
 		//estimated NNZ is for entire matrix (nnz=0, if 0 initialized)
-		final long estnnz = ((min==0.0 && max==0.0) ? 0 : (long)(sparsity * rows * cols));
+		//(same estimate as the sequential rand to obtain identical output formats)
+		final long estnnz = estimateNnz(rows, cols, sparsity, min, max);
 		boolean lsparse = MatrixBlock.evalSparseFormatInMemory( rows, cols, estnnz );
 		
 		//fallback to sequential if single rowblock or too few cells or if MatrixBlock is not thread safe
-		if( k<=1 || (rows <= rpb && lsparse) || (long)rows*cols < PAR_NUMCELL_THRESHOLD 
+		//(lower threshold for normal and poisson due to higher per-cell costs)
+		long parThreshold = (rgen._pdf == RandomMatrixGenerator.PDF.UNIFORM) ?
+			PAR_NUMCELL_THRESHOLD : PAR_NUMCELL_THRESHOLD2;
+		if( k<=1 || (rows <= rpb && lsparse) || (long)rows*cols < parThreshold 
 			|| !MatrixBlock.isThreadSafe(lsparse) ) {
 			generateRandomMatrix(out, rgen, bigrand, bSeed);
 			return;
 		}
 
 		//special case shortcuts for efficiency
-		if ( rgen._pdf == RandomMatrixGenerator.PDF.UNIFORM) {
-			if ( min == 0.0 && max == 0.0 ) { //all zeros
-				out.reset(rows, cols, false);
-				return;
-			} 
-			else if( sparsity==1.0d && min == max ) { //equal values
-				out.reset(rows, cols, min); 
-				return;
-			}
-		}
+		if( shortcutRandOperation(out, rgen, min, max) )
+			return;
 		
 		// allocate memory, incl sparse row allocation if safe
 		out.reset(rows, cols, lsparse, estnnz);
@@ -442,6 +430,27 @@ public class LibMatrixDatagen
 		out.examSparsity();
 	}
 
+	private static boolean shortcutRandOperation(MatrixBlock out, RandomMatrixGenerator rgen, double min, double max) {
+		//shortcuts only apply to uniform (min/max not meaningful otherwise)
+		if( rgen._pdf != RandomMatrixGenerator.PDF.UNIFORM )
+			return false;
+		
+		if ( min == 0.0 && max == 0.0 ) { //all zeros
+			out.reset(rgen._rows, rgen._cols, true);
+			return true;
+		} 
+		else if( rgen._sparsity==1.0d && (min == max  //equal values, dense
+				|| (Double.isNaN(min) && Double.isNaN(max))) ) { //min == max == NaN
+			out.reset(rgen._rows, rgen._cols, min); 
+			return true;
+		}
+		return false;
+	}
+	
+	private static long estimateNnz(int rows, int cols, double sparsity, double min, double max) {
+		return (long) Math.ceil((min==0.0 && max==0.0) ? 0 : sparsity*rows*cols);
+	}
+	
 	private static long[] generateSeedsForCP(Well1024a bigrand, int nrb, int ncb)
 	{
 		int numBlocks = nrb * ncb;
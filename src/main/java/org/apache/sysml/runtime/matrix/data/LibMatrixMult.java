@@ -258,6 +258,7 @@ public class LibMatrixMult
 			ret.examSparsity(); //turn empty dense into sparse
 			return;
 		}
+		checkSingleBlockVectors(mV, mW);
 
 		//Timing time = new Timing(true);
 		
@@ -302,6 +303,7 @@ public class LibMatrixMult
 			ret.examSparsity(); //turn empty dense into sparse
 			return;
 		}
+		checkSingleBlockVectors(mV, mW);
 		
 		//check too high additional memory requirements (fallback to sequential)
 		//check too small workload in terms of flops (fallback to sequential too)
@@ -3666,6 +3668,10 @@ public class LibMatrixMult
 		if( ret.rlen != ret.clen )
 			throw new RuntimeException("Invalid non-squared input matrix.");
 		
+		//large dense blocks: blocked copy via row-wise access
+		if( ret.getDenseBlock().numBlocks() > 1 )
+			return copyUpperToLowerTriangleLarge(ret);
+		
 		final double[] c = ret.getDenseBlockValues();
 		final int n = ret.rlen;
 		long nnz = 0;
@@ -3701,6 +3707,36 @@ public class LibMatrixMult
 		return nnz;
 	}
 
+	private static long copyUpperToLowerTriangleLarge( MatrixBlock ret )
+	{
+		final DenseBlock c = ret.getDenseBlock();
+		final int n = ret.rlen;
+		long nnz = 0;
+		
+		//blocked execution (2x128KB for L2 blocking)
+		final int blocksizeIJ = 128; 
+		for( int bi = 0; bi<n; bi+=blocksizeIJ ) {
+			int bimin = Math.min(bi+blocksizeIJ, n);
+			for( int bj = bi; bj<n; bj+=blocksizeIJ ) {
+				int bjmin = Math.min(bj+blocksizeIJ, n);
+				for( int i=bi; i<bimin; i++ ) {
+					double[] cvals = c.values(i);
+					int cix = c.pos(i);
+					int jl = Math.max(bj, i+1);
+					for( int j=jl; j<bjmin; j++ ) {
+						double val = cvals[cix+j];
+						c.set(j, i, val);
+						nnz += (val != 0) ? 2 : 0;
+					}
+					if( i >= bj ) //diagonal element
+						nnz += (cvals[cix+i] != 0) ? 1 : 0;
+				}
+			}
+		}
+		
+		return nnz;
+	}
+
 	private static MatrixBlock prepMatrixMultTransposeSelfInput( MatrixBlock m1, boolean leftTranspose ) 
 		throws DMLRuntimeException
 	{
@@ -3736,12 +3772,24 @@ public class LibMatrixMult
 	
 	private static boolean checkParMatrixMultRightInputRows( MatrixBlock m1, MatrixBlock m2, int k ) {
 		//parallelize over rows in rhs matrix if number of rows in lhs/output is very small
-		return (m1.rlen==1 && LOW_LEVEL_OPTIMIZATION && m2.clen>1 && !(m1.isUltraSparse()||m2.isUltraSparse()))
+		//(partial results are aggregated as single-block dense outputs)
+		return (m1.rlen==1 && LOW_LEVEL_OPTIMIZATION && m2.clen>1 && !(m1.isUltraSparse()||m2.isUltraSparse())
+				&& (long)m1.rlen * m2.clen < Integer.MAX_VALUE)
 			|| (m1.rlen<=16 && LOW_LEVEL_OPTIMIZATION && m2.clen>1 && m2.rlen > m1.rlen 
 			   && ( !m1.isUltraSparse() && !m2.sparse ) //dense-dense / sparse/dense
 			   && (long)k * 8 * m1.rlen * m2.clen < MEM_OVERHEAD_THRESHOLD ); 
 	}
 
+	private static void checkSingleBlockVectors( MatrixBlock mV, MatrixBlock mW ) 
+		throws DMLRuntimeException
+	{
+		//mmchain kernels support large dense blocks for X but not for the vectors
+		if( (!mV.sparse && !mV.getDenseBlock().isContiguous())
+			|| (mW != null && !mW.sparse && !mW.getDenseBlock().isContiguous()) )
+			throw new DMLRuntimeException("Unsupported large dense vectors in mmchain: "
+				+ mV.rlen + (mW != null ? ", "+mW.rlen : "") + " rows.");
+	}
+
 	private static boolean checkParMatrixMultRightInputCols( MatrixBlock m1, MatrixBlock m2, int k, boolean pm2r ) {
 		//parallelize over cols in rhs matrix if dense, number of cols in rhs is large, and lhs fits in l2
 		return (LOW_LEVEL_OPTIMIZATION && !m1.sparse && !m2.sparse 
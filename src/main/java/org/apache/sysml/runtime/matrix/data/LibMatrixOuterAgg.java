@@ -19,7 +19,13 @@
 
 package org.apache.sysml.runtime.matrix.data;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.functionobjects.Builtin;
@@ -49,6 +55,9 @@ import org.apache.sysml.runtime.util.SortUtils;
  */
 public class LibMatrixOuterAgg 
 {
+	//minimum number of left-hand-side cells for multi-threaded execution 
+	//(each cell requires a binary search over the sorted right-hand-side vector)
+	public static final long PAR_NUMCELL_THRESHOLD = 64*1024;
 
 	private LibMatrixOuterAgg() {
 		//prevent instantiation via private constructor
@@ -304,63 +313,127 @@ public class LibMatrixOuterAgg
 
 	public static void aggregateMatrix(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp) 
 			throws DMLRuntimeException
+	{
+		//single-threaded unary aggregate outer chain
+		aggregateMatrix(in1Val, outVal, bv, bvi, bOp, uaggOp, 1);
+	}
+	
+	/**
+	 * Multi-threaded unary aggregate outer chain. The left-hand-side is partitioned
+	 * into row ranges (column ranges for colSums) and all threads share the sorted
+	 * right-hand-side vector and its index permutation read-only. The outer product 
+	 * is never materialized.
+	 * 
+	 * @param in1Val input matrix block (left-hand-side vector)
+	 * @param outVal output matrix block, reset to its final dimensions
+	 * @param bv sorted right-hand-side vector
+	 * @param bvi row indices of the sorted right-hand-side vector (only for rowIndexMax/rowIndexMin)
+	 * @param bOp binary operator
+	 * @param uaggOp aggregate unary operator
+	 * @param k degree of parallelism
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static void aggregateMatrix(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int k) 
+			throws DMLRuntimeException
+	{
+		//all kernels write directly into the dense output block
+		outVal.allocateDenseBlock();
+		
+		int len = (uaggOp.indexFn instanceof ReduceRow) ? in1Val.getNumColumns() : in1Val.getNumRows();
+		long cnt = 0;
+		
+		if( k <= 1 || len < PAR_NUMCELL_THRESHOLD ) {
+			//sequential execution over the entire input
+			cnt = aggregateMatrix(in1Val, outVal, bv, bvi, bOp, uaggOp, 0, len);
+		}
+		else {
+			//parallel execution over disjoint row/column ranges
+			try {
+				ExecutorService pool = Executors.newFixedThreadPool( k );
+				ArrayList<OuterAggTask> tasks = new ArrayList<OuterAggTask>();
+				int blklen = (int)(Math.ceil((double)len/k));
+				for( int i=0; i<k && i*blklen<len; i++ )
+					tasks.add(new OuterAggTask(in1Val, outVal, bv, bvi, bOp, uaggOp, 
+						i*blklen, Math.min((i+1)*blklen, len)));
+				List<Future<Long>> taskret = pool.invokeAll(tasks);
+				pool.shutdown();
+				for( Future<Long> task : taskret )
+					cnt += task.get();
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException(ex);
+			}
+		}
+		
+		//set full aggregate and maintain nnz
+		if( uaggOp.indexFn instanceof ReduceAll )
+			outVal.quickSetValue(0, 0, cnt);
+		outVal.recomputeNonZeros();
+	}
+	
+	private static long aggregateMatrix(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int rl, int ru) 
+			throws DMLRuntimeException
 	{		
+		long cnt = 0;
+		
 		// compute unary aggregate outer chain
 		if(isRowIndexMax(uaggOp)) 
 		{
 			if(bOp.fn instanceof LessThan) {
-				uaRIMLt(in1Val, outVal, bv, bvi, bOp);
+				uaRIMLt(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			} else if(bOp.fn instanceof LessThanEquals) {
-				uaRIMLe(in1Val, outVal, bv, bvi, bOp);
+				uaRIMLe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThan) { 
-				uaRIMGt(in1Val, outVal, bv, bvi, bOp);
+				uaRIMGt(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThanEquals) {
-				uaRIMGe(in1Val, outVal, bv, bvi, bOp);
+				uaRIMGe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			} else if(bOp.fn instanceof Equals){ 
-				uaRIMEq(in1Val, outVal, bv, bvi, bOp);	
+				uaRIMEq(in1Val, outVal, bv, bvi, bOp, rl, ru);	
 			} else if (bOp.fn instanceof NotEquals) {
-				uaRIMNe(in1Val, outVal, bv, bvi, bOp);
+				uaRIMNe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			}
 		} else if(isRowIndexMin(uaggOp)) 
 		{
 				if(bOp.fn instanceof LessThan) {
-					uaRIMinLt(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinLt(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				} else if(bOp.fn instanceof LessThanEquals) {
-					uaRIMinLe(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinLe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				} else if(bOp.fn instanceof GreaterThan) { 
-					uaRIMinGt(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinGt(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				} else if(bOp.fn instanceof GreaterThanEquals) {
-					uaRIMinGe(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinGe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				} else if(bOp.fn instanceof Equals){ 
-					uaRIMinEq(in1Val, outVal, bv, bvi, bOp);	
+					uaRIMinEq(in1Val, outVal, bv, bvi, bOp, rl, ru);	
 				} else if (bOp.fn instanceof NotEquals) {
-					uaRIMinNe(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinNe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				}
 		} else if(uaggOp.indexFn instanceof ReduceCol) {
 			if(bOp.fn instanceof LessThan || bOp.fn instanceof GreaterThanEquals) {
-				uaRowSumLtGe(in1Val, outVal, bv, bOp);
+				uaRowSumLtGe(in1Val, outVal, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThan || bOp.fn instanceof LessThanEquals) {
-				uaRowSumGtLe(in1Val, outVal, bv, bOp);
+				uaRowSumGtLe(in1Val, outVal, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof Equals || bOp.fn instanceof NotEquals) {
-				uaRowSumEqNe(in1Val, outVal, bv, bOp);
+				uaRowSumEqNe(in1Val, outVal, bv, bOp, rl, ru);
 			}
 		} else if(uaggOp.indexFn instanceof ReduceRow) {
 			if(bOp.fn instanceof LessThan || bOp.fn instanceof GreaterThanEquals) {
-				uaColSumLtGe(in1Val, outVal, bv, bOp);
+				uaColSumLtGe(in1Val, outVal, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThan || bOp.fn instanceof LessThanEquals) {
-				uaColSumGtLe(in1Val, outVal, bv, bOp);
+				uaColSumGtLe(in1Val, outVal, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof Equals || bOp.fn instanceof NotEquals) {
-				uaColSumEqNe(in1Val, outVal, bv, bOp);
+				uaColSumEqNe(in1Val, outVal, bv, bOp, rl, ru);
 			}
 		} else if(uaggOp.indexFn instanceof ReduceAll) {
 			if(bOp.fn instanceof LessThan || bOp.fn instanceof GreaterThanEquals) {
-				uaSumLtGe(in1Val, outVal, bv, bOp);
+				cnt = uaSumLtGe(in1Val, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThan || bOp.fn instanceof LessThanEquals) {
-				uaSumGtLe(in1Val, outVal, bv, bOp);
+				cnt = uaSumGtLe(in1Val, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof Equals || bOp.fn instanceof NotEquals) {
-				uaSumEqNe(in1Val, outVal, bv, bOp);
+				cnt = uaSumEqNe(in1Val, bv, bOp, rl, ru);
 			}
 		}
+		
+		return cnt;
 	}
 	
 	/**
@@ -370,18 +443,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRowSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static void uaRowSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int agg0 = sumRowSumLtGeColSumGtLe(0.0, bv, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int cnt = (ai == 0) ? agg0: sumRowSumLtGeColSumGtLe(ai, bv, bOp);
-			out.quickSetValue(i, 0, cnt);
+			c.set(i, 0, cnt);
 		}
 	}
 	
@@ -392,18 +467,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRowSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static void uaRowSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{
 		int agg0 = sumRowSumGtLeColSumLtGe(0.0, bv, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int cnt = (ai == 0) ? agg0: sumRowSumGtLeColSumLtGe(ai, bv, bOp);
-			out.quickSetValue(i, 0, cnt);
+			c.set(i, 0, cnt);
 		}
 	}
 	
@@ -415,18 +492,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRowSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static void uaRowSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int agg0 = sumEqNe(0.0, bv, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int cnt = (ai == 0) ? agg0: sumEqNe(ai, bv, bOp);
-			out.quickSetValue(i, 0, cnt);
+			c.set(i, 0, cnt);
 		}
 	}
 
@@ -437,15 +516,17 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaColSumLtGe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp) 
+	private static void uaColSumLtGe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp, int cl, int cu) 
 			throws DMLRuntimeException
 	{		
 		if (in1Val.isInSparseFormat())
-			s_uaColSumLtGe(in1Val, outVal, bv, bOp);
+			s_uaColSumLtGe(in1Val, outVal, bv, bOp, cl, cu);
 		else
-			d_uaColSumLtGe(in1Val, outVal, bv, bOp);
+			d_uaColSumLtGe(in1Val, outVal, bv, bOp, cl, cu);
 	}
 
 	/**
@@ -455,15 +536,17 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaColSumGtLe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp) 
+	private static void uaColSumGtLe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp, int cl, int cu) 
 			throws DMLRuntimeException
 	{
 		if (in1Val.isInSparseFormat())
-			s_uaColSumGtLe(in1Val, outVal, bv, bOp);
+			s_uaColSumGtLe(in1Val, outVal, bv, bOp, cl, cu);
 		else
-			d_uaColSumGtLe(in1Val, outVal, bv, bOp);
+			d_uaColSumGtLe(in1Val, outVal, bv, bOp, cl, cu);
 	}
 
 	
@@ -474,15 +557,17 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaColSumEqNe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp) 
+	private static void uaColSumEqNe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp, int cl, int cu) 
 			throws DMLRuntimeException
 	{		
 		if (in1Val.isInSparseFormat())
-			s_uaColSumEqNe(in1Val, outVal, bv, bOp);
+			s_uaColSumEqNe(in1Val, outVal, bv, bOp, cl, cu);
 		else
-			d_uaColSumEqNe(in1Val, outVal, bv, bOp);
+			d_uaColSumEqNe(in1Val, outVal, bv, bOp, cl, cu);
 	}
 
 	
@@ -490,46 +575,48 @@ public class LibMatrixOuterAgg
 	 * UAgg sums for LessThan and GreaterThanEqual operator
 	 * 
 	 * @param in input matrix block
-	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @return aggregated count of the given row range
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static long uaSumLtGe(MatrixBlock in, double[] bv, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int agg0 = sumRowSumLtGeColSumGtLe(0.0, bv, bOp);
-		int m = in.rlen;
+		long cnt = 0;
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
-			int cnt = (ai == 0) ? agg0: sumRowSumLtGeColSumGtLe(ai, bv, bOp);
-			cnt += (int)out.quickGetValue(0, 0);
-			out.quickSetValue(0, 0, cnt);
+			cnt += (ai == 0) ? agg0: sumRowSumLtGeColSumGtLe(ai, bv, bOp);
 		}
+		return cnt;
 	}
 	
 	/**
 	 * UAgg sums for GreaterThan and LessThanEqual operator
 	 * 
 	 * @param in input matrix block
-	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @return aggregated count of the given row range
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static long uaSumGtLe(MatrixBlock in, double[] bv, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int agg0 = sumRowSumGtLeColSumLtGe(0.0, bv, bOp);
-		int m = in.rlen;
+		long cnt = 0;
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
-			int cnt = (ai == 0) ? agg0: sumRowSumGtLeColSumLtGe(ai, bv, bOp);
-			cnt += (int)out.quickGetValue(0, 0);
-			out.quickSetValue(0, 0, cnt);
+			cnt += (ai == 0) ? agg0: sumRowSumGtLeColSumLtGe(ai, bv, bOp);
 		}
+		return cnt;
 	}
 	
 	
@@ -537,23 +624,24 @@ public class LibMatrixOuterAgg
 	 * UAgg sums for Equal and NotEqual operator
 	 * 
 	 * @param in input matrix block
-	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @return aggregated count of the given row range
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static long uaSumEqNe(MatrixBlock in, double[] bv, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int agg0 = sumEqNe(0.0, bv, bOp);
-		int m = in.rlen;
+		long cnt = 0;
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
-			int cnt = (ai == 0) ? agg0: sumEqNe(ai, bv, bOp);
-			cnt += (int)out.quickGetValue(0, 0);
-			out.quickSetValue(0, 0, cnt);
+			cnt += (ai == 0) ? agg0: sumEqNe(ai, bv, bOp);
 		}
+		return cnt;
 	}
 
 	
@@ -564,18 +652,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMLt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMLt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uarimaxLt(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxLt(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -586,18 +676,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMLe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMLe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uarimaxLe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxLe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -608,18 +700,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMGt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMGt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uarimaxGt(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxGt(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -631,18 +725,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMGe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMGe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uarimaxGe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxGe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -654,18 +750,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMEq(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMEq(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uarimaxEq(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxEq(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 
@@ -678,18 +776,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMNe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMNe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uarimaxNe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxNe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 
@@ -701,18 +801,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMinLt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMinLt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uariminLt(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminLt(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -723,18 +825,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMinLe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMinLe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uariminLe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminLe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -745,18 +849,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMinGt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMinGt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uariminGt(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminGt(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -768,18 +874,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMinGe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMinGe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uariminGe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminGe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -791,18 +899,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMinEq(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMinEq(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uariminEq(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminEq(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 
@@ -815,18 +925,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void uaRIMinNe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) 
+	private static void uaRIMinNe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) 
 			throws DMLRuntimeException
 	{		
 		int ind0 = uariminNe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminNe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 
@@ -838,19 +950,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void d_uaColSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, 
-			BinaryOperator bOp) 
+	private static void d_uaColSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) 
 			throws DMLRuntimeException
 	{
 		int agg0 = sumRowSumGtLeColSumLtGe(0.0, bv, bOp);
-		int m = in.clen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=cl; i<cu; i++ ) {
 			double ai = in.quickGetValue(0, i);
 			int cnt = (ai == 0) ? agg0: sumRowSumGtLeColSumLtGe(ai, bv, bOp);
-			out.quickSetValue(0, i, cnt);
+			c.set(0, i, cnt);
 		}
 	}
 
@@ -861,19 +974,19 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void s_uaColSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv,	BinaryOperator bOp) 
+	private static void s_uaColSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) 
 			throws DMLRuntimeException
 	{
 		int agg0 = sumRowSumGtLeColSumLtGe(0.0, bv, bOp);
-
-		//allocate and initialize output values (not indices) 
-		out.allocateDenseBlock(true);
-		if(agg0 != 0.0) {
-			out.getDenseBlock().set(0, 1, 0, out.clen, agg0);
-			out.setNonZeros(out.clen);
-		}
+		
+		//initialize output values of column range (not indices)
+		DenseBlock c = out.getDenseBlock();
+		if( agg0 != 0 )
+			c.set(0, 1, cl, cu, agg0);
 		
 		if( in.isEmptyBlock(false) )
 			return;
@@ -885,9 +998,17 @@ public class LibMatrixOuterAgg
 			int alen = sblock.size(j);
 			int[] aix = sblock.indexes(j);
 			double [] avals = sblock.values(j);
-			for (int i=apos; i < apos+alen; i++) {
+			int astart = apos;
+			if( cl > 0 ) {
+				//note: position relative to the row start
+				int tmp = sblock.posFIndexGTE(j, cl);
+				if( tmp < 0 )
+					continue;
+				astart = apos + tmp;
+			}
+			for (int i=astart; i < apos+alen && aix[i] < cu; i++) {
 				int cnt = sumRowSumGtLeColSumLtGe(avals[i], bv, bOp);
-				out.quickSetValue(0, aix[i], cnt);
+				c.set(0, aix[i], cnt);
 			}
 		}
 	}
@@ -899,18 +1020,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void d_uaColSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static void d_uaColSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) 
 			throws DMLRuntimeException
 	{
 		int agg0 = sumRowSumLtGeColSumGtLe(0.0, bv, bOp);
-		int m = in.clen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=cl; i<cu; i++ ) {
 			double ai = in.quickGetValue(0, i);
 			int cnt = (ai == 0) ? agg0: sumRowSumLtGeColSumGtLe(ai, bv, bOp);
-			out.quickSetValue(0, i, cnt);
+			c.set(0, i, cnt);
 		}
 	}
 
@@ -921,33 +1044,41 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void s_uaColSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static void s_uaColSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) 
 			throws DMLRuntimeException
 	{
 		int agg0 = sumRowSumLtGeColSumGtLe(0.0, bv, bOp);
 		
-		//allocate and initialize output values (not indices) 
-		out.allocateDenseBlock(true);
-		if(agg0 != 0.0) {
-			out.getDenseBlock().set(0, 1, 0, out.clen, agg0);
-			out.setNonZeros(out.getNumColumns());
-		}
+		//initialize output values of column range (not indices)
+		DenseBlock c = out.getDenseBlock();
+		if( agg0 != 0 )
+			c.set(0, 1, cl, cu, agg0);
 		
 		if( in.isEmptyBlock(false) )
 			return;
 		
 		SparseBlock sblock = in.getSparseBlock();
-		for (int j = 0; j < sblock.numRows(); j++)
+		for( int j = 0; j < sblock.numRows(); j++)
 		if( !sblock.isEmpty(j) ) {
 			int apos = sblock.pos(j);
 			int alen = sblock.size(j);
 			int[] aix = sblock.indexes(j);
 			double [] avals = sblock.values(j);
-			for (int i=apos; i < apos+alen; i++) {
+			int astart = apos;
+			if( cl > 0 ) {
+				//note: position relative to the row start
+				int tmp = sblock.posFIndexGTE(j, cl);
+				if( tmp < 0 )
+					continue;
+				astart = apos + tmp;
+			}
+			for (int i=astart; i < apos+alen && aix[i] < cu; i++) {
 				int cnt = sumRowSumLtGeColSumGtLe(avals[i], bv, bOp);
-				out.quickSetValue(0, aix[i], cnt);
+				c.set(0, aix[i], cnt);
 			}
 		}
 	}
@@ -959,18 +1090,20 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void d_uaColSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static void d_uaColSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) 
 			throws DMLRuntimeException
 	{		
 		int agg0 = sumEqNe(0.0, bv, bOp);
-		int m = in.clen;
+		DenseBlock c = out.getDenseBlock();
 		
-		for( int i=0; i<m; i++ ) {
+		for( int i=cl; i<cu; i++ ) {
 			double ai = in.quickGetValue(0, i);
 			int cnt = (ai == 0) ? agg0: sumEqNe(ai, bv, bOp);
-			out.quickSetValue(0, i, cnt);
+			c.set(0, i, cnt);
 		}
 	}
 
@@ -981,33 +1114,41 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
 	 * @throws DMLRuntimeException if DMLRuntimeException occurs
 	 */
-	private static void s_uaColSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) 
+	private static void s_uaColSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) 
 			throws DMLRuntimeException
 	{		
 		int agg0 = sumEqNe(0.0, bv, bOp);
-
-		//allocate and initialize output values (not indices) 
-		out.allocateDenseBlock(true);
-		if(agg0 != 0.0) {
-			out.getDenseBlock().set(0, 1, 0, out.clen, agg0);
-			out.setNonZeros(out.getNumColumns());
-		}
+		
+		//initialize output values of column range (not indices)
+		DenseBlock c = out.getDenseBlock();
+		if( agg0 != 0 )
+			c.set(0, 1, cl, cu, agg0);
 		
 		if( in.isEmptyBlock(false) )
 			return;
 		
 		SparseBlock sblock = in.getSparseBlock();
-		for (int j = 0; j < sblock.numRows(); j++)
+		for( int j = 0; j < sblock.numRows(); j++)
 		if( !sblock.isEmpty(j) ) {
 			int apos = sblock.pos(j);
 			int alen = sblock.size(j);
 			int[] aix = sblock.indexes(j);
 			double [] avals = sblock.values(j);
-			for (int i=apos; i < apos+alen; i++) {
+			int astart = apos;
+			if( cl > 0 ) {
+				//note: position relative to the row start
+				int tmp = sblock.posFIndexGTE(j, cl);
+				if( tmp < 0 )
+					continue;
+				astart = apos + tmp;
+			}
+			for (int i=astart; i < apos+alen && aix[i] < cu; i++) {
 				int cnt = sumEqNe(avals[i], bv, bOp);
-				out.quickSetValue(0, aix[i], cnt);
+				c.set(0, aix[i], cnt);
 			}
 		}
 	}
@@ -1576,4 +1717,31 @@ public class LibMatrixOuterAgg
     	}
 	}
 
-}
\ No newline at end of file
+	private static class OuterAggTask implements Callable<Long> 
+	{
+		private final MatrixBlock _a;
+		private final MatrixBlock _c;
+		private final double[] _bv;
+		private final int[] _bvi;
+		private final BinaryOperator _bOp;
+		private final AggregateUnaryOperator _uaggOp;
+		private final int _rl;
+		private final int _ru;
+
+		protected OuterAggTask(MatrixBlock a, MatrixBlock c, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int rl, int ru) {
+			_a = a;
+			_c = c;
+			_bv = bv;
+			_bvi = bvi;
+			_bOp = bOp;
+			_uaggOp = uaggOp;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() throws DMLRuntimeException {
+			return aggregateMatrix(_a, _c, _bv, _bvi, _bOp, _uaggOp, _rl, _ru);
+		}
+	}
+}
@@ -71,9 +71,14 @@ public class LibMatrixReorg
 	//allow reuse of temporary blocks for certain operations
 	public static final boolean ALLOW_BLOCK_REUSE = false;
 	
-	//use csr instead of mcsr sparse block for rexpand columns / diag v2m
+	//use csr instead of mcsr sparse block for rexpand columns / diag v2m / transpose
 	public static final boolean SPARSE_OUTPUTS_IN_CSR = true;
 	
+	//tile sizes for dense transpose (L2 blocks of 128x128, L1 tiles of 8 rows)
+	//and in-place square transpose (tile pairs of 2x32KB)
+	private static final int BLOCKSIZE_TRANSPOSE = 128;
+	private static final int BLOCKSIZE_TRANSPOSE_INPLACE = 64;
+	
 	private enum ReorgType {
 		TRANSPOSE,
 		REV,
@@ -113,7 +118,7 @@ public class LibMatrixReorg
 				return diag(in, out);
 			case SORT:
 				SortIndex ix = (SortIndex) op.fn;
-				return sort(in, out, ix.getCols(), ix.getDecreasing(), ix.getIndexReturn());
+				return sort(in, out, ix.getCols(), ix.getDecreasing(), ix.getIndexReturn(), op.getNumThreads());
 			default:
 				throw new DMLRuntimeException("Unsupported reorg operator: "+op.fn);
 		}
@@ -122,6 +127,10 @@ public class LibMatrixReorg
 	public static MatrixBlock transpose( MatrixBlock in, MatrixBlock out ) 
 		throws DMLRuntimeException
 	{
+		//in-place transpose of squared dense blocks
+		if( in == out )
+			return transposeInPlace(in, 1);
+		
 		//sparse-safe operation
 		if( in.isEmptyBlock(false) )
 			return out;
@@ -135,13 +144,20 @@ public class LibMatrixReorg
 		//however, note that with update in-place this would be an invalid optimization
 		if( SHALLOW_COPY_REORG && !in.sparse && !out.sparse && (in.rlen==1 || in.clen==1)  ) {
 			out.denseBlock = DenseBlockFactory.createDenseBlock(in.getDenseBlockValues(), in.clen, in.rlen);
+			in.markSharedData();
+			out.markSharedData();
 			return out;
 		}
 		
 		//Timing time = new Timing(true);
 		
 		//allocate output arrays (if required)
-		if( out.sparse )
+		boolean csr = isSparseToCSRTranspose(in, out);
+		int[] cnt = (in.sparse && out.sparse) ?
+			countNnzPerColumn(in, 0, in.rlen, csr) : null;
+		if( csr )
+			allocateCSROutput(out, cnt);
+		else if( out.sparse )
 			out.allocateSparseRowsBlock(false);
 		else
 			out.allocateDenseBlock(false);
@@ -150,8 +166,7 @@ public class LibMatrixReorg
 		if( !in.sparse && !out.sparse )
 			transposeDenseToDense( in, out, 0, in.rlen, 0, in.clen );
 		else if( in.sparse && out.sparse )
-			transposeSparseToSparse( in, out, 0, in.rlen, 0, in.clen, 
-				countNnzPerColumn(in, 0, in.rlen));
+			transposeSparseToSparse( in, out, 0, in.rlen, 0, in.clen, cnt, csr );
 		else if( in.sparse )
 			transposeSparseToDense( in, out, 0, in.rlen, 0, in.clen );
 		else
@@ -165,8 +180,12 @@ public class LibMatrixReorg
 	public static MatrixBlock transpose( MatrixBlock in, MatrixBlock out, int k ) 
 		throws DMLRuntimeException
 	{
+		//in-place transpose of squared dense blocks
+		if( in == out )
+			return transposeInPlace(in, k);
+		
 		//redirect small or special cases to sequential execution
-		if( in.isEmptyBlock(false) || (in.rlen * in.clen < PAR_NUMCELL_THRESHOLD) || k == 1
+		if( in.isEmptyBlock(false) || ((long)in.rlen * in.clen < PAR_NUMCELL_THRESHOLD) || k == 1
 			|| (SHALLOW_COPY_REORG && !in.sparse && !out.sparse && (in.rlen==1 || in.clen==1) )
 			|| (in.sparse && !out.sparse && in.rlen==1) || (!in.sparse && out.sparse && in.rlen==1) 
 			|| (!in.sparse && out.sparse) || !out.isThreadSafe())
@@ -178,9 +197,10 @@ public class LibMatrixReorg
 		
 		//set meta data and allocate output arrays (if required)
 		out.nonZeros = in.nonZeros;
-		if( out.sparse )
+		boolean csr = isSparseToCSRTranspose(in, out);
+		if( out.sparse && !csr )
 			out.allocateSparseRowsBlock(false);
-		else
+		else if( !out.sparse )
 			out.allocateDenseBlock(false);
 		
 		//core multi-threaded transpose
@@ -192,10 +212,12 @@ public class LibMatrixReorg
 				ArrayList<CountNnzTask> tasks = new ArrayList<>();
 				int blklen = (int)(Math.ceil((double)in.rlen/k));
 				for( int i=0; i<k & i*blklen<in.rlen; i++ )
-					tasks.add(new CountNnzTask(in, i*blklen, Math.min((i+1)*blklen, in.rlen)));
+					tasks.add(new CountNnzTask(in, i*blklen, Math.min((i+1)*blklen, in.rlen), csr));
 				List<Future<int[]>> rtasks = pool.invokeAll(tasks);
 				for( Future<int[]> rtask : rtasks )
 					cnt = mergeNnzCounts(cnt, rtask.get());
+				if( csr )
+					allocateCSROutput(out, cnt);
 			} 
 			//compute actual transpose and check for errors
 			ArrayList<TransposeTask> tasks = new ArrayList<>();
@@ -204,7 +226,7 @@ public class LibMatrixReorg
 			int blklen = (int)(Math.ceil((double)len/k));
 			blklen += (blklen%8 != 0)?8-blklen%8:0;
 			for( int i=0; i<k & i*blklen<len; i++ )
-				tasks.add(new TransposeTask(in, out, row, i*blklen, Math.min((i+1)*blklen, len), cnt));
+				tasks.add(new TransposeTask(in, out, row, i*blklen, Math.min((i+1)*blklen, len), cnt, csr));
 			List<Future<Object>> taskret = pool.invokeAll(tasks);
 			pool.shutdown();
 			for( Future<Object> task : taskret )
@@ -219,6 +241,56 @@ public class LibMatrixReorg
 		return out;
 	}
 
+	/**
+	 * In-place transpose of squared dense matrices, which swaps pairs of tiles
+	 * across the diagonal and thus does not require a second full-size allocation.
+	 * Non-squared, sparse, or large (multi-block) inputs are transposed into a
+	 * new output block instead. Note that the caller is responsible for ensuring
+	 * that the input is not shared with other objects.
+	 * 
+	 * @param in input matrix (squared, dense)
+	 * @param k degree of parallelism
+	 * @return transposed matrix (the input block if transposed in-place)
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock transposeInPlace( MatrixBlock in, int k ) 
+		throws DMLRuntimeException
+	{
+		//redirect non-squared, sparse and special cases to out-of-place transpose
+		if( in.rlen != in.clen || in.sparse || in.isEmptyBlock(false)
+			|| in.getDenseBlock().numBlocks() > 1 ) {
+			MatrixBlock out = new MatrixBlock(in.clen, in.rlen, in.sparse);
+			return (k > 1) ? transpose(in, out, k) : transpose(in, out);
+		}
+		
+		//core sequential or multi-threaded in-place transpose
+		//(tile pairs (bi,bj) and (bj,bi) are processed by the owner of the 
+		//block row min(bi,bj), where block rows are assigned round-robin)
+		final int n = in.rlen;
+		final int blen = BLOCKSIZE_TRANSPOSE_INPLACE;
+		final int nblk = (int)Math.ceil((double)n/blen);
+		if( k <= 1 || (long)n*n < PAR_NUMCELL_THRESHOLD ) {
+			transposeDenseInPlace(in, 0, 1);
+		}
+		else {
+			try {
+				ExecutorService pool = Executors.newFixedThreadPool( k );
+				ArrayList<TransposeInPlaceTask> tasks = new ArrayList<>();
+				for( int i=0; i<k && i<nblk; i++ )
+					tasks.add(new TransposeInPlaceTask(in, i, Math.min(k, nblk)));
+				List<Future<Object>> taskret = pool.invokeAll(tasks);
+				pool.shutdown();
+				for( Future<Object> task : taskret )
+					task.get();
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException(ex);
+			}
+		}
+		
+		return in;
+	}
+
 	public static MatrixBlock rev( MatrixBlock in, MatrixBlock out ) 
 		throws DMLRuntimeException
 	{
@@ -318,6 +390,28 @@ public class LibMatrixReorg
 
 	public static MatrixBlock sort(MatrixBlock in, MatrixBlock out, int[] by, boolean desc, boolean ixret) 
 		throws DMLRuntimeException
+	{
+		return sort(in, out, by, desc, ixret, 1);
+	}
+	
+	/**
+	 * CP sort operation (data or indexes) with multiple order-by columns. For large
+	 * inputs and k&gt;1, the index vector is sorted via a parallel merge sort, 
+	 * where independently sorted row partitions are merged pairwise in parallel. 
+	 * Ties are always resolved by the original row index, which makes the result
+	 * stable and identical to the sequential sort for any degree of parallelism.
+	 * 
+	 * @param in input matrix
+	 * @param out output matrix
+	 * @param by one-based order-by columns
+	 * @param desc if true, sort in descending order
+	 * @param ixret if true, return the sorted index vector instead of the data
+	 * @param k maximum parallelism
+	 * @return output matrix
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock sort(MatrixBlock in, MatrixBlock out, int[] by, boolean desc, boolean ixret, int k) 
+		throws DMLRuntimeException
 	{
 		//meta data gathering and preparation
 		boolean sparse = in.isInSparseFormat();
@@ -340,7 +434,10 @@ public class LibMatrixReorg
 			if( !sparse && clen == 1 ) { //DENSE COLUMN VECTOR
 				//in-place quicksort, unstable (no indexes needed)
 				out.copy( in ); //dense (always single block)
-				Arrays.sort(out.getDenseBlockValues());
+				if( k > 1 && rlen >= PAR_NUMCELL_THRESHOLD )
+					sortParallel(in, by, false, out.getDenseBlockValues(), null, k);
+				else
+					Arrays.sort(out.getDenseBlockValues());
 				if( desc )
 					sortReverseDense(out);
 				return out;
@@ -359,30 +456,14 @@ public class LibMatrixReorg
 		
 		//step 3: index vector sorting
 		
-		//create index vector and extract values
+		//create index vector and extract values, and sort
+		//the index vector (stable, incl secondary columns)
 		int[] vix = new int[rlen];
 		double[] values = new double[rlen];
-		for( int i=0; i<rlen; i++ ) {
-			vix[i] = i;
-			values[i] = in.quickGetValue(i, by[0]-1);
-		}
-		
-		//sort index vector on extracted data (unstable)
-		SortUtils.sortByValue(0, rlen, values, vix);
-		
-		//sort by secondary columns if required (in-place)
-		if( by.length > 1 )
-			sortBySecondary(0, rlen, values, vix, in, by, 1);
-		
-		//flip order if descending requested (note that this needs to happen
-		//before we ensure stable outputs, hence we also flip values)
-		if(desc) {
-			sortReverseDense(vix);
-			sortReverseDense(values);
-		}
-		
-		//final pass to ensure stable output
-		sortIndexesStable(0, rlen, values, vix, in, by, 1);
+		if( k > 1 && rlen >= PAR_NUMCELL_THRESHOLD )
+			sortParallel(in, by, desc, values, vix, k);
+		else
+			sortIndexes(in, by, desc, values, vix, 0, rlen);
 
 		//step 4: create output matrix (guaranteed non-empty, see step 2)
 		if( !ixret ) {
@@ -758,8 +839,8 @@ public class LibMatrixReorg
 		else //MATRIX TRANSPOSE
 		{
 			//blocking according to typical L2 cache sizes 
-			final int blocksizeI = 128;
-			final int blocksizeJ = 128;
+			final int blocksizeI = BLOCKSIZE_TRANSPOSE;
+			final int blocksizeJ = BLOCKSIZE_TRANSPOSE;
 			
 			//blocked execution
 			if( a.numBlocks()==1 && c.numBlocks()==1 ) { //<16GB
@@ -769,12 +850,13 @@ public class LibMatrixReorg
 					int bimin = Math.min(bi+blocksizeI, ru);
 					for( int bj = cl; bj<cu; bj+=blocksizeJ ) {
 						int bjmin = Math.min(bj+blocksizeJ, cu);
-						//core transpose operation
-						for( int i=bi; i<bimin; i++ ) {
-							int aix = i * n + bj;
-							int cix = bj * n2 + i;
-							transposeRow(avals, cvals, aix, cix, n2, bjmin-bj);
-						}
+						//core transpose operation, in L1 tiles of 8 input rows
+						//(i.e., writes of contiguous 8-value segments per output row)
+						int i = bi;
+						for( ; i+8<=bimin; i+=8 )
+							transposeTile8(avals, cvals, i*n+bj, bj*n2+i, n, n2, bjmin-bj);
+						for( ; i<bimin; i++ )
+							transposeRow(avals, cvals, i*n+bj, bj*n2+i, n2, bjmin-bj);
 					}
 				}
 			}
@@ -839,7 +921,7 @@ public class LibMatrixReorg
 		}
 	}
 
-	private static void transposeSparseToSparse(MatrixBlock in, MatrixBlock out, int rl, int ru, int cl, int cu, int[] cnt)
+	private static void transposeSparseToSparse(MatrixBlock in, MatrixBlock out, int rl, int ru, int cl, int cu, int[] cnt, boolean csr)
 	{
 		//NOTE: called only in sequential or column-wise parallel execution
 		if( rl > 0 || ru < in.rlen )
@@ -852,6 +934,13 @@ public class LibMatrixReorg
 		SparseBlock a = in.getSparseBlock();
 		SparseBlock c = out.getSparseBlock();
 
+		//two-pass counting-sort transpose into preallocated csr
+		//(w/ the same csr decision as used for output allocation)
+		if( csr ) {
+			transposeSparseToCSR(a, (SparseBlockCSR)c, rl, ru, cl, cu);
+			return;
+		}
+		
 		//allocate output sparse rows
 		if( cnt != null ) {
 			for( int i=cl; i<cu; i++ )
@@ -952,6 +1041,69 @@ public class LibMatrixReorg
 		}
 	}
 
+	private static void transposeSparseToCSR(SparseBlock a, SparseBlockCSR c, int rl, int ru, int cl, int cu) {
+		//second pass of counting-sort transpose: scatter entries into output rows 
+		//[cl,cu) of the csr block, whose row pointers are given by the nnz per
+		//column (first pass), where row-major input order keeps column indexes sorted
+		int[] cptr = c.rowPointers();
+		int[] cix = c.indexes();
+		double[] cvals = c.values();
+		int[] pos = Arrays.copyOfRange(cptr, cl, cu);
+		for( int i=rl; i<ru; i++ ) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			int j = apos;
+			if( cl > 0 ) {
+				int tmp = a.posFIndexGTE(i, cl);
+				j = (tmp >= 0) ? apos+tmp : apos+alen;
+			}
+			for( ; j<apos+alen && aix[j]<cu; j++ ) {
+				int ix = pos[aix[j]-cl]++;
+				cix[ix] = i;
+				cvals[ix] = avals[j];
+			}
+		}
+	}
+
+	private static void transposeDenseInPlace(MatrixBlock in, int off, int incr) {
+		//swap tile pairs (bi,bj) and (bj,bi) for block rows off, off+incr, ...
+		final double[] c = in.getDenseBlockValues();
+		final int n = in.rlen;
+		final int blen = BLOCKSIZE_TRANSPOSE_INPLACE;
+		for( int bi = off*blen; bi<n; bi+=incr*blen ) {
+			int bimin = Math.min(bi+blen, n);
+			for( int bj = bi; bj<n; bj+=blen ) {
+				int bjmin = Math.min(bj+blen, n);
+				for( int i=bi; i<bimin; i++ ) {
+					int rix = i * n;
+					for( int j=Math.max(bj, i+1), cix=j*n+i; j<bjmin; j++, cix+=n ) {
+						double tmp = c[rix+j];
+						c[rix+j] = c[cix];
+						c[cix] = tmp;
+					}
+				}
+			}
+		}
+	}
+
+	private static void transposeTile8( double[] a, double[] c, int aix, int cix, int n, int n2, int len ) {
+		//transpose 8 x len tile, where each output row receives a contiguous
+		//segment of 8 values (full cache line) from 8 sequential input streams
+		for( int j=0, ai=aix; j<len; j++, ai++, cix+=n2 ) {
+			c[ cix + 0 ] = a[ ai + 0*n ];
+			c[ cix + 1 ] = a[ ai + 1*n ];
+			c[ cix + 2 ] = a[ ai + 2*n ];
+			c[ cix + 3 ] = a[ ai + 3*n ];
+			c[ cix + 4 ] = a[ ai + 4*n ];
+			c[ cix + 5 ] = a[ ai + 5*n ];
+			c[ cix + 6 ] = a[ ai + 6*n ];
+			c[ cix + 7 ] = a[ ai + 7*n ];
+		}
+	}
+
 	static void transposeRow( double[] a, double[] c, int aix, int cix, int n2, int len ) {
 		final int bn = len%8;
 		//compute rest (not aligned to 8-blocks)
@@ -970,11 +1122,28 @@ public class LibMatrixReorg
 		}
 	}
 
-	private static int[] countNnzPerColumn(MatrixBlock in, int rl, int ru) {
+	private static boolean isSparseToCSRTranspose(MatrixBlock in, MatrixBlock out) {
+		//csr output requires int nnz, and exact counts of the first pass
+		return SPARSE_OUTPUTS_IN_CSR && in.sparse && out.sparse 
+			&& in.nonZeros < Integer.MAX_VALUE && out.rlen > 1;
+	}
+
+	private static void allocateCSROutput(MatrixBlock out, int[] cnt) {
+		//row pointers of output from nnz per input column
+		int[] rptr = new int[cnt.length+1];
+		for( int i=0; i<cnt.length; i++ )
+			rptr[i+1] = rptr[i] + cnt[i];
+		int nnz = rptr[cnt.length];
+		out.sparseBlock = new SparseBlockCSR(
+			rptr, new int[nnz], new double[nnz], nnz);
+	}
+
+	private static int[] countNnzPerColumn(MatrixBlock in, int rl, int ru, boolean force) {
 		//initial pass to determine capacity (this helps to prevent
 		//sparse row reallocations and mem inefficiency w/ skew
+		//and is the first pass of the counting-sort transpose into csr)
 		int[] cnt = null;
-		if( in.sparse && in.clen <= 4096 ) { //16KB
+		if( in.sparse && (in.clen <= 4096 || force) ) { //16KB
 			SparseBlock a = in.sparseBlock;
 			cnt = new int[in.clen];
 			for( int i=rl; i<ru; i++ ) {
@@ -1005,7 +1174,8 @@ public class LibMatrixReorg
 		out.allocateDenseBlock(false);
 		
 		//copy all rows into target positions
-		if( n == 1 ) { //column vector
+		if( n == 1 && in.getDenseBlock().isContiguous()
+			&& out.getDenseBlock().isContiguous() ) { //column vector
 			double[] a = in.getDenseBlockValues();
 			double[] c = out.getDenseBlockValues();
 			for( int i=0; i<m; i++ )
@@ -1132,6 +1302,8 @@ public class LibMatrixReorg
 			//we don't need to create a copy, given our copy on write semantics.
 			//however, note that with update in-place this would be an invalid optimization
 			out.denseBlock = DenseBlockFactory.createDenseBlock(in.getDenseBlockValues(), rows, cols);
+			in.markSharedData();
+			out.markSharedData();
 			return;
 		}
 		
@@ -1171,9 +1343,10 @@ public class LibMatrixReorg
 				for( int i=0; i<rows; i++ ) {
 					double[] cvals = c.values(i);
 					int cix = c.pos(i);
-					for( int j=0, aix2=i; j<cols; j++, aix2+=rows ) {
-						int ai = aix2%rlen;
-						int aj = aix2/rlen;
+					for( int j=0; j<cols; j++ ) {
+						long aix2 = (long)rows*j + i; //w/o int overflow
+						int ai = (int)(aix2%rlen);
+						int aj = (int)(aix2/rlen);
 						cvals[cix+j] = a.get(ai,aj);
 					}
 				}
@@ -1388,9 +1561,10 @@ public class LibMatrixReorg
 			{
 				//note: cache-friendly on c but not a; append-only
 				for( int i=0; i<rows; i++ )
-					for( int j=0, aix2=i; j<cols; j++, aix2+=rows ) {
-						int ai = aix2%rlen;
-						int aj = aix2/rlen;
+					for( int j=0; j<cols; j++ ) {
+						long aix2 = (long)rows*j + i; //w/o int overflow
+						int ai = (int)(aix2%rlen);
+						int aj = (int)(aix2/rlen);
 						double val = a.get(ai, aj);
 						if( val != 0 ) {
 							c.allocate(i, estnnz, cols);
@@ -1597,12 +1771,14 @@ public class LibMatrixReorg
 		
 		int rlen = in.rlen;
 		int clen = in.clen;
-		double[] a = in.getDenseBlockValues();
+		DenseBlock da = in.getDenseBlock();
 		
 		//append all values to right blocks
 		MatrixIndexes ixtmp = new MatrixIndexes();
-		for( int i=0, aix=0; i<rlen; i++, aix+=clen )
+		for( int i=0; i<rlen; i++ )
 		{
+			double[] a = da.values(i);
+			int aix = da.pos(i);
 			long ai = row_offset+i;
 			for( int j=0; j<clen; j++ )
 			{
@@ -1781,6 +1957,8 @@ public class LibMatrixReorg
 				ret.sparseBlock = in.sparseBlock;
 			else
 				ret.denseBlock = in.denseBlock;
+			in.markSharedData();
+			ret.markSharedData();
 		}
 		else if( in.sparse ) //* <- SPARSE
 		{
@@ -1885,6 +2063,8 @@ public class LibMatrixReorg
 				ret.sparseBlock = in.sparseBlock;
 			else
 				ret.denseBlock = in.denseBlock;
+			in.markSharedData();
+			ret.markSharedData();
 		}
 		else
 		{
@@ -2127,24 +2307,195 @@ public class LibMatrixReorg
 		}
 	}
 
-	private static void sortReverseDense( int[] a ) {
-		int rlen = a.length;
-		for( int i=0; i<rlen/2; i++ ) {
-			int tmp = a[i];
-			a[i] = a[rlen - i -1];
-			a[rlen - i - 1] = tmp;
+	private static void sortReverseDense( int[] a, int rl, int ru ) {
+		int len = ru - rl;
+		for( int i=0; i<len/2; i++ ) {
+			int tmp = a[rl + i];
+			a[rl + i] = a[ru - i - 1];
+			a[ru - i - 1] = tmp;
 		}
 	}
 
-	private static void sortReverseDense( double[] a ) {
-		int rlen = a.length;
-		for( int i=0; i<rlen/2; i++ ) {
-			double tmp = a[i];
-			a[i] = a[rlen - i -1];
-			a[rlen - i - 1] = tmp;
+	private static void sortReverseDense( double[] a, int rl, int ru ) {
+		int len = ru - rl;
+		for( int i=0; i<len/2; i++ ) {
+			double tmp = a[rl + i];
+			a[rl + i] = a[ru - i - 1];
+			a[ru - i - 1] = tmp;
 		}
 	}
 	
+	/**
+	 * Sorts the index vector for the rows [rl,ru) of the given input, where
+	 * ties are resolved in ascending order of row indexes (stable sort).
+	 * 
+	 * @param in input matrix
+	 * @param by one-based order-by columns
+	 * @param desc if true, sort in descending order
+	 * @param values output vector of sort keys (values of first order-by column)
+	 * @param vix output index vector
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 */
+	private static void sortIndexes(MatrixBlock in, int[] by, boolean desc, double[] values, int[] vix, int rl, int ru) {
+		//create index vector and extract values
+		for( int i=rl; i<ru; i++ ) {
+			vix[i] = i;
+			values[i] = in.quickGetValue(i, by[0]-1);
+		}
+		
+		//sort index vector on extracted data (unstable)
+		sortByValueTotalOrder(rl, ru, values, vix);
+		
+		//sort by secondary columns if required (in-place)
+		if( by.length > 1 )
+			sortBySecondary(rl, ru, values, vix, in, by, 1);
+		
+		//flip order if descending requested (note that this needs to happen
+		//before we ensure stable outputs, hence we also flip values)
+		if(desc) {
+			sortReverseDense(vix, rl, ru);
+			sortReverseDense(values, rl, ru);
+		}
+		
+		//final pass to ensure stable output
+		sortIndexesStable(rl, ru, values, vix, in, by, 1);
+	}
+	
+	/**
+	 * Parallel merge sort of the given values and (optional) index vector. If 
+	 * the index vector is null, we sort the values in ascending order. Otherwise, 
+	 * we sort the index vector for all rows of the input, according to the 
+	 * order-by columns, and resolve ties via the row indexes.
+	 * 
+	 * @param in input matrix
+	 * @param by one-based order-by columns
+	 * @param desc if true, sort in descending order
+	 * @param values values (for index sort, output vector of sort keys) 
+	 * @param vix output index vector, or null for sorting values only
+	 * @param k maximum parallelism
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	private static void sortParallel(MatrixBlock in, int[] by, boolean desc, double[] values, int[] vix, int k) 
+		throws DMLRuntimeException
+	{
+		final int rlen = in.rlen;
+		
+		try {
+			ExecutorService pool = Executors.newFixedThreadPool( k );
+			
+			//sort independent row partitions
+			int blklen = (int)(Math.ceil((double)rlen/k));
+			int numBlks = (int)(Math.ceil((double)rlen/blklen));
+			int[] bounds = new int[numBlks+1];
+			ArrayList<SortTask> tasks = new ArrayList<>();
+			for( int i=0; i<numBlks; i++ ) {
+				bounds[i] = i*blklen;
+				bounds[i+1] = Math.min((i+1)*blklen, rlen);
+				tasks.add(new SortTask(in, by, desc, values, vix, bounds[i], bounds[i+1]));
+			}
+			for( Future<Object> rtask : pool.invokeAll(tasks) )
+				rtask.get();
+			
+			//pairwise merge of sorted partitions (log2(k) rounds)
+			double[] values2 = new double[rlen];
+			int[] vix2 = (vix != null) ? new int[rlen] : null;
+			double[] srcv = values, dstv = values2;
+			int[] srcix = vix, dstix = vix2;
+			while( bounds.length > 2 ) {
+				int numRuns = bounds.length - 1;
+				int[] bounds2 = new int[(numRuns+1)/2+1];
+				ArrayList<SortMergeTask> mtasks = new ArrayList<>();
+				for( int i=0; i<numRuns; i+=2 ) {
+					int ru = bounds[Math.min(i+2, numRuns)];
+					mtasks.add(new SortMergeTask(in, by, desc, srcv, srcix, 
+						dstv, dstix, bounds[i], bounds[i+1], ru));
+					bounds2[i/2+1] = ru;
+				}
+				for( Future<Object> rtask : pool.invokeAll(mtasks) )
+					rtask.get();
+				bounds = bounds2;
+				double[] tmpv = srcv; srcv = dstv; dstv = tmpv;
+				int[] tmpix = srcix; srcix = dstix; dstix = tmpix;
+			}
+			pool.shutdown();
+			
+			//copy back merge results if necessary
+			if( srcv != values ) {
+				System.arraycopy(srcv, 0, values, 0, rlen);
+				if( vix != null )
+					System.arraycopy(srcix, 0, vix, 0, rlen);
+			}
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * Compares two rows according to the order-by columns, where ties are
+	 * resolved via the row indexes (consistent with the stable sequential sort).
+	 * 
+	 * @param in input matrix
+	 * @param by one-based order-by columns
+	 * @param desc if true, compare in descending order
+	 * @param v1 sort key of first row
+	 * @param ix1 row index of first row
+	 * @param v2 sort key of second row
+	 * @param ix2 row index of second row
+	 * @return negative, zero, or positive if the first row is ordered before,
+	 *     equal to, or after the second row
+	 */
+	private static int compareSortRows(MatrixBlock in, int[] by, boolean desc, double v1, int ix1, double v2, int ix2) {
+		//note: total order of Double.compare (consistent w/ sequential sort)
+		int cmp = Double.compare(v1, v2);
+		for( int j=1; j<by.length && cmp==0; j++ )
+			cmp = Double.compare(in.quickGetValue(ix1, by[j]-1),
+				in.quickGetValue(ix2, by[j]-1));
+		if( desc )
+			cmp = -cmp;
+		return (cmp != 0) ? cmp : Integer.compare(ix1, ix2);
+	}
+	
+	/**
+	 * Sorts the given values and index vector in the total order of 
+	 * Double.compare, i.e., -0.0 before 0.0 and NaN after all other values,
+	 * which keeps the sequential sort consistent with the merge of the
+	 * parallel sort and the sort of values only via Arrays.sort.
+	 * 
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @param values sort keys
+	 * @param vix index vector
+	 */
+	private static void sortByValueTotalOrder(int rl, int ru, double[] values, int[] vix) {
+		//move NaNs to the end (not ordered by the quicksort)
+		int ru2 = ru;
+		for( int i=rl; i<ru2; i++ )
+			if( Double.isNaN(values[i]) ) {
+				ru2--;
+				swap(values, vix, i--, ru2);
+			}
+		
+		//sort remaining values (unstable)
+		SortUtils.sortByValue(rl, ru2, values, vix);
+		
+		//move -0.0 before 0.0 (equal for the quicksort)
+		for( int i=rl; i<ru2; i++ ) {
+			if( values[i] != 0 )
+				continue;
+			int pos = i;
+			for( ; i<ru2 && values[i]==0; i++ )
+				if( Double.compare(values[i], 0d) < 0 )
+					swap(values, vix, pos++, i);
+		}
+	}
+	
+	private static void swap(double[] values, int[] vix, int i, int j) {
+		double tmpv = values[i]; values[i] = values[j]; values[j] = tmpv;
+		int tmpix = vix[i]; vix[i] = vix[j]; vix[j] = tmpix;
+	}
+	
 	private static void sortBySecondary(int rl, int ru, double[] values, int[] vix, MatrixBlock in, int[] by, int off) {
 		//find runs of equal values in current offset and index range
 		//replace value by next column, sort, and recurse until single value
@@ -2152,7 +2503,7 @@ public class LibMatrixReorg
 			double tmp = values[i];
 			//determine run of equal values
 			int len = 0;
-			while( i+len+1<ru && tmp==values[i+len+1] )
+			while( i+len+1<ru && Double.compare(tmp, values[i+len+1])==0 )
 				len++;
 			//temp value replacement and recursive sort
 			if( len > 0 ) {
@@ -2161,7 +2512,7 @@ public class LibMatrixReorg
 				for(int j=i; j<i+len+1; j++)
 					values[j] = in.quickGetValue(vix[j], by[off]-1);
 				//sort values, incl recursive decent
-				SortUtils.sortByValue(i, i+len+1, values, vix);
+				sortByValueTotalOrder(i, i+len+1, values, vix);
 				if( off+1 < by.length )
 					sortBySecondary(i, i+len+1, values, vix, in, by, off+1);
 				//reset values of previous level
@@ -2176,7 +2527,7 @@ public class LibMatrixReorg
 			double tmp = values[i];
 			//determine run of equal values
 			int len = 0;
-			while( i+len+1<ru && tmp==values[i+len+1] )
+			while( i+len+1<ru && Double.compare(tmp, values[i+len+1])==0 )
 				len++;
 			//temp value replacement and recursive decent
 			if( len > 0 ) {
@@ -2297,14 +2648,16 @@ public class LibMatrixReorg
 		private int _rl = -1;
 		private int _ru = -1;
 		private int[] _cnt = null;
+		private boolean _csr = false;
 
-		protected TransposeTask(MatrixBlock in, MatrixBlock out, boolean row, int rl, int ru, int[] cnt) {
+		protected TransposeTask(MatrixBlock in, MatrixBlock out, boolean row, int rl, int ru, int[] cnt, boolean csr) {
 			_in = in;
 			_out = out;
 			_row = row;
 			_rl = rl;
 			_ru = ru;
 			_cnt = cnt;
+			_csr = csr;
 		}
 		
 		@Override
@@ -2319,7 +2672,7 @@ public class LibMatrixReorg
 			if( !_in.sparse && !_out.sparse )
 				transposeDenseToDense( _in, _out, rl, ru, cl, cu );
 			else if( _in.sparse && _out.sparse )
-				transposeSparseToSparse( _in, _out, rl, ru, cl, cu, _cnt );
+				transposeSparseToSparse( _in, _out, rl, ru, cl, cu, _cnt, _csr );
 			else if( _in.sparse )
 				transposeSparseToDense( _in, _out, rl, ru, cl, cu );
 			else
@@ -2329,21 +2682,130 @@ public class LibMatrixReorg
 		}
 	}
 
+	private static class SortTask implements Callable<Object>
+	{
+		private final MatrixBlock _in;
+		private final int[] _by;
+		private final boolean _desc;
+		private final double[] _values;
+		private final int[] _vix;
+		private final int _rl;
+		private final int _ru;
+
+		protected SortTask(MatrixBlock in, int[] by, boolean desc, double[] values, int[] vix, int rl, int ru) {
+			_in = in;
+			_by = by;
+			_desc = desc;
+			_values = values;
+			_vix = vix;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Object call() {
+			if( _vix == null ) {
+				//sort values only (ascending)
+				Arrays.sort(_values, _rl, _ru);
+			}
+			else {
+				//sort index vector and re-extract sort keys,
+				//which are modified by the stable sort pass
+				sortIndexes(_in, _by, _desc, _values, _vix, _rl, _ru);
+				for( int i=_rl; i<_ru; i++ )
+					_values[i] = _in.quickGetValue(_vix[i], _by[0]-1);
+			}
+			return null;
+		}
+	}
+	
+	private static class SortMergeTask implements Callable<Object>
+	{
+		private final MatrixBlock _in;
+		private final int[] _by;
+		private final boolean _desc;
+		private final double[] _srcv;
+		private final int[] _srcix;
+		private final double[] _dstv;
+		private final int[] _dstix;
+		private final int _rl;
+		private final int _rm;
+		private final int _ru;
+
+		protected SortMergeTask(MatrixBlock in, int[] by, boolean desc, double[] srcv, int[] srcix, 
+			double[] dstv, int[] dstix, int rl, int rm, int ru) 
+		{
+			_in = in;
+			_by = by;
+			_desc = desc;
+			_srcv = srcv;
+			_srcix = srcix;
+			_dstv = dstv;
+			_dstix = dstix;
+			_rl = rl;
+			_rm = rm;
+			_ru = ru;
+		}
+		
+		@Override
+		public Object call() {
+			//merge sorted runs [rl,rm) and [rm,ru) into the destination
+			int i = _rl, j = _rm, pos = _rl;
+			while( i < _rm && j < _ru ) {
+				boolean left = (_srcix == null) ? Double.compare(_srcv[i], _srcv[j]) <= 0 :
+					compareSortRows(_in, _by, _desc, _srcv[i], _srcix[i], _srcv[j], _srcix[j]) <= 0;
+				int ix = left ? i++ : j++;
+				_dstv[pos] = _srcv[ix];
+				if( _dstix != null )
+					_dstix[pos] = _srcix[ix];
+				pos++;
+			}
+			//copy remaining tail of either run
+			int ix = (i < _rm) ? i : j;
+			int len = _ru - pos;
+			System.arraycopy(_srcv, ix, _dstv, pos, len);
+			if( _dstix != null )
+				System.arraycopy(_srcix, ix, _dstix, pos, len);
+			return null;
+		}
+	}
+	
 	private static class CountNnzTask implements Callable<int[]>
 	{
 		private MatrixBlock _in = null;
 		private int _rl = -1;
 		private int _ru = -1;
+		private boolean _force = false;
 
-		protected CountNnzTask(MatrixBlock in, int rl, int ru) {
+		protected CountNnzTask(MatrixBlock in, int rl, int ru, boolean force) {
 			_in = in;
 			_rl = rl;
 			_ru = ru;
+			_force = force;
 		}
 		
 		@Override
 		public int[] call() throws DMLRuntimeException {
-			return countNnzPerColumn(_in, _rl, _ru);
+			return countNnzPerColumn(_in, _rl, _ru, _force);
+		}
+	}
+
+	private static class TransposeInPlaceTask implements Callable<Object>
+	{
+		private final MatrixBlock _in;
+		private final int _off;
+		private final int _incr;
+
+		protected TransposeInPlaceTask(MatrixBlock in, int off, int incr) {
+			_in = in;
+			_off = off;
+			_incr = incr;
+		}
+		
+		@Override
+		public Object call() {
+			transposeDenseInPlace(_in, _off, _incr);
+			return null;
 		}
 	}
 	
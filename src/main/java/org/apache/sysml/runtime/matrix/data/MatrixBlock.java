@@ -134,6 +134,11 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	//diag-specific attributes (optional)
 	protected boolean diag = false;
 	
+	//array reuse attributes (see ArrayPool): number of owning cacheable data
+	//objects, and flag for dense/sparse blocks shared with other matrix blocks
+	transient volatile int numOwners = 0;
+	private transient boolean sharedData = false;
+	
 	
 	////////
 	// Matrix Constructors
@@ -177,6 +182,19 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		sparseBlock = sblock;
 	}
 	
+	/**
+	 * Constructs a dense {@link MatrixBlock} with a given instance of a {@link DenseBlock} 
+	 * @param rl number of rows
+	 * @param cl number of columns
+	 * @param nnz number of non zeroes
+	 * @param dblock dense block
+	 */
+	public MatrixBlock(int rl, int cl, long nnz, DenseBlock dblock) {
+		this(rl, cl, false, nnz);
+		nonZeros = nnz;
+		denseBlock = dblock;
+	}
+	
 	public MatrixBlock(MatrixBlock that, SparseBlock.Type stype, boolean deep) {
 		this(that.rlen, that.clen, that.sparse);
 		
@@ -189,6 +207,10 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		estimatedNNzsPerRow = that.estimatedNNzsPerRow;
 		sparseBlock = SparseBlockFactory
 				.copySparseBlock(stype, that.sparseBlock, deep);
+		if( !deep && sparseBlock == that.sparseBlock ) {
+			markSharedData();
+			that.markSharedData();
+		}
 	}
 	
 	////////
@@ -534,6 +556,20 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	
 	public void setSparseBlock(SparseBlock sblock) {
 		sparseBlock = sblock;
+		markSharedData();
+	}
+	
+	/**
+	 * Marks the dense or sparse block of this matrix block as shared
+	 * with other matrix blocks, which excludes its backing arrays from
+	 * reuse via the array pool.
+	 */
+	public void markSharedData() {
+		sharedData = true;
+	}
+	
+	public boolean isSharedData() {
+		return sharedData;
 	}
 
 	public Iterator<IJV> getSparseBlockIterator() {
@@ -1300,6 +1336,8 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			denseBlock = that.denseBlock;
 		else
 			sparseBlock = that.sparseBlock;
+		markSharedData();
+		that.markSharedData();
 		return this;
 	}
 	
@@ -1653,31 +1691,37 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	{
 		if( that.sparse ) //DENSE <- SPARSE
 		{
-			double[] a = getDenseBlockValues();
+			DenseBlock a = getDenseBlock();
 			SparseBlock b = that.sparseBlock;
 			int m = rlen;
-			int n = clen;
 			
-			for( int i=0, aix=0; i<m; i++, aix+=n )
+			for( int i=0; i<m; i++ )
 				if( !b.isEmpty(i) )
 				{
+					double[] avals = a.values(i);
+					int aix = a.pos(i);
 					int bpos = b.pos(i);
 					int blen = b.size(i);
 					int[] bix = b.indexes(i);
 					double[] bval = b.values(i);
 					for( int j=bpos; j<bpos+blen; j++ )
 						if( bval[j] != 0 )
-							a[ aix + bix[j] ] = bval[j];
+							avals[ aix + bix[j] ] = bval[j];
 				}
 		}
 		else //DENSE <- DENSE
 		{
-			double[] a = getDenseBlockValues();
-			double[] b = that.getDenseBlockValues();
-			int len = rlen * clen;
+			DenseBlock a = getDenseBlock();
+			DenseBlock b = that.getDenseBlock();
+			int m = rlen;
+			int n = clen;
 			
-			for( int i=0; i<len; i++ )
-				a[i] = ( b[i] != 0 ) ? b[i] : a[i];
+			for( int i=0; i<m; i++ ) {
+				double[] avals = a.values(i), bvals = b.values(i);
+				int aix = a.pos(i), bix = b.pos(i);
+				for( int j=0; j<n; j++ )
+					avals[aix+j] = ( bvals[bix+j] != 0 ) ? bvals[bix+j] : avals[aix+j];
+			}
 		}
 	}
 
@@ -4758,6 +4802,13 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 
 	public MatrixBlock  uaggouterchainOperations(MatrixBlock mbLeft, MatrixBlock mbRight, MatrixBlock mbOut, BinaryOperator bOp, AggregateUnaryOperator uaggOp) 
 		throws DMLRuntimeException
+	{
+		//single-threaded unary aggregate outer chain
+		return uaggouterchainOperations(mbLeft, mbRight, mbOut, bOp, uaggOp, 1);
+	}
+	
+	public MatrixBlock  uaggouterchainOperations(MatrixBlock mbLeft, MatrixBlock mbRight, MatrixBlock mbOut, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int k) 
+		throws DMLRuntimeException
 	{
 		double bv[] = DataConverter.convertToDoubleVector(mbRight);
 		int bvi[] = null;
@@ -4779,7 +4830,7 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			else
 				mbOut.reset(iRows, iCols, false);
 
-			LibMatrixOuterAgg.aggregateMatrix(mbLeft, mbOut, bv, bvi, bOp, uaggOp);
+			LibMatrixOuterAgg.aggregateMatrix(mbLeft, mbOut, bv, bvi, bOp, uaggOp, k);
 		} else
 			throw new DMLRuntimeException("Unsupported operator for unary aggregate operations.");
 		
@@ -4927,14 +4978,14 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 				ret.sparse = false;
 				ret.allocateDenseBlock();	
 				SparseBlock a = sparseBlock;
-				double[] c = ret.getDenseBlockValues();
+				DenseBlock c = ret.getDenseBlock();
 				
 				//initialize with replacement (since all 0 values, see SPARSITY_TURN_POINT)
-				Arrays.fill(c, replacement); 
+				c.set(replacement); 
 				
 				//overwrite with existing values (via scatter)
 				if( a != null  ) //check for empty matrix
-					for( int i=0, cix=0; i<rlen; i++, cix+=clen )
+					for( int i=0; i<rlen; i++ )
 					{
 						if( !a.isEmpty(i) )
 						{
@@ -4942,27 +4993,31 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 							int alen = a.size(i);
 							int[] aix = a.indexes(i);
 							double[] avals = a.values(i);
+							double[] cvals = c.values(i);
+							int cix = c.pos(i);
 							for( int j=apos; j<apos+alen; j++ )
 								if( avals[ j ] != 0 )
-									c[ cix+aix[j] ] = avals[ j ];
+									cvals[ cix+aix[j] ] = avals[ j ];
 						}
 					}
 			}			
 		}
 		else //DENSE <- DENSE
 		{
-			int mn = ret.rlen * ret.clen;
 			ret.allocateDenseBlock();
-			double[] a = getDenseBlockValues();
-			double[] c = ret.getDenseBlockValues();
+			DenseBlock a = getDenseBlock();
+			DenseBlock c = ret.getDenseBlock();
 			
-			for( int i=0; i<mn; i++ ) 
-			{
-				double val = a[i];
-				if( val== pattern || (NaNpattern && Double.isNaN(val)) )
-					c[i] = replacement;
-				else
-					c[i] = a[i];
+			for( int i=0; i<rlen; i++ ) {
+				double[] avals = a.values(i), cvals = c.values(i);
+				int aix = a.pos(i), cix = c.pos(i);
+				for( int j=0; j<clen; j++ ) {
+					double val = avals[aix+j];
+					if( val== pattern || (NaNpattern && Double.isNaN(val)) )
+						cvals[cix+j] = replacement;
+					else
+						cvals[cix+j] = val;
+				}
 			}
 		}
 		
@@ -57,9 +57,9 @@ public class SparseBlockCSR extends SparseBlock
 	}
 	
 	public SparseBlockCSR(int rlen, int capacity) {
-		_ptr = new int[rlen+1]; //ix0=0
-		_indexes = new int[capacity];
-		_values = new double[capacity];
+		_ptr = ArrayPool.allocateIntArray(rlen+1); //ix0=0
+		_indexes = ArrayPool.allocateIntArray(capacity);
+		_values = ArrayPool.allocateDoubleArray(capacity);
 		_size = 0;
 	}
 	
@@ -93,9 +93,9 @@ public class SparseBlockCSR extends SparseBlock
 		else {
 			int rlen = sblock.numRows();
 			
-			_ptr = new int[rlen+1];
-			_indexes = new int[(int)size];
-			_values = new double[(int)size];
+			_ptr = ArrayPool.allocateIntArray(rlen+1);
+			_indexes = ArrayPool.allocateIntArray((int)size);
+			_values = ArrayPool.allocateDoubleArray((int)size);
 			_size = (int)size;
 
 			for( int i=0, pos=0; i<rlen; i++ ) {
@@ -122,9 +122,9 @@ public class SparseBlockCSR extends SparseBlock
 	{
 		int rlen = rows.length;
 		
-		_ptr = new int[rlen+1]; //ix0=0
-		_indexes = new int[nnz];
-		_values = new double[nnz];
+		_ptr = ArrayPool.allocateIntArray(rlen+1); //ix0=0
+		_indexes = ArrayPool.allocateIntArray(nnz);
+		_values = ArrayPool.allocateDoubleArray(nnz);
 		_size = nnz;
 		
 		for( int i=0, pos=0; i<rlen; i++ ) {
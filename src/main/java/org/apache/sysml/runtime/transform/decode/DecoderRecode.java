@@ -19,14 +19,12 @@
 
 package org.apache.sysml.runtime.transform.decode;
 
-import java.util.HashMap;
-
 import org.apache.sysml.parser.Expression.ValueType;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.matrix.data.Pair;
 import org.apache.sysml.runtime.transform.TfUtils;
-import org.apache.sysml.runtime.transform.encode.EncoderRecode;
+import org.apache.sysml.runtime.transform.encode.RecodeDictionary;
 import org.apache.sysml.runtime.util.UtilFunctions;
 
 /**
@@ -38,7 +36,7 @@ public class DecoderRecode extends Decoder
 {
 	private static final long serialVersionUID = -3784249774608228805L;
 
-	private HashMap<Long, Object>[] _rcMaps = null;
+	private Object[][] _rcMaps = null; //token objects by code
 	private boolean _onOut = false;
 	
 	protected DecoderRecode(ValueType[] schema, boolean onOut, int[] rcCols) {
@@ -54,8 +52,7 @@ public class DecoderRecode extends Decoder
 					int colID = _colList[j];
 					double val = UtilFunctions.objectToDouble(
 							out.getSchema()[colID-1], out.get(i, colID-1));
-					long key = UtilFunctions.toLong(val);
-					out.set(i, colID-1, _rcMaps[j].get(key));
+					out.set(i, colID-1, lookupToken(j, UtilFunctions.toLong(val)));
 				}
 			}
 		}
@@ -64,27 +61,30 @@ public class DecoderRecode extends Decoder
 			for( int i=0; i<in.getNumRows(); i++ ) {
 				for( int j=0; j<_colList.length; j++ ) {
 					double val = in.quickGetValue(i, _colList[j]-1);
-					long key = UtilFunctions.toLong(val);
-					out.set(i, _colList[j]-1, _rcMaps[j].get(key));
+					out.set(i, _colList[j]-1, lookupToken(j, UtilFunctions.toLong(val)));
 				}
 			}
 		}
 		return out;
 	}
 
+	private Object lookupToken(int j, long code) {
+		Object[] map = _rcMaps[j];
+		return (code > 0 && code < map.length) ? map[(int)code] : null;
+	}
+
 	@Override
-	@SuppressWarnings("unchecked")
 	public void initMetaData(FrameBlock meta) {
-		//initialize recode maps according to schema
-		_rcMaps = new HashMap[_colList.length];
+		//initialize inverted recode maps (arrays indexed by code) 
+		//from the shared recode dictionaries according to schema
+		_rcMaps = new Object[_colList.length][];
 		for( int j=0; j<_colList.length; j++ ) {
-			HashMap<Long, Object> map = new HashMap<>();
-			for( int i=0; i<meta.getNumRows(); i++ ) {
-				if( meta.get(i, _colList[j]-1)==null )
-					break; //reached end of recode map
-				String[] tmp = EncoderRecode.splitRecodeMapEntry(meta.get(i, _colList[j]-1).toString());
-				Object obj = UtilFunctions.stringToObject(_schema[_colList[j]-1], tmp[0]);
-				map.put(Long.parseLong(tmp[1]), obj);
+			RecodeDictionary dict = meta.getRecodeMap(_colList[j]-1);
+			Object[] map = new Object[(int)dict.getMaxCode()+1];
+			for( int code=1; code<map.length; code++ ) {
+				String token = dict.getToken(code);
+				if( token != null )
+					map[code] = UtilFunctions.stringToObject(_schema[_colList[j]-1], token);
 			}
 			_rcMaps[j] = map;
 		}
@@ -24,8 +24,10 @@ import java.util.Arrays;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.sysml.runtime.DMLRuntimeException;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.ColumnParallelUtils;
 import org.apache.sysml.runtime.util.UtilFunctions;
 import org.apache.wink.json4j.JSONArray;
 
@@ -38,6 +40,7 @@ public abstract class Encoder implements Serializable
 {
 	private static final long serialVersionUID = 2299156350718979064L;
 	protected static final Log LOG = LogFactory.getLog(Encoder.class.getName());
+	protected static final long PAR_NUMCELL_THRESHOLD = 64*1024; //Min 64k cells
 	
 	protected int _clen = -1; 
 	protected int[] _colList = null;
@@ -103,6 +106,20 @@ public abstract class Encoder implements Serializable
 	 * @return output matrix block
 	 */
 	public abstract MatrixBlock encode(FrameBlock in, MatrixBlock out);
+	
+	/**
+	 * Multi-threaded block encode: build and apply (transform encode).
+	 * By default, this falls back to the single-threaded encode.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 */
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out, int k) {
+		build(in, k);
+		return apply(in, out, k);
+	}
 
 	/**
 	 * Build the transform meta data for the given block input. This call modifies
@@ -112,6 +129,18 @@ public abstract class Encoder implements Serializable
 	 */
 	public abstract void build(FrameBlock in);
 	
+	/**
+	 * Multi-threaded build of the transform meta data, where independent 
+	 * columns are processed concurrently. By default, this falls back
+	 * to the single-threaded build.
+	 * 
+	 * @param in input frame block
+	 * @param k degree of parallelism
+	 */
+	public void build(FrameBlock in, int k) {
+		build(in);
+	}
+	
 	/**
 	 * Encode input data blockwise according to existing transform meta
 	 * data (transform apply).
@@ -121,6 +150,20 @@ public abstract class Encoder implements Serializable
 	 * @return output matrix block
 	 */
 	public abstract MatrixBlock apply(FrameBlock in, MatrixBlock out);
+	
+	/**
+	 * Multi-threaded transform apply, where independent columns are 
+	 * processed concurrently. By default, this falls back to the 
+	 * single-threaded apply.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 */
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		return apply(in, out);
+	}
 
 	/**
 	 * Construct a frame block out of the transform meta data.
@@ -149,4 +192,41 @@ public abstract class Encoder implements Serializable
 		//default: do nothing
 		return out;
 	}
+	
+	/**
+	 * Indicates if a column-parallel apply is applicable and worthwhile,
+	 * which requires a dense output because tasks write disjoint columns.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return true if column-parallel apply
+	 */
+	protected boolean isParallelApply(FrameBlock in, MatrixBlock out, int k) {
+		return k > 1 && isApplicable() && _colList.length > 1 && !out.isInSparseFormat()
+			&& (long)in.getNumRows()*_colList.length >= PAR_NUMCELL_THRESHOLD;
+	}
+	
+	/**
+	 * Executes the given function for all positions [0, _colList.length)
+	 * of the column list, partitioned into k disjoint ranges of columns.
+	 * 
+	 * @param k degree of parallelism
+	 * @param fn column function
+	 */
+	protected void executeColumnParallel(int k, ColumnFunction fn) {
+		try {
+			ColumnParallelUtils.executeColumnRanges(_colList.length, k, (jl, ju) -> {
+				for( int j=jl; j<ju; j++ )
+					fn.execute(j);
+			});
+		}
+		catch(DMLRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	protected interface ColumnFunction {
+		public void execute(int j);
+	}
 }
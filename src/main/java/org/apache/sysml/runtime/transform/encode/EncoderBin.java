@@ -28,6 +28,7 @@ import org.apache.wink.json4j.JSONArray;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
 import org.apache.sysml.lops.Lop;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.transform.TfUtils;
@@ -133,6 +134,29 @@ public class EncoderBin extends Encoder
 		return out;
 	}
 
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		if( !isParallelApply(in, out, k) )
+			return apply(in, out);
+		
+		//bin columns in parallel (disjoint columns in dense output)
+		out.allocateDenseBlock();
+		DenseBlock c = out.getDenseBlock();
+		executeColumnParallel(k, j -> {
+			int colID = _colList[j];
+			for( int i=0; i<in.getNumRows(); i++ ) {
+				double inVal = UtilFunctions.objectToDouble(
+						in.getSchema()[colID-1], in.get(i, colID-1));
+				int ix = Arrays.binarySearch(_binMaxs[j], inVal);
+				int binID = ((ix < 0) ? Math.abs(ix+1) : ix) + 1;
+				c.set(i, colID-1, binID);
+			}
+		});
+		out.recomputeNonZeros();
+		
+		return out;
+	}
+
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
 		return meta;
@@ -21,6 +21,7 @@ package org.apache.sysml.runtime.transform.encode;
 
 
 import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.util.UtilFunctions;
@@ -65,6 +66,29 @@ public class EncoderPassThrough extends Encoder
 		return out;
 	}
 
+	@Override 
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		if( !isParallelApply(in, out, k) )
+			return apply(in, out);
+		
+		//copy columns in parallel (disjoint columns in dense output)
+		out.allocateDenseBlock();
+		DenseBlock c = out.getDenseBlock();
+		executeColumnParallel(k, j -> {
+			int col = _colList[j]-1;
+			ValueType vt = in.getSchema()[col];
+			for( int i=0; i<in.getNumRows(); i++ ) {
+				Object val = in.get(i, col);
+				c.set(i, col, (val==null||(vt==ValueType.STRING 
+						&& val.toString().isEmpty())) ? Double.NaN : 
+						UtilFunctions.objectToDouble(vt, val));
+			}
+		});
+		out.recomputeNonZeros();
+		
+		return out;
+	}
+
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
 		//do nothing
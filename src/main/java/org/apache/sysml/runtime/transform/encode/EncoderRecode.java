@@ -19,12 +19,19 @@
 
 package org.apache.sysml.runtime.transform.encode;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map.Entry;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.sysml.lops.Lop;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
 import org.apache.sysml.runtime.matrix.data.FrameBlock;
 import org.apache.sysml.runtime.matrix.data.MatrixBlock;
 import org.apache.sysml.runtime.transform.TfUtils;
@@ -37,7 +44,7 @@ public class EncoderRecode extends Encoder
 	private static final long serialVersionUID = 8213163881283341874L;
 	
 	//recode maps and custom map for partial recode maps 
-	private HashMap<Integer, HashMap<String, Long>> _rcdMaps  = new HashMap<>();
+	private HashMap<Integer, RecodeDictionary> _rcdMaps  = new HashMap<>();
 	private HashMap<Integer, HashSet<Object>> _rcdMapsPart = null;
 	
 	public EncoderRecode(JSONObject parsedSpec, String[] colnames, int clen)
@@ -50,7 +57,7 @@ public class EncoderRecode extends Encoder
 		}
 	}
 	
-	public HashMap<Integer, HashMap<String,Long>> getCPRecodeMaps() { 
+	public HashMap<Integer, RecodeDictionary> getCPRecodeMaps() { 
 		return _rcdMaps; 
 	}
 	
@@ -61,8 +68,7 @@ public class EncoderRecode extends Encoder
 	private long lookupRCDMap(int colID, String key) {
 		if( !_rcdMaps.containsKey(colID) )
 			return -1; //empty recode map
-		Long tmp = _rcdMaps.get(colID).get(key);
-		return (tmp!=null) ? tmp : -1;
+		return _rcdMaps.get(colID).getCode(key);
 	}
 	
 	@Override
@@ -89,16 +95,66 @@ public class EncoderRecode extends Encoder
 				int colID = _colList[j]; //1-based
 				//allocate column map if necessary
 				if( !_rcdMaps.containsKey(colID) ) 
-					_rcdMaps.put(colID, new HashMap<String,Long>());
+					_rcdMaps.put(colID, new RecodeDictionary());
 				//probe and build column map
-				HashMap<String,Long> map = _rcdMaps.get(colID);
+				RecodeDictionary map = _rcdMaps.get(colID);
 				String key = row[j];
-				if( key!=null && !key.isEmpty() && !map.containsKey(key) )
-					map.put(key, Long.valueOf(map.size()+1));
+				if( key!=null && !key.isEmpty() )
+					map.putIfAbsent(key);
 			}
 		}
 	}
 
+	/**
+	 * Multi-threaded build of recode maps, where tasks process independent
+	 * columns or row ranges of the same column. Each task collects the 
+	 * distinct tokens in order of their first occurrence, and the partial 
+	 * results are merged in row order. Hence, the assigned codes are 
+	 * deterministic and equivalent to the single-threaded build.
+	 * 
+	 * @param in input frame block
+	 * @param k degree of parallelism
+	 */
+	@Override
+	public void build(FrameBlock in, int k) {
+		if( !isApplicable() )
+			return;
+		if( k <= 1 || (long)in.getNumRows()*_colList.length < PAR_NUMCELL_THRESHOLD ) {
+			build(in);
+			return;
+		}
+		
+		//partition rows if there are fewer columns than threads
+		int nrow = in.getNumRows();
+		int nparts = Math.min((int)Math.ceil((double)k/_colList.length), 
+			(int)Math.ceil((double)nrow/PAR_NUMCELL_THRESHOLD));
+		int blklen = (int)Math.ceil((double)nrow/nparts);
+		
+		try {
+			//collect distinct tokens per column and row partition
+			ExecutorService pool = Executors.newFixedThreadPool(k);
+			ArrayList<RecodeBuildTask> tasks = new ArrayList<>();
+			for( int j=0; j<_colList.length; j++ )
+				for( int i=0; i<nparts && i*blklen<nrow; i++ )
+					tasks.add(new RecodeBuildTask(in, _colList[j], i*blklen, Math.min((i+1)*blklen, nrow)));
+			List<Future<LinkedHashSet<String>>> ret = pool.invokeAll(tasks);
+			pool.shutdown();
+			
+			//merge partial results in column and row order (deterministic codes)
+			for( int i=0; i<tasks.size(); i++ ) {
+				int colID = tasks.get(i).getColID();
+				if( !_rcdMaps.containsKey(colID) ) 
+					_rcdMaps.put(colID, new RecodeDictionary());
+				RecodeDictionary map = _rcdMaps.get(colID);
+				for( String key : ret.get(i).get() )
+					map.putIfAbsent(key);
+			}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
 	public void buildPartial(FrameBlock in) {
 		if( !isApplicable() )
 			return;		
@@ -141,6 +197,28 @@ public class EncoderRecode extends Encoder
 		return out;
 	}
 
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		if( !isParallelApply(in, out, k) )
+			return apply(in, out);
+		
+		//apply recode maps column-parallel (disjoint columns in dense output)
+		out.allocateDenseBlock();
+		DenseBlock c = out.getDenseBlock();
+		executeColumnParallel(k, j -> {
+			int colID = _colList[j];
+			RecodeDictionary map = _rcdMaps.get(colID);
+			for( int i=0; i<in.getNumRows(); i++ ) {
+				Object okey = in.get(i, colID-1);
+				long code = (okey!=null && map!=null) ? map.getCode(okey.toString()) : -1;
+				c.set(i, colID-1, (code >= 0) ? code : Double.NaN);
+			}
+		});
+		out.recomputeNonZeros();
+		
+		return out;
+	}
+
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
 		if( !isApplicable() )
@@ -155,16 +233,12 @@ public class EncoderRecode extends Encoder
 				maxDistinct = Math.max(maxDistinct, _rcdMaps.get(_colList[j]).size());
 		meta.ensureAllocatedColumns(maxDistinct);
 		
-		//create compact meta data representation
-		StringBuilder sb = new StringBuilder(); //for reuse
+		//create compact meta data representation (entries in code order,
+		//directly serialized from the recode dictionaries)
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j]; //1-based
-			int rowID = 0;
 			if( _rcdMaps.containsKey(_colList[j]) )
-				for( Entry<String, Long> e : _rcdMaps.get(colID).entrySet() ) {
-					meta.set(rowID++, colID-1, 
-						constructRecodeMapEntry(e.getKey(), e.getValue(), sb)); 
-				}
+				_rcdMaps.get(colID).writeToMetaFrame(meta, colID-1);
 			meta.getColumnMetadata(colID-1).setNumDistinct(
 					_rcdMaps.get(colID).size());
 		}
@@ -199,11 +273,6 @@ public class EncoderRecode extends Encoder
 	 */
 	public static String constructRecodeMapEntry(String token, Long code) {
 		StringBuilder sb = new StringBuilder(token.length()+16);
-		return constructRecodeMapEntry(token, code, sb);
-	}
-	
-	private static String constructRecodeMapEntry(String token, Long code, StringBuilder sb) {
-		sb.setLength(0); //reset reused string builder
 		return sb.append(token).append(Lop.DATATYPE_PREFIX)
 			.append(code.longValue()).toString();
 	}
@@ -220,4 +289,36 @@ public class EncoderRecode extends Encoder
 		int pos = value.toString().lastIndexOf(Lop.DATATYPE_PREFIX);
 		return new String[] {value.substring(0, pos), value.substring(pos+1)};
 	}
+	
+	private static class RecodeBuildTask implements Callable<LinkedHashSet<String>>
+	{
+		private final FrameBlock _in;
+		private final int _colID; //1-based
+		private final int _rl;
+		private final int _ru;
+		
+		protected RecodeBuildTask(FrameBlock in, int colID, int rl, int ru) {
+			_in = in;
+			_colID = colID;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		public int getColID() {
+			return _colID;
+		}
+		
+		@Override
+		public LinkedHashSet<String> call() {
+			//collect distinct tokens in order of first occurrence
+			LinkedHashSet<String> ret = new LinkedHashSet<>();
+			for( int i=_rl; i<_ru; i++ ) {
+				Object okey = _in.get(i, _colID-1);
+				String key = (okey!=null) ? okey.toString() : null;
+				if( key!=null && !key.isEmpty() )
+					ret.add(key);
+			}
+			return ret;
+		}
+	}
 }
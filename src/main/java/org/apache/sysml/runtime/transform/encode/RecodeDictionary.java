@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.transform.encode;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.apache.sysml.lops.Lop;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+
+/**
+ * Compact recode dictionary that maps distinct string tokens to 1-based
+ * recode codes and vice versa. All tokens are stored UTF-8 encoded in a
+ * single byte arena, with per-code offsets, lengths, and hashes, and
+ * lookups use an open-addressing hash table of int codes with linear
+ * probing. In contrast to a HashMap&lt;String,Long&gt;, this representation
+ * does not create any per-entry objects (strings, boxed codes, and map
+ * entries), which reduces the memory and GC overhead for columns with
+ * many distinct items.
+ *
+ * Note: Unpaired surrogate chars are encoded as 3-byte sequences, which
+ * guarantees lossless round trips for arbitrary Java strings.
+ */
+public class RecodeDictionary implements Serializable
+{
+	private static final long serialVersionUID = 3406364960418434961L;
+
+	private static final int INIT_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.5f;
+	private static final int MAX_ARENA_SIZE = Integer.MAX_VALUE - 8;
+
+	private byte[] _arena = null;  //utf-8 encoded tokens
+	private int _arenaLen = 0;
+	private int[] _offsets = null; //arena offsets per code-1
+	private int[] _lengths = null; //byte lengths per code-1, -1 if unused
+	private int[] _hashes = null;  //token hash codes per code-1
+	private int[] _table = null;   //hash table of codes, 0 if empty
+	private int _numSlots = 0;     //number of used hash table slots
+	private int _size = 0;         //number of tokens
+	private int _maxCode = 0;      //max assigned code
+
+	public RecodeDictionary() {
+		this(INIT_CAPACITY);
+	}
+
+	public RecodeDictionary(int capacity) {
+		int cap = Math.max(capacity, INIT_CAPACITY);
+		_arena = new byte[cap * 8];
+		_offsets = new int[cap];
+		_lengths = new int[cap];
+		Arrays.fill(_lengths, -1);
+		_hashes = new int[cap];
+		_table = new int[Integer.highestOneBit(cap-1) << 2];
+	}
+
+	/**
+	 * Returns the number of distinct tokens.
+	 *
+	 * @return number of tokens
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Returns the maximum assigned code, which is equivalent to the number
+	 * of tokens if codes were assigned via {@link #putIfAbsent(String)}.
+	 *
+	 * @return maximum code
+	 */
+	public long getMaxCode() {
+		return _maxCode;
+	}
+
+	/**
+	 * Returns the code of the given token, or -1 if it does not exist.
+	 *
+	 * @param token string token
+	 * @return recode code or -1
+	 */
+	public long getCode(String token) {
+		if( token == null )
+			return -1;
+		return lookup(token, 0, token.length(), token.hashCode());
+	}
+
+	/**
+	 * Returns the code of the given token, where non-existing
+	 * tokens are added with the next code (max code + 1).
+	 *
+	 * @param token string token
+	 * @return recode code
+	 */
+	public long putIfAbsent(String token) {
+		int hash = token.hashCode();
+		int code = lookup(token, 0, token.length(), hash);
+		if( code < 0 ) {
+			code = _maxCode + 1;
+			add(token, 0, token.length(), hash, code);
+		}
+		return code;
+	}
+
+	/**
+	 * Adds the given token with the given code, where an existing token
+	 * or code is overwritten in place. This is used to reconstruct
+	 * dictionaries from meta data frames, where codes might not be ordered.
+	 *
+	 * @param token string token
+	 * @param code recode code (positive)
+	 */
+	public void put(String token, long code) {
+		put(token, 0, token.length(), code);
+	}
+
+	/**
+	 * Returns the token of the given code, or null if it does not exist.
+	 *
+	 * @param code recode code
+	 * @return string token or null
+	 */
+	public String getToken(long code) {
+		if( code < 1 || code > _maxCode || _lengths[(int)code-1] < 0 )
+			return null;
+		char[] buff = new char[_lengths[(int)code-1]];
+		return new String(buff, 0, decode((int)code-1, buff, 0));
+	}
+
+	public long getInMemorySize() {
+		return 48 + _arena.length + 4L * (_offsets.length
+			+ _lengths.length + _hashes.length + _table.length);
+	}
+
+	/**
+	 * Writes all tokens in code order as recode map entries
+	 * (token, delimiter, code) into the given column of the meta data
+	 * frame, which is expected to have at least size() rows.
+	 *
+	 * @param meta meta data frame block
+	 * @param col column index, 0-based
+	 */
+	public void writeToMetaFrame(FrameBlock meta, int col) {
+		char[] buff = new char[64];
+		int rowID = 0;
+		for( int i=0; i<_maxCode; i++ ) {
+			if( _lengths[i] < 0 ) continue;
+			//decode token and append delimiter and code w/o intermediates
+			if( buff.length < _lengths[i] + 21 )
+				buff = new char[2 * (_lengths[i] + 21)];
+			int len = decode(i, buff, 0);
+			buff[len++] = Lop.DATATYPE_PREFIX.charAt(0);
+			String code = Integer.toString(i+1);
+			code.getChars(0, code.length(), buff, len);
+			meta.set(rowID++, col, new String(buff, 0, len+code.length()));
+		}
+	}
+
+	/**
+	 * Reads a recode dictionary from the given column of recode map
+	 * entries (token, delimiter, code) of a meta data frame.
+	 *
+	 * @param meta meta data frame block
+	 * @param col column index, 0-based
+	 * @return recode dictionary
+	 */
+	public static RecodeDictionary readFromMetaFrame(FrameBlock meta, int col) {
+		//size by the number of entries of this column, because the meta data
+		//frame has as many rows as the maximum number of distinct items
+		int nnz = 0;
+		for( int i=0; i<meta.getNumRows(); i++ )
+			nnz += (meta.get(i, col) != null) ? 1 : 0;
+		RecodeDictionary ret = new RecodeDictionary(nnz);
+		for( int i=0; i<meta.getNumRows(); i++ ) {
+			Object val = meta.get(i, col);
+			if( val == null ) continue;
+			String entry = val.toString();
+			int pos = entry.lastIndexOf(Lop.DATATYPE_PREFIX);
+			ret.put(entry, 0, pos, Long.parseLong(entry.substring(pos+1)));
+		}
+		return ret;
+	}
+
+	private void put(String s, int start, int end, long lcode) {
+		if( lcode < 1 || lcode > Integer.MAX_VALUE )
+			throw new RuntimeException("Invalid recode code: "+lcode);
+		int hash = hash(s, start, end);
+		int code = lookup(s, start, end, hash);
+		if( code == lcode ) //existing entry
+			return;
+		if( code > 0 ) { //move existing token (w/o re-encoding)
+			ensureCapacity((int)lcode);
+			if( _lengths[(int)lcode-1] >= 0 )
+				_size--;
+			_offsets[(int)lcode-1] = _offsets[code-1];
+			_lengths[(int)lcode-1] = _lengths[code-1];
+			_hashes[(int)lcode-1] = hash;
+			_lengths[code-1] = -1;
+			_maxCode = Math.max(_maxCode, (int)lcode);
+			insertAndResize((int)lcode);
+			return;
+		}
+		add(s, start, end, hash, (int)lcode);
+	}
+
+	private int lookup(String s, int start, int end, int hash) {
+		int mask = _table.length - 1;
+		int ix = mix(hash) & mask;
+		while( _table[ix] != 0 ) {
+			int i = _table[ix] - 1;
+			if( _hashes[i] == hash && _lengths[i] >= 0 && equalsToken(i, s, start, end) )
+				return i + 1;
+			ix = (ix + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void add(String s, int start, int end, int hash, int code) {
+		ensureCapacity(code);
+
+		//encode token into arena, where an existing code is overwritten
+		//in place if the new token fits, and appended otherwise
+		if( _lengths[code-1] >= 0 ) {
+			_size--;
+			if( encodedLength(s, start, end) <= _lengths[code-1] )
+				_lengths[code-1] = encode(s, start, end, _offsets[code-1]);
+			else
+				appendToken(s, start, end, code);
+		}
+		else
+			appendToken(s, start, end, code);
+		_hashes[code-1] = hash;
+		_maxCode = Math.max(_maxCode, code);
+		_size++;
+		insertAndResize(code);
+	}
+
+	private void appendToken(String s, int start, int end, int code) {
+		//ensure arena capacity (upper bound of 3 bytes per char)
+		long maxlen = _arenaLen + 3L * (end - start);
+		if( maxlen > _arena.length ) {
+			if( maxlen > MAX_ARENA_SIZE )
+				throw new RuntimeException("Recode dictionary exceeds the maximum "
+					+ "size of "+MAX_ARENA_SIZE+" bytes of utf-8 encoded tokens.");
+			_arena = Arrays.copyOf(_arena, (int)Math.min(MAX_ARENA_SIZE,
+				Math.max(maxlen, 2L * _arena.length)));
+		}
+		_offsets[code-1] = _arenaLen;
+		_lengths[code-1] = encode(s, start, end, _arenaLen);
+		_arenaLen += _lengths[code-1];
+	}
+
+	private void ensureCapacity(int code) {
+		//ensure capacity of per-code arrays
+		if( code > _offsets.length ) {
+			int cap = (int)Math.min(Integer.MAX_VALUE,
+				Math.max(code, 2L * _offsets.length));
+			int oldcap = _offsets.length;
+			_offsets = Arrays.copyOf(_offsets, cap);
+			_lengths = Arrays.copyOf(_lengths, cap);
+			Arrays.fill(_lengths, oldcap, cap, -1);
+			_hashes = Arrays.copyOf(_hashes, cap);
+		}
+	}
+
+	private void insertAndResize(int code) {
+		//insert code into hash table, and resize if necessary
+		//(note: overwritten entries keep their slot until the next rehash)
+		insert(code);
+		if( _numSlots >= LOAD_FACTOR * _table.length )
+			rehash(Math.max(_table.length, Integer.highestOneBit(_size) << 2));
+	}
+
+	private void insert(int code) {
+		int mask = _table.length - 1;
+		int ix = mix(_hashes[code-1]) & mask;
+		while( _table[ix] != 0 )
+			ix = (ix + 1) & mask;
+		_table[ix] = code;
+		_numSlots++;
+	}
+
+	private void rehash(int cap) {
+		_table = new int[cap];
+		_numSlots = 0;
+		for( int i=0; i<_maxCode; i++ )
+			if( _lengths[i] >= 0 )
+				insert(i+1);
+	}
+
+	private static int encodedLength(String s, int start, int end) {
+		int len = 0;
+		for( int i=start; i<end; i++ ) {
+			char c = s.charAt(i);
+			if( c < 0x80 )
+				len += 1;
+			else if( c < 0x800 )
+				len += 2;
+			else if( Character.isHighSurrogate(c) && i+1 < end
+				&& Character.isLowSurrogate(s.charAt(i+1)) ) {
+				len += 4; i++;
+			}
+			else
+				len += 3;
+		}
+		return len;
+	}
+
+	private int encode(String s, int start, int end, int off) {
+		byte[] a = _arena;
+		int p = off;
+		for( int i=start; i<end; i++ ) {
+			char c = s.charAt(i);
+			if( c < 0x80 )
+				a[p++] = (byte) c;
+			else if( c < 0x800 ) {
+				a[p++] = (byte) (0xC0 | (c >> 6));
+				a[p++] = (byte) (0x80 | (c & 0x3F));
+			}
+			else if( Character.isHighSurrogate(c) && i+1 < end
+				&& Character.isLowSurrogate(s.charAt(i+1)) ) {
+				int cp = Character.toCodePoint(c, s.charAt(++i));
+				a[p++] = (byte) (0xF0 | (cp >> 18));
+				a[p++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+				a[p++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+				a[p++] = (byte) (0x80 | (cp & 0x3F));
+			}
+			else {
+				a[p++] = (byte) (0xE0 | (c >> 12));
+				a[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				a[p++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		return p - off;
+	}
+
+	private int decode(int ix, char[] buff, int off) {
+		byte[] a = _arena;
+		int p = _offsets[ix], pe = p + _lengths[ix], q = off;
+		while( p < pe ) {
+			int b = a[p] & 0xFF;
+			if( b < 0x80 ) {
+				buff[q++] = (char) b; p += 1;
+			}
+			else if( (b & 0xE0) == 0xC0 ) {
+				buff[q++] = (char) (((b & 0x1F) << 6) | (a[p+1] & 0x3F)); p += 2;
+			}
+			else if( (b & 0xF0) == 0xE0 ) {
+				buff[q++] = (char) (((b & 0x0F) << 12) | ((a[p+1] & 0x3F) << 6) | (a[p+2] & 0x3F)); p += 3;
+			}
+			else {
+				int cp = ((b & 0x07) << 18) | ((a[p+1] & 0x3F) << 12) | ((a[p+2] & 0x3F) << 6) | (a[p+3] & 0x3F);
+				buff[q++] = Character.highSurrogate(cp);
+				buff[q++] = Character.lowSurrogate(cp); p += 4;
+			}
+		}
+		return q - off;
+	}
+
+	private boolean equalsToken(int ix, String s, int start, int end) {
+		byte[] a = _arena;
+		int p = _offsets[ix], pe = p + _lengths[ix], i = start;
+		while( p < pe && i < end ) {
+			int b = a[p] & 0xFF;
+			if( b < 0x80 ) {
+				if( s.charAt(i++) != b ) return false;
+				p += 1;
+			}
+			else if( (b & 0xE0) == 0xC0 ) {
+				if( s.charAt(i++) != (((b & 0x1F) << 6) | (a[p+1] & 0x3F)) ) return false;
+				p += 2;
+			}
+			else if( (b & 0xF0) == 0xE0 ) {
+				if( s.charAt(i++) != (((b & 0x0F) << 12) | ((a[p+1] & 0x3F) << 6) | (a[p+2] & 0x3F)) ) return false;
+				p += 3;
+			}
+			else {
+				int cp = ((b & 0x07) << 18) | ((a[p+1] & 0x3F) << 12) | ((a[p+2] & 0x3F) << 6) | (a[p+3] & 0x3F);
+				if( i+1 >= end || s.charAt(i) != Character.highSurrogate(cp)
+					|| s.charAt(i+1) != Character.lowSurrogate(cp) ) return false;
+				i += 2; p += 4;
+			}
+		}
+		return p == pe && i == end;
+	}
+
+	private static int hash(String s, int start, int end) {
+		//equivalent to String.hashCode for full strings
+		if( start == 0 && end == s.length() )
+			return s.hashCode();
+		int h = 0;
+		for( int i=start; i<end; i++ )
+			h = 31 * h + s.charAt(i);
+		return h;
+	}
+
+	private static int mix(int h) {
+		//spread bits, because string hashes of similar tokens
+		//differ mostly in the lower bits
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+
+/**
+ * Utilities for column-parallel operations over frames and encoders,
+ * where tasks process disjoint ranges of columns.
+ */
+public class ColumnParallelUtils 
+{
+	private ColumnParallelUtils() {
+		//prevent instantiation via private constructor
+	}
+	
+	/**
+	 * Executes the given function over disjoint column ranges [cl, cu) of 
+	 * all ncol columns, either sequentially or with k threads. 
+	 * 
+	 * @param ncol number of columns
+	 * @param k degree of parallelism
+	 * @param fn column range function
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static void executeColumnRanges(int ncol, int k, ColumnRangeFunction fn) 
+		throws DMLRuntimeException 
+	{
+		//sequential execution
+		if( k <= 1 ) {
+			fn.execute(0, ncol);
+			return;
+		}
+		
+		//parallel execution over column ranges
+		try {
+			ExecutorService pool = Executors.newFixedThreadPool(k);
+			ArrayList<ColumnRangeTask> tasks = new ArrayList<>();
+			int blklen = (int)(Math.ceil((double)ncol/k));
+			for( int i=0; i<k && i*blklen<ncol; i++ )
+				tasks.add(new ColumnRangeTask(fn, i*blklen, Math.min((i+1)*blklen, ncol)));
+			List<Future<Object>> ret = pool.invokeAll(tasks);
+			pool.shutdown();
+			for( Future<Object> rc : ret )
+				rc.get();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	public interface ColumnRangeFunction {
+		public void execute(int cl, int cu) throws DMLRuntimeException;
+	}
+	
+	private static class ColumnRangeTask implements Callable<Object> 
+	{
+		private final ColumnRangeFunction _fn;
+		private final int _cl;
+		private final int _cu;
+		
+		protected ColumnRangeTask(ColumnRangeFunction fn, int cl, int cu) {
+			_fn = fn;
+			_cl = cl;
+			_cu = cu;
+		}
+		
+		@Override
+		public Object call() throws DMLRuntimeException {
+			_fn.execute(_cl, _cu);
+			return null;
+		}
+	}
+}
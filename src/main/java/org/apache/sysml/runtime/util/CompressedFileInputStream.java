@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+
+/**
+ * Input stream for local files written by {@link CompressedFileOutputStream},
+ * which decompresses (and unshuffles) the stored chunks on demand.
+ */
+public class CompressedFileInputStream extends InputStream
+{
+	private final InputStream _in;
+	private final byte[] _hdr;
+	private final byte[] _buff;
+	private byte[] _cbuff;
+	private byte[] _sbuff;
+	private int _pos = 0;
+	private int _len = 0;
+
+	/**
+	 * Wraps the given input stream into a decompressing input stream if
+	 * it starts with the magic number of the compressed format, otherwise
+	 * the returned stream provides the unmodified input.
+	 *
+	 * @param in input stream
+	 * @return input stream of raw bytes
+	 * @throws IOException if IOException occurs
+	 */
+	public static InputStream wrap(InputStream in)
+		throws IOException
+	{
+		PushbackInputStream pin = new PushbackInputStream(in, 4);
+		byte[] tmp = new byte[4];
+		int n = 0;
+		for( int r=0; n < 4 && (r = pin.read(tmp, n, 4-n)) > 0; )
+			n += r;
+		if( n == 4 && CompressedFileOutputStream.readInt(tmp, 0)
+			== CompressedFileOutputStream.MAGIC )
+			return new CompressedFileInputStream(pin);
+		if( n > 0 )
+			pin.unread(tmp, 0, n);
+		return pin;
+	}
+
+	private CompressedFileInputStream(InputStream in) {
+		_in = in;
+		_hdr = new byte[CompressedFileOutputStream.CHUNK_HEADER_SIZE];
+		_buff = new byte[CompressedFileOutputStream.CHUNK_SIZE];
+	}
+
+	@Override
+	public int read()
+		throws IOException
+	{
+		if( _pos >= _len && !readChunk() )
+			return -1;
+		return _buff[_pos++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len)
+		throws IOException
+	{
+		if( len == 0 )
+			return 0;
+		if( _pos >= _len && !readChunk() )
+			return -1;
+		int n = Math.min(len, _len - _pos);
+		System.arraycopy(_buff, _pos, b, off, n);
+		_pos += n;
+		return n;
+	}
+
+	@Override
+	public int available() {
+		return _len - _pos;
+	}
+
+	@Override
+	public void close()
+		throws IOException
+	{
+		_in.close();
+	}
+
+	private boolean readChunk()
+		throws IOException
+	{
+		//read chunk header (end of stream at chunk boundary)
+		int first = _in.read();
+		if( first < 0 )
+			return false;
+		_hdr[0] = (byte) first;
+		readFully(_hdr, 1, _hdr.length-1);
+		int flags = _hdr[0];
+		int rlen = CompressedFileOutputStream.readInt(_hdr, 1);
+		int slen = CompressedFileOutputStream.readInt(_hdr, 5);
+		if( rlen < 0 || rlen > _buff.length || slen < 0 || slen > _buff.length )
+			throw new IOException("Corrupted compressed chunk header: "+rlen+", "+slen+".");
+
+		//read and decompress chunk data
+		if( (flags & CompressedFileOutputStream.FLAG_COMPRESSED) == 0 )
+			readFully(_buff, 0, slen);
+		else {
+			if( _cbuff == null )
+				_cbuff = new byte[_buff.length];
+			readFully(_cbuff, 0, slen);
+			if( (flags & CompressedFileOutputStream.FLAG_SHUFFLED) != 0 ) {
+				if( _sbuff == null )
+					_sbuff = new byte[_buff.length];
+				LZ4Codec.decompress(_cbuff, 0, slen, _sbuff, 0, rlen);
+				LZ4Codec.unshuffle(_sbuff, _buff, rlen);
+			}
+			else
+				LZ4Codec.decompress(_cbuff, 0, slen, _buff, 0, rlen);
+		}
+		_pos = 0;
+		_len = rlen;
+		return true;
+	}
+
+	private void readFully(byte[] b, int off, int len)
+		throws IOException
+	{
+		while( len > 0 ) {
+			int n = _in.read(b, off, len);
+			if( n < 0 )
+				throw new EOFException("Unexpected end of compressed file.");
+			off += n; len -= n;
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.runtime.controlprogram.caching.CacheStatistics;
+
+/**
+ * Output stream for local eviction and staging files, which compresses
+ * the written bytes in independent chunks with {@link LZ4Codec}, optionally
+ * preceded by a byte-shuffle of 8-byte values (e.g., for serialized matrix
+ * blocks). Chunks that do not compress to less than 7/8 of their size are
+ * stored raw, and after a few consecutive incompressible chunks, compression
+ * is bypassed for a number of chunks to avoid wasted CPU cycles.
+ *
+ * Stream layout: magic number, followed by chunks of the form
+ * [flags (byte), raw length (int), stored length (int), data].
+ */
+public class CompressedFileOutputStream extends OutputStream
+{
+	//negative magic number (big endian) to distinguish from the raw stream
+	//formats, which start with a non-negative number of rows or blocks
+	public static final int MAGIC = 0xC0DEC4F1;
+	public static final int CHUNK_SIZE = 64 * 1024;
+
+	protected static final int CHUNK_HEADER_SIZE = 9;
+	protected static final int FLAG_COMPRESSED = 1;
+	protected static final int FLAG_SHUFFLED = 2;
+
+	//adaptive bypass of incompressible data
+	private static final int BYPASS_THRESHOLD = 3; //consecutive incompressible chunks
+	private static final int BYPASS_NUM_CHUNKS = 16; //chunks stored raw before retry
+
+	private final OutputStream _out;
+	private final boolean _shuffle;
+	private final byte[] _buff;
+	private final byte[] _sbuff;
+	private final byte[] _cbuff;
+	private final int[] _htab;
+	private int _pos = 0;
+	private int _numFailed = 0;
+	private int _numBypass = 0;
+	private boolean _closed = false;
+
+	//local statistics, aggregated on close
+	private long _rawBytes = 0;
+	private long _storedBytes = 0;
+	private int _numCompressed = 0;
+	private int _numRaw = 0;
+
+	public CompressedFileOutputStream(OutputStream out, boolean shuffle)
+		throws IOException
+	{
+		_out = out;
+		_shuffle = shuffle;
+		_buff = new byte[CHUNK_SIZE];
+		_sbuff = shuffle ? new byte[CHUNK_SIZE] : null;
+		_cbuff = new byte[CHUNK_HEADER_SIZE + CHUNK_SIZE];
+		_htab = new int[LZ4Codec.HASH_TABLE_SIZE];
+		writeInt(_cbuff, 0, MAGIC);
+		_out.write(_cbuff, 0, 4);
+		_storedBytes += 4;
+	}
+
+	@Override
+	public void write(int b)
+		throws IOException
+	{
+		if( _pos >= CHUNK_SIZE )
+			writeChunk();
+		_buff[_pos++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len)
+		throws IOException
+	{
+		while( len > 0 ) {
+			if( _pos >= CHUNK_SIZE )
+				writeChunk();
+			int n = Math.min(len, CHUNK_SIZE - _pos);
+			System.arraycopy(b, off, _buff, _pos, n);
+			_pos += n; off += n; len -= n;
+		}
+	}
+
+	@Override
+	public void flush()
+		throws IOException
+	{
+		writeChunk();
+		_out.flush();
+	}
+
+	@Override
+	public void close()
+		throws IOException
+	{
+		if( _closed )
+			return;
+		_closed = true;
+		try {
+			writeChunk();
+		}
+		finally {
+			_out.close();
+			if( DMLScript.STATISTICS ) {
+				CacheStatistics.incrementCompressedChunks(_numCompressed, _numRaw);
+				CacheStatistics.incrementCompressedBytes(_rawBytes, _storedBytes);
+			}
+		}
+	}
+
+	private void writeChunk()
+		throws IOException
+	{
+		if( _pos == 0 )
+			return;
+
+		//try compression unless temporarily bypassed
+		int clen = -1;
+		if( _numBypass > 0 )
+			_numBypass--;
+		else {
+			byte[] in = _buff;
+			if( _shuffle ) {
+				LZ4Codec.shuffle(_buff, _sbuff, _pos);
+				in = _sbuff;
+			}
+			clen = LZ4Codec.compress(in, 0, _pos, _cbuff,
+				CHUNK_HEADER_SIZE, _pos - _pos/8, _htab);
+			_numFailed = (clen < 0) ? _numFailed + 1 : 0;
+			if( _numFailed >= BYPASS_THRESHOLD ) {
+				_numBypass = BYPASS_NUM_CHUNKS;
+				_numFailed = 0;
+			}
+		}
+
+		//write chunk header and compressed or raw data
+		int flags = (clen < 0) ? 0 : FLAG_COMPRESSED | (_shuffle ? FLAG_SHUFFLED : 0);
+		_cbuff[0] = (byte) flags;
+		writeInt(_cbuff, 1, _pos);
+		writeInt(_cbuff, 5, (clen < 0) ? _pos : clen);
+		if( clen >= 0 )
+			_out.write(_cbuff, 0, CHUNK_HEADER_SIZE + clen);
+		else {
+			_out.write(_cbuff, 0, CHUNK_HEADER_SIZE);
+			_out.write(_buff, 0, _pos);
+		}
+
+		//maintain statistics
+		_rawBytes += _pos;
+		_storedBytes += CHUNK_HEADER_SIZE + ((clen < 0) ? _pos : clen);
+		_numCompressed += (clen < 0) ? 0 : 1;
+		_numRaw += (clen < 0) ? 1 : 0;
+		_pos = 0;
+	}
+
+	protected static void writeInt(byte[] b, int off, int val) {
+		b[off]   = (byte)(val >>> 24);
+		b[off+1] = (byte)(val >>> 16);
+		b[off+2] = (byte)(val >>> 8);
+		b[off+3] = (byte) val;
+	}
+
+	protected static int readInt(byte[] b, int off) {
+		return ((b[off] & 0xFF) << 24) | ((b[off+1] & 0xFF) << 16)
+			| ((b[off+2] & 0xFF) << 8) | (b[off+3] & 0xFF);
+	}
+}
@@ -38,6 +38,7 @@ import org.apache.sysml.runtime.io.MatrixReaderFactory;
 import org.apache.sysml.runtime.io.MatrixWriter;
 import org.apache.sysml.runtime.io.MatrixWriterFactory;
 import org.apache.sysml.runtime.io.ReadProperties;
+import org.apache.sysml.runtime.io.ReaderBinaryBlock;
 import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
 import org.apache.sysml.runtime.matrix.data.CTableMap;
 import org.apache.sysml.runtime.matrix.data.DenseBlock;
@@ -204,7 +205,15 @@ public class DataConverter
 		MatrixBlock ret = null;
 		try {
 			MatrixReader reader = MatrixReaderFactory.createMatrixReader(prop);
-			ret = reader.readMatrixFromHDFS(prop.path, prop.rlen, prop.clen, prop.brlen, prop.bclen, estnnz);
+			if( prop.indexRange != null ) { //indexed read
+				if( !(reader instanceof ReaderBinaryBlock) )
+					throw new DMLRuntimeException("Indexed read not supported for input info: "
+						+ InputInfo.inputInfoToString(prop.inputInfo));
+				ret = ((ReaderBinaryBlock)reader).readMatrixFromHDFS(prop.path, 
+					prop.rlen, prop.clen, prop.brlen, prop.bclen, estnnz, prop.indexRange);
+			}
+			else
+				ret = reader.readMatrixFromHDFS(prop.path, prop.rlen, prop.clen, prop.brlen, prop.bclen, estnnz);
 		}
 		catch(DMLRuntimeException rex)
 		{
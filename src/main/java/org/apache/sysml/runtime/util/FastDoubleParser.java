@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.util;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Allocation-free parser of decimal floating point numbers from byte
+ * buffers (e.g., the UTF-8 bytes of a hadoop Text) or strings, which
+ * produces exactly the same results as Double.parseDouble.
+ *
+ * Simple decimals of up to 19 significant digits are parsed into a
+ * 64bit mantissa and decimal exponent, which are converted either
+ * via Clinger's fast path (exact mantissa and power of ten), or the
+ * Eisel-Lemire algorithm (128bit approximations of powers of ten).
+ * All remaining cases (more digits, ambiguous rounding, out-of-range
+ * exponents, NaN, Infinity, hex floats, type suffixes, or invalid
+ * numbers) fall back to Double.parseDouble.
+ */
+public class FastDoubleParser
+{
+	private static final int MIN_EXP10 = -348;
+	private static final int MAX_EXP10 = 347;
+	private static final int MAX_DIGITS = 19;
+
+	//exactly representable powers of ten for Clinger's fast path
+	private static final double[] POW10 = new double[] {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+	//128bit approximations (rounded down) of powers of ten, normalized
+	//such that the most significant bit of the high part is set
+	private static final long[] POW10_HI = new long[MAX_EXP10-MIN_EXP10+1];
+	private static final long[] POW10_LO = new long[MAX_EXP10-MIN_EXP10+1];
+
+	static {
+		BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+		for( int q=MIN_EXP10; q<=MAX_EXP10; q++ ) {
+			BigInteger pow = BigInteger.TEN.pow(Math.abs(q));
+			int blen = pow.bitLength();
+			BigInteger tmp = (q < 0) ?
+				BigInteger.ONE.shiftLeft(127 + blen).divide(pow) :
+				(blen <= 128) ? pow.shiftLeft(128 - blen) : pow.shiftRight(blen - 128);
+			POW10_HI[q-MIN_EXP10] = tmp.shiftRight(64).longValue();
+			POW10_LO[q-MIN_EXP10] = tmp.and(mask).longValue();
+		}
+	}
+
+	private FastDoubleParser() {
+		//prevent instantiation via private constructor
+	}
+
+	public static double parseDouble(String str) {
+		return parseDouble(str, 0, str.length());
+	}
+
+	public static double parseDouble(String str, int off, int len) {
+		int pos = off, end = off + len;
+		boolean neg = false;
+		if( pos < end && (str.charAt(pos)=='-' || str.charAt(pos)=='+') )
+			neg = (str.charAt(pos++) == '-');
+
+		//parse integral and fractional digits
+		long mant = 0;
+		int ndigits = 0, nsig = 0, exp10 = 0;
+		boolean dot = false;
+		for( ; pos < end; pos++ ) {
+			char c = str.charAt(pos);
+			if( c >= '0' && c <= '9' ) {
+				ndigits++;
+				if( mant != 0 || c != '0' ) {
+					if( ++nsig > MAX_DIGITS )
+						return Double.parseDouble(str.substring(off, end));
+					mant = mant * 10 + (c - '0');
+				}
+				exp10 -= dot ? 1 : 0;
+			}
+			else if( c == '.' && !dot )
+				dot = true;
+			else
+				break;
+		}
+
+		//parse optional exponent
+		if( ndigits > 0 && pos < end && (str.charAt(pos)=='e' || str.charAt(pos)=='E') ) {
+			int epos = ++pos, exp = 0;
+			boolean eneg = false;
+			if( pos < end && (str.charAt(pos)=='-' || str.charAt(pos)=='+') )
+				eneg = (str.charAt(pos++) == '-');
+			for( epos = pos; pos < end && str.charAt(pos) >= '0' && str.charAt(pos) <= '9'; pos++ )
+				exp = Math.min(exp * 10 + (str.charAt(pos) - '0'), 100000);
+			if( pos == epos )
+				ndigits = 0; //invalid exponent
+			exp10 += eneg ? -exp : exp;
+		}
+
+		//fallback for special, unsupported, and invalid numbers
+		if( ndigits == 0 || pos < end )
+			return Double.parseDouble(str.substring(off, end));
+		return toDouble(mant, exp10, neg, str, off, end);
+	}
+
+	public static double parseDouble(byte[] buff, int off, int len) {
+		int pos = off, end = off + len;
+		boolean neg = false;
+		if( pos < end && (buff[pos]=='-' || buff[pos]=='+') )
+			neg = (buff[pos++] == '-');
+
+		//parse integral and fractional digits
+		long mant = 0;
+		int ndigits = 0, nsig = 0, exp10 = 0;
+		boolean dot = false;
+		for( ; pos < end; pos++ ) {
+			byte c = buff[pos];
+			if( c >= '0' && c <= '9' ) {
+				ndigits++;
+				if( mant != 0 || c != '0' ) {
+					if( ++nsig > MAX_DIGITS )
+						return fallback(buff, off, end);
+					mant = mant * 10 + (c - '0');
+				}
+				exp10 -= dot ? 1 : 0;
+			}
+			else if( c == '.' && !dot )
+				dot = true;
+			else
+				break;
+		}
+
+		//parse optional exponent
+		if( ndigits > 0 && pos < end && (buff[pos]=='e' || buff[pos]=='E') ) {
+			int epos = ++pos, exp = 0;
+			boolean eneg = false;
+			if( pos < end && (buff[pos]=='-' || buff[pos]=='+') )
+				eneg = (buff[pos++] == '-');
+			for( epos = pos; pos < end && buff[pos] >= '0' && buff[pos] <= '9'; pos++ )
+				exp = Math.min(exp * 10 + (buff[pos] - '0'), 100000);
+			if( pos == epos )
+				ndigits = 0; //invalid exponent
+			exp10 += eneg ? -exp : exp;
+		}
+
+		//fallback for special, unsupported, and invalid numbers
+		if( ndigits == 0 || pos < end )
+			return fallback(buff, off, end);
+		return toDouble(mant, exp10, neg, buff, off, end);
+	}
+
+	private static double toDouble(long mant, int exp10, boolean neg, Object src, int off, int end) {
+		//zero (incl negative zero)
+		if( mant == 0 )
+			return neg ? -0d : 0d;
+
+		//Clinger's fast path (exact mantissa and power of ten),
+		//note: mantissas of 19 digits might exceed the signed long range
+		if( mant > 0 && mant <= (1L << 53) && exp10 >= -22 && exp10 <= 22 ) {
+			double ret = (exp10 < 0) ?
+				(double)mant / POW10[-exp10] : (double)mant * POW10[exp10];
+			return neg ? -ret : ret;
+		}
+
+		//Eisel-Lemire w/ fallback for ambiguous cases
+		long bits = eiselLemire(mant, exp10);
+		if( bits >= 0 )
+			return Double.longBitsToDouble(neg ? bits | Long.MIN_VALUE : bits);
+		return (src instanceof String) ?
+			Double.parseDouble(((String)src).substring(off, end)) :
+			fallback((byte[])src, off, end);
+	}
+
+	/**
+	 * Computes the IEEE-754 bits of the non-negative double closest to
+	 * mant*10^exp10 via the Eisel-Lemire algorithm.
+	 *
+	 * @param mant non-zero decimal mantissa
+	 * @param exp10 decimal exponent
+	 * @return double bits, or -1 if the result cannot be determined
+	 */
+	private static long eiselLemire(long mant, int exp10) {
+		if( exp10 < MIN_EXP10 || exp10 > MAX_EXP10 )
+			return -1;
+
+		//normalize mantissa and approximate binary exponent
+		int clz = Long.numberOfLeadingZeros(mant);
+		mant <<= clz;
+		long exp2 = ((217706L * exp10) >> 16) + 64 + 1023 - clz;
+
+		//128bit multiplication w/ wider approximation if required
+		int ix = exp10 - MIN_EXP10;
+		long xhi = multiplyHighUnsigned(mant, POW10_HI[ix]);
+		long xlo = mant * POW10_HI[ix];
+		if( (xhi & 0x1FF) == 0x1FF && Long.compareUnsigned(xlo + mant, mant) < 0 ) {
+			long yhi = multiplyHighUnsigned(mant, POW10_LO[ix]);
+			long ylo = mant * POW10_LO[ix];
+			long mhi = xhi, mlo = xlo + yhi;
+			if( Long.compareUnsigned(mlo, xlo) < 0 )
+				mhi++;
+			if( (mhi & 0x1FF) == 0x1FF && mlo + 1 == 0
+				&& Long.compareUnsigned(ylo + mant, mant) < 0 )
+				return -1;
+			xhi = mhi;
+			xlo = mlo;
+		}
+
+		//shift to 54 bits and handle half-way ambiguity
+		long msb = xhi >>> 63;
+		long rmant = xhi >>> (msb + 9);
+		exp2 -= 1 ^ msb;
+		if( xlo == 0 && (xhi & 0x1FF) == 0 && (rmant & 3) == 1 )
+			return -1;
+
+		//round from 54 to 53 bits
+		rmant += rmant & 1;
+		rmant >>>= 1;
+		if( (rmant >>> 53) > 0 ) {
+			rmant >>>= 1;
+			exp2++;
+		}
+
+		//subnormals, infinity (handled by fallback)
+		if( exp2 <= 0 || exp2 >= 0x7FF )
+			return -1;
+		return (exp2 << 52) | (rmant & 0x000FFFFFFFFFFFFFL);
+	}
+
+	private static long multiplyHighUnsigned(long x, long y) {
+		//note: Math.multiplyHigh only available with JDK 9+, and signed
+		long x0 = x & 0xFFFFFFFFL, x1 = x >>> 32;
+		long y0 = y & 0xFFFFFFFFL, y1 = y >>> 32;
+		long p01 = x0 * y1;
+		long mid = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+		return x1 * y1 + (mid >>> 32) + (p01 >>> 32);
+	}
+
+	private static double fallback(byte[] buff, int off, int end) {
+		return Double.parseDouble(new String(buff, off, end-off, StandardCharsets.UTF_8));
+	}
+}
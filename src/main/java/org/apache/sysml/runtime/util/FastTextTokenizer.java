@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+import org.apache.hadoop.io.Text;
+import org.apache.sysml.parser.Expression.ValueType;
+
+/**
+ * Byte-level tokenizer that works directly on the UTF-8 bytes of a
+ * hadoop Text (or any byte buffer) in order to avoid the creation of
+ * strings per line and token. Tokens are exposed as trimmed byte ranges,
+ * which can be parsed without allocation via {@link #getDouble()} or
+ * materialized as strings via {@link #getString()} if needed.
+ *
+ * The tokenizer supports two modes of iteration: {@link #next()} returns
+ * all tokens including empty tokens (equivalent to IOUtilFunctions.split
+ * for csv), while {@link #nextToken()}, {@link #nextLong()}, and
+ * {@link #nextDouble()} skip consecutive delimiters (equivalent to
+ * FastStringTokenizer for textcell).
+ */
+public class FastTextTokenizer
+{
+	private final byte[] _del;
+	private byte[] _buff = null;
+	private int _pos = -1;
+	private int _end = -1;
+
+	//trimmed range of current token
+	private int _tstart = -1;
+	private int _tend = -1;
+
+	public FastTextTokenizer(char delim) {
+		this(String.valueOf(delim));
+	}
+
+	public FastTextTokenizer(String delim) {
+		_del = delim.getBytes(StandardCharsets.UTF_8);
+	}
+
+	public void reset(Text text) {
+		reset(text.getBytes(), 0, text.getLength());
+	}
+
+	/**
+	 * Resets the tokenizer to the given byte range, which is trimmed
+	 * similar to String.trim (i.e., leading and trailing bytes less
+	 * than or equal to space). A range that is empty after trimming
+	 * does not contain any tokens.
+	 *
+	 * @param buff byte buffer
+	 * @param off offset of the line in the buffer
+	 * @param len length of the line in bytes
+	 */
+	public void reset(byte[] buff, int off, int len) {
+		int end = off + len;
+		while( off < end && isWhitespace(buff[off]) )
+			off++;
+		while( end > off && isWhitespace(buff[end-1]) )
+			end--;
+		_buff = buff;
+		_pos = (off < end) ? off : end + 1;
+		_end = end;
+		_tstart = _tend = -1;
+	}
+
+	/**
+	 * Indicates if the current line (after trimming) starts with
+	 * the given ASCII character.
+	 *
+	 * @param c character
+	 * @return true if the line starts with the character
+	 */
+	public boolean startsWith(char c) {
+		return _pos < _end && _buff[_pos] == c;
+	}
+
+	/**
+	 * Indicates if the current line contains the given ASCII character.
+	 *
+	 * @param c character
+	 * @return true if the line contains the character
+	 */
+	public boolean contains(char c) {
+		for( int i=_pos; i<_end; i++ )
+			if( _buff[i] == c )
+				return true;
+		return false;
+	}
+
+	public boolean hasNext() {
+		return _pos <= _end;
+	}
+
+	/**
+	 * Advances to the next token, including empty tokens between
+	 * consecutive delimiters or at the end of the line.
+	 *
+	 * @return true if there was a next token
+	 */
+	public boolean next() {
+		if( _pos > _end )
+			return false;
+		int ix = indexOfDelim(_pos);
+		setToken(_pos, (ix >= 0) ? ix : _end);
+		_pos = (ix >= 0) ? ix + _del.length : _end + 1;
+		return true;
+	}
+
+	/**
+	 * Counts the remaining tokens (including empty tokens),
+	 * without advancing the tokenizer.
+	 *
+	 * @return number of remaining tokens
+	 */
+	public int countTokens() {
+		int ret = 0;
+		for( int pos=_pos; pos <= _end; ret++ ) {
+			int ix = indexOfDelim(pos);
+			pos = (ix >= 0) ? ix + _del.length : _end + 1;
+		}
+		return ret;
+	}
+
+	public boolean isEmpty() {
+		return _tstart >= _tend;
+	}
+
+	public double getDouble() {
+		return FastDoubleParser.parseDouble(_buff, _tstart, _tend-_tstart);
+	}
+
+	public long getLong() {
+		long ret = 0;
+		boolean neg = _tstart < _tend && _buff[_tstart] == '-';
+		int start = _tstart + ((neg || (_tstart < _tend && _buff[_tstart] == '+')) ? 1 : 0);
+		//fallback for invalid numbers and potential overflows
+		if( start >= _tend || _tend - start > 18 )
+			return Long.parseLong(getString());
+		for( int i=start; i<_tend; i++ ) {
+			int d = _buff[i] - '0';
+			if( d < 0 || d > 9 )
+				return Long.parseLong(getString());
+			ret = ret * 10 + d;
+		}
+		return neg ? -ret : ret;
+	}
+
+	public String getString() {
+		return new String(_buff, _tstart, _tend-_tstart, StandardCharsets.UTF_8);
+	}
+
+	public Object getObject(ValueType vt) {
+		//parse numeric values w/o intermediate strings
+		switch( vt ) {
+			case DOUBLE: return getDouble();
+			case INT:    return getLong();
+			default:     return UtilFunctions.stringToObject(vt, getString());
+		}
+	}
+
+	////////////////////////////////////////
+	// Custom parsing methods for textcell
+	////////////////////////////////////////
+
+	/**
+	 * Advances to the next non-empty token, skipping consecutive
+	 * delimiters similar to FastStringTokenizer.
+	 *
+	 * @throws NoSuchElementException if there is no next token
+	 */
+	private void advanceNonEmpty() {
+		while( _pos < _end && indexOfDelim(_pos) == _pos )
+			_pos += _del.length;
+		if( _pos >= _end )
+			throw new NoSuchElementException();
+		next();
+	}
+
+	public String nextToken() {
+		advanceNonEmpty();
+		return getString();
+	}
+
+	public int nextInt() {
+		long val = nextLong();
+		if( val < Integer.MIN_VALUE || val > Integer.MAX_VALUE )
+			throw new NumberFormatException("Value out of int range: "+val);
+		return (int) val;
+	}
+
+	public long nextLong() {
+		advanceNonEmpty();
+		return getLong();
+	}
+
+	public double nextDouble() {
+		advanceNonEmpty();
+		return getDouble();
+	}
+
+	public Object nextObject(ValueType vt) {
+		advanceNonEmpty();
+		return getObject(vt);
+	}
+
+	private void setToken(int start, int end) {
+		while( start < end && isWhitespace(_buff[start]) )
+			start++;
+		while( end > start && isWhitespace(_buff[end-1]) )
+			end--;
+		_tstart = start;
+		_tend = end;
+	}
+
+	private int indexOfDelim(int from) {
+		byte d0 = _del[0];
+		int dlen = _del.length;
+		for( int i=from; i<=_end-dlen; i++ ) {
+			if( _buff[i] != d0 )
+				continue;
+			int j = 1;
+			while( j < dlen && _buff[i+j] == _del[j] )
+				j++;
+			if( j == dlen )
+				return i;
+		}
+		return -1;
+	}
+
+	private static boolean isWhitespace(byte b) {
+		//consistent w/ String.trim, but unsigned to exclude non-ascii bytes
+		return (b & 0xFF) <= ' ';
+	}
+}
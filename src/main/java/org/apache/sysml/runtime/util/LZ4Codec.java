@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Pure-Java implementation of the LZ4 block format (single-probe hash table,
+ * no entropy coding), which trades compression ratio for very high compression
+ * and decompression throughput. In addition, this class provides a byte-shuffle
+ * filter that groups the i-th bytes of all 8-byte values, which exposes the
+ * redundancy of exponents and high-order mantissa bytes of doubles to LZ4.
+ */
+public class LZ4Codec
+{
+	private static final int MIN_MATCH = 4;
+	private static final int LAST_LITERALS = 5; //spec: last 5 bytes are literals
+	private static final int MF_LIMIT = 12;     //spec: last match starts >=12 bytes before end
+	private static final int MAX_DISTANCE = 65535;
+	private static final int HASH_LOG = 14;
+	private static final int SKIP_TRIGGER = 6;  //accelerate search in incompressible regions
+
+	public static final int HASH_TABLE_SIZE = 1 << HASH_LOG;
+
+	/**
+	 * Compresses the given input range in LZ4 block format. If the
+	 * compressed output would exceed the given maximum length, this
+	 * method aborts early and returns -1, which allows callers to cheaply
+	 * detect incompressible inputs.
+	 *
+	 * @param src input array
+	 * @param soff input offset
+	 * @param slen input length
+	 * @param dst output array
+	 * @param doff output offset
+	 * @param dmax maximum output length
+	 * @param htab reusable hash table of size HASH_TABLE_SIZE
+	 * @return compressed length, or -1 if larger than dmax
+	 */
+	public static int compress(byte[] src, int soff, int slen, byte[] dst, int doff, int dmax, int[] htab) {
+		final int send = soff + slen;
+		final int mflimit = send - MF_LIMIT;
+		final int matchlimit = send - LAST_LITERALS;
+		final int dend = doff + dmax;
+		int anchor = soff;
+		int ip = soff;
+		int op = doff;
+
+		if( slen > MF_LIMIT ) {
+			Arrays.fill(htab, -1);
+			while( ip < mflimit ) {
+				//probe hash table for match candidate
+				int seq = readInt(src, ip);
+				int h = hash(seq);
+				int ref = htab[h];
+				htab[h] = ip;
+				if( ref < 0 || ip - ref > MAX_DISTANCE || readInt(src, ref) != seq ) {
+					ip += 1 + ((ip - anchor) >>> SKIP_TRIGGER);
+					continue;
+				}
+
+				//extend match backwards and forwards
+				while( ip > anchor && ref > soff && src[ip-1] == src[ref-1] ) {
+					ip--; ref--;
+				}
+				int mlen = MIN_MATCH;
+				while( ip + mlen < matchlimit && src[ip+mlen] == src[ref+mlen] )
+					mlen++;
+
+				//emit sequence (token, literals, offset, match length)
+				int llen = ip - anchor;
+				if( op + 1 + llen + llen/255 + 3 + mlen/255 + 1 > dend )
+					return -1;
+				int token = op++;
+				op = writeLength(dst, op, llen);
+				System.arraycopy(src, anchor, dst, op, llen);
+				op += llen;
+				int offset = ip - ref;
+				dst[op++] = (byte) offset;
+				dst[op++] = (byte) (offset >>> 8);
+				op = writeLength(dst, op, mlen - MIN_MATCH);
+				dst[token] = (byte) ((Math.min(llen, 15) << 4) | Math.min(mlen - MIN_MATCH, 15));
+				ip += mlen;
+				anchor = ip;
+			}
+		}
+
+		//emit last literals
+		int llen = send - anchor;
+		if( op + 1 + llen + llen/255 + 1 > dend )
+			return -1;
+		dst[op++] = (byte) (Math.min(llen, 15) << 4);
+		op = writeLength(dst, op, llen);
+		System.arraycopy(src, anchor, dst, op, llen);
+		op += llen;
+		return op - doff;
+	}
+
+	/**
+	 * Decompresses the given input range in LZ4 block format.
+	 *
+	 * @param src input array
+	 * @param soff input offset
+	 * @param slen compressed length
+	 * @param dst output array
+	 * @param doff output offset
+	 * @param rlen expected decompressed length
+	 * @throws IOException if the input is corrupted
+	 */
+	public static void decompress(byte[] src, int soff, int slen, byte[] dst, int doff, int rlen)
+		throws IOException
+	{
+		final int send = soff + slen;
+		int ip = soff;
+		int op = doff;
+		try {
+			while( ip < send ) {
+				int token = src[ip++] & 0xFF;
+				//copy literals
+				int llen = token >>> 4;
+				if( llen == 15 ) {
+					int b;
+					do { b = src[ip++] & 0xFF; llen += b; } while( b == 255 );
+				}
+				System.arraycopy(src, ip, dst, op, llen);
+				ip += llen;
+				op += llen;
+				if( ip >= send ) //last literals
+					break;
+				//copy match (potentially overlapping)
+				int offset = (src[ip++] & 0xFF) | ((src[ip++] & 0xFF) << 8);
+				int mlen = token & 0x0F;
+				if( mlen == 15 ) {
+					int b;
+					do { b = src[ip++] & 0xFF; mlen += b; } while( b == 255 );
+				}
+				mlen += MIN_MATCH;
+				int ref = op - offset;
+				if( offset == 0 || ref < doff )
+					throw new IOException("Corrupted LZ4 block: invalid match offset "+offset+".");
+				if( offset >= mlen )
+					System.arraycopy(dst, ref, dst, op, mlen);
+				else
+					for( int i=0; i<mlen; i++ )
+						dst[op+i] = dst[ref+i];
+				op += mlen;
+			}
+		}
+		catch(ArrayIndexOutOfBoundsException ex) {
+			throw new IOException("Corrupted LZ4 block.", ex);
+		}
+		if( op - doff != rlen )
+			throw new IOException("Corrupted LZ4 block: decompressed "
+				+(op-doff)+" instead of "+rlen+" bytes.");
+	}
+
+	/**
+	 * Byte-shuffle of 8-byte values: the i-th bytes of all values are
+	 * stored consecutively; trailing bytes are copied as is.
+	 *
+	 * @param src input array
+	 * @param dst output array
+	 * @param len number of bytes
+	 */
+	public static void shuffle(byte[] src, byte[] dst, int len) {
+		int n = len / 8;
+		for( int i=0, ix=0; i<n; i++, ix+=8 )
+			for( int b=0; b<8; b++ )
+				dst[b*n+i] = src[ix+b];
+		System.arraycopy(src, 8*n, dst, 8*n, len - 8*n);
+	}
+
+	/**
+	 * Inverse of {@link #shuffle(byte[], byte[], int)}.
+	 *
+	 * @param src input array
+	 * @param dst output array
+	 * @param len number of bytes
+	 */
+	public static void unshuffle(byte[] src, byte[] dst, int len) {
+		int n = len / 8;
+		for( int i=0, ix=0; i<n; i++, ix+=8 )
+			for( int b=0; b<8; b++ )
+				dst[ix+b] = src[b*n+i];
+		System.arraycopy(src, 8*n, dst, 8*n, len - 8*n);
+	}
+
+	private static int writeLength(byte[] dst, int op, int len) {
+		if( len >= 15 ) {
+			len -= 15;
+			for( ; len >= 255; len -= 255 )
+				dst[op++] = (byte) 255;
+			dst[op++] = (byte) len;
+		}
+		return op;
+	}
+
+	private static int readInt(byte[] a, int pos) {
+		return (a[pos] & 0xFF) | ((a[pos+1] & 0xFF) << 8)
+			| ((a[pos+2] & 0xFF) << 16) | ((a[pos+3] & 0xFF) << 24);
+	}
+
+	private static int hash(int seq) {
+		return (seq * -1640531535) >>> (32 - HASH_LOG);
+	}
+}
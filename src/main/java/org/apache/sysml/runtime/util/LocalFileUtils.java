@@ -28,6 +28,7 @@ import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -59,6 +60,9 @@ public class LocalFileUtils
 	private static IDSequence _seq = null;
 	private static String _workingDir = null;
 	
+	//compression of local eviction and staging files
+	private static volatile boolean _compress = false;
+	
 	//categories of temp files under process-specific working dir
 	public static final String CATEGORY_CACHE        = "cache";
 	public static final String CATEGORY_PARTITIONING = "partitioning";
@@ -70,6 +74,21 @@ public class LocalFileUtils
 		_seq = new IDSequence();
 	}
 	
+	/**
+	 * Enables or disables the compression of subsequently written local
+	 * eviction and staging files. Reads are independent of this flag, as
+	 * compressed files are detected by their magic number.
+	 * 
+	 * @param flag true to enable compression
+	 */
+	public static void setLocalCompression(boolean flag) {
+		_compress = flag;
+	}
+	
+	public static boolean isLocalCompression() {
+		return _compress;
+	}
+	
 	/** Reads a matrix block from local file system.
 	 * 
 	 * @param fname file name to read
@@ -124,7 +143,7 @@ public class LocalFileUtils
 	public static Writable readWritableFromLocal(String fname, Writable ret)
 		throws IOException
 	{
-		FileInputStream fis = new FileInputStream(fname);
+		InputStream fis = CompressedFileInputStream.wrap(new FileInputStream(fname));
 		DataInput in = !(ret instanceof MatrixBlock) ? 
 			new DataInputStream(new BufferedInputStream(fis, BUFFER_SIZE)) :
 			new FastBufferedDataInputStream(fis, BUFFER_SIZE);		
@@ -230,7 +249,7 @@ public class LocalFileUtils
 	public static void writeWritableToLocal(String fname, Writable mb)
 		throws IOException
 	{	
-		FileOutputStream fos = new FileOutputStream( fname );
+		OutputStream fos = createLocalOutputStream(fname, mb instanceof MatrixBlock);
 		FastBufferedDataOutputStream out = new FastBufferedDataOutputStream(fos, BUFFER_SIZE);
 		
 		try {
@@ -244,7 +263,25 @@ public class LocalFileUtils
 
 	public static void writeByteArrayToLocal( String fname, byte[] data )
 		throws IOException
+	{
+		writeByteArrayToLocal(fname, data, true);
+	}
+	
+	public static void writeByteArrayToLocal( String fname, byte[] data, boolean shuffle )
+		throws IOException
 	{	
+		if( _compress ) {
+			//compressed write via chunked output stream
+			OutputStream os = createLocalOutputStream(fname, shuffle);
+			try {
+				os.write(data);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(os);
+			}
+			return;
+		}
+		
 		//byte array write via java.nio file channel ~10-15% faster than java.io
 		FileChannel channel = null;
 		try {
@@ -262,7 +299,7 @@ public class LocalFileUtils
 			Pair<MatrixIndexes,MatrixValue>[] outValues, HashMap<MatrixIndexes, Integer> outMap) 
 		throws IOException
 	{
-		FileInputStream fis = new FileInputStream(fname);
+		InputStream fis = CompressedFileInputStream.wrap(new FileInputStream(fname));
 		FastBufferedDataInputStream in = new FastBufferedDataInputStream(fis, BUFFER_SIZE);
 		int bufferSize = 0;
 		
@@ -290,7 +327,7 @@ public class LocalFileUtils
 		if( len > inValues.length )
 			throw new IOException("Invalid length of block sequence: len="+len+" vs data="+inValues.length);
 		
-		FileOutputStream fos = new FileOutputStream(fname);
+		OutputStream fos = createLocalOutputStream(fname, true);
 		FastBufferedDataOutputStream out = new FastBufferedDataOutputStream(fos, BUFFER_SIZE);
 		
 		try 
@@ -307,6 +344,21 @@ public class LocalFileUtils
 		}	
 	}
 
+	private static OutputStream createLocalOutputStream(String fname, boolean shuffle)
+		throws IOException
+	{
+		FileOutputStream fos = new FileOutputStream(fname);
+		if( !_compress )
+			return fos;
+		try {
+			return new CompressedFileOutputStream(fos, shuffle);
+		}
+		catch(IOException ex) {
+			IOUtilFunctions.closeSilently(fos);
+			throw ex;
+		}
+	}
+	
 	public static boolean createLocalFileIfNotExist(String dir) {
 		boolean ret = true;		
 		File fdir = new File(dir);
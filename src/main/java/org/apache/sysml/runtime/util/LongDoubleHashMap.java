@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.runtime.util;
+
+/**
+ * This native long - double hashmap uses open addressing with linear probing
+ * over primitive key and value arrays. Similar to {@link LongLongDoubleHashMap},
+ * it only supports addvalue - extract semantics, but it does not create any
+ * entry objects, which makes it suitable for thread-local aggregation of
+ * very large numbers of tuples (e.g., in multi-threaded ctable).
+ *
+ * Note: the key 0 is reserved to mark empty slots.
+ */
+public class LongDoubleHashMap
+{
+	private static final int INIT_CAPACITY = 8;
+	private static final int RESIZE_FACTOR = 2;
+	private static final float LOAD_FACTOR = 0.5f;
+	private static final long EMPTY = 0;
+
+	private long[] _keys = null;
+	private double[] _values = null;
+	private int _size = -1;
+
+	public LongDoubleHashMap() {
+		this(INIT_CAPACITY);
+	}
+
+	public LongDoubleHashMap(int capacity) {
+		int cap = UtilFunctions.nextIntPow2(Math.max(capacity, INIT_CAPACITY));
+		_keys = new long[cap];
+		_values = new double[cap];
+		_size = 0;
+	}
+
+	public int size() {
+		return _size;
+	}
+
+	public int capacity() {
+		return _keys.length;
+	}
+
+	/**
+	 * Returns the key at the given slot, or 0 if the slot is empty.
+	 *
+	 * @param pos slot position in [0, capacity)
+	 * @return key
+	 */
+	public long getKey(int pos) {
+		return _keys[pos];
+	}
+
+	public double getValue(int pos) {
+		return _values[pos];
+	}
+
+	public void addValue(long key, double value) {
+		//probe for existing or empty slot
+		int mask = _keys.length - 1;
+		int ix = hash(key) & mask;
+		while( _keys[ix] != EMPTY && _keys[ix] != key )
+			ix = (ix + 1) & mask;
+
+		//add value to existing entry
+		if( _keys[ix] == key ) {
+			_values[ix] += value;
+			return; //no need to append or resize
+		}
+
+		//add non-existing entry
+		_keys[ix] = key;
+		_values[ix] = value;
+		_size++;
+
+		//resize if necessary
+		if( _size >= LOAD_FACTOR*_keys.length )
+			resize();
+	}
+
+	/**
+	 * Adds all entries of the given map into this map.
+	 *
+	 * @param that hashmap
+	 */
+	public void addAll(LongDoubleHashMap that) {
+		long[] keys = that._keys;
+		double[] values = that._values;
+		for( int i=0; i<keys.length; i++ )
+			if( keys[i] != EMPTY )
+				addValue(keys[i], values[i]);
+	}
+
+	private void resize() {
+		//check for integer overflow on resize
+		if( _keys.length > Integer.MAX_VALUE/RESIZE_FACTOR )
+			return;
+
+		//allocate new arrays and rehash all existing entries
+		long[] oldkeys = _keys;
+		double[] oldvalues = _values;
+		_keys = new long[oldkeys.length*RESIZE_FACTOR];
+		_values = new double[oldkeys.length*RESIZE_FACTOR];
+		int mask = _keys.length - 1;
+		for( int i=0; i<oldkeys.length; i++ ) {
+			if( oldkeys[i] == EMPTY ) continue;
+			int ix = hash(oldkeys[i]) & mask;
+			while( _keys[ix] != EMPTY )
+				ix = (ix + 1) & mask;
+			_keys[ix] = oldkeys[i];
+			_values[ix] = oldvalues[i];
+		}
+	}
+
+	private static int hash(long key) {
+		//64bit mixing (xorshift-multiply-xorshift, i.e., the first round
+		//of the murmur3 finalizer) because composite keys such as 
+		//(row<<32|col) differ only in few bit positions,
+		//which would cause long probe sequences with simple folding
+		long h = key;
+		h ^= (h >>> 33);
+		h *= 0xff51afd7ed558ccdL;
+		h ^= (h >>> 33);
+		return (int) h;
+	}
+}
@@ -36,12 +36,12 @@ public class NormalPRNGenerator extends PRNGenerator
 	
 	public NormalPRNGenerator() {
 		rnorm = new Random();
+		pair = new RandNPair();
 	}
 	
 	@Override
 	public void setSeed(long seed) {
 		rnorm.setSeed(seed);
-		pair = new RandNPair();
 		flag = false;
 		pair.compute(rnorm);
 	}
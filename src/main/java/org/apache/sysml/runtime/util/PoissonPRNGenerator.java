@@ -20,13 +20,17 @@
 package org.apache.sysml.runtime.util;
 
 import org.apache.commons.math3.distribution.PoissonDistribution;
-import org.apache.commons.math3.random.SynchronizedRandomGenerator;
 import org.apache.commons.math3.random.Well1024a;
 
 
 /**
  * Class that can generate a stream of random numbers from Poisson
  * distribution with specified mean. 
+ * 
+ * Note: Instances are not thread-safe; multi-threaded rand creates a separate
+ * generator per task. Hence, we use an unsynchronized random generator and 
+ * reuse the distribution object across seeds, where reseeding the underlying
+ * generator yields the same stream as a newly created distribution.
  */
 
 
@@ -52,9 +56,13 @@ public class PoissonPRNGenerator extends PRNGenerator
 
 	public void setup(double mean, long sd) {
 		seed = sd;
-		SynchronizedRandomGenerator srg = new SynchronizedRandomGenerator(new Well1024a());
-		srg.setSeed(seed);
-		_pdist = new PoissonDistribution(srg, _mean, PoissonDistribution.DEFAULT_EPSILON, PoissonDistribution.DEFAULT_MAX_ITERATIONS);
+		if( _pdist == null || _pdist.getMean() != mean ) {
+			//create distribution only on initial setup or changed mean
+			_mean = mean;
+			_pdist = new PoissonDistribution(new Well1024a(), _mean, 
+				PoissonDistribution.DEFAULT_EPSILON, PoissonDistribution.DEFAULT_MAX_ITERATIONS);
+		}
+		_pdist.reseedRandomGenerator(seed);
 	}
 	
 	@Override
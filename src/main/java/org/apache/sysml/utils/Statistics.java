@@ -34,6 +34,7 @@ import java.util.concurrent.atomic.LongAdder;
 import org.apache.sysml.api.DMLScript;
 import org.apache.sysml.conf.ConfigurationManager;
 import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.hops.codegen.SpoofCompiler;
 import org.apache.sysml.runtime.controlprogram.caching.CacheStatistics;
 import org.apache.sysml.runtime.controlprogram.context.SparkExecutionContext;
 import org.apache.sysml.runtime.instructions.Instruction;
@@ -91,6 +92,10 @@ public class Statistics
 	private static final LongAdder codegenEnumEvalP = new LongAdder(); //count
 	private static final LongAdder codegenPlanCacheHits = new LongAdder(); //count
 	private static final LongAdder codegenPlanCacheTotal = new LongAdder(); //count
+	private static final LongAdder codegenClassCacheHits = new LongAdder(); //count
+	private static final LongAdder codegenAsyncCompile = new LongAdder(); //count
+	private static final LongAdder codegenAsyncFallbacks = new LongAdder(); //count
+	private static final LongAdder codegenAsyncCompileTime = new LongAdder(); //in nano
 	
 	//Function recompile stats 
 	private static final LongAdder funRecompileTime = new LongAdder(); //in nano sec
@@ -296,6 +301,22 @@ public class Statistics
 		codegenPlanCacheTotal.increment();
 	}
 	
+	public static void incrementCodegenClassCacheHits() {
+		codegenClassCacheHits.increment();
+	}
+	
+	public static void incrementCodegenAsyncCompile() {
+		codegenAsyncCompile.increment();
+	}
+	
+	public static void incrementCodegenAsyncFallbacks() {
+		codegenAsyncFallbacks.increment();
+	}
+	
+	public static void incrementCodegenAsyncCompileTime(long delta) {
+		codegenAsyncCompileTime.add(delta);
+	}
+	
 	public static long getCodegenDAGCompile() {
 		return codegenHopCompile.longValue();
 	}
@@ -336,6 +357,22 @@ public class Statistics
 	public static long getCodegenPlanCacheTotal() {
 		return codegenPlanCacheTotal.longValue();
 	}
+	
+	public static long getCodegenClassCacheHits() {
+		return codegenClassCacheHits.longValue();
+	}
+	
+	public static long getCodegenAsyncCompile() {
+		return codegenAsyncCompile.longValue();
+	}
+	
+	public static long getCodegenAsyncFallbacks() {
+		return codegenAsyncFallbacks.longValue();
+	}
+	
+	public static long getCodegenAsyncCompileTime() {
+		return codegenAsyncCompileTime.longValue();
+	}
 
 	public static void incrementFunRecompileTime( long delta ) {
 		funRecompileTime.add(delta);
@@ -420,6 +457,10 @@ public class Statistics
 		codegenClassCompileTime.reset();
 		codegenPlanCacheHits.reset();
 		codegenPlanCacheTotal.reset();
+		codegenClassCacheHits.reset();
+		codegenAsyncCompile.reset();
+		codegenAsyncFallbacks.reset();
+		codegenAsyncCompileTime.reset();
 		
 		parforOptCount = 0;
 		parforOptTime = 0;
@@ -800,6 +841,9 @@ public class Statistics
 			
 			sb.append("Cache hits (Mem, WB, FS, HDFS):\t" + CacheStatistics.displayHits() + ".\n");
 			sb.append("Cache writes (WB, FS, HDFS):\t" + CacheStatistics.displayWrites() + ".\n");
+			sb.append("Cache WB policy (hits/misses):\t" + CacheStatistics.displayPolicyHits() + ".\n");
+			sb.append("Cache compression (ratio, raw):\t" + CacheStatistics.displayCompression() + ".\n");
+			sb.append("Cache array pool (hits/misses):\t" + CacheStatistics.displayArrayPoolHits() + ".\n");
 			sb.append("Cache times (ACQr/m, RLS, EXP):\t" + CacheStatistics.displayTime() + " sec.\n");
 			sb.append("HOP DAGs recompiled (PRED, SB):\t" + getHopRecompiledPredDAGs() + "/" + getHopRecompiledSBDAGs() + ".\n");
 			sb.append("HOP DAGs recompile time:\t" + String.format("%.3f", ((double)getHopRecompileTime())/1000000000) + " sec.\n");
@@ -815,6 +859,16 @@ public class Statistics
 				sb.append("Codegen compile times (DAG,JC):\t" + String.format("%.3f", (double)getCodegenCompileTime()/1000000000) + "/" + 
 						String.format("%.3f", (double)getCodegenClassCompileTime()/1000000000)  + " sec.\n");
 				sb.append("Codegen plan cache hits:\t" + getCodegenPlanCacheHits() + "/" + getCodegenPlanCacheTotal() + ".\n");
+				if( SpoofCompiler.CLASS_CACHE_DIR != null )
+					sb.append("Codegen class cache hits:\t" + getCodegenClassCacheHits() + ".\n");
+				if( SpoofCompiler.ASYNC_COMPILE ) {
+					//background compile time is removed from the critical path, at the cost
+					//of executing the unfused sub-dags (fallbacks) until the class is ready
+					sb.append("Codegen async compile (JC,FB):\t" + getCodegenAsyncCompile() + "/"
+						+ getCodegenAsyncFallbacks() + ".\n");
+					sb.append("Codegen async time saved:\t" + String.format("%.3f",
+						(double)getCodegenAsyncCompileTime()/1000000000) + " sec.\n");
+				}
 			}
 			if( OptimizerUtils.isSparkExecutionMode() ){
 				String lazy = SparkExecutionContext.isLazySparkContextCreation() ? "(lazy)" : "(eager)";
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.perf.matrix;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.LibMatrixAgg;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro benchmark for unary aggregates (full, row, and column aggregates)
+ * via {@link LibMatrixAgg#aggregateUnaryMatrix(MatrixBlock, MatrixBlock, 
+ * AggregateUnaryOperator, int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AggregateUnaryBenchmark 
+{
+	@Param({"uak+", "uark+", "uack+", "uamax", "uarimax"})
+	public String opcode;
+	
+	@Param({"1000000x100", "10000x10000"})
+	public String shape;
+	
+	@Param({"1.0", "0.1", "0.01"})
+	public double sparsity;
+	
+	@Param({"MCSR", "CSR", "COO"})
+	public SparseBlock.Type stype;
+	
+	@Param({"1", "8"})
+	public int k;
+	
+	private MatrixBlock _in = null;
+	private AggregateUnaryOperator _op = null;
+	
+	@Setup
+	public void setup() throws DMLRuntimeException {
+		String[] dims = shape.split("x");
+		_in = MatrixBenchmarkUtils.createMatrix(Integer.parseInt(dims[0]),
+			Integer.parseInt(dims[1]), sparsity, stype, MatrixBenchmarkUtils.SEED);
+		_op = InstructionUtils.parseBasicAggregateUnaryOperator(opcode, k);
+	}
+	
+	@Benchmark
+	public MatrixBlock aggregateUnaryMatrix() throws DMLRuntimeException {
+		MatrixBlock ret = MatrixBenchmarkUtils.createAggregateOutput(_in, _op);
+		LibMatrixAgg.aggregateUnaryMatrix(_in, ret, _op, k);
+		return ret;
+	}
+}
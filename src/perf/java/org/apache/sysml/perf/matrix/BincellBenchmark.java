@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.perf.matrix;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.LibMatrixBincell;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixValue;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.matrix.operators.RightScalarOperator;
+import org.apache.sysml.runtime.matrix.operators.ScalarOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro benchmark for cell-wise binary operations via 
+ * {@link LibMatrixBincell} over dense inputs, covering matrix-matrix, 
+ * matrix-column vector, matrix-row vector, and matrix-scalar operations 
+ * with sparse-safe and sparse-unsafe operators. Sparse inputs are
+ * covered by {@link SparseBincellBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BincellBenchmark 
+{
+	public enum RhsType {
+		MATRIX,
+		COL_VECTOR,
+		ROW_VECTOR,
+		SCALAR,
+	}
+	
+	@Param({"*", "+", ">"})
+	public String opcode;
+	
+	@Param({"MATRIX", "COL_VECTOR", "ROW_VECTOR", "SCALAR"})
+	public RhsType rhs;
+	
+	@Param({"1000000x100", "10000x10000"})
+	public String shape;
+	
+	private MatrixBlock _m1 = null;
+	private MatrixBlock _m2 = null;
+	private BinaryOperator _bop = null;
+	private ScalarOperator _sop = null;
+	
+	@Setup
+	public void setup() throws DMLRuntimeException {
+		String[] dims = shape.split("x");
+		int rows = Integer.parseInt(dims[0]);
+		int cols = Integer.parseInt(dims[1]);
+		long seed = MatrixBenchmarkUtils.SEED;
+		//dense inputs, i.e., the sparse block type is irrelevant
+		SparseBlock.Type stype = SparseBlock.Type.MCSR;
+		_m1 = MatrixBenchmarkUtils.createMatrix(rows, cols, 1.0, stype, seed);
+		switch( rhs ) {
+			case MATRIX:
+				_m2 = MatrixBenchmarkUtils.createMatrix(rows, cols, 1.0, stype, seed+1); break;
+			case COL_VECTOR:
+				_m2 = MatrixBenchmarkUtils.createMatrix(rows, 1, 1.0, stype, seed+1); break;
+			case ROW_VECTOR:
+				_m2 = MatrixBenchmarkUtils.createMatrix(1, cols, 1.0, stype, seed+1); break;
+			case SCALAR:
+				_m2 = null; break;
+		}
+		_bop = InstructionUtils.parseBinaryOperator(opcode);
+		_sop = new RightScalarOperator(_bop.fn, 0.5);
+	}
+	
+	//note: we use the matrix block wrappers for consistent output
+	//allocation (incl sparsity estimates) in front of LibMatrixBincell
+	
+	@Benchmark
+	public MatrixValue bincell() throws DMLRuntimeException {
+		return (rhs == RhsType.SCALAR) ?
+			_m1.scalarOperations(_sop, new MatrixBlock()) :
+			_m1.binaryOperations(_bop, _m2, new MatrixBlock());
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.perf.matrix;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.functionobjects.ReduceAll;
+import org.apache.sysml.runtime.functionobjects.ReduceCol;
+import org.apache.sysml.runtime.functionobjects.ReduceRow;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+
+/**
+ * Shared input generation for the kernel micro benchmarks. All inputs are
+ * created with fixed seeds in order to obtain reproducible measurements
+ * across runs, builds, and machines.
+ */
+public class MatrixBenchmarkUtils 
+{
+	public static final long SEED = 7;
+	
+	/**
+	 * Creates a uniform random matrix in [0,1] with the given sparsity. If the
+	 * generated block is in sparse format, it is converted to the requested
+	 * sparse block type (MCSR, CSR, COO); dense blocks are returned as is.
+	 * 
+	 * @param rows number of rows
+	 * @param cols number of columns
+	 * @param sparsity sparsity in [0,1]
+	 * @param stype sparse block type
+	 * @param seed random seed
+	 * @return matrix block
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public static MatrixBlock createMatrix(int rows, int cols, double sparsity, SparseBlock.Type stype, long seed) 
+		throws DMLRuntimeException
+	{
+		MatrixBlock ret = MatrixBlock.randOperations(rows, cols, sparsity, 0, 1, "uniform", seed);
+		ret.examSparsity();
+		if( ret.isInSparseFormat() && !ret.isEmptyBlock(false) )
+			ret = new MatrixBlock(ret, stype, true);
+		return ret;
+	}
+	
+	/**
+	 * Creates an output block of the dimensions expected by a unary aggregate, 
+	 * including the additional row or column for correction values.
+	 * 
+	 * @param in input matrix block
+	 * @param op unary aggregate operator
+	 * @return output matrix block
+	 */
+	public static MatrixBlock createAggregateOutput(MatrixBlock in, AggregateUnaryOperator op) {
+		int rows = in.getNumRows();
+		int cols = in.getNumColumns();
+		if( op.indexFn instanceof ReduceAll ) {
+			rows = 1; cols = 1;
+		}
+		else if( op.indexFn instanceof ReduceCol )
+			cols = 1;
+		else if( op.indexFn instanceof ReduceRow )
+			rows = 1;
+		if( op.aggOp.correctionExists ) {
+			switch( op.aggOp.correctionLocation ) {
+				case LASTROW: rows++; break;
+				case LASTCOLUMN: cols++; break;
+				case LASTTWOROWS: rows+=2; break;
+				case LASTTWOCOLUMNS: cols+=2; break;
+				default: //no other corrections for basic aggregates
+			}
+		}
+		return new MatrixBlock(rows, cols, false);
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.perf.matrix;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro benchmark for the core matrix multiplication kernels of
+ * {@link LibMatrixMult#matrixMult(MatrixBlock, MatrixBlock, MatrixBlock, int)},
+ * covering the dense-dense and skinny right-hand side matrix multiplications.
+ * Sparse inputs are covered by {@link SparseMatrixMultBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MatrixMultBenchmark 
+{
+	public enum MMType {
+		DENSE_DENSE,  //(2K x 1K) %*% (1K x 1K)
+		SKINNY_RHS,   //(100K x 1K) %*% (1K x 10)
+	}
+	
+	@Param({"DENSE_DENSE", "SKINNY_RHS"})
+	public MMType type;
+	
+	@Param({"1", "8"})
+	public int k;
+	
+	private MatrixBlock _m1 = null;
+	private MatrixBlock _m2 = null;
+	
+	@Setup
+	public void setup() throws DMLRuntimeException {
+		//dense inputs, i.e., the sparse block type is irrelevant
+		long seed = MatrixBenchmarkUtils.SEED;
+		SparseBlock.Type stype = SparseBlock.Type.MCSR;
+		switch( type ) {
+			case DENSE_DENSE:
+				_m1 = MatrixBenchmarkUtils.createMatrix(2000, 1000, 1.0, stype, seed);
+				_m2 = MatrixBenchmarkUtils.createMatrix(1000, 1000, 1.0, stype, seed+1);
+				break;
+			case SKINNY_RHS:
+				_m1 = MatrixBenchmarkUtils.createMatrix(100000, 1000, 1.0, stype, seed);
+				_m2 = MatrixBenchmarkUtils.createMatrix(1000, 10, 1.0, stype, seed+1);
+				break;
+		}
+	}
+	
+	@Benchmark
+	public MatrixBlock matrixMult() throws DMLRuntimeException {
+		MatrixBlock ret = new MatrixBlock(_m1.getNumRows(), _m2.getNumColumns(), false);
+		LibMatrixMult.matrixMult(_m1, _m2, ret, k);
+		return ret;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.perf.matrix;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro benchmark for transpose-self matrix multiplications (tsmm), i.e.,
+ * t(X)%*%X (left) and X%*%t(X) (right), via
+ * {@link LibMatrixMult#matrixMultTransposeSelf(MatrixBlock, MatrixBlock, boolean, int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MatrixMultTransposeSelfBenchmark 
+{
+	@Param({"100000x100", "10000x1000"})
+	public String shape;
+	
+	@Param({"1.0", "0.1", "0.01"})
+	public double sparsity;
+	
+	@Param({"true", "false"})
+	public boolean left;
+	
+	@Param({"MCSR", "CSR", "COO"})
+	public SparseBlock.Type stype;
+	
+	@Param({"1", "8"})
+	public int k;
+	
+	private MatrixBlock _in = null;
+	
+	@Setup
+	public void setup() throws DMLRuntimeException {
+		String[] dims = shape.split("x");
+		int rows = Integer.parseInt(dims[0]);
+		int cols = Integer.parseInt(dims[1]);
+		//right tsmm on the transposed shape to keep the output small
+		_in = left ? MatrixBenchmarkUtils.createMatrix(rows, cols, sparsity, stype, MatrixBenchmarkUtils.SEED) :
+			MatrixBenchmarkUtils.createMatrix(cols, rows, sparsity, stype, MatrixBenchmarkUtils.SEED);
+	}
+	
+	@Benchmark
+	public MatrixBlock matrixMultTransposeSelf() throws DMLRuntimeException {
+		int dim = left ? _in.getNumColumns() : _in.getNumRows();
+		MatrixBlock ret = new MatrixBlock(dim, dim, false);
+		LibMatrixMult.matrixMultTransposeSelf(_in, ret, left, k);
+		return ret;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.perf.matrix;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro benchmark for the core matrix multiplication kernels of
+ * {@link LibMatrixMult#matrixMult(MatrixBlock, MatrixBlock, MatrixBlock, int)},
+ * with sparse left-hand side, covering the sparse-dense and ultra-sparse
+ * matrix multiplications over the different sparse block types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SparseMatrixMultBenchmark 
+{
+	public enum MMType {
+		SPARSE_DENSE, //(20K x 2K, sp=0.05) %*% (2K x 100)
+		ULTRA_SPARSE, //(100K x 10K, sp=0.00001) %*% (10K x 10K, nnz=30)
+	}
+	
+	@Param({"SPARSE_DENSE", "ULTRA_SPARSE"})
+	public MMType type;
+	
+	@Param({"MCSR", "CSR", "COO"})
+	public SparseBlock.Type stype;
+	
+	@Param({"1", "8"})
+	public int k;
+	
+	private MatrixBlock _m1 = null;
+	private MatrixBlock _m2 = null;
+	
+	@Setup
+	public void setup() throws DMLRuntimeException {
+		long seed = MatrixBenchmarkUtils.SEED;
+		switch( type ) {
+			case SPARSE_DENSE:
+				_m1 = MatrixBenchmarkUtils.createMatrix(20000, 2000, 0.05, stype, seed);
+				_m2 = MatrixBenchmarkUtils.createMatrix(2000, 100, 1.0, stype, seed+1);
+				break;
+			case ULTRA_SPARSE:
+				_m1 = MatrixBenchmarkUtils.createMatrix(100000, 10000, 0.00001, stype, seed);
+				_m2 = MatrixBenchmarkUtils.createMatrix(10000, 10000, 0.0000003, stype, seed+1);
+				break;
+		}
+	}
+	
+	@Benchmark
+	public MatrixBlock matrixMult() throws DMLRuntimeException {
+		MatrixBlock ret = new MatrixBlock(_m1.getNumRows(), _m2.getNumColumns(), false);
+		LibMatrixMult.matrixMult(_m1, _m2, ret, k);
+		return ret;
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.binary.matrix;
+
+import org.junit.Test;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.functionobjects.ReduceAll;
+import org.apache.sysml.runtime.functionobjects.ReduceCol;
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysml.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysml.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Compares the sequential and multi-threaded unary aggregate outer chain
+ * kernels against the aggregate over the materialized outer product.
+ */
+public class ParallelUaggOuterChainTest extends AutomatedTestBase
+{
+	private final static int rows = 70001; //above parallelization threshold
+	private final static int cols = 37;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.07;
+	private final static int k = 7;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testRowSumsLessDense() {
+		runParallelUaggOuterChainTest("uark+", "<", false);
+	}
+
+	@Test
+	public void testRowSumsGreaterEqualsSparse() {
+		runParallelUaggOuterChainTest("uark+", ">=", true);
+	}
+
+	@Test
+	public void testRowSumsNotEqualsSparse() {
+		runParallelUaggOuterChainTest("uark+", "!=", true);
+	}
+
+	@Test
+	public void testColSumsGreaterDense() {
+		runParallelUaggOuterChainTest("uack+", ">", false);
+	}
+
+	@Test
+	public void testColSumsLessEqualsSparse() {
+		runParallelUaggOuterChainTest("uack+", "<=", true);
+	}
+
+	@Test
+	public void testColSumsEqualsDense() {
+		runParallelUaggOuterChainTest("uack+", "==", false);
+	}
+
+	@Test
+	public void testSumLessEqualsDense() {
+		runParallelUaggOuterChainTest("uak+", "<=", false);
+	}
+
+	@Test
+	public void testSumEqualsSparse() {
+		runParallelUaggOuterChainTest("uak+", "==", true);
+	}
+
+	@Test
+	public void testRowIndexMaxLessDense() {
+		runParallelUaggOuterChainTest("uarimax", "<", false);
+	}
+
+	@Test
+	public void testRowIndexMaxGreaterEqualsSparse() {
+		runParallelUaggOuterChainTest("uarimax", ">=", true);
+	}
+
+	@Test
+	public void testRowIndexMinGreaterDense() {
+		runParallelUaggOuterChainTest("uarimin", ">", false);
+	}
+
+	@Test
+	public void testRowIndexMinNotEqualsSparse() {
+		runParallelUaggOuterChainTest("uarimin", "!=", true);
+	}
+
+	private void runParallelUaggOuterChainTest(String aopcode, String bopcode, boolean sparse)
+	{
+		try
+		{
+			double sparsity = sparse ? sparsity2 : sparsity1;
+			boolean colAgg = aopcode.equals("uack+");
+			int m = colAgg ? cols : rows;
+			int n = colAgg ? rows : cols;
+			AggregateUnaryOperator uaggOp = InstructionUtils.parseBasicAggregateUnaryOperator(aopcode);
+			BinaryOperator bOp = InstructionUtils.parseBinaryOperator(bopcode);
+
+			//generate input vectors with duplicates (rounded values), where 
+			//the partitioned vector is always the large one
+			double[][] A = TestUtils.round(getRandomMatrix(m, 1, 0, 10, sparsity, 7));
+			double[][] B = TestUtils.round(getRandomMatrix(1, n, 0, 10, sparsity, 3));
+			MatrixBlock mbA = DataConverter.convertToMatrixBlock(A);
+			MatrixBlock mbB = DataConverter.convertToMatrixBlock(B);
+
+			//the cached side is the vector that is not partitioned by the aggregate
+			//(see UaggOuterChainCPInstruction)
+			boolean rightCached = (uaggOp.indexFn instanceof ReduceCol || uaggOp.indexFn instanceof ReduceAll);
+			MatrixBlock mbLeft = rightCached ? mbA : mbB;
+			MatrixBlock mbRight = rightCached ? mbB : mbA;
+
+			//compute reference over materialized outer product
+			MatrixBlock mbC = new MatrixBlock(m, n, false);
+			for( int i=0; i<m; i++ )
+				for( int j=0; j<n; j++ )
+					mbC.quickSetValue(i, j, bOp.fn.execute(A[i][0], B[0][j]));
+			MatrixBlock ret0 = (MatrixBlock) mbC.aggregateUnaryOperations(uaggOp,
+					new MatrixBlock(), m, n, new MatrixIndexes(1,1), true);
+
+			//compute sequential and multi-threaded outer aggregates
+			MatrixBlock ret1 = mbLeft.uaggouterchainOperations(mbLeft, mbRight, null, bOp, uaggOp, 1);
+			MatrixBlock ret2 = mbLeft.uaggouterchainOperations(mbLeft, mbRight, null, bOp, uaggOp, k);
+
+			//drop correction (already dropped for the reference in CP)
+			if( uaggOp.aggOp.correctionExists ) {
+				ret1.dropLastRowsOrColumns(uaggOp.aggOp.correctionLocation);
+				ret2.dropLastRowsOrColumns(uaggOp.aggOp.correctionLocation);
+			}
+
+			//compare result matrices
+			double[][] C0 = DataConverter.convertToDoubleMatrix(ret0);
+			double[][] C1 = DataConverter.convertToDoubleMatrix(ret1);
+			double[][] C2 = DataConverter.convertToDoubleMatrix(ret2);
+			//(rowIndexMin over the outer product resolves ties to the first instead 
+			//of the last index, hence we only compare sequential and parallel results)
+			if( !aopcode.equals("uarimin") )
+				TestUtils.compareMatrices(C0, C1, C0.length, C0[0].length, 0);
+			TestUtils.compareMatrices(C1, C2, C1.length, C1[0].length, 0);
+		}
+		catch(DMLRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.caching;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysml.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysml.runtime.controlprogram.context.ExecutionContextFactory;
+import org.apache.sysml.runtime.instructions.cp.VariableCPInstruction;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.ArrayPool;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockCSR;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests the reuse of dense and sparse (CSR) arrays of removed variables
+ * via the array pool, and that arrays of shared blocks are not reused.
+ */
+public class ArrayPoolTest extends AutomatedTestBase
+{
+	private final static int rows = 307;
+	private final static int cols = 119;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.05;
+
+	private enum ShareType {
+		NONE, SHALLOW_COPY, MULTIPLE_OWNERS,
+	}
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testReuseDense() {
+		runArrayPoolTest(false, ShareType.NONE);
+	}
+
+	@Test
+	public void testReuseSparseCSR() {
+		runArrayPoolTest(true, ShareType.NONE);
+	}
+
+	@Test
+	public void testNoReuseDenseShallowCopy() {
+		runArrayPoolTest(false, ShareType.SHALLOW_COPY);
+	}
+
+	@Test
+	public void testNoReuseSparseShallowCopy() {
+		runArrayPoolTest(true, ShareType.SHALLOW_COPY);
+	}
+
+	@Test
+	public void testReuseDenseMultipleOwners() {
+		runArrayPoolTest(false, ShareType.MULTIPLE_OWNERS);
+	}
+
+	@Test
+	public void testReuseSparseMultipleOwners() {
+		runArrayPoolTest(true, ShareType.MULTIPLE_OWNERS);
+	}
+
+	private void runArrayPoolTest(boolean sparse, ShareType type)
+	{
+		boolean oldStats = DMLScript.STATISTICS;
+		try
+		{
+			DMLScript.STATISTICS = true;
+			CacheableData.initCaching("tmp_array_pool_test");
+			Assert.assertTrue(ArrayPool.isActive());
+			CacheStatistics.reset();
+			ExecutionContext ec = ExecutionContextFactory.createContext();
+
+			//create variable w/ dense or csr block
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparse ? sparsity2 : sparsity1, 7);
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+			if( sparse )
+				mb = new MatrixBlock(mb, SparseBlock.Type.CSR, true);
+			ec.setVariable("A", createMatrixObject(mb));
+			if( type == ShareType.MULTIPLE_OWNERS )
+				ec.setVariable("B", createMatrixObject(mb));
+			MatrixBlock copy = (type == ShareType.SHALLOW_COPY) ?
+				new MatrixBlock().copyShallow(mb) : null;
+			double[] values = getValues(mb);
+
+			//remove variable(s) and allocate a block of equal size
+			VariableCPInstruction.processRemoveVariableInstruction(ec, "A");
+			if( type == ShareType.MULTIPLE_OWNERS ) {
+				Assert.assertTrue(getValues(allocateBlock(mb)) != values);
+				VariableCPInstruction.processRemoveVariableInstruction(ec, "B");
+			}
+			MatrixBlock ret = allocateBlock(mb);
+
+			//check reuse and zero-initialization
+			boolean reuse = (type != ShareType.SHALLOW_COPY);
+			Assert.assertEquals(reuse, getValues(ret) == values);
+			Assert.assertEquals(reuse, CacheStatistics.getArrayPoolHits() > 0);
+			if( reuse ) {
+				for( double v : getValues(ret) )
+					Assert.assertEquals(0, v, 0);
+			}
+			else {
+				TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(copy), rows, cols, 0);
+			}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			CacheableData.cleanupCacheDir();
+			DMLScript.STATISTICS = oldStats;
+		}
+	}
+
+	private static MatrixObject createMatrixObject(MatrixBlock mb)
+		throws Exception
+	{
+		MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, -1, -1, -1);
+		MetaDataFormat meta = new MetaDataFormat(mc,
+			OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo);
+		MatrixObject mo = new MatrixObject(ValueType.DOUBLE, null, meta);
+		mo.acquireModify(mb);
+		mo.release();
+		return mo;
+	}
+
+	private static MatrixBlock allocateBlock(MatrixBlock mb) {
+		if( !mb.isInSparseFormat() )
+			return new MatrixBlock(rows, cols, false).allocateDenseBlock();
+		SparseBlockCSR csr = (SparseBlockCSR) mb.getSparseBlock();
+		return new MatrixBlock(rows, cols, 0,
+			new SparseBlockCSR(rows, csr.values().length));
+	}
+
+	private static double[] getValues(MatrixBlock mb) {
+		return mb.isInSparseFormat() ?
+			((SparseBlockCSR)mb.getSparseBlock()).values() :
+			mb.getDenseBlockValues();
+	}
+}
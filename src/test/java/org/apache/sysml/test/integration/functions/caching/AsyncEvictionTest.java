@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.caching;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests the buffer pool with a small write buffer, where concurrent writers
+ * trigger (asynchronous) evictions and subsequently read or delete their
+ * blocks, potentially while these blocks are still in flight.
+ */
+public class AsyncEvictionTest extends AutomatedTestBase
+{
+	private final static int rows = 211;
+	private final static int cols = 97;
+	private final static int numObjects = 48;
+	private final static int numBuffered = 5; //blocks fitting into the buffer
+	private final static int k = 8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testEvictionDense() {
+		runEvictionTest(1.0, 1, false);
+	}
+
+	@Test
+	public void testEvictionSparse() {
+		runEvictionTest(0.1, 1, false);
+	}
+
+	@Test
+	public void testEvictionDenseParallel() {
+		runEvictionTest(1.0, k, false);
+	}
+
+	@Test
+	public void testEvictionSparseParallel() {
+		runEvictionTest(0.1, k, false);
+	}
+
+	@Test
+	public void testEvictionDenseParallelDelete() {
+		runEvictionTest(1.0, k, true);
+	}
+
+	@Test
+	public void testEvictionSparseParallelDelete() {
+		runEvictionTest(0.1, k, true);
+	}
+
+	private void runEvictionTest(double sparsity, int k, boolean delete)
+	{
+		try
+		{
+			//setup caching with a small write buffer
+			CacheableData.initCaching("tmp_async_eviction_test");
+			MatrixBlock tmp = DataConverter.convertToMatrixBlock(
+				getRandomMatrix(rows, cols, -1, 1, sparsity, 7));
+			LazyWriteBuffer.setWriteBufferLimit(numBuffered * tmp.getExactSerializedSize());
+
+			//concurrent writes, reads, and deletes of disjoint matrix objects
+			ExecutorService pool = Executors.newFixedThreadPool(k);
+			List<Callable<Object>> tasks = new ArrayList<>();
+			for( int i=0; i<k; i++ )
+				tasks.add(new EvictionTestTask(i, k, sparsity, delete));
+			List<Future<Object>> rtasks = pool.invokeAll(tasks);
+			pool.shutdown();
+			for( Future<Object> rtask : rtasks )
+				rtask.get();
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			LazyWriteBuffer.setWriteBufferLimit(LazyWriteBuffer.getWriteBufferSize());
+			CacheableData.cleanupCacheDir();
+		}
+	}
+
+	private class EvictionTestTask implements Callable<Object>
+	{
+		private final int _ix;
+		private final int _k;
+		private final double _sparsity;
+		private final boolean _delete;
+
+		protected EvictionTestTask(int ix, int k, double sparsity, boolean delete) {
+			_ix = ix;
+			_k = k;
+			_sparsity = sparsity;
+			_delete = delete;
+		}
+
+		@Override
+		public Object call() throws Exception {
+			Method clear = CacheableData.class.getDeclaredMethod("clearCache", new Class[]{});
+			clear.setAccessible(true);
+
+			//write matrix objects through the buffer pool (triggers evictions)
+			List<MatrixObject> objs = new ArrayList<>();
+			List<double[][]> refs = new ArrayList<>();
+			for( int i=_ix; i<numObjects; i+=_k ) {
+				double[][] A = getRandomMatrix(rows, cols, -1, 1, _sparsity, i+3);
+				MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, -1, -1, -1);
+				MetaDataFormat meta = new MetaDataFormat(mc,
+					OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo);
+				MatrixObject mo = new MatrixObject(ValueType.DOUBLE, "A"+i, meta);
+				mo.acquireModify(DataConverter.convertToMatrixBlock(A));
+				mo.release();
+				clear.invoke(mo, new Object[]{});
+				objs.add(mo);
+				refs.add(A);
+
+				//delete every other object (potentially in flight)
+				if( _delete && i%2==0 )
+					mo.clearData();
+			}
+
+			//read remaining matrix objects (from buffer or local FS)
+			for( int i=0; i<objs.size(); i++ ) {
+				if( _delete && (_ix+i*_k)%2==0 )
+					continue;
+				MatrixObject mo = objs.get(i);
+				MatrixBlock mb = mo.acquireRead();
+				TestUtils.compareMatrices(refs.get(i),
+					DataConverter.convertToDoubleMatrix(mb), rows, cols, 0);
+				mo.release();
+				clear.invoke(mo, new Object[]{});
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.caching;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysml.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.util.CompressedFileInputStream;
+import org.apache.sysml.runtime.util.CompressedFileOutputStream;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests the compressed format of local eviction and staging files, both
+ * via stream and file round trips and via evictions in the buffer pool.
+ */
+public class CompressedEvictionTest extends AutomatedTestBase
+{
+	private final static int rows = 1071;
+	private final static int cols = 123;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.05;
+
+	private enum DataType {
+		EMPTY, TINY, RANDOM, CONSTANT, REPETITIVE, DOUBLES,
+	}
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testStreamEmpty() {
+		runStreamRoundTripTest(DataType.EMPTY, false);
+	}
+
+	@Test
+	public void testStreamTiny() {
+		runStreamRoundTripTest(DataType.TINY, false);
+	}
+
+	@Test
+	public void testStreamRandom() {
+		runStreamRoundTripTest(DataType.RANDOM, false);
+	}
+
+	@Test
+	public void testStreamConstant() {
+		runStreamRoundTripTest(DataType.CONSTANT, false);
+	}
+
+	@Test
+	public void testStreamRepetitive() {
+		runStreamRoundTripTest(DataType.REPETITIVE, false);
+	}
+
+	@Test
+	public void testStreamDoublesShuffle() {
+		runStreamRoundTripTest(DataType.DOUBLES, true);
+	}
+
+	@Test
+	public void testFileRoundTripDense() {
+		runFileRoundTripTest(sparsity1);
+	}
+
+	@Test
+	public void testFileRoundTripSparse() {
+		runFileRoundTripTest(sparsity2);
+	}
+
+	@Test
+	public void testEvictionDense() {
+		runEvictionTest(sparsity1);
+	}
+
+	@Test
+	public void testEvictionSparse() {
+		runEvictionTest(sparsity2);
+	}
+
+	private static void runStreamRoundTripTest(DataType type, boolean shuffle)
+	{
+		try {
+			byte[] data = createData(type);
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			CompressedFileOutputStream os = new CompressedFileOutputStream(bos, shuffle);
+			//write in pieces of varying size across chunk boundaries
+			Random rand = new Random(7);
+			for( int pos=0; pos<data.length; ) {
+				int len = Math.min(data.length-pos, rand.nextInt(100000));
+				os.write(data, pos, len);
+				pos += len;
+			}
+			os.close();
+			byte[] comp = bos.toByteArray();
+			if( type == DataType.CONSTANT || type == DataType.REPETITIVE )
+				Assert.assertTrue(comp.length < data.length / 10);
+
+			//read with format detection
+			byte[] ret = new byte[data.length];
+			InputStream is = CompressedFileInputStream.wrap(new ByteArrayInputStream(comp));
+			Assert.assertTrue(is instanceof CompressedFileInputStream);
+			new DataInputStream(is).readFully(ret);
+			Assert.assertEquals(-1, is.read());
+			Assert.assertTrue(Arrays.equals(data, ret));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private static byte[] createData(DataType type) {
+		Random rand = new Random(13);
+		switch( type ) {
+			case EMPTY: return new byte[0];
+			case TINY: return new byte[]{1, 2, 3, 1, 2, 3, 1};
+			case CONSTANT: {
+				byte[] ret = new byte[1000000];
+				Arrays.fill(ret, (byte)7);
+				return ret;
+			}
+			case RANDOM: {
+				byte[] ret = new byte[1000000];
+				rand.nextBytes(ret);
+				return ret;
+			}
+			case REPETITIVE: {
+				byte[] ret = new byte[1000000];
+				byte[] pattern = new byte[317];
+				rand.nextBytes(pattern);
+				for( int i=0; i<ret.length; i++ )
+					ret[i] = pattern[i % pattern.length];
+				return ret;
+			}
+			case DOUBLES: {
+				//doubles w/ few distinct values
+				java.nio.ByteBuffer ret = java.nio.ByteBuffer.allocate(8*125000);
+				for( int i=0; i<125000; i++ )
+					ret.putDouble(rand.nextInt(100) * 0.5);
+				return ret.array();
+			}
+		}
+		return null;
+	}
+
+	private void runFileRoundTripTest(double sparsity)
+	{
+		boolean oldCompress = LocalFileUtils.isLocalCompression();
+		try {
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+			mb.examSparsity();
+			File f = File.createTempFile("compressed_eviction", ".dat");
+
+			//write compressed file and check format
+			LocalFileUtils.setLocalCompression(true);
+			LocalFileUtils.writeMatrixBlockToLocal(f.getAbsolutePath(), mb);
+			try( DataInputStream in = new DataInputStream(new FileInputStream(f)) ) {
+				Assert.assertEquals(CompressedFileOutputStream.MAGIC, in.readInt());
+			}
+
+			//read w/ and w/o compression enabled
+			MatrixBlock ret1 = LocalFileUtils.readMatrixBlockFromLocal(f.getAbsolutePath());
+			LocalFileUtils.setLocalCompression(false);
+			MatrixBlock ret2 = LocalFileUtils.readMatrixBlockFromLocal(f.getAbsolutePath());
+			f.delete();
+			Assert.assertEquals(mb.getNonZeros(), ret1.getNonZeros());
+			TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret1), rows, cols, 0);
+			TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret2), rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			LocalFileUtils.setLocalCompression(oldCompress);
+		}
+	}
+
+	private void runEvictionTest(double sparsity)
+	{
+		DMLConfig oldConf = ConfigurationManager.getDMLConfig();
+		boolean oldStats = DMLScript.STATISTICS;
+		try {
+			//setup caching w/ compression enabled
+			DMLConfig conf = new DMLConfig();
+			conf.setTextValue(DMLConfig.CACHING_COMPRESSION, "true");
+			ConfigurationManager.setLocalConfig(conf);
+			DMLScript.STATISTICS = true;
+			CacheableData.initCaching("tmp_compressed_eviction_test");
+			Assert.assertTrue(LocalFileUtils.isLocalCompression());
+			CacheStatistics.reset();
+
+			//write, evict, and restore matrix object
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, -1, -1, -1);
+			MetaDataFormat meta = new MetaDataFormat(mc,
+				OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo);
+			MatrixObject mo = new MatrixObject(ValueType.DOUBLE, "A", meta);
+			mo.acquireModify(DataConverter.convertToMatrixBlock(A));
+			mo.release();
+			LazyWriteBuffer.forceEviction();
+			Method clear = CacheableData.class.getDeclaredMethod("clearCache", new Class[]{});
+			clear.setAccessible(true);
+			clear.invoke(mo, new Object[]{});
+			MatrixBlock ret = mo.acquireRead();
+			mo.release();
+			TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+
+			//check compression statistics
+			Assert.assertTrue(CacheStatistics.getCompressionRawBytes() > 0);
+			Assert.assertTrue(CacheStatistics.getCompressedChunks()
+				+ CacheStatistics.getRawChunks() > 0);
+			Assert.assertTrue(CacheStatistics.displayCompression().startsWith("on"));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			CacheableData.cleanupCacheDir();
+			ConfigurationManager.setLocalConfig(oldConf);
+			LocalFileUtils.setLocalCompression(CacheableData.CACHING_COMPRESSION);
+			DMLScript.STATISTICS = oldStats;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.caching;
+
+import java.lang.reflect.Method;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysml.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer.RPolicy;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests the configurable eviction policies of the buffer pool for an
+ * iterative access pattern, where a feature matrix is read in every
+ * iteration and each iteration creates a new temporary of equal size.
+ */
+public class EvictionPolicyTest extends AutomatedTestBase
+{
+	private final static int rows = 157;
+	private final static int cols = 83;
+	private final static int numIterations = 20;
+	private final static double numBuffered = 4.5; //blocks fitting into the buffer
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testPolicyFIFO() {
+		runEvictionPolicyTest(RPolicy.FIFO);
+	}
+
+	@Test
+	public void testPolicyLRU() {
+		runEvictionPolicyTest(RPolicy.LRU);
+	}
+
+	@Test
+	public void testPolicyGDS() {
+		runEvictionPolicyTest(RPolicy.GDS);
+	}
+
+	@Test
+	public void testPolicyCost() {
+		runEvictionPolicyTest(RPolicy.COST);
+	}
+
+	private void runEvictionPolicyTest(RPolicy policy)
+	{
+		DMLConfig oldConf = ConfigurationManager.getDMLConfig();
+		boolean oldStats = DMLScript.STATISTICS;
+		try
+		{
+			//setup caching w/ configured policy and a small write buffer
+			DMLConfig conf = new DMLConfig();
+			conf.setTextValue(DMLConfig.CACHING_BUFFER_POLICY, policy.name().toLowerCase());
+			ConfigurationManager.setLocalConfig(conf);
+			DMLScript.STATISTICS = true;
+			CacheableData.initCaching("tmp_eviction_policy_test");
+			Assert.assertEquals(policy, LazyWriteBuffer.getPolicy());
+			double[][] X = getRandomMatrix(rows, cols, -1, 1, 1.0, 7);
+			MatrixBlock mbX = DataConverter.convertToMatrixBlock(X);
+			LazyWriteBuffer.setWriteBufferLimit((long)(numBuffered * mbX.getExactSerializedSize()));
+			CacheStatistics.reset();
+
+			//iterative access pattern w/ repeated reads of X
+			MatrixObject moX = createMatrixObject("X", mbX);
+			for( int i=0; i<numIterations; i++ ) {
+				MatrixBlock tmp = moX.acquireRead();
+				TestUtils.compareMatrices(X, DataConverter.convertToDoubleMatrix(tmp), rows, cols, 0);
+				moX.release();
+				clearCache(moX);
+				createMatrixObject("T"+i, DataConverter.convertToMatrixBlock(
+					getRandomMatrix(rows, cols, -1, 1, 1.0, i+11)));
+			}
+
+			//check hits and misses of the configured policy
+			long hits = CacheStatistics.getPolicyHits(policy);
+			long misses = CacheStatistics.getPolicyMisses(policy);
+			Assert.assertEquals(numIterations, hits + misses);
+			if( policy == RPolicy.FIFO )
+				Assert.assertTrue(misses > 0);
+			else
+				Assert.assertEquals(0, misses);
+			Assert.assertTrue(CacheStatistics.displayPolicyHits().contains(policy.name()));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			LazyWriteBuffer.setWriteBufferLimit(LazyWriteBuffer.getWriteBufferSize());
+			CacheableData.cleanupCacheDir();
+			ConfigurationManager.setLocalConfig(oldConf);
+			DMLScript.STATISTICS = oldStats;
+		}
+	}
+
+	private static MatrixObject createMatrixObject(String name, MatrixBlock mb)
+		throws Exception
+	{
+		MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, -1, -1, -1);
+		MetaDataFormat meta = new MetaDataFormat(mc,
+			OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo);
+		MatrixObject mo = new MatrixObject(ValueType.DOUBLE, name, meta);
+		mo.acquireModify(mb);
+		mo.release();
+		clearCache(mo);
+		return mo;
+	}
+
+	private static void clearCache(MatrixObject mo)
+		throws Exception
+	{
+		//clear soft reference to force reads through the buffer pool
+		Method clear = CacheableData.class.getDeclaredMethod("clearCache", new Class[]{});
+		clear.setAccessible(true);
+		clear.invoke(mo, new Object[]{});
+	}
+}
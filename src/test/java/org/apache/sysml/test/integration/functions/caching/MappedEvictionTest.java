@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.caching;
+
+import java.io.File;
+import java.lang.reflect.Method;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CacheMappedFile;
+import org.apache.sysml.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysml.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.DenseBlockLDRB;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.matrix.data.SparseBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockCSR;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests the memory-mapped eviction file format for matrix blocks, both
+ * via direct write/read round trips and via evictions in the buffer pool.
+ */
+public class MappedEvictionTest extends AutomatedTestBase
+{
+	private final static int rows = 1071;
+	private final static int cols = 123;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.05;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testRoundTripDense() {
+		runRoundTripTest(sparsity1, null);
+	}
+
+	@Test
+	public void testRoundTripSparseMCSR() {
+		runRoundTripTest(sparsity2, SparseBlock.Type.MCSR);
+	}
+
+	@Test
+	public void testRoundTripSparseCSR() {
+		runRoundTripTest(sparsity2, SparseBlock.Type.CSR);
+	}
+
+	@Test
+	public void testRoundTripEmpty() {
+		runRoundTripTest(0, null);
+	}
+
+	@Test
+	public void testRoundTripLargeDenseBlock() {
+		try {
+			//dense block w/ multiple row blocks
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity1, 7);
+			MatrixBlock mb = new MatrixBlock(rows, cols, -1, new DenseBlockLDRB(rows, cols, 17));
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<cols; j++ )
+					mb.getDenseBlock().set(i, j, A[i][j]);
+			mb.recomputeNonZeros();
+			MatrixBlock ret = writeAndRead(mb);
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	@Test
+	public void testStreamFormatFallback() {
+		try {
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(
+				getRandomMatrix(rows, cols, -1, 1, sparsity1, 7));
+			File f = File.createTempFile("mapped_eviction", ".dat");
+			LocalFileUtils.writeMatrixBlockToLocal(f.getAbsolutePath(), mb);
+			Assert.assertNull(CacheMappedFile.readMatrixBlock(f.getAbsolutePath()));
+			f.delete();
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	@Test
+	public void testEvictionDense() {
+		runEvictionTest(sparsity1);
+	}
+
+	@Test
+	public void testEvictionSparse() {
+		runEvictionTest(sparsity2);
+	}
+
+	private void runRoundTripTest(double sparsity, SparseBlock.Type type)
+	{
+		try {
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+			mb.examSparsity();
+			if( type != null ) {
+				Assert.assertTrue(mb.isInSparseFormat());
+				mb = new MatrixBlock(mb, type, true);
+			}
+			MatrixBlock ret = writeAndRead(mb);
+
+			//check format and content
+			Assert.assertEquals(mb.isInSparseFormat(), ret.isInSparseFormat());
+			if( type != null )
+				Assert.assertTrue(ret.getSparseBlock() instanceof SparseBlockCSR);
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private static MatrixBlock writeAndRead(MatrixBlock mb)
+		throws Exception
+	{
+		File f = File.createTempFile("mapped_eviction", ".dat");
+		try {
+			Assert.assertTrue(CacheMappedFile.isSupported(mb));
+			CacheMappedFile.writeMatrixBlock(f.getAbsolutePath(), mb);
+			return CacheMappedFile.readMatrixBlock(f.getAbsolutePath());
+		}
+		finally {
+			f.delete();
+		}
+	}
+
+	private void runEvictionTest(double sparsity)
+	{
+		try {
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			CacheableData.initCaching("tmp_mapped_eviction_test");
+
+			//write, evict, and restore matrix object
+			MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, -1, -1, -1);
+			MetaDataFormat meta = new MetaDataFormat(mc,
+				OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo);
+			MatrixObject mo = new MatrixObject(ValueType.DOUBLE, "A", meta);
+			mo.acquireModify(DataConverter.convertToMatrixBlock(A));
+			mo.release();
+			LazyWriteBuffer.forceEviction();
+			Method clear = CacheableData.class.getDeclaredMethod("clearCache", new Class[]{});
+			clear.setAccessible(true);
+			clear.invoke(mo, new Object[]{});
+			MatrixBlock ret = mo.acquireRead();
+			mo.release();
+
+			TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			CacheableData.cleanupCacheDir();
+		}
+	}
+}
@@ -39,6 +39,7 @@ public class CompressedCellwiseTest extends AutomatedTestBase
 	private static final String TEST_NAME1 = "CompressedCellwiseMain";
 	private static final String TEST_NAME2 = "CompressedCellwiseSide";
 	private static final String TEST_NAME3 = "CompressedCellwiseSumSq";
+	private static final String TEST_NAME4 = "CompressedCellwiseColAgg";
 	
 	private static final String TEST_DIR = "functions/codegen/";
 	private static final String TEST_CLASS_DIR = TEST_DIR + CompressedCellwiseTest.class.getSimpleName() + "/";
@@ -71,6 +72,7 @@ public class CompressedCellwiseTest extends AutomatedTestBase
 		addTestConfiguration( TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "R" }) );
 		addTestConfiguration( TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] { "R" }) );
 		addTestConfiguration( TEST_NAME3, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME3, new String[] { "R" }) );
+		addTestConfiguration( TEST_NAME4, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME4, new String[] { "R" }) );
 	}
 		
 	@Test
@@ -317,6 +319,66 @@ public class CompressedCellwiseTest extends AutomatedTestBase
 		testCompressedCellwise( TEST_NAME3, SparsityType.EMPTY, ValueType.RAND_ROUND_OLE, ExecType.CP );
 	}
 	
+	@Test
+	public void testCompressedCellwiseColAggDenseConstCP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.DENSE, ValueType.CONST, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggDenseRandCP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.DENSE, ValueType.RAND, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggDenseRand2CP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.DENSE, ValueType.RAND_ROUND_DDC, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggDenseRand3CP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.DENSE, ValueType.RAND_ROUND_OLE, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggSparseConstCP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.SPARSE, ValueType.CONST, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggSparseRandCP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.SPARSE, ValueType.RAND, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggSparseRand2CP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.SPARSE, ValueType.RAND_ROUND_DDC, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggSparseRand3CP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.SPARSE, ValueType.RAND_ROUND_OLE, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggEmptyConstCP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.EMPTY, ValueType.CONST, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggEmptyRandCP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.EMPTY, ValueType.RAND, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggEmptyRand2CP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.EMPTY, ValueType.RAND_ROUND_DDC, ExecType.CP );
+	}
+	
+	@Test
+	public void testCompressedCellwiseColAggEmptyRand3CP() {
+		testCompressedCellwise( TEST_NAME4, SparsityType.EMPTY, ValueType.RAND_ROUND_OLE, ExecType.CP );
+	}
+	
 	
 	private void testCompressedCellwise(String testname, SparsityType stype, ValueType vtype, ExecType et)
 	{	
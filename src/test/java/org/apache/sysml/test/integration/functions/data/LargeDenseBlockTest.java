@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.lops.PartialAggregate.CorrectionLocationType;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.functionobjects.KahanPlus;
+import org.apache.sysml.runtime.instructions.InstructionUtils;
+import org.apache.sysml.runtime.matrix.data.DenseBlock;
+import org.apache.sysml.runtime.matrix.data.DenseBlockDRB;
+import org.apache.sysml.runtime.matrix.data.DenseBlockLDRB;
+import org.apache.sysml.runtime.matrix.data.LibMatrixAgg;
+import org.apache.sysml.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysml.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.AggregateOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Compares operations over large dense blocks (emulated via dense blocks
+ * with small row blocks of the LDRB layout) against the same operations
+ * over regular single-block dense blocks.
+ */
+public class LargeDenseBlockTest extends AutomatedTestBase
+{
+	private final static int rows = 113;
+	private final static int cols = 37;
+	private final static int blen = 7; //rows per block
+	private final static double sparsity = 0.7;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testCumsum() {
+		runUnaryTest("ucumk+");
+	}
+
+	@Test
+	public void testCumprod() {
+		runUnaryTest("ucum*");
+	}
+
+	@Test
+	public void testCummin() {
+		runUnaryTest("ucummin");
+	}
+
+	@Test
+	public void testCummax() {
+		runUnaryTest("ucummax");
+	}
+
+	@Test
+	public void testAggregateTernarySum() {
+		runAggregateTernaryTest("tak+*");
+	}
+
+	@Test
+	public void testAggregateTernaryColSums() {
+		runAggregateTernaryTest("tack+*");
+	}
+
+	@Test
+	public void testReplace() throws DMLRuntimeException {
+		MatrixBlock mb1 = createInput(rows, cols, 7, false);
+		MatrixBlock mb2 = createInput(rows, cols, 7, true);
+		MatrixBlock ret2 = new MatrixBlock(rows, cols, rows*cols, new DenseBlockLDRB(rows, cols, blen));
+		compareResults((MatrixBlock)mb1.replaceOperations(new MatrixBlock(), 0, 7),
+			(MatrixBlock)mb2.replaceOperations(ret2, 0, 7));
+	}
+
+	@Test
+	public void testMerge() throws DMLRuntimeException {
+		MatrixBlock mb1 = createInput(rows, cols, 7, false);
+		MatrixBlock mb2 = createInput(rows, cols, 7, true);
+		MatrixBlock mb3 = DataConverter.convertToMatrixBlock(
+			getRandomMatrix(rows, cols, -1, 1, 1-sparsity, 3));
+		mb1.merge(mb3, false);
+		mb2.merge(mb3, false);
+		compareResults(mb1, mb2);
+	}
+
+	@Test
+	public void testReshapeRowwise() throws DMLRuntimeException {
+		runReshapeTest(true);
+	}
+
+	@Test
+	public void testReshapeColwise() throws DMLRuntimeException {
+		runReshapeTest(false);
+	}
+
+	@Test
+	public void testCopyUpperToLowerTriangle() {
+		MatrixBlock mb1 = createInput(rows, rows, 7, false);
+		MatrixBlock mb2 = createInput(rows, rows, 7, true);
+		long nnz1 = LibMatrixMult.copyUpperToLowerTriangle(mb1);
+		long nnz2 = LibMatrixMult.copyUpperToLowerTriangle(mb2);
+		Assert.assertEquals(mb1.recomputeNonZeros(), nnz2);
+		Assert.assertTrue(nnz1 >= nnz2);
+		compareResults(mb1, mb2);
+	}
+
+	@Test
+	public void testReverseColumnVector() throws DMLRuntimeException {
+		MatrixBlock mb1 = createInput(rows, 1, 7, false);
+		MatrixBlock mb2 = createInput(rows, 1, 7, true);
+		compareResults(LibMatrixReorg.rev(mb1, new MatrixBlock()),
+			LibMatrixReorg.rev(mb2, new MatrixBlock()));
+	}
+
+	@Test
+	public void testAggregateBinaryDense() throws DMLRuntimeException {
+		runAggregateBinaryTest(false, CorrectionLocationType.NONE);
+	}
+
+	@Test
+	public void testAggregateBinaryDenseGeneric() throws DMLRuntimeException {
+		runAggregateBinaryTest(true, CorrectionLocationType.NONE);
+	}
+
+	@Test
+	public void testAggregateBinarySparseDense() throws DMLRuntimeException {
+		//incremental aggregation of sparse inputs into large dense aggregates
+		MatrixBlock agg1 = new MatrixBlock(rows, cols, false);
+		MatrixBlock corr1 = new MatrixBlock(rows, cols, false);
+		MatrixBlock agg2 = new MatrixBlock(rows, cols, 0, new DenseBlockLDRB(rows, cols, blen));
+		MatrixBlock corr2 = new MatrixBlock(rows, cols, 0, new DenseBlockLDRB(rows, cols, blen));
+		for( int i=0; i<3; i++ ) {
+			MatrixBlock in = DataConverter.convertToMatrixBlock(
+				getRandomMatrix(rows, cols, -1, 1, 0.05, 7+i));
+			in.examSparsity();
+			Assert.assertTrue(in.isInSparseFormat());
+			LibMatrixAgg.aggregateBinaryMatrix(in, agg1, corr1);
+			LibMatrixAgg.aggregateBinaryMatrix(in, agg2, corr2);
+		}
+		compareResults(agg1, agg2);
+		compareResults(corr1, corr2);
+	}
+
+	@Test
+	public void testAggregateBinaryLastRow() throws DMLRuntimeException {
+		runAggregateBinaryTest(false, CorrectionLocationType.LASTROW);
+	}
+
+	@Test
+	public void testAggregateBinaryLastColumn() throws DMLRuntimeException {
+		runAggregateBinaryTest(false, CorrectionLocationType.LASTCOLUMN);
+	}
+
+	@Test
+	public void testCountNonZerosRange() {
+		MatrixBlock mb1 = createInput(rows, cols, 7, false);
+		MatrixBlock mb2 = createInput(rows, cols, 7, true);
+		Assert.assertEquals(mb1.recomputeNonZeros(3, 101, 5, 29),
+			mb2.recomputeNonZeros(3, 101, 5, 29));
+	}
+
+	@Test
+	public void testDenseBlockCopy() {
+		MatrixBlock mb = createInput(rows, cols, 7, true);
+		//large to regular, and large to large w/ different row blocks
+		DenseBlock db1 = new DenseBlockDRB(rows, cols);
+		DenseBlock db2 = new DenseBlockLDRB(rows, cols, blen+4);
+		db1.set(mb.getDenseBlock());
+		db2.set(mb.getDenseBlock());
+		compareResults(mb, new MatrixBlock(rows, cols, mb.getNonZeros(), db1));
+		compareResults(mb, new MatrixBlock(rows, cols, mb.getNonZeros(), db2));
+	}
+
+	private void runUnaryTest(String opcode) {
+		try {
+			MatrixBlock mb1 = createInput(rows, cols, 7, false);
+			MatrixBlock mb2 = createInput(rows, cols, 7, true);
+			MatrixBlock ret1 = (MatrixBlock) mb1.unaryOperations(
+				InstructionUtils.parseUnaryOperator(opcode), new MatrixBlock());
+			MatrixBlock ret2 = (MatrixBlock) mb2.unaryOperations(
+				InstructionUtils.parseUnaryOperator(opcode), new MatrixBlock());
+			compareResults(ret1, ret2);
+		}
+		catch(DMLRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private void runAggregateTernaryTest(String opcode) {
+		try {
+			MatrixBlock[] in1 = new MatrixBlock[3], in2 = new MatrixBlock[3];
+			for( int i=0; i<3; i++ ) {
+				in1[i] = createInput(rows, cols, 7+i, false);
+				in2[i] = createInput(rows, cols, 7+i, true);
+			}
+			MatrixBlock ret1 = (MatrixBlock) in1[0].aggregateTernaryOperations(in1[0], in1[1], in1[2],
+				new MatrixBlock(), InstructionUtils.parseAggregateTernaryOperator(opcode), false);
+			MatrixBlock ret2 = (MatrixBlock) in2[0].aggregateTernaryOperations(in2[0], in2[1], in2[2],
+				new MatrixBlock(), InstructionUtils.parseAggregateTernaryOperator(opcode), false);
+			compareResults(ret1, ret2);
+		}
+		catch(DMLRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private void runAggregateBinaryTest(boolean sparseAgg, CorrectionLocationType corr) 
+		throws DMLRuntimeException
+	{
+		//incremental aggregation of regular and large inputs
+		MatrixBlock[] agg1 = new MatrixBlock[2], agg2 = new MatrixBlock[2];
+		for( int i=0; i<2; i++ ) {
+			agg1[i] = new MatrixBlock(rows, cols, sparseAgg);
+			agg2[i] = sparseAgg ? new MatrixBlock(rows, cols, true) :
+				new MatrixBlock(rows, cols, 0, new DenseBlockLDRB(rows, cols, blen));
+		}
+		AggregateOperator aop = new AggregateOperator(0,
+			KahanPlus.getKahanPlusFnObject(), true, corr);
+		for( int i=0; i<3; i++ ) {
+			MatrixBlock in1 = createInput(rows, cols, 7+i, false);
+			MatrixBlock in2 = createInput(rows, cols, 7+i, true);
+			if( corr == CorrectionLocationType.NONE ) {
+				LibMatrixAgg.aggregateBinaryMatrix(in1, agg1[0], agg1[1]);
+				LibMatrixAgg.aggregateBinaryMatrix(in2, agg2[0], agg2[1]);
+			}
+			else {
+				LibMatrixAgg.aggregateBinaryMatrix(in1, agg1[0], aop);
+				LibMatrixAgg.aggregateBinaryMatrix(in2, agg2[0], aop);
+			}
+		}
+		compareResults(agg1[0], agg2[0]);
+		compareResults(agg1[1], agg2[1]);
+	}
+
+	private void runReshapeTest(boolean rowwise) throws DMLRuntimeException {
+		MatrixBlock mb1 = createInput(rows, cols, 7, false);
+		MatrixBlock mb2 = createInput(rows, cols, 7, true);
+		//reshape into regular and large dense blocks
+		MatrixBlock ret1 = LibMatrixReorg.reshape(mb1,
+			new MatrixBlock(cols, rows, false), cols, rows, rowwise);
+		MatrixBlock ret2 = LibMatrixReorg.reshape(mb2,
+			new MatrixBlock(cols, rows, false), cols, rows, rowwise);
+		MatrixBlock ret3 = LibMatrixReorg.reshape(mb2, new MatrixBlock(cols, rows,
+			rows*cols, new DenseBlockLDRB(cols, rows, blen+2)), cols, rows, rowwise);
+		compareResults(ret1, ret2);
+		compareResults(ret1, ret3);
+	}
+
+	private MatrixBlock createInput(int m, int n, long seed, boolean large) {
+		double[][] A = getRandomMatrix(m, n, -1, 1, sparsity, seed);
+		if( !large ) {
+			try {
+				return DataConverter.convertToMatrixBlock(A);
+			}
+			catch(DMLRuntimeException ex) {
+				throw new RuntimeException(ex);
+			}
+		}
+		MatrixBlock ret = new MatrixBlock(m, n, -1, new DenseBlockLDRB(m, n, blen));
+		for( int i=0; i<m; i++ )
+			for( int j=0; j<n; j++ )
+				ret.getDenseBlock().set(i, j, A[i][j]);
+		ret.recomputeNonZeros();
+		Assert.assertTrue(ret.getDenseBlock().numBlocks() > 1);
+		return ret;
+	}
+
+	private static void compareResults(MatrixBlock ret1, MatrixBlock ret2) {
+		Assert.assertEquals(ret1.getNumRows(), ret2.getNumRows());
+		Assert.assertEquals(ret1.getNumColumns(), ret2.getNumColumns());
+		for( int i=0; i<ret1.getNumRows(); i++ )
+			for( int j=0; j<ret1.getNumColumns(); j++ )
+				Assert.assertEquals(ret1.quickGetValue(i, j), ret2.quickGetValue(i, j), 1e-10);
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.LibMatrixDatagen;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Checks that multi-threaded rand produces exactly the same output
+ * (values, number of non-zeros, and format) as single-threaded rand,
+ * independent of the degree of parallelism.
+ */
+public class RandParallelTest extends AutomatedTestBase
+{
+	private final static int blen = 1000;
+	private final static long seed = 7;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testUniformDenseRowPartitions() {
+		runRandParallelTest("uniform", 3000, 1000, 1.0);
+	}
+	
+	@Test
+	public void testUniformDenseColPartitions() {
+		runRandParallelTest("uniform", 1000, 5000, 0.9);
+	}
+	
+	@Test
+	public void testUniformSparse() {
+		runRandParallelTest("uniform", 10000, 1000, 0.1);
+	}
+	
+	@Test
+	public void testNormalDenseRowPartitions() {
+		runRandParallelTest("normal", 3000, 1000, 1.0);
+	}
+	
+	@Test
+	public void testNormalDenseColPartitions() {
+		runRandParallelTest("normal", 1000, 5000, 0.9);
+	}
+	
+	@Test
+	public void testNormalSparse() {
+		runRandParallelTest("normal", 10000, 1000, 0.1);
+	}
+	
+	@Test
+	public void testPoissonDenseRowPartitions() {
+		runRandParallelTest("poisson", 3000, 1000, 1.0);
+	}
+	
+	@Test
+	public void testPoissonDenseColPartitions() {
+		runRandParallelTest("poisson", 1000, 5000, 0.9);
+	}
+	
+	@Test
+	public void testPoissonSparse() {
+		runRandParallelTest("poisson", 10000, 1000, 0.1);
+	}
+	
+	private void runRandParallelTest(String pdfStr, int rows, int cols, double sparsity)
+	{
+		try
+		{
+			String params = pdfStr.equals("poisson") ? "3.0" : null;
+			MatrixBlock ret1 = MatrixBlock.randOperations(LibMatrixDatagen
+				.createRandomMatrixGenerator(pdfStr, rows, cols, blen, blen, sparsity, 0, 1, params), seed, 1);
+			
+			//check identical results for different degrees of parallelism
+			for( int k : new int[]{2, 3, 7} ) {
+				MatrixBlock ret2 = MatrixBlock.randOperations(LibMatrixDatagen
+					.createRandomMatrixGenerator(pdfStr, rows, cols, blen, blen, sparsity, 0, 1, params), seed, k);
+				Assert.assertEquals(ret1.isInSparseFormat(), ret2.isInSparseFormat());
+				Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+				Assert.assertEquals(ret2.getNonZeros(), ret2.recomputeNonZeros());
+				TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1), 
+					DataConverter.convertToDoubleMatrix(ret2), rows, cols, 0);
+			}
+		}
+		catch(DMLRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.frame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.hops.OptimizerUtils;
+import org.apache.sysml.parser.Expression.DataType;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.io.FrameReaderBinaryBlock;
+import org.apache.sysml.runtime.io.FrameReaderBinaryBlockParallel;
+import org.apache.sysml.runtime.io.FrameWriterBinaryBlock;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.util.MapReduceTool;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the columnar frame serialization with dictionary-encoded string
+ * columns (low and high cardinality, incl nulls), its exact serialized
+ * size, binary block reads with column projection, and reads of the
+ * previous non-columnar serialization format.
+ */
+public class FrameColumnarReadWriteTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME = "FrameColumnarReadWrite";
+	private final static String TEST_DIR = "functions/frame/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + FrameColumnarReadWriteTest.class.getSimpleName() + "/";
+	
+	private final static int rows = 2791;
+	private final static ValueType[] schema = new ValueType[]{ValueType.STRING, 
+		ValueType.DOUBLE, ValueType.STRING, ValueType.INT, ValueType.BOOLEAN, ValueType.STRING};
+	private final static String[] categories = new String[]{"red", "green", "blue", null, "yellow"};
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "F" }) );
+	}
+
+	@Test
+	public void testSerializedSize() throws Exception {
+		FrameBlock frame = createFrame();
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		frame.write(new DataOutputStream(bos));
+		Assert.assertEquals(frame.getExactSerializedSize(), bos.size());
+	}
+
+	@Test
+	public void testSerializeReusedEncodings() throws IOException {
+		//size computation followed by write w/ reused column encodings
+		FrameBlock frame = createFrame();
+		long size = frame.getExactSerializedSize();
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		frame.write(new DataOutputStream(bos));
+		Assert.assertEquals(size, bos.size());
+		
+		//modification between size computation and write invalidates encodings
+		frame.getExactSerializedSize();
+		frame.set(7, 0, "purple");
+		bos = new ByteArrayOutputStream();
+		frame.write(new DataOutputStream(bos));
+		FrameBlock ret = new FrameBlock();
+		ret.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		checkResult(frame, ret, null);
+		Assert.assertEquals("purple", ret.get(7, 0));
+	}
+
+	@Test
+	public void testReadAllColumns() {
+		runFrameColumnarReadWriteTest(null, false);
+	}
+	
+	@Test
+	public void testReadAllColumnsParallel() {
+		runFrameColumnarReadWriteTest(null, true);
+	}
+	
+	@Test
+	public void testReadProjectedColumns() {
+		runFrameColumnarReadWriteTest(new int[]{6, 1, 4}, false);
+	}
+	
+	@Test
+	public void testReadProjectedColumnsParallel() {
+		runFrameColumnarReadWriteTest(new int[]{6, 1, 4}, true);
+	}
+	
+	@Test
+	public void testDeserializeLegacyDefaultMeta() throws IOException {
+		runLegacyDeserializeTest(true, null);
+	}
+	
+	@Test
+	public void testDeserializeLegacyCustomMeta() throws IOException {
+		runLegacyDeserializeTest(false, null);
+	}
+	
+	@Test
+	public void testDeserializeLegacyProjectedColumns() throws IOException {
+		runLegacyDeserializeTest(false, new int[]{6, 1, 4});
+	}
+	
+	@Test
+	public void testReadLegacyFileProjectedColumns() {
+		runFrameColumnarReadWriteTest(new int[]{6, 1, 4}, false, true);
+	}
+	
+	@Test
+	public void testScriptColumnar() {
+		runFrameColumnarScriptTest(false);
+	}
+	
+	@Test
+	public void testScriptLegacy() {
+		runFrameColumnarScriptTest(true);
+	}
+	
+	private void runFrameColumnarReadWriteTest(int[] cols, boolean parallel) {
+		runFrameColumnarReadWriteTest(cols, parallel, false);
+	}
+	
+	private void runFrameColumnarReadWriteTest(int[] cols, boolean parallel, boolean legacy)
+	{
+		try {
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			FrameBlock frame = writeInput(legacy);
+			
+			FrameReaderBinaryBlock reader = parallel ? 
+				new FrameReaderBinaryBlockParallel() : new FrameReaderBinaryBlock();
+			FrameBlock ret = reader.readFrameFromHDFS(input("F"), schema, 
+				frame.getColumnNames(), rows, schema.length, cols);
+			checkResult(frame, ret, cols);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private void runLegacyDeserializeTest(boolean defaultMeta, int[] cols) 
+		throws IOException
+	{
+		FrameBlock frame = createFrame();
+		if( !defaultMeta ) {
+			String[] names = new String[schema.length];
+			for( int j=0; j<schema.length; j++ )
+				names[j] = "col" + (j+1);
+			frame.setColumnNames(names);
+			frame.setColumnMetadata(0, new FrameBlock.ColumnMetadata(4, "blue"));
+		}
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		writeLegacy(frame, new DataOutputStream(bos), defaultMeta);
+		FrameBlock ret = new FrameBlock();
+		ret.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())), cols);
+		checkResult(frame, ret, cols);
+		for( int k=0; k<ret.getNumColumns(); k++ ) {
+			int j = (cols != null) ? cols[k]-1 : k;
+			if( cols == null || !defaultMeta )
+				Assert.assertEquals(frame.getColumnName(j), ret.getColumnName(k));
+			Assert.assertEquals(frame.getColumnMetadata(j).getNumDistinct(), ret.getColumnMetadata(k).getNumDistinct());
+			Assert.assertEquals(frame.getColumnMetadata(j).getMvValue(), ret.getColumnMetadata(k).getMvValue());
+		}
+	}
+	
+	private void runFrameColumnarScriptTest(boolean legacy)
+	{
+		RUNTIME_PLATFORM platformOld = rtplatform;
+		rtplatform = RUNTIME_PLATFORM.SINGLE_NODE;
+		
+		try {
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			FrameBlock frame = writeInput(legacy);
+			
+			//read binary frame and write it in columnar format
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[]{"-args", input("F"), output("F") };
+			runTest(true, false, null, -1);
+			
+			FrameBlock ret = new FrameReaderBinaryBlock().readFrameFromHDFS(
+				output("F"), schema, frame.getColumnNames(), rows, schema.length);
+			checkResult(frame, ret, null);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			rtplatform = platformOld;
+		}
+	}
+	
+	private FrameBlock writeInput(boolean legacy) 
+		throws Exception
+	{
+		FrameBlock frame = createFrame();
+		if( legacy )
+			writeLegacyFile(frame, input("F"));
+		else
+			new FrameWriterBinaryBlock().writeFrameToHDFS(frame, input("F"), rows, schema.length);
+		MapReduceTool.writeMetaDataFile(input("F.mtd"), null, schema, DataType.FRAME, 
+			new MatrixCharacteristics(rows, schema.length, OptimizerUtils.DEFAULT_BLOCKSIZE, schema.length, -1),
+			OutputInfo.BinaryBlockOutputInfo);
+		return frame;
+	}
+	
+	private static void checkResult(FrameBlock frame, FrameBlock ret, int[] cols) {
+		//check meta data and values of selected columns
+		int ncols = (cols != null) ? cols.length : schema.length;
+		Assert.assertEquals(rows, ret.getNumRows());
+		Assert.assertEquals(ncols, ret.getNumColumns());
+		for( int k=0; k<ncols; k++ ) {
+			int j = (cols != null) ? cols[k]-1 : k;
+			Assert.assertEquals(schema[j], ret.getSchema()[k]);
+			for( int i=0; i<rows; i++ )
+				Assert.assertEquals("Wrong value for cell ("+i+","+j+")", 
+					frame.get(i, j), ret.get(i, k));
+		}
+	}
+	
+	private static FrameBlock createFrame() {
+		FrameBlock frame = new FrameBlock(schema);
+		Object[] row = new Object[schema.length];
+		for( int i=0; i<rows; i++ ) {
+			row[0] = categories[i % categories.length];
+			row[1] = (double) i / 7;
+			row[2] = "id_" + i; //unique strings
+			row[3] = (long) i;
+			row[4] = (i % 3 == 0);
+			row[5] = (i < rows/2) ? "const" : null;
+			frame.appendRow(row);
+		}
+		return frame;
+	}
+	
+	private static void writeLegacy(FrameBlock frame, DataOutput out, boolean defaultMeta) 
+		throws IOException
+	{
+		//previous serialization format (header w/ default meta flag, plain columns)
+		out.writeInt(frame.getNumRows());
+		out.writeInt(frame.getNumColumns());
+		out.writeBoolean(defaultMeta);
+		for( int j=0; j<frame.getNumColumns(); j++ ) {
+			out.writeByte(frame.getSchema()[j].ordinal());
+			if( !defaultMeta ) {
+				out.writeUTF(frame.getColumnName(j));
+				out.writeLong(frame.getColumnMetadata(j).getNumDistinct());
+				String mv = frame.getColumnMetadata(j).getMvValue();
+				out.writeUTF((mv != null) ? mv : "");
+			}
+			for( int i=0; i<frame.getNumRows(); i++ ) {
+				Object val = frame.get(i, j);
+				switch( frame.getSchema()[j] ) {
+					case STRING:  out.writeUTF((val != null) ? (String)val : ""); break;
+					case BOOLEAN: out.writeBoolean((Boolean)val); break;
+					case INT:     out.writeLong((Long)val); break;
+					case DOUBLE:  out.writeDouble((Double)val); break;
+					default: throw new IOException("Unsupported value type.");
+				}
+			}
+		}
+	}
+	
+	private static void writeLegacyFile(FrameBlock frame, String fname) 
+		throws IOException
+	{
+		//single-block sequence file of a legacy serialized frame block
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		SequenceFile.Writer writer = new SequenceFile.Writer(fs, job, path, LongWritable.class, FrameBlock.class);
+		try {
+			DataOutputBuffer key = new DataOutputBuffer();
+			new LongWritable(1).write(key);
+			final DataOutputBuffer val = new DataOutputBuffer();
+			writeLegacy(frame, val, true);
+			writer.appendRaw(key.getData(), 0, key.getLength(), new SequenceFile.ValueBytes() {
+				@Override
+				public void writeUncompressedBytes(DataOutputStream out) throws IOException {
+					out.write(val.getData(), 0, val.getLength());
+				}
+				@Override
+				public void writeCompressedBytes(DataOutputStream out) throws IOException {
+					throw new IOException("Unsupported compressed legacy frame.");
+				}
+				@Override
+				public int getSize() {
+					return val.getLength();
+				}
+			});
+		}
+		finally {
+			IOUtilFunctions.closeSilently(writer);
+		}
+	}
+}
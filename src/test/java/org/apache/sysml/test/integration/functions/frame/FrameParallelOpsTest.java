@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.frame;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.util.UtilFunctions;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Compares the column-parallel frame operations (slice, rbind, 
+ * left indexing, and column cardinality) against their expected
+ * single-threaded results.
+ */
+public class FrameParallelOpsTest extends AutomatedTestBase
+{
+	private final static int rows = 2371;
+	private final static int cols = 503; //above parallelization threshold
+	private final static int k = 7;
+	private final static ValueType[] schema1 = new ValueType[]{
+		ValueType.STRING, ValueType.DOUBLE, ValueType.INT, ValueType.BOOLEAN};
+	private final static ValueType[] schema2 = new ValueType[]{
+		ValueType.STRING, ValueType.INT, ValueType.INT, ValueType.BOOLEAN};
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testSliceRows() throws DMLRuntimeException {
+		FrameBlock in = createFrame(schema1, rows, 7);
+		FrameBlock ret1 = in.sliceOperations(13, rows-17, 3, cols-2, new FrameBlock(), 1);
+		FrameBlock ret2 = in.sliceOperations(13, rows-17, 3, cols-2, new FrameBlock(), k);
+		compareFrames(ret1, ret2);
+		for( int i=0; i<ret2.getNumRows(); i++ )
+			for( int j=0; j<ret2.getNumColumns(); j++ )
+				Assert.assertEquals(in.get(i+13, j+3), ret2.get(i, j));
+	}
+	
+	@Test
+	public void testRBindHomogeneous() throws DMLRuntimeException {
+		runRBindTest(schema1);
+	}
+	
+	@Test
+	public void testRBindHeterogeneous() throws DMLRuntimeException {
+		runRBindTest(schema2);
+	}
+	
+	@Test
+	public void testLeftIndexing() throws DMLRuntimeException {
+		FrameBlock in = createFrame(schema1, rows, 7);
+		FrameBlock rhs = createFrame(schema2, rows/2, 3);
+		FrameBlock ret1 = in.leftIndexingOperations(rhs, 5, 5+rows/2-1, 0, cols-1, new FrameBlock(), 1);
+		FrameBlock ret2 = in.leftIndexingOperations(rhs, 5, 5+rows/2-1, 0, cols-1, new FrameBlock(), k);
+		compareFrames(ret1, ret2);
+		for( int i=0; i<ret2.getNumRows(); i++ )
+			for( int j=0; j<ret2.getNumColumns(); j++ ) {
+				Object expected = (i>=5 && i<5+rows/2) ? UtilFunctions.objectToObject(
+					in.getSchema()[j], rhs.get(i-5, j)) : in.get(i, j);
+				Assert.assertEquals(expected, ret2.get(i, j));
+			}
+	}
+	
+	@Test
+	public void testColumnCardinality() throws DMLRuntimeException {
+		FrameBlock in1 = createFrame(schema1, rows, 7);
+		FrameBlock in2 = createFrame(schema1, rows, 7);
+		in1.recomputeColumnCardinality();
+		in2.recomputeColumnCardinality(k);
+		for( int j=0; j<cols; j++ )
+			Assert.assertEquals(in1.getColumnMetadata(j).getNumDistinct(), 
+				in2.getColumnMetadata(j).getNumDistinct());
+	}
+	
+	private void runRBindTest(ValueType[] schema) 
+		throws DMLRuntimeException 
+	{
+		FrameBlock in1 = createFrame(schema1, rows, 7);
+		FrameBlock in2 = createFrame(schema, rows/3, 3);
+		FrameBlock ret1 = in1.appendOperations(in2, new FrameBlock(), false, 1);
+		FrameBlock ret2 = in1.appendOperations(in2, new FrameBlock(), false, k);
+		compareFrames(ret1, ret2);
+		Assert.assertEquals(rows+rows/3, ret2.getNumRows());
+		for( int i=0; i<ret2.getNumRows(); i++ )
+			for( int j=0; j<ret2.getNumColumns(); j++ ) {
+				Object expected = (i<rows) ? in1.get(i, j) : 
+					UtilFunctions.objectToObject(schema1[j%schema1.length], in2.get(i-rows, j));
+				Assert.assertEquals(expected, ret2.get(i, j));
+			}
+	}
+	
+	private FrameBlock createFrame(ValueType[] schema, int nrow, long seed) {
+		double[][] A = getRandomMatrix(nrow, cols, -10, 10, 0.9, seed);
+		ValueType[] lschema = new ValueType[cols];
+		for( int j=0; j<cols; j++ )
+			lschema[j] = schema[j%schema.length];
+		FrameBlock ret = new FrameBlock(lschema);
+		ret.ensureAllocatedColumns(nrow);
+		for( int i=0; i<nrow; i++ )
+			for( int j=0; j<cols; j++ )
+				ret.set(i, j, (A[i][j]==0 && lschema[j]==ValueType.STRING) ? null :
+					UtilFunctions.doubleToObject(lschema[j], Math.round(A[i][j])));
+		return ret;
+	}
+	
+	private void compareFrames(FrameBlock fb1, FrameBlock fb2) {
+		Assert.assertEquals(fb1.getNumRows(), fb2.getNumRows());
+		Assert.assertEquals(fb1.getNumColumns(), fb2.getNumColumns());
+		Assert.assertArrayEquals(fb1.getSchema(), fb2.getSchema());
+		for( int i=0; i<fb1.getNumRows(); i++ )
+			for( int j=0; j<fb1.getNumColumns(); j++ )
+				Assert.assertEquals(fb1.get(i, j), fb2.get(i, j));
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.io.binary;
+
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysml.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.MetaDataFormat;
+import org.apache.sysml.runtime.matrix.data.InputInfo;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.IndexRange;
+import org.apache.sysml.runtime.util.MapReduceTool;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests indexed reads of binary block matrices (i.e., the read pushdown
+ * of right indexing into unread matrix objects) for block-aligned and 
+ * unaligned row and column ranges of dense and sparse matrices, both
+ * directly via the matrix object and via right indexing in DML scripts.
+ */
+public class IndexedReadTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME1 = "IndexedRead";
+	private final static String TEST_NAME2 = "IndexedReadReuse";
+	private final static String TEST_DIR = "functions/io/binary/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + IndexedReadTest.class.getSimpleName() + "/";
+	
+	private final static int rows = 2345;
+	private final static int cols = 1234;
+	private final static int blen = 500;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.01;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "Y" }) );
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] { "Y" }) );
+	}
+
+	@Test
+	public void testDenseColumnRange() {
+		runIndexedReadTest(sparsity1, new IndexRange(0, rows-1, 700, 1020));
+	}
+
+	@Test
+	public void testSparseColumnRange() {
+		runIndexedReadTest(sparsity2, new IndexRange(0, rows-1, 700, 1020));
+	}
+
+	@Test
+	public void testDenseAlignedRange() {
+		runIndexedReadTest(sparsity1, new IndexRange(500, 999, 0, 499));
+	}
+
+	@Test
+	public void testSparseUnalignedRange() {
+		runIndexedReadTest(sparsity2, new IndexRange(17, 1633, 3, 777));
+	}
+
+	@Test
+	public void testDenseSingleCell() {
+		runIndexedReadTest(sparsity1, new IndexRange(1999, 1999, 1233, 1233));
+	}
+
+	@Test
+	public void testDenseColumnRangeScript() {
+		runIndexedReadScriptTest(TEST_NAME1, sparsity1, new IndexRange(0, rows-1, 700, 1020));
+	}
+
+	@Test
+	public void testSparseUnalignedRangeScript() {
+		runIndexedReadScriptTest(TEST_NAME1, sparsity2, new IndexRange(17, 1633, 3, 777));
+	}
+
+	@Test
+	public void testDenseLargeRangeScript() {
+		//range of more than half the cells, i.e., full read
+		runIndexedReadScriptTest(TEST_NAME1, sparsity1, new IndexRange(0, rows-1, 0, 1000));
+	}
+
+	@Test
+	public void testDenseReuseScript() {
+		//repeated indexing, i.e., indexed read followed by full read
+		runIndexedReadScriptTest(TEST_NAME2, sparsity1, new IndexRange(17, 1633, 3, 777));
+	}
+
+	private void runIndexedReadTest(double sparsity, IndexRange ixrange)
+	{
+		try {
+			loadTestConfiguration(getTestConfiguration(TEST_NAME1));
+			MatrixBlock mb = writeInput(sparsity);
+			MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, blen, blen, mb.getNonZeros());
+
+			//indexed read via unread matrix object
+			MatrixObject mo = new MatrixObject(ValueType.DOUBLE, input("X"), new MetaDataFormat(
+				mc, OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo));
+			Assert.assertTrue(mo.isIndexedReadApplicable(ixrange));
+			MatrixBlock ret = mo.readMatrixRange(ixrange);
+			Assert.assertFalse(mo.isIndexedReadApplicable(ixrange));
+
+			//compare with slice of in-memory matrix
+			MatrixBlock expected = slice(mb, ixrange);
+			Assert.assertEquals(expected.getNumRows(), ret.getNumRows());
+			Assert.assertEquals(expected.getNumColumns(), ret.getNumColumns());
+			Assert.assertEquals(expected.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(expected), 
+				DataConverter.convertToDoubleMatrix(ret), ret.getNumRows(), ret.getNumColumns(), 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private void runIndexedReadScriptTest(String testname, double sparsity, IndexRange ixrange)
+	{
+		RUNTIME_PLATFORM platformOld = rtplatform;
+		boolean statsOld = DMLScript.STATISTICS;
+		rtplatform = RUNTIME_PLATFORM.SINGLE_NODE;
+		
+		try {
+			loadTestConfiguration(getTestConfiguration(testname));
+			MatrixBlock mb = writeInput(sparsity);
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + testname + ".dml";
+			programArgs = new String[]{"-stats", "-args", input("X"),
+				String.valueOf(ixrange.rowStart+1), String.valueOf(ixrange.rowEnd+1),
+				String.valueOf(ixrange.colStart+1), String.valueOf(ixrange.colEnd+1), output("Y") };
+			
+			runTest(true, false, null, -1);
+			
+			//compare with slice of in-memory matrix (full read)
+			MatrixBlock expected = slice(mb, ixrange);
+			HashMap<CellIndex, Double> dmlfile = readDMLMatrixFromHDFS("Y");
+			HashMap<CellIndex, Double> expfile = new HashMap<>();
+			for( int i=0; i<expected.getNumRows(); i++ )
+				for( int j=0; j<expected.getNumColumns(); j++ )
+					if( expected.quickGetValue(i, j) != 0 )
+						expfile.put(new CellIndex(i+1, j+1), expected.quickGetValue(i, j));
+			TestUtils.compareMatrices(dmlfile, expfile, 0, "Stat-DML", "Expected");
+			
+			//check for indexed read if at most half the cells
+			boolean pushdown = (double)(ixrange.rowEnd-ixrange.rowStart+1)
+				* (ixrange.colEnd-ixrange.colStart+1) <= 0.5 * rows * cols;
+			Assert.assertEquals(pushdown ? 1 : 0, CacheStatistics.getIndexedReads());
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			rtplatform = platformOld;
+			DMLScript.STATISTICS = statsOld;
+		}
+	}
+
+	private MatrixBlock writeInput(double sparsity) 
+		throws Exception
+	{
+		double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+		MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+		MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, blen, blen, mb.getNonZeros());
+		DataConverter.writeMatrixToHDFS(mb, input("X"), OutputInfo.BinaryBlockOutputInfo, mc);
+		MapReduceTool.writeMetaDataFile(input("X.mtd"), ValueType.DOUBLE, mc, OutputInfo.BinaryBlockOutputInfo);
+		return mb;
+	}
+
+	private static MatrixBlock slice(MatrixBlock mb, IndexRange ixrange) 
+		throws Exception
+	{
+		return mb.sliceOperations((int)ixrange.rowStart, (int)ixrange.rowEnd,
+			(int)ixrange.colStart, (int)ixrange.colEnd, new MatrixBlock());
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.io.binary;
+
+import java.io.File;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.api.DMLScript.RUNTIME_PLATFORM;
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.io.LocalBinaryBlockFile;
+import org.apache.sysml.runtime.io.ReaderBinaryBlock;
+import org.apache.sysml.runtime.io.ReaderBinaryBlockParallel;
+import org.apache.sysml.runtime.io.WriterBinaryBlock;
+import org.apache.sysml.runtime.io.WriterBinaryBlockParallel;
+import org.apache.sysml.runtime.matrix.MatrixCharacteristics;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.OutputInfo;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.MapReduceTool;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.integration.TestConfiguration;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests the nio-based local binary block layout, i.e., the round trip of
+ * sequential and parallel writers and readers for dense, sparse, and empty
+ * matrices with partial boundary blocks, the conversion into the regular
+ * sequence file format, and reads and writes of DML scripts.
+ */
+public class LocalBinaryBlockTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME = "LocalBinaryBlock";
+	private final static String TEST_DIR = "functions/io/binary/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + LocalBinaryBlockTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF = "SystemML-config-localnio.xml";
+	
+	private final static int rows = 2345;
+	private final static int cols = 1234;
+	private final static int blen = 1000;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.01;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "Y" }) );
+	}
+
+	@Test
+	public void testDenseSequential() {
+		runLocalBinaryBlockTest(sparsity1, false);
+	}
+
+	@Test
+	public void testSparseSequential() {
+		runLocalBinaryBlockTest(sparsity2, false);
+	}
+
+	@Test
+	public void testEmptySequential() {
+		runLocalBinaryBlockTest(0, false);
+	}
+
+	@Test
+	public void testDenseParallel() {
+		runLocalBinaryBlockTest(sparsity1, true);
+	}
+
+	@Test
+	public void testSparseParallel() {
+		runLocalBinaryBlockTest(sparsity2, true);
+	}
+
+	@Test
+	public void testEmptyParallel() {
+		runLocalBinaryBlockTest(0, true);
+	}
+
+	@Test
+	public void testDenseScript() {
+		runLocalBinaryBlockScriptTest(sparsity1);
+	}
+
+	@Test
+	public void testSparseScript() {
+		runLocalBinaryBlockScriptTest(sparsity2);
+	}
+
+	private void runLocalBinaryBlockTest(double sparsity, boolean parallel)
+	{
+		DMLConfig oldConf = ConfigurationManager.getDMLConfig();
+		try {
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+			String fname1 = input("A");
+			String fname2 = input("A2");
+
+			//write and read w/ local nio layout
+			setLocalNIO(true);
+			(parallel ? new WriterBinaryBlockParallel(1) : new WriterBinaryBlock(1))
+				.writeMatrixToHDFS(mb, fname1, rows, cols, blen, blen, mb.getNonZeros());
+			JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+			Path path1 = new Path(fname1);
+			FileSystem fs = IOUtilFunctions.getFileSystem(path1, job);
+			Assert.assertTrue(LocalBinaryBlockFile.isLocalBinaryBlockFile(fs, path1));
+			MatrixBlock ret1 = (parallel ? new ReaderBinaryBlockParallel(false) : new ReaderBinaryBlock(false))
+				.readMatrixFromHDFS(fname1, rows, cols, blen, blen, mb.getNonZeros());
+			checkResult(A, mb, ret1);
+
+			//convert to sequence file and read w/o local nio layout
+			Path path2 = new Path(fname2);
+			LocalBinaryBlockFile.convertToSequenceFile(fs, path1, job, path2);
+			setLocalNIO(false);
+			Assert.assertFalse(LocalBinaryBlockFile.isLocalBinaryBlockFile(fs, path2));
+			MatrixBlock ret2 = (parallel ? new ReaderBinaryBlockParallel(false) : new ReaderBinaryBlock(false))
+				.readMatrixFromHDFS(fname2, rows, cols, blen, blen, mb.getNonZeros());
+			checkResult(A, mb, ret2);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ConfigurationManager.setLocalConfig(oldConf);
+		}
+	}
+
+	private void runLocalBinaryBlockScriptTest(double sparsity)
+	{
+		DMLConfig oldConf = ConfigurationManager.getDMLConfig();
+		RUNTIME_PLATFORM platformOld = rtplatform;
+		rtplatform = RUNTIME_PLATFORM.SINGLE_NODE;
+		
+		try {
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			
+			//write input w/ local nio layout
+			double[][] A = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+			MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, blen, blen, mb.getNonZeros());
+			setLocalNIO(true);
+			new WriterBinaryBlockParallel(1).writeMatrixToHDFS(mb, input("X"), rows, cols, blen, blen, mb.getNonZeros());
+			MapReduceTool.writeMetaDataFile(input("X.mtd"), ValueType.DOUBLE, mc, OutputInfo.BinaryBlockOutputInfo);
+			
+			//read, scale, and write w/ local nio layout (see test config)
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[]{"-args", input("X"), output("Y") };
+			runTest(true, false, null, -1);
+			
+			//check output layout and values
+			JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+			Path path = new Path(output("Y"));
+			FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+			Assert.assertTrue(LocalBinaryBlockFile.isLocalBinaryBlockFile(fs, path));
+			MatrixBlock ret = new ReaderBinaryBlock(false)
+				.readMatrixFromHDFS(output("Y"), rows, cols, blen, blen, mb.getNonZeros());
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<cols; j++ )
+					A[i][j] *= 7;
+			TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ConfigurationManager.setLocalConfig(oldConf);
+			rtplatform = platformOld;
+		}
+	}
+
+	@Override
+	protected File getConfigTemplateFile() {
+		return new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+	}
+
+	private static void setLocalNIO(boolean flag) {
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.CP_PARALLEL_IO_LOCALNIO, String.valueOf(flag));
+		ConfigurationManager.setLocalConfig(conf);
+	}
+
+	private static void checkResult(double[][] A, MatrixBlock mb, MatrixBlock ret) {
+		Assert.assertEquals(mb.getNumRows(), ret.getNumRows());
+		Assert.assertEquals(mb.getNumColumns(), ret.getNumColumns());
+		Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		Assert.assertEquals(ret.recomputeNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.io.csv;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.conf.ConfigurationManager;
+import org.apache.sysml.conf.DMLConfig;
+import org.apache.sysml.runtime.io.ReaderTextCSVParallel;
+import org.apache.sysml.runtime.matrix.data.CSVFileFormatProperties;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.LocalFileUtils;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests the single-pass mode of the parallel csv reader against the
+ * default two-pass mode, for multi-part inputs (i.e., multiple splits)
+ * of different sparsity, including splits with changing sparsity.
+ */
+public class ReadCSVSinglePassTest extends AutomatedTestBase
+{
+	private final static int rows = 5000;
+	private final static int cols = 500;
+	private final static int parts = 2;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.01;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testReadDense() {
+		runReadCSVSinglePassTest(sparsity1, sparsity1, false, false);
+	}
+
+	@Test
+	public void testReadSparse() {
+		runReadCSVSinglePassTest(sparsity2, sparsity2, false, false);
+	}
+
+	@Test
+	public void testReadMixed() {
+		runReadCSVSinglePassTest(sparsity1, sparsity2, false, false);
+	}
+
+	@Test
+	public void testReadDenseHeader() {
+		runReadCSVSinglePassTest(sparsity1, sparsity1, true, false);
+	}
+
+	@Test
+	public void testReadSparseHeaderFill() {
+		runReadCSVSinglePassTest(sparsity2, sparsity2, true, true);
+	}
+
+	@Test
+	public void testReadEmpty() {
+		runReadCSVSinglePassTest(0, 0, false, false);
+	}
+
+	private void runReadCSVSinglePassTest(double sp1, double sp2, boolean header, boolean fill)
+	{
+		DMLConfig oldConf = ConfigurationManager.getDMLConfig();
+		String dir = null;
+		try {
+			//create multi-part csv input (first half w/ sp1, second half w/ sp2)
+			double[][] A1 = getRandomMatrix(rows/2, cols, -1, 1, sp1, 7);
+			double[][] A2 = getRandomMatrix(rows/2, cols, -1, 1, sp2, 3);
+			double[][] A = new double[rows][];
+			System.arraycopy(A1, 0, A, 0, rows/2);
+			System.arraycopy(A2, 0, A, rows/2, rows/2);
+			dir = Files.createTempDirectory("csv_single_pass").toString();
+			writeCSVParts(A, dir, header, fill);
+			CSVFileFormatProperties props = new CSVFileFormatProperties(header, ",", fill, 0, null);
+
+			//read w/ two-pass and single-pass mode
+			MatrixBlock ret1 = readCSV(dir, props, false);
+			MatrixBlock ret2 = readCSV(dir, props, true);
+
+			//compare results, incl meta data
+			Assert.assertEquals(ret1.getNumRows(), ret2.getNumRows());
+			Assert.assertEquals(ret1.getNumColumns(), ret2.getNumColumns());
+			Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+			Assert.assertEquals(ret1.isInSparseFormat(), ret2.isInSparseFormat());
+			Assert.assertEquals(ret2.recomputeNonZeros(), ret2.getNonZeros());
+			TestUtils.compareMatrices(A, DataConverter.convertToDoubleMatrix(ret2), rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ConfigurationManager.setLocalConfig(oldConf);
+			if( dir != null )
+				LocalFileUtils.deleteFileIfExists(dir);
+		}
+	}
+
+	private static MatrixBlock readCSV(String dir, CSVFileFormatProperties props, boolean singlePass)
+		throws Exception
+	{
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.CP_PARALLEL_IO_CSV_SINGLEPASS, String.valueOf(singlePass));
+		ConfigurationManager.setLocalConfig(conf);
+		return new ReaderTextCSVParallel(props)
+			.readMatrixFromHDFS(dir, rows, cols, 1000, 1000, -1);
+	}
+
+	private static void writeCSVParts(double[][] A, String dir, boolean header, boolean fill)
+		throws Exception
+	{
+		int plen = rows / parts;
+		for( int p=0; p<parts; p++ ) {
+			File f = new File(dir, String.format("part-%05d", p));
+			try( BufferedWriter out = new BufferedWriter(new FileWriter(f)) ) {
+				if( header && p == 0 ) {
+					for( int j=0; j<cols; j++ )
+						out.write((j>0 ? "," : "") + "C" + (j+1));
+					out.write("\n");
+				}
+				for( int i=p*plen; i<(p+1)*plen; i++ ) {
+					StringBuilder sb = new StringBuilder();
+					for( int j=0; j<cols; j++ ) {
+						if( j > 0 )
+							sb.append(",");
+						//empty fields for zeros in case of fill
+						if( A[i][j] != 0 || !fill )
+							sb.append(A[i][j]);
+					}
+					sb.append("\n");
+					out.write(sb.toString());
+				}
+			}
+		}
+	}
+}
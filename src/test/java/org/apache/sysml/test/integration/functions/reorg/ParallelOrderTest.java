@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.reorg;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.runtime.functionobjects.SortIndex;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.ReorgOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Compares the multi-threaded sort (data and indexes, with multiple 
+ * order-by columns) against the sequential sort, which requires identical 
+ * results due to the stable handling of ties.
+ */
+public class ParallelOrderTest extends AutomatedTestBase 
+{
+	private final static int rows = 1200007;
+	private final static int cols = 4;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.07;
+	private final static int k = 7;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testOrderDenseAscData() {
+		runParallelOrderTest(false, false, false, new int[]{2});
+	}
+	
+	@Test
+	public void testOrderDenseAscIx() {
+		runParallelOrderTest(false, false, true, new int[]{2});
+	}
+	
+	@Test
+	public void testOrderDenseDescIx() {
+		runParallelOrderTest(false, true, true, new int[]{2});
+	}
+	
+	@Test
+	public void testOrderDenseAscMultiData() {
+		runParallelOrderTest(false, false, false, new int[]{3,1,4});
+	}
+	
+	@Test
+	public void testOrderDenseDescMultiIx() {
+		runParallelOrderTest(false, true, true, new int[]{3,1,4});
+	}
+	
+	@Test
+	public void testOrderSparseAscIx() {
+		runParallelOrderTest(true, false, true, new int[]{2});
+	}
+	
+	@Test
+	public void testOrderSparseDescData() {
+		runParallelOrderTest(true, true, false, new int[]{2});
+	}
+	
+	@Test
+	public void testOrderSparseAscMultiIx() {
+		runParallelOrderTest(true, false, true, new int[]{3,1,4});
+	}
+	
+	@Test
+	public void testOrderSparseDescMultiData() {
+		runParallelOrderTest(true, true, false, new int[]{3,1,4});
+	}
+	
+	@Test
+	public void testOrderDenseVectorAscData() {
+		runParallelOrderTest(false, false, false, null);
+	}
+	
+	@Test
+	public void testOrderDenseVectorDescData() {
+		runParallelOrderTest(false, true, false, null);
+	}
+	
+	@Test
+	public void testOrderDenseAscSpecialIx() {
+		runParallelOrderTest(false, false, true, new int[]{3,1,4}, true);
+	}
+	
+	@Test
+	public void testOrderDenseDescSpecialData() {
+		runParallelOrderTest(false, true, false, new int[]{3,1,4}, true);
+	}
+	
+	@Test
+	public void testOrderDenseVectorAscSpecialData() {
+		runParallelOrderTest(false, false, false, null, true);
+	}
+	
+	private static void runParallelOrderTest(boolean sparse, boolean desc, boolean ixret, int[] by) {
+		runParallelOrderTest(sparse, desc, ixret, by, false);
+	}
+	
+	private static void runParallelOrderTest(boolean sparse, boolean desc, boolean ixret, int[] by, boolean special)
+	{
+		try
+		{
+			//generate input data (with rounding for duplicates)
+			double sparsity = (sparse) ? sparsity2 : sparsity1;
+			int ncol = (by != null) ? cols : 1;
+			int[] by2 = (by != null) ? by : new int[]{1};
+			double[][] A = TestUtils.round(TestUtils.generateTestMatrix(rows, ncol, -5, 5, sparsity, 7));
+			if( special ) { //NaNs and negative zeros
+				for( int i=0; i<rows; i++ )
+					for( int j=0; j<ncol; j++ )
+						A[i][j] = ((i+j) % 97 == 0) ? Double.NaN :
+							((i+j) % 89 == 0) ? -0d : A[i][j];
+			}
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+			
+			//sequential and multi-threaded sort
+			SortIndex fn = new SortIndex(by2, desc, ixret);
+			MatrixBlock ret1 = (MatrixBlock) mb.reorgOperations(
+				new ReorgOperator(fn, 1), new MatrixBlock(), 0, 0, 0);
+			MatrixBlock ret2 = (MatrixBlock) mb.reorgOperations(
+				new ReorgOperator(fn, k), new MatrixBlock(), 0, 0, 0);
+			
+			//compare results (exact, due to stable sort, incl NaN and -0)
+			double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<(ixret ? 1 : ncol); j++ )
+					if( Double.compare(d1[i][j], d2[i][j]) != 0 )
+						Assert.fail("Wrong value for cell ("+i+","+j+"): "+d1[i][j]+" vs "+d2[i][j]);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
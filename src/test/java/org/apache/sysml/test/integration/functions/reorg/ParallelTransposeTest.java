@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.reorg;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.data.SparseBlockCSR;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Compares the sequential and multi-threaded transpose (tiled dense,
+ * counting-sort sparse into csr, and in-place squared dense) against
+ * a cell-wise transpose of the input.
+ */
+public class ParallelTransposeTest extends AutomatedTestBase
+{
+	private final static int rows = 1501;
+	private final static int cols = 1037;
+	private final static int cols2 = 5003; //above count threshold
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.03;
+	private final static int k = 7;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testTransposeDense() {
+		runParallelTransposeTest(rows, cols, false, false, 1);
+	}
+
+	@Test
+	public void testTransposeDenseParallel() {
+		runParallelTransposeTest(rows, cols, false, false, k);
+	}
+
+	@Test
+	public void testTransposeSparse() {
+		runParallelTransposeTest(rows, cols, true, false, 1);
+	}
+
+	@Test
+	public void testTransposeSparseParallel() {
+		runParallelTransposeTest(rows, cols, true, false, k);
+	}
+
+	@Test
+	public void testTransposeSparseWideParallel() {
+		runParallelTransposeTest(rows, cols2, true, false, k);
+	}
+
+	@Test
+	public void testTransposeInPlaceDense() {
+		runParallelTransposeTest(rows, rows, false, true, 1);
+	}
+
+	@Test
+	public void testTransposeInPlaceDenseParallel() {
+		runParallelTransposeTest(rows, rows, false, true, k);
+	}
+
+	@Test
+	public void testTransposeInPlaceNonSquaredParallel() {
+		runParallelTransposeTest(rows, cols, false, true, k);
+	}
+
+	@Test
+	public void testTransposeInPlaceSparseParallel() {
+		runParallelTransposeTest(rows, rows, true, true, k);
+	}
+
+	private void runParallelTransposeTest(int m, int n, boolean sparse, boolean inplace, int k)
+	{
+		try
+		{
+			//generate input data and reference
+			double sparsity = (sparse) ? sparsity2 : sparsity1;
+			double[][] A = getRandomMatrix(m, n, -1, 1, sparsity, 7);
+			double[][] R = new double[n][m];
+			for( int i=0; i<m; i++ )
+				for( int j=0; j<n; j++ )
+					R[j][i] = A[i][j];
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
+			mb.examSparsity();
+			Assert.assertEquals(sparse, mb.isInSparseFormat());
+
+			//sequential or multi-threaded transpose
+			MatrixBlock ret = null;
+			if( inplace )
+				ret = LibMatrixReorg.transposeInPlace(mb, k);
+			else {
+				MatrixBlock out = new MatrixBlock(n, m, sparse);
+				ret = (k > 1) ? LibMatrixReorg.transpose(mb, out, k) :
+					LibMatrixReorg.transpose(mb, out);
+			}
+
+			//check in-place transpose and sparse outputs in csr
+			if( inplace )
+				Assert.assertTrue((ret == mb) == (m == n && !sparse));
+			if( sparse && !inplace )
+				Assert.assertTrue(ret.getSparseBlock() instanceof SparseBlockCSR);
+
+			//compare results (exact)
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			double[][] C = DataConverter.convertToDoubleMatrix(ret);
+			TestUtils.compareMatrices(R, C, n, m, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
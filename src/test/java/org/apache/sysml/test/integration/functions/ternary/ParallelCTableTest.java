@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.ternary;
+
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.CTableMap;
+import org.apache.sysml.runtime.matrix.data.IJV;
+import org.apache.sysml.runtime.matrix.data.LibMatrixCtable;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.matrix.operators.SimpleOperator;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.LongLongDoubleHashMap.EntryType;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Compares the multi-threaded ctable with thread-local partial results
+ * against the single-threaded ctable over a CTableMap.
+ */
+public class ParallelCTableTest extends AutomatedTestBase
+{
+	private final static int rows = 1500001;
+	private final static int k = 7;
+
+	private enum CTableType {
+		TRANSFORM,          //ctable(A,B,W)
+		SCALAR_WEIGHT,      //ctable(A,B,w)
+		HISTOGRAM,          //ctable(A,1,w)
+		WEIGHTED_HISTOGRAM, //ctable(A,1,W)
+	}
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testCTableTransformSmallDims() {
+		runParallelCTableTest(CTableType.TRANSFORM, 100, false, false);
+	}
+
+	@Test
+	public void testCTableTransformLargeDims() {
+		runParallelCTableTest(CTableType.TRANSFORM, 100000, false, false);
+	}
+
+	@Test
+	public void testCTableTransformLargeDimsKnown() {
+		runParallelCTableTest(CTableType.TRANSFORM, 100000, true, false);
+	}
+
+	@Test
+	public void testCTableScalarWeightSmallDimsKnown() {
+		runParallelCTableTest(CTableType.SCALAR_WEIGHT, 100, true, false);
+	}
+
+	@Test
+	public void testCTableScalarWeightLargeDims() {
+		runParallelCTableTest(CTableType.SCALAR_WEIGHT, 100000, false, false);
+	}
+
+	@Test
+	public void testCTableScalarWeightIgnoreZerosSparse() {
+		runParallelCTableTest(CTableType.SCALAR_WEIGHT, 1000, false, true);
+	}
+
+	@Test
+	public void testCTableHistogramSmallDims() {
+		runParallelCTableTest(CTableType.HISTOGRAM, 100, false, false);
+	}
+
+	@Test
+	public void testCTableHistogramSmallDimsKnown() {
+		runParallelCTableTest(CTableType.HISTOGRAM, 100, true, false);
+	}
+
+	@Test
+	public void testCTableWeightedHistogramLargeDims() {
+		runParallelCTableTest(CTableType.WEIGHTED_HISTOGRAM, 100000, false, false);
+	}
+
+	@Test
+	public void testCTableWeightedHistogramLargeDimsKnown() {
+		runParallelCTableTest(CTableType.WEIGHTED_HISTOGRAM, 100000, true, false);
+	}
+
+	@Test
+	public void testCTableInvalidInput() {
+		try {
+			MatrixBlock A = createInput(100, 3, false);
+			A.quickSetValue(rows/2, 0, -1);
+			LibMatrixCtable.ctable(A, A, 0, null, 1, false, -1, -1, k);
+			Assert.fail("Expected error on invalid ctable input.");
+		}
+		catch(DMLRuntimeException ex) {
+			Assert.assertTrue(ex.getMessage().contains("contingency table"));
+		}
+	}
+
+	private void runParallelCTableTest(CTableType type, int maxVal, boolean dimsKnown, boolean ignoreZeros)
+	{
+		try
+		{
+			//generate inputs with many duplicates (and some NaNs)
+			MatrixBlock A = createInput(maxVal, 7, ignoreZeros);
+			MatrixBlock B = createInput(maxVal, 3, ignoreZeros);
+			MatrixBlock W = DataConverter.convertToMatrixBlock(
+				getRandomMatrix(rows, 1, -1, 1, 1.0, 11));
+			if( ignoreZeros ) {
+				//aligned zeros for sparse-safe ctable
+				for( int i=0; i<rows; i++ )
+					if( A.quickGetValue(i, 0)==0 ^ B.quickGetValue(i, 0)==0 ) {
+						A.quickSetValue(i, 0, 0);
+						B.quickSetValue(i, 0, 0);
+					}
+				B.quickSetValue(rows-1, 0, 0);
+				A.quickSetValue(rows-1, 0, 0);
+				A.examSparsity();
+				B.examSparsity();
+			}
+			long dim1 = dimsKnown ? maxVal/2 : -1;
+			long dim2 = dimsKnown ? (type==CTableType.HISTOGRAM || type==CTableType.WEIGHTED_HISTOGRAM ? 1 : maxVal/2) : -1;
+
+			//compute single-threaded reference via ctable map
+			SimpleOperator op = new SimpleOperator(null);
+			CTableMap map = new CTableMap(EntryType.INT);
+			MatrixBlock ret1 = null, ret2 = null;
+			switch( type ) {
+				case TRANSFORM:
+					A.ctableOperations(op, B, W, map, null);
+					ret2 = LibMatrixCtable.ctable(A, B, 0, W, 0, false, dim1, dim2, k);
+					break;
+				case SCALAR_WEIGHT:
+					A.ctableOperations(op, B, 2, ignoreZeros, map, null);
+					ret2 = LibMatrixCtable.ctable(A, B, 0, null, 2, ignoreZeros, dim1, dim2, k);
+					break;
+				case HISTOGRAM:
+					A.ctableOperations(op, 1, 1, map, null);
+					ret2 = LibMatrixCtable.ctable(A, null, 1, null, 1, false, dim1, dim2, k);
+					break;
+				case WEIGHTED_HISTOGRAM:
+					A.ctableOperations(op, 1, W, map, null);
+					ret2 = LibMatrixCtable.ctable(A, null, 1, W, 0, false, dim1, dim2, k);
+					break;
+			}
+			ret1 = dimsKnown ? DataConverter.convertToMatrixBlock(map, (int)dim1, (int)dim2) :
+				DataConverter.convertToMatrixBlock(map);
+
+			//compare result matrices
+			Assert.assertEquals(ret1.getNumRows(), ret2.getNumRows());
+			Assert.assertEquals(ret1.getNumColumns(), ret2.getNumColumns());
+			Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+			//(cell-wise over non-zeros due to potentially large sparse outputs)
+			if( ret1.isInSparseFormat() ) {
+				Iterator<IJV> iter = ret1.getSparseBlockIterator();
+				while( iter.hasNext() ) {
+					IJV cell = iter.next();
+					Assert.assertEquals(cell.getV(), ret2.quickGetValue(cell.getI(), cell.getJ()), 1e-10);
+				}
+			}
+			else {
+				for( int i=0; i<ret1.getNumRows(); i++ )
+					for( int j=0; j<ret1.getNumColumns(); j++ )
+						Assert.assertEquals(ret1.quickGetValue(i, j), ret2.quickGetValue(i, j), 1e-10);
+			}
+		}
+		catch(DMLRuntimeException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private MatrixBlock createInput(int maxVal, long seed, boolean zeros) 
+		throws DMLRuntimeException 
+	{
+		double[][] A = TestUtils.round(getRandomMatrix(rows, 1, zeros?0:1, maxVal, zeros?0.3:1.0, seed));
+		A[rows/3][0] = Double.NaN;
+		return DataConverter.convertToMatrixBlock(A);
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.transform;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.transform.encode.RecodeDictionary;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Tests the compact recode dictionary (lookups, growth, unicode tokens,
+ * and round trips through meta data frames).
+ */
+public class RecodeDictionaryTest extends AutomatedTestBase
+{
+	private final static String[] TOKENS = new String[] {
+		"a", "", "abc", "abc ", "äöü", "€100", "😀x",
+		"lone\ud800", "\udc00lone", "a·b", "1.0", "NaN" };
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testPutIfAbsentSmall() {
+		runRecodeDictionaryTest(TOKENS.length, false);
+	}
+
+	@Test
+	public void testPutIfAbsentLarge() {
+		runRecodeDictionaryTest(150000, false);
+	}
+
+	@Test
+	public void testMetaFrameRoundTripSmall() {
+		runRecodeDictionaryTest(TOKENS.length, true);
+	}
+
+	@Test
+	public void testMetaFrameRoundTripLarge() {
+		runRecodeDictionaryTest(150000, true);
+	}
+
+	@Test
+	public void testMetaFrameUnorderedCodes() {
+		//meta data frame w/ unordered codes, delimiter in token, and null padding
+		FrameBlock meta = new FrameBlock(1, ValueType.STRING);
+		meta.ensureAllocatedColumns(5);
+		meta.set(0, 0, "b·3");
+		meta.set(1, 0, "a·c·1");
+		meta.set(2, 0, "€·2");
+		RecodeDictionary dict = RecodeDictionary.readFromMetaFrame(meta, 0);
+		Assert.assertEquals(3, dict.size());
+		Assert.assertEquals(3, dict.getMaxCode());
+		Assert.assertEquals(1, dict.getCode("a·c"));
+		Assert.assertEquals(2, dict.getCode("€"));
+		Assert.assertEquals(3, dict.getCode("b"));
+		Assert.assertEquals(-1, dict.getCode("a"));
+		Assert.assertEquals("b", dict.getToken(3));
+		Assert.assertNull(dict.getToken(4));
+		Assert.assertNull(dict.getToken(0));
+		Assert.assertEquals(4, dict.putIfAbsent("d"));
+	}
+
+	@Test
+	public void testPutOverwrite() {
+		RecodeDictionary dict = new RecodeDictionary();
+		dict.put("a", 1);
+		dict.put("bb", 2);
+		long size = dict.getInMemorySize();
+		//re-put of existing entries, moved token, and overwritten code
+		dict.put("a", 1);
+		dict.put("bb", 3);
+		dict.put("c", 1);
+		Assert.assertEquals(size, dict.getInMemorySize());
+		Assert.assertEquals(2, dict.size());
+		Assert.assertEquals(3, dict.getMaxCode());
+		Assert.assertEquals(1, dict.getCode("c"));
+		Assert.assertEquals(-1, dict.getCode("a"));
+		Assert.assertEquals(3, dict.getCode("bb"));
+		Assert.assertNull(dict.getToken(2));
+		Assert.assertEquals("bb", dict.getToken(3));
+		Assert.assertEquals("c", dict.getToken(1));
+	}
+
+	@Test
+	public void testMetaFrameSparseColumn() {
+		//narrow column of a meta data frame with many rows
+		FrameBlock meta = new FrameBlock(2, ValueType.STRING);
+		meta.ensureAllocatedColumns(100000);
+		for( int i=0; i<100000; i++ )
+			meta.set(i, 0, getToken(i)+"·"+(i+1));
+		meta.set(0, 1, "x·1");
+		meta.set(1, 1, "y·2");
+		RecodeDictionary dict0 = RecodeDictionary.readFromMetaFrame(meta, 0);
+		RecodeDictionary dict1 = RecodeDictionary.readFromMetaFrame(meta, 1);
+		Assert.assertEquals(100000, dict0.size());
+		Assert.assertEquals(2, dict1.size());
+		Assert.assertEquals(2, dict1.getCode("y"));
+		Assert.assertTrue(dict1.getInMemorySize() < 1024);
+	}
+
+	private void runRecodeDictionaryTest(int numTokens, boolean meta) {
+		//construct dictionary with codes in order of appearance
+		RecodeDictionary dict = new RecodeDictionary();
+		for( int i=0; i<numTokens; i++ )
+			Assert.assertEquals(i+1, dict.putIfAbsent(getToken(i)));
+		for( int i=0; i<numTokens; i++ ) //duplicates
+			Assert.assertEquals(i+1, dict.putIfAbsent(getToken(i)));
+
+		//optional round trip via meta data frame
+		if( meta ) {
+			FrameBlock fmeta = new FrameBlock(2, ValueType.STRING);
+			fmeta.ensureAllocatedColumns(numTokens);
+			dict.writeToMetaFrame(fmeta, 1);
+			dict = RecodeDictionary.readFromMetaFrame(fmeta, 1);
+		}
+
+		//check lookups by token and code
+		Assert.assertEquals(numTokens, dict.size());
+		Assert.assertEquals(numTokens, dict.getMaxCode());
+		for( int i=0; i<numTokens; i++ ) {
+			Assert.assertEquals(i+1, dict.getCode(getToken(i)));
+			Assert.assertEquals(getToken(i), dict.getToken(i+1));
+		}
+		Assert.assertEquals(-1, dict.getCode("missing"));
+		Assert.assertEquals(-1, dict.getCode(null));
+	}
+
+	private static String getToken(int i) {
+		return (i < TOKENS.length) ? TOKENS[i] :
+			TOKENS[i % TOKENS.length] + "_" + i;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.integration.functions.transform;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.sysml.parser.Expression.ValueType;
+import org.apache.sysml.runtime.DMLRuntimeException;
+import org.apache.sysml.runtime.matrix.data.FrameBlock;
+import org.apache.sysml.runtime.matrix.data.MatrixBlock;
+import org.apache.sysml.runtime.transform.encode.Encoder;
+import org.apache.sysml.runtime.transform.encode.EncoderFactory;
+import org.apache.sysml.runtime.transform.encode.RecodeDictionary;
+import org.apache.sysml.runtime.util.DataConverter;
+import org.apache.sysml.runtime.util.UtilFunctions;
+import org.apache.sysml.test.integration.AutomatedTestBase;
+import org.apache.sysml.test.utils.TestUtils;
+
+/**
+ * Compares the multi-threaded transform encode and apply against the 
+ * single-threaded encode and apply, including the assigned recode IDs.
+ */
+public class TransformParallelEncodeTest extends AutomatedTestBase 
+{
+	private static final int rows = 20357;
+	private static final int cols = 11;
+	private static final int k = 7;
+	
+	private static final String SPEC_RECODE = "{ids:true, recode:[1,2,3,5,8]}";
+	private static final String SPEC_RECODE_SINGLE = "{ids:true, recode:[2]}";
+	private static final String SPEC_DUMMY = "{ids:true, recode:[1,3], dummycode:[2,5]}";
+	private static final String SPEC_IMPUTE = "{ids:true, recode:[1,2], impute:["
+		+ "{id:2, method:global_mode}, {id:4, method:global_mean}, {id:6, method:global_mean},"
+		+ "{id:7, method:constant, value:\"7\"}]}";
+	
+	@Override
+	public void setUp()  {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testEncodeRecode() {
+		runTransformParallelEncodeTest(SPEC_RECODE);
+	}
+	
+	@Test
+	public void testEncodeRecodeSingleColumn() {
+		runTransformParallelEncodeTest(SPEC_RECODE_SINGLE);
+	}
+	
+	@Test
+	public void testEncodeDummycode() {
+		runTransformParallelEncodeTest(SPEC_DUMMY);
+	}
+	
+	@Test
+	public void testEncodeImpute() {
+		runTransformParallelEncodeTest(SPEC_IMPUTE);
+	}
+	
+	private void runTransformParallelEncodeTest(String spec) {
+		try {
+			//generate input frame with duplicates and missing values
+			FrameBlock data = createInputFrame();
+			String[] colnames = data.getColumnNames();
+			
+			//single- and multi-threaded transform encode
+			Encoder encoder1 = EncoderFactory.createEncoder(spec, colnames, data.getSchema(), null);
+			MatrixBlock out1 = encoder1.encode(data, new MatrixBlock(rows, cols, false), 1);
+			FrameBlock meta1 = encoder1.getMetaData(new FrameBlock(cols, ValueType.STRING));
+			Encoder encoder2 = EncoderFactory.createEncoder(spec, colnames, data.getSchema(), null);
+			MatrixBlock out2 = encoder2.encode(data, new MatrixBlock(rows, cols, false), k);
+			FrameBlock meta2 = encoder2.getMetaData(new FrameBlock(cols, ValueType.STRING));
+			meta1.setColumnNames(colnames);
+			meta2.setColumnNames(colnames);
+			
+			//check identical outputs and meta data (incl recode ids)
+			compareMatrices(out1, out2);
+			for( int j=0; j<cols; j++ ) {
+				Assert.assertEquals(meta1.getColumnMetadata(j).getNumDistinct(), 
+					meta2.getColumnMetadata(j).getNumDistinct());
+				Assert.assertEquals(meta1.getColumnMetadata(j).getMvValue(), 
+					meta2.getColumnMetadata(j).getMvValue());
+				RecodeDictionary rc1 = meta1.getRecodeMap(j);
+				RecodeDictionary rc2 = meta2.getRecodeMap(j);
+				Assert.assertEquals(rc1.size(), rc2.size());
+				for( long c=1; c<=rc1.getMaxCode(); c++ )
+					Assert.assertEquals(rc1.getToken(c), rc2.getToken(c));
+			}
+			
+			//multi-threaded transform apply w/ meta data of parallel encode
+			Encoder encoder3 = EncoderFactory.createEncoder(spec, colnames, data.getSchema(), meta2);
+			MatrixBlock out3 = encoder3.apply(data, new MatrixBlock(rows, cols, false), k);
+			compareMatrices(out1, out3);
+		} 
+		catch (DMLRuntimeException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	private FrameBlock createInputFrame() throws DMLRuntimeException {
+		double[][] A = TestUtils.round(getRandomMatrix(rows, cols, 0, 50, 0.99, 7));
+		FrameBlock ret = DataConverter.convertToFrameBlock(DataConverter.convertToMatrixBlock(A), ValueType.STRING);
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ )
+				if( A[i][j] == 0 ) //missing values
+					ret.set(i, j, null);
+				else if( j == 1 ) //non-numeric tokens (always recoded)
+					ret.set(i, j, "a"+UtilFunctions.toLong(A[i][j]));
+		return ret;
+	}
+	
+	private static void compareMatrices(MatrixBlock mb1, MatrixBlock mb2) {
+		Assert.assertEquals(mb1.getNumRows(), mb2.getNumRows());
+		Assert.assertEquals(mb1.getNumColumns(), mb2.getNumColumns());
+		Assert.assertEquals(mb1.getNonZeros(), mb2.getNonZeros());
+		for( int i=0; i<mb1.getNumRows(); i++ )
+			for( int j=0; j<mb1.getNumColumns(); j++ ) {
+				double v1 = mb1.quickGetValue(i, j), v2 = mb2.quickGetValue(i, j);
+				Assert.assertTrue("Mismatch at ("+i+","+j+"): "+v1+" vs "+v2, 
+					v1 == v2 || Double.isNaN(v1) && Double.isNaN(v2));
+			}
+	}
+}
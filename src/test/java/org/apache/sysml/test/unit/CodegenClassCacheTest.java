@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysml.test.unit;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysml.api.DMLScript;
+import org.apache.sysml.hops.codegen.SpoofCompiler;
+import org.apache.sysml.hops.codegen.SpoofCompiler.CompilerType;
+import org.apache.sysml.runtime.codegen.CodegenClassCache;
+import org.apache.sysml.runtime.codegen.CodegenClassCache.CacheEntry;
+import org.apache.sysml.runtime.codegen.CodegenUtils;
+import org.apache.sysml.utils.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CodegenClassCacheTest {
+
+	private static final String SRC = "package codegen;\n"
+		+ "public final class TMP%1$d {\n"
+		+ "  public double exec(double a) { double TMP%2$d = a * %3$s; return TMP%2$d; }\n"
+		+ "}\n";
+
+	@Test
+	public void testCanonicalEntries() {
+		CacheEntry e1 = CodegenClassCache.createEntry("tmp", String.format(SRC, 7, 9, "2"));
+		CacheEntry e2 = CodegenClassCache.createEntry("tmp", String.format(SRC, 12, 15, "2"));
+		CacheEntry e3 = CodegenClassCache.createEntry("tmp", String.format(SRC, 7, 9, "3"));
+		Assert.assertEquals(e1.name, e2.name);
+		Assert.assertEquals(e1.src, e2.src);
+		Assert.assertNotEquals(e1.name, e3.name);
+		Assert.assertTrue(e1.name.startsWith("codegen." + CodegenClassCache.CLASS_PREFIX));
+		Assert.assertTrue(e1.src.contains("class " + e1.name.substring(8) + " "));
+		Assert.assertFalse(e1.src.contains("TMP7"));
+	}
+
+	@Test
+	public void testPersistentReuseJavac() throws Exception {
+		runPersistentReuse(CompilerType.JAVAC);
+	}
+
+	@Test
+	public void testPersistentBypassJanino() throws Exception {
+		runPersistentReuse(CompilerType.JANINO);
+	}
+
+	private static void runPersistentReuse(CompilerType compiler) throws Exception {
+		File dir = Files.createTempDirectory("codegen_cache").toFile();
+		CompilerType oldCompiler = SpoofCompiler.JAVA_COMPILER;
+		boolean oldStats = DMLScript.STATISTICS;
+		//persistent cache only for javac, bypassed for janino
+		boolean persist = (compiler == CompilerType.JAVAC);
+		try {
+			SpoofCompiler.JAVA_COMPILER = compiler;
+			SpoofCompiler.CLASS_CACHE_DIR = dir.getAbsolutePath();
+			DMLScript.STATISTICS = true;
+			Statistics.reset();
+			CodegenUtils.clearClassCache();
+
+			//first run: compile and persist (if applicable)
+			Class<?> c1 = CodegenUtils.compileClass("codegen.TMP7", String.format(SRC, 7, 9, "2"));
+			Assert.assertEquals(1, Statistics.getCodegenClassCompile());
+			Assert.assertEquals(persist ? 1 : 0, dir.list().length);
+			if( !persist )
+				Assert.assertEquals("codegen.TMP7", c1.getName());
+
+			//second run (simulated by cleared in-memory cache) w/ different ids
+			CodegenUtils.clearClassCache();
+			Class<?> c2 = CodegenUtils.compileClass("codegen.TMP12", String.format(SRC, 12, 15, "2"));
+			Assert.assertEquals(persist, c1.getName().equals(c2.getName()));
+			Assert.assertEquals(persist ? 1 : 2, Statistics.getCodegenClassCompile());
+			Assert.assertEquals(persist ? 1 : 0, Statistics.getCodegenClassCacheHits());
+			Assert.assertEquals(persist ? 1 : 0, dir.list().length);
+			Assert.assertNotNull(CodegenUtils.getClassData(c2.getName()));
+			Object ret = c2.getMethod("exec", double.class).invoke(c2.newInstance(), 3d);
+			Assert.assertEquals(6d, (Double) ret, 0);
+
+			//corrupted entries are removed and recompiled
+			if( persist ) {
+				File f = dir.listFiles()[0];
+				Files.write(f.toPath(), new byte[] {1, 2, 3});
+				CodegenUtils.clearClassCache();
+				CodegenUtils.compileClass("codegen.TMP3", String.format(SRC, 3, 4, "2"));
+				Assert.assertEquals(2, Statistics.getCodegenClassCompile());
+				Assert.assertTrue(f.length() > 3);
+			}
+		}
+		finally {
+			SpoofCompiler.JAVA_COMPILER = oldCompiler;
+			SpoofCompiler.CLASS_CACHE_DIR = null;
+			DMLScript.STATISTICS = oldStats;
+			CodegenUtils.clearClassCache();
+			FileUtils.deleteQuietly(dir);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+* Licensed to the Apache Software Foundation (ASF) under one
+* or more contributor license agreements.  See the NOTICE file
+* distributed with this work for additional information
+* regarding copyright ownership.  The ASF licenses this file
+* to you under the Apache License, Version 2.0 (the
+* "License"); you may not use this file except in compliance
+* with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.apache.sysml.test.unit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.apache.hadoop.io.Text;
+import org.apache.sysml.runtime.io.IOUtilFunctions;
+import org.apache.sysml.runtime.util.FastDoubleParser;
+import org.apache.sysml.runtime.util.FastTextTokenizer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FastTextParsingTest {
+
+	private static final String[] SPECIAL = new String[] {"0", "-0", "+1", "1.", ".5",
+		"NaN", "Infinity", "-Infinity", "1d", "1e400", "1e-400", "4.9e-324",
+		"2.2250738585072014E-308", "1.7976931348623157E308", "9007199254740993",
+		"9494362893000000000", "123456789012345678901234", "0.000000000000000000000001234"};
+
+	@Test
+	public void testParseSpecialDoubles() {
+		for( String str : SPECIAL )
+			checkParseDouble(str);
+	}
+
+	@Test
+	public void testParseRandomDoubles() {
+		Random rand = new Random(7);
+		for( int i=0; i<100000; i++ ) {
+			double val = Double.longBitsToDouble(rand.nextLong());
+			if( Double.isNaN(val) || Double.isInfinite(val) )
+				continue;
+			checkParseDouble(Double.toString(val));
+			checkParseDouble(Double.toString(rand.nextDouble()));
+			checkParseDouble(String.format("%." + rand.nextInt(20) + "e", val));
+		}
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testParseInvalidDouble() {
+		byte[] tmp = "1.2.3".getBytes(StandardCharsets.UTF_8);
+		FastDoubleParser.parseDouble(tmp, 0, tmp.length);
+	}
+
+	@Test
+	public void testTokenizeCSV() {
+		String[] lines = new String[] {"1,2,3", " 1 , -2 ,3e1 ", "1,,3", "1,2,", ",", "", "7"};
+		FastTextTokenizer st = new FastTextTokenizer(",");
+		for( String line : lines ) {
+			String[] parts = IOUtilFunctions.split(line.trim(), ",");
+			st.reset(new Text(line));
+			int pos = 0;
+			while( st.next() ) {
+				String part = parts[pos++].trim();
+				Assert.assertEquals(part.isEmpty(), st.isEmpty());
+				if( !part.isEmpty() )
+					Assert.assertEquals(Double.parseDouble(part), st.getDouble(), 0);
+			}
+			Assert.assertEquals(parts.length, pos);
+		}
+	}
+
+	@Test
+	public void testTokenizeTextCell() {
+		FastTextTokenizer st = new FastTextTokenizer(' ');
+		st.reset(new Text("  12  7   3.5e2 "));
+		Assert.assertEquals(12, st.nextInt());
+		Assert.assertEquals(7, st.nextLong());
+		Assert.assertEquals(350, st.nextDouble(), 0);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testTokenizeIntOutOfRange() {
+		FastTextTokenizer st = new FastTextTokenizer(' ');
+		st.reset(new Text("2147483648 1"));
+		st.nextInt();
+	}
+
+	private static void checkParseDouble(String str) {
+		byte[] tmp = str.getBytes(StandardCharsets.UTF_8);
+		double expected = Double.parseDouble(str);
+		Assert.assertEquals(str, Double.doubleToRawLongBits(expected),
+			Double.doubleToRawLongBits(FastDoubleParser.parseDouble(tmp, 0, tmp.length)));
+		Assert.assertEquals(str, Double.doubleToRawLongBits(expected),
+			Double.doubleToRawLongBits(FastDoubleParser.parseDouble(str)));
+	}
+}
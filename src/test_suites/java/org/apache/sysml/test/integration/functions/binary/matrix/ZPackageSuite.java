@@ -43,6 +43,7 @@ import org.junit.runners.Suite;
 	MatrixMultiplicationTest.class,
 	MatrixVectorTest.class,
 	OuterProductTest.class,
+	ParallelUaggOuterChainTest.class,
 	QuantileTest.class,
 	ScalarAdditionTest.class,
 	ScalarDivisionTest.class,
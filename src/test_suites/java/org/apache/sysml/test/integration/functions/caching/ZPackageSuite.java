@@ -26,7 +26,12 @@ import org.junit.runners.Suite;
  *  won't run two of them at once. */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-	CachingPWriteExportTest.class
+	ArrayPoolTest.class,
+	AsyncEvictionTest.class,
+	CachingPWriteExportTest.class,
+	CompressedEvictionTest.class,
+	EvictionPolicyTest.class,
+	MappedEvictionTest.class
 })
 
 
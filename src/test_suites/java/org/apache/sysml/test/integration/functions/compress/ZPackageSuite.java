@@ -32,12 +32,14 @@ import org.junit.runners.Suite;
 	BasicMatrixCentralMomentTest.class,
 	BasicMatrixMultChainTest.class,
 	BasicMatrixQuantileTest.class,
+	BasicMatrixRowVectorOperationsTest.class,
 	BasicMatrixTransposeSelfMultTest.class,
 	BasicMatrixVectorMultTest.class,
 	BasicScalarOperationsSparseUnsafeTest.class,
 	BasicScalarOperationsTest.class,
 	BasicTransposeSelfLeftMatrixMultTest.class,
 	BasicUnaryAggregateTest.class,
+	BasicUnaryOperationsTest.class,
 	BasicVectorMatrixMultTest.class,
 	CompressedL2SVM.class,
 	CompressedLinregCG.class,
@@ -48,7 +50,9 @@ import org.junit.runners.Suite;
 	LargeParUnaryAggregateTest.class,
 	LargeVectorMatrixMultTest.class,
 	ParCompressionTest.class,
+	ParLeftMatrixMultTest.class,
 	ParMatrixMultChainTest.class,
+	ParMatrixMultTest.class,
 	ParMatrixVectorMultTest.class,
 	ParTransposeSelfLeftMatrixMultTest.class,
 	ParUnaryAggregateTest.class,
@@ -28,6 +28,8 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	FullReblockTest.class,
 	FullStringInitializeTest.class,
+	LargeDenseBlockTest.class,
+	RandParallelTest.class,
 	RandRuntimePlatformTest.class,
 	RandTest1.class,
 	RandTest2.class,
@@ -29,6 +29,7 @@ import org.junit.runners.Suite;
 	FrameAppendDistTest.class,
 	FrameAppendTest.class,
 	FrameCastingTest.class,
+	FrameColumnarReadWriteTest.class,
 	FrameConverterTest.class,
 	FrameCopyTest.class,
 	FrameEvictionTest.class,
@@ -40,6 +41,7 @@ import org.junit.runners.Suite;
 	FrameMatrixReblockTest.class,
 	FrameMatrixWriteTest.class,
 	FrameMetaReadWriteTest.class,
+	FrameParallelOpsTest.class,
 	FrameReadWriteTest.class,
 	FrameScalarCastingIntegratedTest.class,
 	FrameScalarCastingTest.class,
@@ -31,6 +31,8 @@ import org.junit.runners.Suite;
 	FullReverseTest.class,
 	FullTransposeTest.class,
 	MatrixReshapeTest.class,
+	ParallelOrderTest.class,
+	ParallelTransposeTest.class,
 	VectorReshapeTest.class,
 })
 
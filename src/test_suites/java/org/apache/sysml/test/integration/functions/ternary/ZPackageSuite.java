@@ -32,6 +32,7 @@ import org.junit.runners.Suite;
 	CTableMatrixIgnoreZerosTest.class,
 	CTableSequenceTest.class,
 	FullIfElseTest.class,
+	ParallelCTableTest.class,
 	QuantileWeightsTest.class,
 	TableOutputTest.class,
 	TernaryAggregateTest.class,
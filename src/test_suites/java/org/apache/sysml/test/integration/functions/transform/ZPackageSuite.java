@@ -27,6 +27,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	FrameCSVReadWriteTest.class,
+	RecodeDictionaryTest.class,
 	TransformApplyEmptyRecodeMapTest.class,
 	TransformCSVFrameEncodeDecodeTest.class,
 	TransformCSVFrameEncodeReadTest.class,
@@ -36,6 +37,7 @@ import org.junit.runners.Suite;
 	TransformFrameEncodeColmapTest.class,
 	TransformFrameEncodeDecodeTest.class,
 	TransformFrameEncodeDecodeTokenTest.class,
+	TransformParallelEncodeTest.class
 })
 
 